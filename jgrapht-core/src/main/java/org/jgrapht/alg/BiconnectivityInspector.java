@@ -25,6 +25,11 @@ import org.jgrapht.*;
  * Inspects a graph for the biconnectivity property. See {@link BlockCutpointGraph} for more
  * information. A biconnected graph has only one block (i.e. no cutpoints).
  *
+ * <p>
+ * The blocks and cutpoints are computed by {@link HopcroftTarjanBiconnectivityInspector} in a
+ * single iterative pass, therefore deep graphs do not exhaust the call stack and the blocks of a
+ * vertex are found without scanning all blocks.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -32,7 +37,9 @@ import org.jgrapht.*;
  */
 public class BiconnectivityInspector<V, E>
 {
-    private BlockCutpointGraph<V, E> blockCutpointGraph;
+    private final Graph<V, E> graph;
+    private final HopcroftTarjanBiconnectivityInspector<V, E> inspector;
+    private List<Set<V>> blocks;
 
     /**
      * Running time = O(m) where m is the number of edges.
@@ -43,7 +50,8 @@ public class BiconnectivityInspector<V, E>
     {
         super();
         GraphTests.requireUndirected(graph, "Graph must be undirected");
-        this.blockCutpointGraph = new BlockCutpointGraph<>(graph);
+        this.graph = graph;
+        this.inspector = new HopcroftTarjanBiconnectivityInspector<>(graph);
     }
 
     /**
@@ -53,14 +61,7 @@ public class BiconnectivityInspector<V, E>
      */
     public Set<Set<V>> getBiconnectedVertexComponents()
     {
-        Set<Set<V>> biconnectedVertexComponents = new HashSet<>();
-        for (Graph<V, E> subgraph : this.blockCutpointGraph.vertexSet()) {
-            if (!subgraph.edgeSet().isEmpty()) {
-                biconnectedVertexComponents.add(subgraph.vertexSet());
-            }
-        }
-
-        return biconnectedVertexComponents;
+        return new HashSet<>(lazyBlocks());
     }
 
     /**
@@ -73,10 +74,11 @@ public class BiconnectivityInspector<V, E>
      */
     public Set<Set<V>> getBiconnectedVertexComponents(V vertex)
     {
+        List<Set<V>> all = lazyBlocks();
         Set<Set<V>> vertexComponents = new HashSet<>();
-        for (Set<V> vertexComponent : getBiconnectedVertexComponents()) {
-            if (vertexComponent.contains(vertex)) {
-                vertexComponents.add(vertexComponent);
+        if (graph.containsVertex(vertex)) {
+            for (int b : inspector.getBlocks(vertex)) {
+                vertexComponents.add(all.get(b));
             }
         }
         return vertexComponents;
@@ -89,7 +91,7 @@ public class BiconnectivityInspector<V, E>
      */
     public Set<V> getCutpoints()
     {
-        return this.blockCutpointGraph.getCutpoints();
+        return inspector.getCutpoints();
     }
 
     /**
@@ -100,7 +102,22 @@ public class BiconnectivityInspector<V, E>
      */
     public boolean isBiconnected()
     {
-        return this.blockCutpointGraph.vertexSet().size() == 1;
+        int n = graph.vertexSet().size();
+        if (n == 1) {
+            return true;
+        }
+        return inspector.getBlockCount() == 1 && lazyBlocks().get(0).size() == n;
+    }
+
+    private List<Set<V>> lazyBlocks()
+    {
+        if (blocks == null) {
+            blocks = new ArrayList<>(inspector.getBlockCount());
+            for (int b = 0; b < inspector.getBlockCount(); b++) {
+                blocks.add(new HashSet<>(inspector.getBlockVertices(b)));
+            }
+        }
+        return blocks;
     }
 }
 
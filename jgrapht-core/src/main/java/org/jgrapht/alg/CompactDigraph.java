@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * A compact array representation of the structure of a graph. The vertices are numbered by the
+ * iteration order of the vertex set and the adjacency lists are stored in compressed sparse row
+ * format: the successors of vertex $v$ are {@code outTargets[outStart[v]]} up to
+ * {@code outTargets[outStart[v + 1] - 1]}, with one entry per edge. Undirected edges are stored in
+ * both directions. The predecessors are optional and stored in the same way.
+ *
+ * @param <V> the graph vertex type
+ *
+ * @author agent
+ */
+final class CompactDigraph<V>
+{
+    final List<V> vertices;
+    final Map<V, Integer> index;
+    final int[] outStart;
+    final int[] outTargets;
+    final int[] inStart;
+    final int[] inSources;
+
+    private CompactDigraph(
+        List<V> vertices, Map<V, Integer> index, int[] outStart, int[] outTargets, int[] inStart,
+        int[] inSources)
+    {
+        this.vertices = vertices;
+        this.index = index;
+        this.outStart = outStart;
+        this.outTargets = outTargets;
+        this.inStart = inStart;
+        this.inSources = inSources;
+    }
+
+    /**
+     * Create the array representation of a graph.
+     *
+     * @param graph the graph
+     * @param predecessors whether to also store the predecessors
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the array representation
+     */
+    static <V, E> CompactDigraph<V> of(Graph<V, E> graph, boolean predecessors)
+    {
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        for (V v : vertices) {
+            index.put(v, index.size());
+        }
+
+        int n = vertices.size();
+        int[] outStart = new int[n + 1];
+        int[] inStart = predecessors ? new int[n + 1] : null;
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            outStart[v + 1] = outStart[v] + graph.outgoingEdgesOf(vertex).size();
+            if (predecessors) {
+                inStart[v + 1] = inStart[v] + graph.incomingEdgesOf(vertex).size();
+            }
+        }
+
+        int[] outTargets = new int[outStart[n]];
+        int[] inSources = predecessors ? new int[inStart[n]] : null;
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int k = outStart[v];
+            for (E e : graph.outgoingEdgesOf(vertex)) {
+                outTargets[k++] = index.get(Graphs.getOppositeVertex(graph, e, vertex));
+            }
+            if (predecessors) {
+                k = inStart[v];
+                for (E e : graph.incomingEdgesOf(vertex)) {
+                    inSources[k++] = index.get(Graphs.getOppositeVertex(graph, e, vertex));
+                }
+            }
+        }
+        return new CompactDigraph<>(vertices, index, outStart, outTargets, inStart, inSources);
+    }
+
+    /**
+     * Group the vertices by component.
+     *
+     * @param component the component of every vertex, numbered from zero
+     * @param count the number of components
+     * @return the vertex sets of the components, indexed by component
+     */
+    List<Set<V>> components(int[] component, int count)
+    {
+        List<Set<V>> sets = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            sets.add(new HashSet<>());
+        }
+        for (int v = 0; v < component.length; v++) {
+            sets.get(component[v]).add(vertices.get(v));
+        }
+        return sets;
+    }
+}
+
+// End CompactDigraph.java
@@ -43,6 +43,25 @@ import org.jgrapht.traverse.*;
  * is added as listener to a graph other than the one it inspects, results are undefined.
  * </p>
  *
+ * <p>
+ * After the first modification event the inspector maintains the connected sets of the whole graph
+ * together with a spanning forest of each connected set. Adding a vertex creates a new singleton
+ * set and adding an edge between two different sets merges the smaller set into the larger one.
+ * Removing an edge which is not part of the spanning forest requires no work. Removing a forest
+ * edge splits its tree in two; both trees are traversed in an interleaved fashion so that the cost
+ * is proportional to the smaller one, and the edges incident to the smaller tree are scanned for a
+ * replacement edge reconnecting both trees. Only if no replacement exists the connected set is
+ * split. The sets returned by the inspector are updated in place while it is listening.
+ * </p>
+ *
+ * <p>
+ * The inspector is also a {@link BatchGraphListener}. A committed batch which only adds vertices
+ * and edges is merged into the connected sets as above. A batch which also removes vertices or
+ * edges, or whose changes partly cancel out, discards the cached results, which are recomputed
+ * from scratch on the next query, since this is cheaper than repairing the spanning forest after
+ * many removals.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -51,7 +70,7 @@ import org.jgrapht.traverse.*;
  * @since Aug 6, 2003
  */
 public class ConnectivityInspector<V, E>
-    implements GraphListener<V, E>
+    implements BatchGraphListener<V, E>
 {
     private static final String GRAPH_MUST_BE_DIRECTED_OR_UNDIRECTED =
         "Graph must be directed or undirected";
@@ -59,6 +78,8 @@ public class ConnectivityInspector<V, E>
     private List<Set<V>> connectedSets;
     private Map<V, Set<V>> vertexToConnectedSet;
     private Graph<V, E> graph;
+    private Map<V, Set<E>> spanningForest;
+    private boolean listening;
 
     /**
      * Creates a connectivity inspector for the specified graph.
@@ -100,6 +121,11 @@ public class ConnectivityInspector<V, E>
      */
     public Set<V> connectedSetOf(V vertex)
     {
+        if (listening) {
+            lazyBuildSpanningForest();
+            return vertexToConnectedSet.get(vertex);
+        }
+
         Set<V> connectedSet = vertexToConnectedSet.get(vertex);
 
         if (connectedSet == null) {
@@ -138,8 +164,56 @@ public class ConnectivityInspector<V, E>
     @Override
     public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
     {
-        init(); // for now invalidate cached results, in the future need to
-                // amend them.
+        if (!startListening()) {
+            return;
+        }
+        mergeConnectedSets(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    /**
+     * @see BatchGraphListener#graphChanged(GraphBatchChangeEvent)
+     */
+    @Override
+    public void graphChanged(GraphBatchChangeEvent<V, E> e)
+    {
+        if (!startListening()) {
+            return;
+        }
+        if (e.hasRemovals() || e.hasCancelledChanges()) {
+            init();
+            return;
+        }
+
+        // the forest may have been built during the batch, thus already contain some changes
+        for (V v : e.getAddedVertices()) {
+            if (!vertexToConnectedSet.containsKey(v)) {
+                addConnectedSet(v);
+            }
+        }
+        for (GraphEdgeChangeEvent<V, E> edgeEvent : e.getAddedEdges()) {
+            mergeConnectedSets(
+                edgeEvent.getEdge(), edgeEvent.getEdgeSource(), edgeEvent.getEdgeTarget());
+        }
+    }
+
+    private void mergeConnectedSets(E edge, V source, V target)
+    {
+        Set<V> sourceSet = vertexToConnectedSet.get(source);
+        Set<V> targetSet = vertexToConnectedSet.get(target);
+        if (sourceSet == targetSet) {
+            return;
+        }
+
+        spanningForest.get(source).add(edge);
+        spanningForest.get(target).add(edge);
+
+        Set<V> larger = sourceSet.size() >= targetSet.size() ? sourceSet : targetSet;
+        Set<V> smaller = larger == sourceSet ? targetSet : sourceSet;
+        for (V v : smaller) {
+            vertexToConnectedSet.put(v, larger);
+        }
+        larger.addAll(smaller);
+        connectedSets = null;
     }
 
     /**
@@ -148,8 +222,35 @@ public class ConnectivityInspector<V, E>
     @Override
     public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
     {
-        init(); // for now invalidate cached results, in the future need to
-                // amend them.
+        if (!startListening()) {
+            return;
+        }
+
+        V source = e.getEdgeSource();
+        V target = e.getEdgeTarget();
+        E edge = e.getEdge();
+        if (!spanningForest.get(source).remove(edge)) {
+            return;
+        }
+        spanningForest.get(target).remove(edge);
+
+        Set<V> tree = smallerTree(source, target);
+        for (V v : tree) {
+            for (E replacement : graph.edgesOf(v)) {
+                V u = Graphs.getOppositeVertex(graph, replacement, v);
+                if (!tree.contains(u)) {
+                    spanningForest.get(v).add(replacement);
+                    spanningForest.get(u).add(replacement);
+                    return;
+                }
+            }
+        }
+
+        vertexToConnectedSet.get(source).removeAll(tree);
+        for (V v : tree) {
+            vertexToConnectedSet.put(v, tree);
+        }
+        connectedSets = null;
     }
 
     /**
@@ -183,8 +284,19 @@ public class ConnectivityInspector<V, E>
     @Override
     public void vertexAdded(GraphVertexChangeEvent<V> e)
     {
-        init(); // for now invalidate cached results, in the future need to
-                // amend them.
+        if (!startListening()) {
+            return;
+        }
+        addConnectedSet(e.getVertex());
+    }
+
+    private void addConnectedSet(V v)
+    {
+        Set<V> connectedSet = new HashSet<>();
+        connectedSet.add(v);
+        vertexToConnectedSet.put(v, connectedSet);
+        spanningForest.put(v, new HashSet<>());
+        connectedSets = null;
     }
 
     /**
@@ -193,18 +305,140 @@ public class ConnectivityInspector<V, E>
     @Override
     public void vertexRemoved(GraphVertexChangeEvent<V> e)
     {
-        init(); // for now invalidate cached results, in the future need to
-                // amend them.
+        if (!startListening()) {
+            return;
+        }
+
+        // the touching edges have already been removed, so the vertex is a singleton
+        V v = e.getVertex();
+        vertexToConnectedSet.remove(v).remove(v);
+        spanningForest.remove(v);
+        connectedSets = null;
     }
 
     private void init()
     {
         connectedSets = null;
         vertexToConnectedSet = new HashMap<>();
+        spanningForest = null;
+    }
+
+    /**
+     * Switch to incremental maintenance on the first modification event. Results computed before
+     * that are discarded since they may cover only part of the graph.
+     *
+     * @return true if the spanning forest exists and needs to be updated
+     */
+    private boolean startListening()
+    {
+        listening = true;
+        if (spanningForest == null) {
+            init();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compute the connected sets of the whole graph together with a breadth-first spanning forest.
+     */
+    private void lazyBuildSpanningForest()
+    {
+        if (spanningForest != null) {
+            return;
+        }
+
+        connectedSets = new ArrayList<>();
+        vertexToConnectedSet = new HashMap<>();
+        spanningForest = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            spanningForest.put(v, new HashSet<>());
+        }
+
+        Deque<V> queue = new ArrayDeque<>();
+        for (V root : graph.vertexSet()) {
+            if (vertexToConnectedSet.containsKey(root)) {
+                continue;
+            }
+            Set<V> connectedSet = new HashSet<>();
+            connectedSet.add(root);
+            vertexToConnectedSet.put(root, connectedSet);
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                V v = queue.poll();
+                for (E e : graph.edgesOf(v)) {
+                    V u = Graphs.getOppositeVertex(graph, e, v);
+                    if (!vertexToConnectedSet.containsKey(u)) {
+                        connectedSet.add(u);
+                        vertexToConnectedSet.put(u, connectedSet);
+                        spanningForest.get(v).add(e);
+                        spanningForest.get(u).add(e);
+                        queue.add(u);
+                    }
+                }
+            }
+            connectedSets.add(connectedSet);
+        }
+    }
+
+    /**
+     * Traverse the spanning trees of two vertices in an interleaved fashion, one vertex at a time
+     * from each side, and return the vertex set of the tree which is exhausted first. The vertices
+     * must belong to different trees.
+     */
+    private Set<V> smallerTree(V a, V b)
+    {
+        Set<V> treeA = new HashSet<>();
+        Set<V> treeB = new HashSet<>();
+        Deque<V> queueA = new ArrayDeque<>();
+        Deque<V> queueB = new ArrayDeque<>();
+        treeA.add(a);
+        queueA.add(a);
+        treeB.add(b);
+        queueB.add(b);
+
+        while (true) {
+            if (!expandTree(treeA, queueA)) {
+                return treeA;
+            }
+            if (!expandTree(treeB, queueB)) {
+                return treeB;
+            }
+        }
+    }
+
+    private boolean expandTree(Set<V> tree, Deque<V> queue)
+    {
+        V v = queue.poll();
+        if (v == null) {
+            return false;
+        }
+        for (E e : spanningForest.get(v)) {
+            V u = Graphs.getOppositeVertex(graph, e, v);
+            if (tree.add(u)) {
+                queue.add(u);
+            }
+        }
+        return true;
     }
 
     private List<Set<V>> lazyFindConnectedSets()
     {
+        if (listening) {
+            lazyBuildSpanningForest();
+            if (connectedSets == null) {
+                connectedSets = new ArrayList<>();
+                Set<Set<V>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (V v : graph.vertexSet()) {
+                    Set<V> connectedSet = vertexToConnectedSet.get(v);
+                    if (seen.add(connectedSet)) {
+                        connectedSets.add(connectedSet);
+                    }
+                }
+            }
+            return connectedSets;
+        }
+
         if (connectedSets == null) {
             connectedSets = new ArrayList<>();
 
@@ -0,0 +1,491 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+
+/**
+ * Computes the core decomposition and a degeneracy ordering of a graph.
+ *
+ * <p>
+ * A k-core of a graph is a maximal subgraph in which all vertices have degree at least k, and the
+ * coreness of a vertex is the largest k such that the vertex belongs to a k-core. The degeneracy of
+ * the graph is the maximum coreness of its vertices. Removing repeatedly a vertex of minimum degree
+ * produces a degeneracy ordering, an ordering in which every vertex has at most degeneracy many
+ * neighbors that come later in the ordering.
+ *
+ * <p>
+ * The graph is treated as undirected even if it is directed. Self-loops are ignored and parallel
+ * edges are counted with their multiplicity, in the same way as in
+ * {@link org.jgrapht.traverse.DegeneracyOrderingIterator}.
+ *
+ * <p>
+ * The sequential computation is the O(n+m) algorithm described in
+ * <ul>
+ * <li>V. Batagelj and M. Zaversnik. An O(m) Algorithm for Cores Decomposition of Networks. arXiv
+ * cs/0310049, 2003.</li>
+ * </ul>
+ * which keeps the vertices in a single array bin-sorted by their current degree, so that a degree
+ * decrement moves a vertex to the previous bin with a constant number of array writes. The vertices
+ * are indexed by integers and the adjacency lists are kept in arrays, thus no hash lookups happen
+ * after the initial indexing of the graph.
+ *
+ * <p>
+ * If a pool is given, the vertices are peeled level by level instead. For each coreness value k,
+ * the vertices of degree k are removed in rounds, and the removal of a round decrements the
+ * degrees of their neighbors in parallel using an {@link AtomicIntegerArray}. A neighbor joins the
+ * next round when its degree drops to k. The remaining vertices are kept in linked lists bucketed
+ * by degree, and at the end of each level only the vertices whose degree changed during the level
+ * are moved to their new bucket. Thus the first round of a level is read directly from its bucket
+ * and no level scans the remaining vertices, which keeps the work at O(n log n + m + d) where d is
+ * the maximum degree, independently of the number of distinct coreness values. Within a round the
+ * vertices are ordered by their index, thus the results do not depend on the number of threads.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class CoreDecomposition<V, E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 10;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> index;
+    private final int[] core;
+    private final int[] order;
+    private final int[] position;
+    private final int degeneracy;
+
+    /**
+     * Compute the core decomposition sequentially.
+     *
+     * @param graph the input graph
+     */
+    public CoreDecomposition(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Compute the core decomposition.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to peel the vertices in parallel, or null to compute sequentially
+     */
+    public CoreDecomposition(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        int n = vertices.size();
+
+        int[] start = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int degree = 0;
+            for (E e : graph.edgesOf(vertex)) {
+                if (!Graphs.getOppositeVertex(graph, e, vertex).equals(vertex)) {
+                    degree++;
+                }
+            }
+            start[v + 1] = start[v] + degree;
+        }
+        int[] neighbor = new int[start[n]];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int k = start[v];
+            for (E e : graph.edgesOf(vertex)) {
+                V u = Graphs.getOppositeVertex(graph, e, vertex);
+                if (!u.equals(vertex)) {
+                    neighbor[k++] = index.get(u);
+                }
+            }
+        }
+
+        this.core = new int[n];
+        this.order = new int[n];
+        if (pool == null) {
+            binSortPeel(start, neighbor, core, order);
+        } else {
+            parallelPeel(start, neighbor, core, order, pool);
+        }
+
+        this.position = new int[n];
+        int max = 0;
+        for (int i = 0; i < n; i++) {
+            position[order[i]] = i;
+            max = Math.max(max, core[order[i]]);
+        }
+        this.degeneracy = max;
+    }
+
+    /**
+     * Get the vertices of the graph, in the order of their indices.
+     *
+     * @return the vertices of the graph
+     */
+    public List<V> getVertices()
+    {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    /**
+     * Get the coreness of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the coreness of the vertex
+     * @throws IllegalArgumentException if the graph does not contain the vertex
+     */
+    public int getCoreness(V vertex)
+    {
+        return core[indexOf(vertex)];
+    }
+
+    /**
+     * Get the coreness of all vertices, indexed as in {@link #getVertices()}.
+     *
+     * @return a new array with the coreness of all vertices
+     */
+    public int[] getCoreness()
+    {
+        return core.clone();
+    }
+
+    /**
+     * Get the degeneracy of the graph, which is the maximum coreness of its vertices. The
+     * degeneracy of a graph without vertices is zero.
+     *
+     * @return the degeneracy of the graph
+     */
+    public int getDegeneracy()
+    {
+        return degeneracy;
+    }
+
+    /**
+     * Get the vertices of the k-core of the graph, that is the vertices with coreness at least k.
+     *
+     * @param k the order of the core
+     * @return the vertices of the k-core, in the order of their indices
+     */
+    public List<V> getCore(int k)
+    {
+        List<V> result = new ArrayList<>();
+        for (int v = 0; v < core.length; v++) {
+            if (core[v] >= k) {
+                result.add(vertices.get(v));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a degeneracy ordering of the vertices, that is the order in which they were removed.
+     *
+     * @return a degeneracy ordering of the vertices
+     */
+    public List<V> getOrdering()
+    {
+        List<V> result = new ArrayList<>(order.length);
+        for (int v : order) {
+            result.add(vertices.get(v));
+        }
+        return result;
+    }
+
+    /**
+     * Get the position of a vertex in the degeneracy ordering.
+     *
+     * @param vertex the vertex
+     * @return the position of the vertex in the degeneracy ordering
+     * @throws IllegalArgumentException if the graph does not contain the vertex
+     */
+    public int getOrderingIndex(V vertex)
+    {
+        return position[indexOf(vertex)];
+    }
+
+    private int indexOf(V vertex)
+    {
+        Integer v = index.get(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex " + vertex);
+        }
+        return v;
+    }
+
+    /**
+     * The algorithm of Batagelj and Zaversnik. The vertices are kept in array vert sorted by
+     * degree, bin[d] is the position of the first vertex of degree d and pos is the inverse of
+     * vert. On return the degrees have become the coreness values and vert is the removal order.
+     */
+    private static void binSortPeel(int[] start, int[] neighbor, int[] deg, int[] vert)
+    {
+        int n = deg.length;
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            deg[v] = start[v + 1] - start[v];
+            maxDegree = Math.max(maxDegree, deg[v]);
+        }
+
+        int[] bin = new int[maxDegree + 1];
+        for (int v = 0; v < n; v++) {
+            bin[deg[v]]++;
+        }
+        int first = 0;
+        for (int d = 0; d <= maxDegree; d++) {
+            int count = bin[d];
+            bin[d] = first;
+            first += count;
+        }
+        int[] pos = new int[n];
+        for (int v = 0; v < n; v++) {
+            pos[v] = bin[deg[v]]++;
+            vert[pos[v]] = v;
+        }
+        for (int d = maxDegree; d > 0; d--) {
+            bin[d] = bin[d - 1];
+        }
+        bin[0] = 0;
+
+        for (int i = 0; i < n; i++) {
+            int v = vert[i];
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                int u = neighbor[k];
+                if (deg[u] > deg[v]) {
+                    // swap u with the first vertex of its bin and shrink the bin
+                    int du = deg[u];
+                    int pu = pos[u];
+                    int pw = bin[du];
+                    int w = vert[pw];
+                    if (u != w) {
+                        pos[u] = pw;
+                        vert[pu] = w;
+                        pos[w] = pu;
+                        vert[pw] = u;
+                    }
+                    bin[du]++;
+                    deg[u]--;
+                }
+            }
+        }
+    }
+
+    private static void parallelPeel(
+        int[] start, int[] neighbor, int[] core, int[] order, ForkJoinPool pool)
+    {
+        int n = core.length;
+        AtomicIntegerArray deg = new AtomicIntegerArray(n);
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            deg.set(v, start[v + 1] - start[v]);
+            core[v] = -1;
+            maxDegree = Math.max(maxDegree, deg.get(v));
+        }
+        DegreeBuckets buckets = new DegreeBuckets(n, maxDegree);
+        for (int v = n - 1; v >= 0; v--) {
+            buckets.link(v, deg.get(v));
+        }
+        AtomicIntegerArray touched = new AtomicIntegerArray(n);
+        int[] touchedList = new int[n];
+        AtomicInteger touchedSize = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+
+        int size = 0;
+        int k = 0;
+        while (size < n) {
+            while (buckets.head[k] == -1) {
+                k++;
+            }
+
+            // the vertices of degree k form the first round
+            int from = size;
+            for (int v = buckets.head[k]; v != -1; v = buckets.next[v]) {
+                core[v] = k;
+                order[size++] = v;
+            }
+            buckets.head[k] = -1;
+            Arrays.sort(order, from, size);
+            int firstRoundEnd = size;
+
+            next.set(size);
+            while (from < size) {
+                pool.invoke(
+                    new PeelTask(
+                        start, neighbor, deg, core, order, next, touched, touchedList,
+                        touchedSize, k, from, size));
+                from = size;
+                size = next.get();
+                Arrays.sort(order, from, size);
+            }
+
+            // the later rounds were reached through other buckets
+            for (int i = firstRoundEnd; i < size; i++) {
+                buckets.unlink(order[i]);
+            }
+            int t = touchedSize.getAndSet(0);
+            for (int i = 0; i < t; i++) {
+                int u = touchedList[i];
+                touched.set(u, 0);
+                if (core[u] < 0) {
+                    buckets.unlink(u);
+                    buckets.link(u, deg.get(u));
+                }
+            }
+        }
+    }
+
+    /**
+     * Doubly linked lists of vertices, one for every degree.
+     */
+    private static class DegreeBuckets
+    {
+        final int[] head;
+        final int[] next;
+        final int[] prev;
+        final int[] bucket;
+
+        DegreeBuckets(int n, int maxDegree)
+        {
+            this.head = new int[maxDegree + 1];
+            Arrays.fill(head, -1);
+            this.next = new int[n];
+            this.prev = new int[n];
+            this.bucket = new int[n];
+        }
+
+        void link(int v, int d)
+        {
+            int h = head[d];
+            next[v] = h;
+            prev[v] = -1;
+            if (h != -1) {
+                prev[h] = v;
+            }
+            head[d] = v;
+            bucket[v] = d;
+        }
+
+        void unlink(int v)
+        {
+            if (prev[v] != -1) {
+                next[prev[v]] = next[v];
+            } else {
+                head[bucket[v]] = next[v];
+            }
+            if (next[v] != -1) {
+                prev[next[v]] = prev[v];
+            }
+        }
+    }
+
+    /**
+     * Decrements the degrees of the neighbors of a range of removed vertices. Neighbors whose
+     * degree drops to k are removed and appended to the output, the others are recorded once per
+     * level as touched, so that they can be moved to their new bucket.
+     */
+    private static class PeelTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] start;
+        private final int[] neighbor;
+        private final AtomicIntegerArray deg;
+        private final int[] core;
+        private final int[] order;
+        private final AtomicInteger next;
+        private final AtomicIntegerArray touched;
+        private final int[] touchedList;
+        private final AtomicInteger touchedSize;
+        private final int k;
+        private final int from;
+        private final int to;
+
+        PeelTask(
+            int[] start, int[] neighbor, AtomicIntegerArray deg, int[] core, int[] order,
+            AtomicInteger next, AtomicIntegerArray touched, int[] touchedList,
+            AtomicInteger touchedSize, int k, int from, int to)
+        {
+            this.start = start;
+            this.neighbor = neighbor;
+            this.deg = deg;
+            this.core = core;
+            this.order = order;
+            this.next = next;
+            this.touched = touched;
+            this.touchedList = touchedList;
+            this.touchedSize = touchedSize;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    int v = order[i];
+                    for (int j = start[v]; j < start[v + 1]; j++) {
+                        decrement(neighbor[j]);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new PeelTask(
+                    start, neighbor, deg, core, order, next, touched, touchedList, touchedSize,
+                    k, from, mid),
+                new PeelTask(
+                    start, neighbor, deg, core, order, next, touched, touchedList, touchedSize,
+                    k, mid, to));
+        }
+
+        private void decrement(int u)
+        {
+            while (true) {
+                int d = deg.get(u);
+                if (d <= k) {
+                    return;
+                }
+                if (deg.compareAndSet(u, d, d - 1)) {
+                    if (d - 1 == k) {
+                        core[u] = k;
+                        order[next.getAndIncrement()] = u;
+                    } else if (touched.compareAndSet(u, 0, 1)) {
+                        touchedList[touchedSize.getAndIncrement()] = u;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
+
+// End CoreDecomposition.java
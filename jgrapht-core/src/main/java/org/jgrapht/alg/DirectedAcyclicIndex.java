@@ -0,0 +1,254 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+
+/**
+ * The vertices of a directed acyclic graph indexed by a topological order, together with the
+ * successor lists as arrays of indices. Every successor of a vertex has a larger index than the
+ * vertex itself.
+ *
+ * <p>
+ * The descendants of every vertex can be computed as bitsets over the indices. The vertices are
+ * processed in reverse topological order and the bitset of a vertex is the word-parallel union of
+ * the bitsets of its successors. Since all descendants of vertex $i$ have an index larger than
+ * $i$, the bitset of $i$ only stores the words starting at the one containing bit $i$, which halves
+ * the memory of the full $n \times n$ matrix.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+final class DirectedAcyclicIndex<V, E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+
+    final Graph<V, E> graph;
+    final List<V> vertices;
+    final Map<V, Integer> index;
+    final int[][] successors;
+
+    private DirectedAcyclicIndex(
+        Graph<V, E> graph, List<V> vertices, Map<V, Integer> index, int[][] successors)
+    {
+        this.graph = graph;
+        this.vertices = vertices;
+        this.index = index;
+        this.successors = successors;
+    }
+
+    /**
+     * Index the vertices of a directed graph in topological order using Kahn's algorithm.
+     *
+     * @param graph the graph
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the index, or null if the graph contains a cycle
+     */
+    static <V, E> DirectedAcyclicIndex<V, E> of(Graph<V, E> graph)
+    {
+        int n = graph.vertexSet().size();
+        Map<V, Integer> inDegree = new HashMap<>();
+        Deque<V> queue = new ArrayDeque<>();
+        for (V v : graph.vertexSet()) {
+            int d = graph.inDegreeOf(v);
+            if (d == 0) {
+                queue.add(v);
+            } else {
+                inDegree.put(v, d);
+            }
+        }
+
+        List<V> vertices = new ArrayList<>(n);
+        Map<V, Integer> index = new HashMap<>();
+        while (!queue.isEmpty()) {
+            V v = queue.poll();
+            index.put(v, vertices.size());
+            vertices.add(v);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                V u = graph.getEdgeTarget(e);
+                int d = inDegree.get(u) - 1;
+                if (d == 0) {
+                    queue.add(u);
+                }
+                inDegree.put(u, d);
+            }
+        }
+        if (vertices.size() != n) {
+            return null;
+        }
+
+        int[][] successors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            Set<E> outgoing = graph.outgoingEdgesOf(vertices.get(i));
+            int[] s = new int[outgoing.size()];
+            int k = 0;
+            for (E e : outgoing) {
+                s[k++] = index.get(graph.getEdgeTarget(e));
+            }
+            Arrays.sort(s);
+            int distinct = 0;
+            for (int j = 0; j < k; j++) {
+                if (distinct == 0 || s[distinct - 1] != s[j]) {
+                    s[distinct++] = s[j];
+                }
+            }
+            successors[i] = distinct == k ? s : Arrays.copyOf(s, distinct);
+        }
+        return new DirectedAcyclicIndex<>(graph, vertices, index, successors);
+    }
+
+    /**
+     * Compute the descendants of every vertex.
+     *
+     * @param pool the pool used to process independent vertices in parallel, or null to compute
+     *        sequentially
+     * @return the descendants bitsets, use {@link #isDescendant(long[][], int, int)} to query them
+     */
+    long[][] descendants(ForkJoinPool pool)
+    {
+        int n = vertices.size();
+        long[][] descendants = new long[n][];
+        if (pool == null) {
+            for (int i = n - 1; i >= 0; i--) {
+                computeDescendants(descendants, i);
+            }
+            return descendants;
+        }
+
+        // vertices of the same height only have successors of smaller height
+        int[] height = new int[n];
+        int maxHeight = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j : successors[i]) {
+                height[i] = Math.max(height[i], height[j] + 1);
+            }
+            maxHeight = Math.max(maxHeight, height[i]);
+        }
+        int[] start = new int[maxHeight + 2];
+        for (int i = 0; i < n; i++) {
+            start[height[i] + 1]++;
+        }
+        for (int h = 0; h <= maxHeight; h++) {
+            start[h + 1] += start[h];
+        }
+        int[] byHeight = new int[n];
+        int[] next = Arrays.copyOf(start, maxHeight + 1);
+        for (int i = 0; i < n; i++) {
+            byHeight[next[height[i]]++] = i;
+        }
+
+        for (int h = 0; h <= maxHeight; h++) {
+            pool.invoke(new DescendantsTask(descendants, byHeight, start[h], start[h + 1]));
+        }
+        return descendants;
+    }
+
+    private void computeDescendants(long[][] descendants, int i)
+    {
+        int offset = i >>> 6;
+        long[] bits = new long[((vertices.size() + 63) >>> 6) - offset];
+        for (int j : successors[i]) {
+            bits[(j >>> 6) - offset] |= 1L << j;
+            long[] other = descendants[j];
+            int shift = (j >>> 6) - offset;
+            for (int w = 0; w < other.length; w++) {
+                bits[w + shift] |= other[w];
+            }
+        }
+        descendants[i] = bits;
+    }
+
+    /**
+     * Test whether a vertex is a descendant of another vertex.
+     *
+     * @param descendants the result of {@link #descendants(ForkJoinPool)}
+     * @param i the index of the ancestor
+     * @param j the index of the descendant
+     * @return true if there is a non-empty path from i to j
+     */
+    static boolean isDescendant(long[][] descendants, int i, int j)
+    {
+        if (j <= i) {
+            return false;
+        }
+        return (descendants[i][(j >>> 6) - (i >>> 6)] & (1L << j)) != 0;
+    }
+
+    /**
+     * Invoke an action for every descendant of a vertex in increasing index order.
+     *
+     * @param descendants the result of {@link #descendants(ForkJoinPool)}
+     * @param i the index of the ancestor
+     * @param action the action invoked with the index of every descendant
+     */
+    static void forEachDescendant(long[][] descendants, int i, IntConsumer action)
+    {
+        long[] bits = descendants[i];
+        int base = (i >>> 6) << 6;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                action.accept(base + (w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    private class DescendantsTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final long[][] descendants;
+        private final int[] vertexOrder;
+        private final int from;
+        private final int to;
+
+        DescendantsTask(long[][] descendants, int[] vertexOrder, int from, int to)
+        {
+            this.descendants = descendants;
+            this.vertexOrder = vertexOrder;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int k = from; k < to; k++) {
+                    computeDescendants(descendants, vertexOrder[k]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new DescendantsTask(descendants, vertexOrder, from, mid),
+                new DescendantsTask(descendants, vertexOrder, mid, to));
+        }
+    }
+}
+
+// End DirectedAcyclicIndex.java
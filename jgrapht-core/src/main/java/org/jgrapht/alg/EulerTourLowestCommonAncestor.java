@@ -0,0 +1,234 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * Online lowest common ancestor queries in a rooted tree using an Euler tour and a sparse table.
+ *
+ * <p>
+ * The tree is traversed once from its root, recording the vertices in the order they are visited
+ * and revisited (the Euler tour), together with the position at which every vertex first appears.
+ * The lowest common ancestor of two vertices is the vertex of minimum depth between their first
+ * occurrences, which a sparse table over the tour answers in constant time. Preprocessing takes
+ * O(n log n) time and space, afterwards every query takes O(1) time and no further memory, in
+ * contrast to {@link TarjanLowestCommonAncestor} which is offline and rebuilds its state for every
+ * call. Queries only read the precomputed arrays and may be executed concurrently.
+ *
+ * <p>
+ * In a directed graph the tree edges are the edges directed away from the root, in an undirected
+ * graph all edges are tree edges. Only the vertices reachable from the root are part of the tree.
+ * The graph must not change after the index has been built.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class EulerTourLowestCommonAncestor<V, E>
+{
+    private final V root;
+    private final List<V> vertices;
+    private final Map<V, Integer> index;
+    private final int[] depth;
+    private final int[] first;
+    private final int[][] table;
+
+    /**
+     * Create a new index.
+     *
+     * @param graph the input graph
+     * @param root the root of the tree
+     * @throws IllegalArgumentException if the graph does not contain the root or if the vertices
+     *         reachable from the root do not form a tree
+     */
+    public EulerTourLowestCommonAncestor(Graph<V, E> graph, V root)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        if (!graph.containsVertex(root)) {
+            throw new IllegalArgumentException("Graph must contain the root vertex");
+        }
+        this.root = root;
+        this.vertices = new ArrayList<>();
+        this.index = new HashMap<>();
+        boolean directed = graph.getType().isDirected();
+
+        // iterative Euler tour, an entry of the stack is a vertex and its remaining edges
+        List<Integer> tour = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        Deque<Pair<Integer, Iterator<E>>> stack = new ArrayDeque<>();
+        List<E> parentEdge = new ArrayList<>();
+        index.put(root, 0);
+        vertices.add(root);
+        parentEdge.add(null);
+        depths.add(0);
+        tour.add(0);
+        stack.push(Pair.of(0, edgesOf(graph, root, directed)));
+        while (!stack.isEmpty()) {
+            Pair<Integer, Iterator<E>> top = stack.peek();
+            int u = top.getFirst();
+            Iterator<E> it = top.getSecond();
+            if (!it.hasNext()) {
+                stack.pop();
+                if (!stack.isEmpty()) {
+                    tour.add(stack.peek().getFirst());
+                }
+                continue;
+            }
+            E e = it.next();
+            if (e == parentEdge.get(u)) {
+                continue;
+            }
+            V w = Graphs.getOppositeVertex(graph, e, vertices.get(u));
+            if (index.containsKey(w)) {
+                throw new IllegalArgumentException(
+                    "Graph is not a tree: vertex " + w + " reached twice");
+            }
+            int x = vertices.size();
+            index.put(w, x);
+            vertices.add(w);
+            parentEdge.add(e);
+            depths.add(depths.get(u) + 1);
+            tour.add(x);
+            stack.push(Pair.of(x, edgesOf(graph, w, directed)));
+        }
+
+        int n = vertices.size();
+        this.depth = new int[n];
+        this.first = new int[n];
+        Arrays.fill(first, -1);
+        for (int v = 0; v < n; v++) {
+            depth[v] = depths.get(v);
+        }
+        int length = tour.size();
+        int levels = 32 - Integer.numberOfLeadingZeros(length);
+        this.table = new int[levels][];
+        table[0] = new int[length];
+        for (int i = 0; i < length; i++) {
+            int v = tour.get(i);
+            table[0][i] = v;
+            if (first[v] < 0) {
+                first[v] = i;
+            }
+        }
+        for (int k = 1; k < levels; k++) {
+            int half = 1 << (k - 1);
+            int[] prev = table[k - 1];
+            int[] cur = new int[length - (1 << k) + 1];
+            for (int i = 0; i < cur.length; i++) {
+                int a = prev[i], b = prev[i + half];
+                cur[i] = depth[a] <= depth[b] ? a : b;
+            }
+            table[k] = cur;
+        }
+    }
+
+    private static <V, E> Iterator<E> edgesOf(Graph<V, E> graph, V v, boolean directed)
+    {
+        return directed ? graph.outgoingEdgesOf(v).iterator() : graph.edgesOf(v).iterator();
+    }
+
+    /**
+     * Get the root of the tree.
+     *
+     * @return the root of the tree
+     */
+    public V getRoot()
+    {
+        return root;
+    }
+
+    /**
+     * Get the depth of a vertex, i.e. the number of edges on the path from the root.
+     *
+     * @param v the vertex
+     * @return the depth of the vertex
+     * @throws IllegalArgumentException if the vertex is not part of the tree
+     */
+    public int getDepth(V v)
+    {
+        return depth[indexOf(v)];
+    }
+
+    /**
+     * Get the lowest common ancestor of two vertices.
+     *
+     * @param a the first vertex
+     * @param b the second vertex
+     * @return the lowest common ancestor
+     * @throws IllegalArgumentException if a vertex is not part of the tree
+     */
+    public V getLCA(V a, V b)
+    {
+        return vertices.get(lca(indexOf(a), indexOf(b)));
+    }
+
+    /**
+     * Get the lowest common ancestors of a batch of vertex pairs. The vertices of the pairs are
+     * translated to their indices once and the queries then run on plain arrays.
+     *
+     * @param queries the vertex pairs
+     * @return the lowest common ancestor of every pair, in the order of the queries
+     * @throws IllegalArgumentException if a vertex is not part of the tree
+     */
+    public List<V> getBatchLCA(List<? extends Pair<V, V>> queries)
+    {
+        int[] a = new int[queries.size()];
+        int[] b = new int[queries.size()];
+        int i = 0;
+        for (Pair<V, V> q : queries) {
+            a[i] = indexOf(q.getFirst());
+            b[i] = indexOf(q.getSecond());
+            i++;
+        }
+        List<V> result = new ArrayList<>(a.length);
+        for (i = 0; i < a.length; i++) {
+            result.add(vertices.get(lca(a[i], b[i])));
+        }
+        return result;
+    }
+
+    private int lca(int a, int b)
+    {
+        int l = first[a], r = first[b];
+        if (l > r) {
+            int tmp = l;
+            l = r;
+            r = tmp;
+        }
+        int k = 31 - Integer.numberOfLeadingZeros(r - l + 1);
+        int x = table[k][l], y = table[k][r - (1 << k) + 1];
+        return depth[x] <= depth[y] ? x : y;
+    }
+
+    private int indexOf(V v)
+    {
+        Integer i = index.get(v);
+        if (i == null) {
+            throw new IllegalArgumentException("Vertex " + v + " is not part of the tree");
+        }
+        return i;
+    }
+}
+
+// End EulerTourLowestCommonAncestor.java
@@ -62,7 +62,7 @@ public class GabowStrongConnectivityInspector<V, E>
     public List<Set<V>> stronglyConnectedSets()
     {
         if (stronglyConnectedSets == null) {
-            stronglyConnectedSets = new Vector<>();
+            stronglyConnectedSets = new ArrayList<>();
 
             // create VertexData objects for all vertices, store them
             createVertexNumber();
@@ -0,0 +1,392 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * Computes the blocks (biconnected components), the cutpoints (articulation points) and the
+ * bridges of an undirected graph using the algorithm of Hopcroft and Tarjan.
+ *
+ * <p>
+ * See J. Hopcroft and R. Tarjan. Algorithm 447: efficient algorithms for graph manipulation.
+ * Communications of the ACM, 16(6):372-378, 1973.
+ *
+ * <p>
+ * Everything is computed by a single iterative depth-first search in O(|V|+|E|) time, using
+ * integer arrays over the vertex and edge indices instead of subgraph objects. Every edge except
+ * self-loops belongs to exactly one block, and the blocks are numbered from $0$ to $k-1$. The
+ * blocks containing a vertex are indexed, so that {@link #getBlocks(Object)} takes constant time.
+ * A vertex belongs to more than one block if and only if it is a cutpoint. A vertex without any
+ * incident edge other than self-loops belongs to no block. Multiple edges are supported, two
+ * vertices connected by two parallel edges form a block and neither edge is a bridge.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class HopcroftTarjanBiconnectivityInspector<V, E>
+{
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final List<E> edges;
+    private final Map<E, Integer> edgeIndex;
+
+    private int blockCount;
+    private final int[] edgeBlock;
+    private int[] blockVertexStart;
+    private int[] blockVertices;
+    private int[] blockEdgeStart;
+    private int[] blockEdges;
+    private int[] vertexBlockStart;
+    private int[] vertexBlocks;
+    private final boolean[] cutpoint;
+    private final boolean[] bridge;
+
+    private Set<V> cutpoints;
+    private Set<E> bridges;
+
+    /**
+     * Create a new inspector and run the algorithm.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is not undirected
+     */
+    public HopcroftTarjanBiconnectivityInspector(Graph<V, E> graph)
+    {
+        GraphTests.requireUndirected(graph, "Graph must be undirected");
+
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexIndex = new HashMap<>();
+        for (V v : vertices) {
+            vertexIndex.put(v, vertexIndex.size());
+        }
+        this.edges = new ArrayList<>(graph.edgeSet());
+        this.edgeIndex = new HashMap<>();
+        for (E e : edges) {
+            edgeIndex.put(e, edgeIndex.size());
+        }
+
+        int n = vertices.size();
+        int m = edges.size();
+        int[] source = new int[m];
+        int[] target = new int[m];
+        int[] adjStart = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            source[e] = vertexIndex.get(graph.getEdgeSource(edges.get(e)));
+            target[e] = vertexIndex.get(graph.getEdgeTarget(edges.get(e)));
+            if (source[e] != target[e]) {
+                adjStart[source[e] + 1]++;
+                adjStart[target[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            adjStart[v + 1] += adjStart[v];
+        }
+        int[] adjEdge = new int[adjStart[n]];
+        int[] next = Arrays.copyOf(adjStart, n);
+        for (int e = 0; e < m; e++) {
+            if (source[e] != target[e]) {
+                adjEdge[next[source[e]]++] = e;
+                adjEdge[next[target[e]]++] = e;
+            }
+        }
+
+        this.edgeBlock = new int[m];
+        Arrays.fill(edgeBlock, -1);
+        this.cutpoint = new boolean[n];
+        this.bridge = new boolean[m];
+        run(source, target, adjStart, adjEdge);
+    }
+
+    private void run(int[] source, int[] target, int[] adjStart, int[] adjEdge)
+    {
+        int n = vertices.size();
+        int m = edges.size();
+        int[] disc = new int[n];
+        int[] low = new int[n];
+        int[] parentEdge = new int[n];
+        int[] position = new int[n];
+        int[] callStack = new int[n];
+        int[] edgeStack = new int[m];
+        int[] lastBlock = new int[n];
+        Arrays.fill(lastBlock, -1);
+        int time = 0;
+        int edgeTop = 0;
+
+        blockVertexStart = new int[n + 1];
+        blockVertices = new int[Math.max(16, n)];
+        blockEdgeStart = new int[n + 1];
+        blockEdges = new int[m];
+        int blockVertexCount = 0;
+        int blockEdgeCount = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (disc[root] != 0) {
+                continue;
+            }
+            int callTop = 0;
+            int rootChildren = 0;
+            callStack[callTop++] = root;
+            parentEdge[root] = -1;
+            disc[root] = low[root] = ++time;
+            position[root] = adjStart[root];
+
+            while (callTop > 0) {
+                int v = callStack[callTop - 1];
+                if (position[v] < adjStart[v + 1]) {
+                    int e = adjEdge[position[v]++];
+                    if (e == parentEdge[v]) {
+                        continue;
+                    }
+                    int w = source[e] == v ? target[e] : source[e];
+                    if (disc[w] == 0) {
+                        edgeStack[edgeTop++] = e;
+                        parentEdge[w] = e;
+                        disc[w] = low[w] = ++time;
+                        position[w] = adjStart[w];
+                        callStack[callTop++] = w;
+                        if (v == root) {
+                            rootChildren++;
+                        }
+                    } else if (disc[w] < disc[v]) {
+                        // back edge, seen first from the descendant
+                        edgeStack[edgeTop++] = e;
+                        low[v] = Math.min(low[v], disc[w]);
+                    }
+                    continue;
+                }
+
+                callTop--;
+                if (callTop == 0) {
+                    break;
+                }
+                int u = callStack[callTop - 1];
+                low[u] = Math.min(low[u], low[v]);
+                if (low[v] < disc[u]) {
+                    continue;
+                }
+
+                // u separates the subtree of v, the edges above the tree edge form a block
+                if (u != root) {
+                    cutpoint[u] = true;
+                }
+                if (low[v] > disc[u]) {
+                    bridge[parentEdge[v]] = true;
+                }
+                int b = blockCount++;
+                int e;
+                do {
+                    e = edgeStack[--edgeTop];
+                    edgeBlock[e] = b;
+                    blockEdges[blockEdgeCount++] = e;
+                    if (blockVertexCount + 2 > blockVertices.length) {
+                        blockVertices = Arrays.copyOf(blockVertices, 2 * blockVertices.length);
+                    }
+                    int x = source[e];
+                    if (lastBlock[x] != b) {
+                        lastBlock[x] = b;
+                        blockVertices[blockVertexCount++] = x;
+                    }
+                    x = target[e];
+                    if (lastBlock[x] != b) {
+                        lastBlock[x] = b;
+                        blockVertices[blockVertexCount++] = x;
+                    }
+                } while (e != parentEdge[v]);
+                blockVertexStart[b + 1] = blockVertexCount;
+                blockEdgeStart[b + 1] = blockEdgeCount;
+            }
+            if (rootChildren >= 2) {
+                cutpoint[root] = true;
+            }
+        }
+
+        blockVertexStart = Arrays.copyOf(blockVertexStart, blockCount + 1);
+        blockEdgeStart = Arrays.copyOf(blockEdgeStart, blockCount + 1);
+
+        // index the blocks of every vertex
+        vertexBlockStart = new int[n + 1];
+        for (int k = 0; k < blockVertexCount; k++) {
+            vertexBlockStart[blockVertices[k] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            vertexBlockStart[v + 1] += vertexBlockStart[v];
+        }
+        vertexBlocks = new int[blockVertexCount];
+        int[] next = Arrays.copyOf(vertexBlockStart, n);
+        for (int b = 0; b < blockCount; b++) {
+            for (int k = blockVertexStart[b]; k < blockVertexStart[b + 1]; k++) {
+                vertexBlocks[next[blockVertices[k]]++] = b;
+            }
+        }
+    }
+
+    /**
+     * Get the number of blocks.
+     *
+     * @return the number of blocks
+     */
+    public int getBlockCount()
+    {
+        return blockCount;
+    }
+
+    /**
+     * Get the block of an edge.
+     *
+     * @param edge the edge
+     * @return the block of the edge, or -1 if the edge is a self-loop
+     * @throws IllegalArgumentException if the edge is not contained in the graph
+     */
+    public int getBlock(E edge)
+    {
+        return edgeBlock[indexOfEdge(edge)];
+    }
+
+    /**
+     * Get the blocks containing a vertex, in increasing order.
+     *
+     * @param vertex the vertex
+     * @return the blocks containing the vertex
+     * @throws IllegalArgumentException if the vertex is not contained in the graph
+     */
+    public int[] getBlocks(V vertex)
+    {
+        int v = indexOfVertex(vertex);
+        return Arrays.copyOfRange(vertexBlocks, vertexBlockStart[v], vertexBlockStart[v + 1]);
+    }
+
+    /**
+     * Get the vertices of a block.
+     *
+     * @param block the block
+     * @return the vertices of the block
+     */
+    public List<V> getBlockVertices(int block)
+    {
+        List<V> result = new ArrayList<>(blockVertexStart[block + 1] - blockVertexStart[block]);
+        for (int k = blockVertexStart[block]; k < blockVertexStart[block + 1]; k++) {
+            result.add(vertices.get(blockVertices[k]));
+        }
+        return result;
+    }
+
+    /**
+     * Get the edges of a block.
+     *
+     * @param block the block
+     * @return the edges of the block
+     */
+    public List<E> getBlockEdges(int block)
+    {
+        List<E> result = new ArrayList<>(blockEdgeStart[block + 1] - blockEdgeStart[block]);
+        for (int k = blockEdgeStart[block]; k < blockEdgeStart[block + 1]; k++) {
+            result.add(edges.get(blockEdges[k]));
+        }
+        return result;
+    }
+
+    /**
+     * Get the cutpoints of the graph, i.e. the vertices whose removal increases the number of
+     * connected components.
+     *
+     * @return the cutpoints of the graph
+     */
+    public Set<V> getCutpoints()
+    {
+        if (cutpoints == null) {
+            Set<V> result = new LinkedHashSet<>();
+            for (int v = 0; v < cutpoint.length; v++) {
+                if (cutpoint[v]) {
+                    result.add(vertices.get(v));
+                }
+            }
+            cutpoints = Collections.unmodifiableSet(result);
+        }
+        return cutpoints;
+    }
+
+    /**
+     * Test whether a vertex is a cutpoint.
+     *
+     * @param vertex the vertex
+     * @return true if the vertex is a cutpoint, false otherwise
+     * @throws IllegalArgumentException if the vertex is not contained in the graph
+     */
+    public boolean isCutpoint(V vertex)
+    {
+        return cutpoint[indexOfVertex(vertex)];
+    }
+
+    /**
+     * Get the bridges of the graph, i.e. the edges whose removal increases the number of connected
+     * components.
+     *
+     * @return the bridges of the graph
+     */
+    public Set<E> getBridges()
+    {
+        if (bridges == null) {
+            Set<E> result = new LinkedHashSet<>();
+            for (int e = 0; e < bridge.length; e++) {
+                if (bridge[e]) {
+                    result.add(edges.get(e));
+                }
+            }
+            bridges = Collections.unmodifiableSet(result);
+        }
+        return bridges;
+    }
+
+    /**
+     * Test whether an edge is a bridge.
+     *
+     * @param edge the edge
+     * @return true if the edge is a bridge, false otherwise
+     * @throws IllegalArgumentException if the edge is not contained in the graph
+     */
+    public boolean isBridge(E edge)
+    {
+        return bridge[indexOfEdge(edge)];
+    }
+
+    private int indexOfVertex(V vertex)
+    {
+        Integer v = vertexIndex.get(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex " + vertex);
+        }
+        return v;
+    }
+
+    private int indexOfEdge(E edge)
+    {
+        Integer e = edgeIndex.get(edge);
+        if (e == null) {
+            throw new IllegalArgumentException("Graph must contain the edge " + edge);
+        }
+        return e;
+    }
+}
+
+// End HopcroftTarjanBiconnectivityInspector.java
@@ -64,7 +64,7 @@ public class KosarajuStrongConnectivityInspector<V, E>
     {
         if (stronglyConnectedSets == null) {
             orderedVertices = new LinkedList<VertexData<V>>();
-            stronglyConnectedSets = new Vector<Set<V>>();
+            stronglyConnectedSets = new ArrayList<>();
 
             // create VertexData objects for all vertices, store them
             createVertexData();
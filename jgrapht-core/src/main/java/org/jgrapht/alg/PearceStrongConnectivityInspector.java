@@ -0,0 +1,188 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+/**
+ * Computes the strongly connected components of a directed graph using Pearce's space-efficient
+ * variant of Tarjan's algorithm.
+ *
+ * <p>
+ * See D. J. Pearce. A space-efficient algorithm for finding strongly connected components.
+ * Information Processing Letters, 116(1):47-52, 2016.
+ *
+ * <p>
+ * The depth-first search is iterative, so that the depth of the graph is not limited by the size
+ * of the call stack, and all state is kept in a few integer arrays over the vertex indices instead
+ * of per-vertex objects: the combined visiting index and component number of every vertex, the
+ * current edge position of every vertex on the search path, and the two stacks. The running time is
+ * O(|V|+|E|). The components are numbered in the order they are completed, which is a reverse
+ * topological order of the condensation.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class PearceStrongConnectivityInspector<V, E>
+    extends AbstractStrongConnectivityInspector<V, E>
+{
+    private CompactDigraph<V> compactGraph;
+    private int[] component;
+    private int componentCount;
+
+    /**
+     * Constructor
+     *
+     * @param graph the graph to inspect
+     * @throws NullPointerException in case the graph is null
+     */
+    public PearceStrongConnectivityInspector(Graph<V, E> graph)
+    {
+        super(graph);
+    }
+
+    @Override
+    public List<Set<V>> stronglyConnectedSets()
+    {
+        if (stronglyConnectedSets == null) {
+            lazyComputeComponents();
+            stronglyConnectedSets = compactGraph.components(component, componentCount);
+        }
+        return stronglyConnectedSets;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The condensation is computed directly from the component array, without creating the
+     * strongly connected sets.
+     */
+    @Override
+    public CompactCondensation<V> getCompactCondensation()
+    {
+        lazyComputeComponents();
+        return new CompactCondensationImpl<>(
+            compactGraph.vertices, compactGraph.index, component, componentCount,
+            compactGraph.outStart, compactGraph.outTargets);
+    }
+
+    private void lazyComputeComponents()
+    {
+        if (component == null) {
+            compactGraph = CompactDigraph.of(graph, false);
+            component = new int[compactGraph.vertices.size()];
+            componentCount =
+                computeComponents(compactGraph.outStart, compactGraph.outTargets, component);
+        }
+    }
+
+    /**
+     * Compute the strongly connected components of a graph in compressed sparse row format.
+     *
+     * @param outStart the start of the successors of every vertex
+     * @param outTargets the successors
+     * @param component output array, the component of every vertex
+     * @return the number of components
+     */
+    static int computeComponents(int[] outStart, int[] outTargets, int[] component)
+    {
+        int n = outStart.length - 1;
+
+        // visiting index while on the stacks, n - 1 - component afterwards
+        int[] rindex = component;
+        Arrays.fill(rindex, 0);
+        boolean[] root = new boolean[n];
+        int[] edge = new int[n];
+        int[] callStack = new int[n];
+        int[] vertexStack = new int[n];
+        int callTop = 0;
+        int vertexTop = 0;
+        int index = 1;
+        int c = n - 1;
+
+        for (int s = 0; s < n; s++) {
+            if (rindex[s] != 0) {
+                continue;
+            }
+            callStack[callTop++] = s;
+            root[s] = true;
+            rindex[s] = index++;
+            edge[s] = outStart[s];
+
+            while (callTop > 0) {
+                int v = callStack[callTop - 1];
+                if (edge[v] < outStart[v + 1]) {
+                    int w = outTargets[edge[v]];
+                    if (rindex[w] == 0) {
+                        // descend, the edge is finished when w is finished
+                        callStack[callTop++] = w;
+                        root[w] = true;
+                        rindex[w] = index++;
+                        edge[w] = outStart[w];
+                        continue;
+                    }
+                    if (rindex[w] < rindex[v]) {
+                        rindex[v] = rindex[w];
+                        root[v] = false;
+                    }
+                    edge[v]++;
+                    continue;
+                }
+
+                // finish visiting v
+                callTop--;
+                if (root[v]) {
+                    index--;
+                    while (vertexTop > 0 && rindex[v] <= rindex[vertexStack[vertexTop - 1]]) {
+                        int w = vertexStack[--vertexTop];
+                        rindex[w] = c;
+                        index--;
+                    }
+                    rindex[v] = c;
+                    c--;
+                } else {
+                    vertexStack[vertexTop++] = v;
+                }
+
+                // finish the edge of the parent
+                if (callTop > 0) {
+                    int u = callStack[callTop - 1];
+                    if (rindex[v] < rindex[u]) {
+                        rindex[u] = rindex[v];
+                        root[u] = false;
+                    }
+                    edge[u]++;
+                }
+            }
+        }
+
+        for (int v = 0; v < n; v++) {
+            component[v] = n - 1 - rindex[v];
+        }
+        return n - 1 - c;
+    }
+}
+
+// End PearceStrongConnectivityInspector.java
@@ -0,0 +1,280 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+
+/**
+ * Partitions the vertices of a directed acyclic graph into topological layers.
+ *
+ * <p>
+ * The first layer contains the vertices without incoming edges and layer $i+1$ contains the
+ * vertices all of whose predecessors are in layers $0$ to $i$ and at least one of them in layer
+ * $i$. In other words the layer of a vertex is the length of a longest path ending at it. All
+ * vertices of a layer are independent of each other, therefore a scheduler can dispatch a whole
+ * layer at once, and concatenating the layers gives a topological order.
+ *
+ * <p>
+ * The layers are computed by a level-synchronous version of Kahn's algorithm in O(n+m) time. The
+ * in-degrees are kept in an {@link AtomicIntegerArray}, and if a pool is given the vertices of each
+ * layer remove their outgoing edges in parallel. A vertex joins the next layer when the decrement
+ * of its in-degree reaches zero, so it is found exactly once. The vertices of every layer are
+ * reported in the order of the vertex set of the graph, independently of the number of threads;
+ * this order is restored by a single counting pass over the layers at the end, so that the running
+ * time remains linear.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class TopologicalLayering<V, E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 10;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> index;
+    private final int[] layerOf;
+    private final int[] layerStart;
+    private final int[] order;
+
+    /**
+     * Compute the layers sequentially.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is not directed or contains a cycle
+     */
+    public TopologicalLayering(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Compute the layers.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to process the vertices of a layer in parallel, or null to compute
+     *        sequentially
+     * @throws IllegalArgumentException if the graph is not directed or contains a cycle
+     */
+    public TopologicalLayering(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        GraphTests.requireDirected(graph, "Graph must be directed");
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        int n = vertices.size();
+
+        int[] outStart = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            outStart[v + 1] = outStart[v] + graph.outDegreeOf(vertices.get(v));
+        }
+        int[] outTarget = new int[outStart[n]];
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            int k = outStart[v];
+            for (E e : graph.outgoingEdgesOf(vertices.get(v))) {
+                int w = index.get(graph.getEdgeTarget(e));
+                outTarget[k++] = w;
+                inDegree.set(w, inDegree.get(w) + 1);
+            }
+        }
+
+        // the layers are stored one after the other in the order array
+        this.order = new int[n];
+        this.layerOf = new int[n];
+        int size = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree.get(v) == 0) {
+                order[size++] = v;
+            }
+        }
+        List<Integer> starts = new ArrayList<>();
+        int from = 0;
+        AtomicInteger next = new AtomicInteger();
+        while (from < size) {
+            int layer = starts.size();
+            starts.add(from);
+            for (int i = from; i < size; i++) {
+                layerOf[order[i]] = layer;
+            }
+            next.set(size);
+            LayerTask task =
+                new LayerTask(outStart, outTarget, inDegree, order, next, from, size);
+            if (pool == null) {
+                task.removeEdges(from, size);
+            } else {
+                pool.invoke(task);
+            }
+            from = size;
+            size = next.get();
+        }
+        if (size != n) {
+            throw new IllegalArgumentException("Graph must be acyclic");
+        }
+        this.layerStart = new int[starts.size() + 1];
+        for (int i = 0; i < starts.size(); i++) {
+            layerStart[i] = starts.get(i);
+        }
+        layerStart[starts.size()] = n;
+
+        // list the vertices of every layer in the order of the vertex set, in linear time
+        int[] position = Arrays.copyOf(layerStart, starts.size());
+        for (int v = 0; v < n; v++) {
+            order[position[layerOf[v]]++] = v;
+        }
+    }
+
+    /**
+     * Get the number of layers.
+     *
+     * @return the number of layers
+     */
+    public int getLayerCount()
+    {
+        return layerStart.length - 1;
+    }
+
+    /**
+     * Get the vertices of a layer, in the order of the vertex set of the graph.
+     *
+     * @param layer the layer, between $0$ and the number of layers minus one
+     * @return the vertices of the layer
+     */
+    public List<V> getLayer(int layer)
+    {
+        if (layer < 0 || layer >= getLayerCount()) {
+            throw new IndexOutOfBoundsException("Layer " + layer + " does not exist");
+        }
+        List<V> result = new ArrayList<>(layerStart[layer + 1] - layerStart[layer]);
+        for (int i = layerStart[layer]; i < layerStart[layer + 1]; i++) {
+            result.add(vertices.get(order[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Get all layers.
+     *
+     * @return the layers
+     */
+    public List<List<V>> getLayers()
+    {
+        List<List<V>> result = new ArrayList<>(getLayerCount());
+        for (int layer = 0; layer < getLayerCount(); layer++) {
+            result.add(getLayer(layer));
+        }
+        return result;
+    }
+
+    /**
+     * Get the layer of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the layer of the vertex
+     * @throws IllegalArgumentException if the graph does not contain the vertex
+     */
+    public int getLayerOf(V vertex)
+    {
+        Integer v = index.get(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex " + vertex);
+        }
+        return layerOf[v];
+    }
+
+    /**
+     * Get a topological order of the vertices, which lists the layers one after the other.
+     *
+     * @return a topological order of the vertices
+     */
+    public List<V> getTopologicalOrder()
+    {
+        List<V> result = new ArrayList<>(order.length);
+        for (int v : order) {
+            result.add(vertices.get(v));
+        }
+        return result;
+    }
+
+    /**
+     * Removes the outgoing edges of a range of vertices of the current layer and appends the
+     * vertices whose in-degree drops to zero to the next layer.
+     */
+    private static class LayerTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] outStart;
+        private final int[] outTarget;
+        private final AtomicIntegerArray inDegree;
+        private final int[] order;
+        private final AtomicInteger next;
+        private final int from;
+        private final int to;
+
+        LayerTask(
+            int[] outStart, int[] outTarget, AtomicIntegerArray inDegree, int[] order,
+            AtomicInteger next, int from, int to)
+        {
+            this.outStart = outStart;
+            this.outTarget = outTarget;
+            this.inDegree = inDegree;
+            this.order = order;
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                removeEdges(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new LayerTask(outStart, outTarget, inDegree, order, next, from, mid),
+                new LayerTask(outStart, outTarget, inDegree, order, next, mid, to));
+        }
+
+        void removeEdges(int from, int to)
+        {
+            for (int i = from; i < to; i++) {
+                int v = order[i];
+                for (int k = outStart[v]; k < outStart[v + 1]; k++) {
+                    int w = outTarget[k];
+                    if (inDegree.decrementAndGet(w) == 0) {
+                        order[next.getAndIncrement()] = w;
+                    }
+                }
+            }
+        }
+    }
+}
+
+// End TopologicalLayering.java
@@ -18,10 +18,9 @@
 package org.jgrapht.alg;
 
 import java.util.*;
+import java.util.concurrent.*;
 
-import org.jgrapht.*;
 import org.jgrapht.graph.*;
-import org.jgrapht.traverse.*;
 
 /**
  * Constructs the transitive closure of the input graph.
@@ -112,7 +111,9 @@ public class TransitiveClosure
     }
 
     /**
-     * Computes the transitive closure of a directed acyclic graph in O(n*m)
+     * Computes the transitive closure of a directed acyclic graph in O(n*m/w) time where w is the
+     * word size. The descendants of every vertex are computed as bitsets in reverse topological
+     * order and the missing edges are added afterwards.
      *
      * @param graph - Graph to compute transitive closure for.
      * @param <V> the graph vertex type
@@ -120,18 +121,36 @@ public class TransitiveClosure
      */
     public <V, E> void closeDirectedAcyclicGraph(DirectedAcyclicGraph<V, E> graph)
     {
-        Deque<V> orderedVertices = new ArrayDeque<>(graph.vertexSet().size());
-        new TopologicalOrderIterator<>(graph).forEachRemaining(orderedVertices::addFirst);
+        closeDirectedAcyclicGraph(graph, null);
+    }
 
-        for (V vertex : orderedVertices) {
-            for (V successor : Graphs.successorListOf(graph, vertex)) {
-                for (V closureVertex : Graphs.successorListOf(graph, successor)) {
-                    graph.addEdge(vertex, closureVertex);
+    /**
+     * Computes the transitive closure of a directed acyclic graph. Vertices with the same height,
+     * i.e. the same length of the longest path to a sink, have disjoint dependencies and their
+     * descendants are computed in parallel using the given pool.
+     *
+     * @param graph - Graph to compute transitive closure for.
+     * @param pool the pool used for the parallel computation, or null to compute sequentially
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public <V, E> void closeDirectedAcyclicGraph(
+        DirectedAcyclicGraph<V, E> graph, ForkJoinPool pool)
+    {
+        DirectedAcyclicIndex<V, E> dag = DirectedAcyclicIndex.of(graph);
+        long[][] descendants = dag.descendants(pool);
+
+        // adding edges from ancestors to descendants never changes the topological order
+        for (int i = 0; i < descendants.length; i++) {
+            V source = dag.vertices.get(i);
+            int[] successors = dag.successors[i];
+            DirectedAcyclicIndex.forEachDescendant(descendants, i, j -> {
+                if (Arrays.binarySearch(successors, j) < 0) {
+                    graph.addEdge(source, dag.vertices.get(j));
                 }
-            }
+            });
         }
     }
-
 }
 
 // End TransitiveClosure.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 
@@ -134,10 +135,40 @@ public class TransitiveReduction
      * @param <E> the graph edge type
      */
     public <V, E> void reduce(final Graph<V, E> directedGraph)
+    {
+        reduce(directedGraph, null);
+    }
+
+    /**
+     * This method will remove all transitive edges from the graph passed as input parameter.
+     *
+     * <p>
+     * If the graph is acyclic, the descendants of every vertex are computed as bitsets in reverse
+     * topological order, in parallel using the given pool if not null. An edge $(u,v)$ is then
+     * transitive if and only if $v$ is a descendant of another successor of $u$, which requires
+     * O(n*m/w) time overall where w is the word size. Otherwise the cubic path matrix algorithm is
+     * used.
+     *
+     * @param directedGraph the directed graph that will be reduced transitively
+     * @param pool the pool used for the parallel computation, or null to compute sequentially
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public <V, E> void reduce(final Graph<V, E> directedGraph, ForkJoinPool pool)
     {
         GraphTests.requireDirected(directedGraph, "Graph must be directed");
 
+        DirectedAcyclicIndex<V, E> dag = DirectedAcyclicIndex.of(directedGraph);
+        if (dag != null) {
+            reduceAcyclic(dag, pool);
+            return;
+        }
+
         final List<V> vertices = new ArrayList<>(directedGraph.vertexSet());
+        final Map<V, Integer> index = new HashMap<>();
+        for (V v : vertices) {
+            index.put(v, index.size());
+        }
 
         final int n = vertices.size();
 
@@ -156,8 +187,8 @@ public class TransitiveReduction
             final V v1 = directedGraph.getEdgeSource(edge);
             final V v2 = directedGraph.getEdgeTarget(edge);
 
-            final int v_1 = vertices.indexOf(v1);
-            final int v_2 = vertices.indexOf(v2);
+            final int v_1 = index.get(v1);
+            final int v_2 = index.get(v2);
 
             originalMatrix[v_1].set(v_2);
         }
@@ -183,6 +214,38 @@ public class TransitiveReduction
             }
         }
     }
+
+    private <V, E> void reduceAcyclic(DirectedAcyclicIndex<V, E> dag, ForkJoinPool pool)
+    {
+        Graph<V, E> graph = dag.graph;
+        long[][] descendants = dag.descendants(pool);
+
+        // an edge (i,j) is transitive if j is a descendant of any successor of i, since in an
+        // acyclic graph j is never a descendant of itself
+        List<E> transitive = new ArrayList<>();
+        for (int i = 0; i < descendants.length; i++) {
+            int[] successors = dag.successors[i];
+            if (successors.length < 2) {
+                continue;
+            }
+            long[] reachable = new long[descendants[i].length];
+            int offset = i >>> 6;
+            for (int k : successors) {
+                long[] other = descendants[k];
+                int shift = (k >>> 6) - offset;
+                for (int w = 0; w < other.length; w++) {
+                    reachable[w + shift] |= other[w];
+                }
+            }
+            for (E e : graph.outgoingEdgesOf(dag.vertices.get(i))) {
+                int j = dag.index.get(graph.getEdgeTarget(e));
+                if ((reachable[(j >>> 6) - offset] & (1L << j)) != 0) {
+                    transitive.add(e);
+                }
+            }
+        }
+        graph.removeAllEdges(transitive);
+    }
 }
 
 // End TransitiveReduction.java
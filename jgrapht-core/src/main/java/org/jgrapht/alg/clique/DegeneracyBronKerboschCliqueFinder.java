@@ -21,7 +21,7 @@ import java.util.*;
 import java.util.concurrent.*;
 
 import org.jgrapht.*;
-import org.jgrapht.traverse.*;
+import org.jgrapht.alg.*;
 
 /**
  * Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering.
@@ -46,6 +46,10 @@ import org.jgrapht.traverse.*;
  * The algorithm first computes all maximal cliques and then returns the result to the user. A
  * timeout can be set using the constructor parameters.
  * 
+ * <p>
+ * The degeneracy ordering is taken from a {@link CoreDecomposition}, which is either computed by
+ * the finder or given to the constructor, for example after computing it in parallel.
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -57,6 +61,8 @@ import org.jgrapht.traverse.*;
 public class DegeneracyBronKerboschCliqueFinder<V, E>
     extends PivotBronKerboschCliqueFinder<V, E>
 {
+    private CoreDecomposition<V, E> decomposition;
+
     /**
      * Constructs a new clique finder.
      *
@@ -75,8 +81,29 @@ public class DegeneracyBronKerboschCliqueFinder<V, E>
      * @param unit the time unit of the timeout argument
      */
     public DegeneracyBronKerboschCliqueFinder(Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, null, timeout, unit);
+    }
+
+    /**
+     * Constructs a new clique finder which uses the degeneracy ordering of an existing core
+     * decomposition of the graph.
+     *
+     * @param graph the input graph; must be simple
+     * @param decomposition the core decomposition of the input graph, or null to compute it
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public DegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, CoreDecomposition<V, E> decomposition, long timeout, TimeUnit unit)
     {
         super(graph, timeout, unit);
+        if (decomposition != null
+            && decomposition.getVertices().size() != graph.vertexSet().size())
+        {
+            throw new IllegalArgumentException("Decomposition must belong to the input graph");
+        }
+        this.decomposition = decomposition;
     }
 
     /**
@@ -98,36 +125,30 @@ public class DegeneracyBronKerboschCliqueFinder<V, E>
                 nanosTimeLimit = Long.MAX_VALUE;
             }
 
-            List<V> ordering = new ArrayList<>();
-            new DegeneracyOrderingIterator<V, E>(graph).forEachRemaining(ordering::add);
+            if (decomposition == null) {
+                decomposition = new CoreDecomposition<>(graph);
+            }
+            List<V> ordering = decomposition.getOrdering();
 
             int n = ordering.size();
             for (int i = 0; i < n; i++) {
                 V vi = ordering.get(i);
-                Set<V> viNeighbors = new HashSet<>();
-                for (E e : graph.edgesOf(vi)) {
-                    viNeighbors.add(Graphs.getOppositeVertex(graph, e, vi));
-                }
 
+                // neighbors later in the ordering are candidates, earlier ones are excluded
                 Set<V> P = new HashSet<>();
-                for (int j = i + 1; j < n; j++) {
-                    V vj = ordering.get(j);
-                    if (viNeighbors.contains(vj)) {
+                Set<V> X = new HashSet<>();
+                for (E e : graph.edgesOf(vi)) {
+                    V vj = Graphs.getOppositeVertex(graph, e, vi);
+                    if (decomposition.getOrderingIndex(vj) > i) {
                         P.add(vj);
+                    } else {
+                        X.add(vj);
                     }
                 }
 
                 Set<V> R = new HashSet<>();
                 R.add(vi);
 
-                Set<V> X = new HashSet<>();
-                for (int j = 0; j < i; j++) {
-                    V vj = ordering.get(j);
-                    if (viNeighbors.contains(vj)) {
-                        X.add(vj);
-                    }
-                }
-
                 /*
                  * Call the pivot version
                  */
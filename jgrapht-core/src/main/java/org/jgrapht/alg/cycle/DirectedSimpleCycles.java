@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -57,6 +58,52 @@ public interface DirectedSimpleCycles<V, E>
      * @throws IllegalArgumentException if the current graph is null.
      */
     List<List<V>> findSimpleCycles();
+
+    /**
+     * Finds the simple cycles of the graph and passes them one at a time to an action, without
+     * storing them. The enumeration stops as soon as the action returns false.
+     *
+     * @param action invoked for every simple cycle, returns true to continue the enumeration or
+     *        false to stop it
+     * @return true if all simple cycles have been enumerated, false if the enumeration was stopped
+     *         by the action
+     * @throws IllegalArgumentException if the current graph is null.
+     */
+    default boolean findSimpleCycles(Predicate<List<V>> action)
+    {
+        return findSimpleCycles(Integer.MAX_VALUE, action);
+    }
+
+    /**
+     * Finds the simple cycles of the graph with at most {@code maxLength} vertices and passes them
+     * one at a time to an action. The enumeration stops as soon as the action returns false.
+     *
+     * <p>
+     * The default implementation computes the list of all simple cycles and filters it.
+     * Implementations override it in order to report cycles as soon as they are found and to avoid
+     * exploring paths longer than the limit.
+     *
+     * @param maxLength the maximum number of vertices of a reported cycle
+     * @param action invoked for every simple cycle, returns true to continue the enumeration or
+     *        false to stop it
+     * @return true if all simple cycles have been enumerated, false if the enumeration was stopped
+     *         by the action
+     * @throws IllegalArgumentException if the current graph is null or if the maximum length is
+     *         not positive.
+     */
+    default boolean findSimpleCycles(int maxLength, Predicate<List<V>> action)
+    {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        Objects.requireNonNull(action, "Action cannot be null");
+        for (List<V> cycle : findSimpleCycles()) {
+            if (cycle.size() <= maxLength && !action.test(cycle)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
 
 // End DirectedSimpleCycles.java
@@ -18,8 +18,10 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 
 /**
  * Find all simple cycles of a directed graph using the algorithm described by Hawick and James.
@@ -35,6 +37,7 @@ import org.jgrapht.*;
  * @author Luiz Kill
  */
 public class HawickJamesSimpleCycles<V, E>
+    extends BaseCancellableAlgorithm
     implements DirectedSimpleCycles<V, E>
 {
     private enum Operation
@@ -46,6 +49,7 @@ public class HawickJamesSimpleCycles<V, E>
 
     // The graph
     private Graph<V, E> graph;
+    private CancellationToken.Checker cancellationChecker = null;
 
     // Number of vertices
     private int nVertices = 0;
@@ -53,8 +57,10 @@ public class HawickJamesSimpleCycles<V, E>
     // Number of simple cycles
     private long nCycles = 0;
 
-    // Simple cycles found
-    private List<List<V>> cycles = null;
+    // Receives the simple cycles found
+    private Predicate<List<V>> action = null;
+    private int maxLength = Integer.MAX_VALUE;
+    private boolean stopped = false;
 
     // The main state of the algorithm
     private Integer start = 0;
@@ -91,11 +97,10 @@ public class HawickJamesSimpleCycles<V, E>
     @SuppressWarnings("unchecked")
     private void initState(Operation o)
     {
+        cancellationChecker = newCancellationChecker();
         nCycles = 0;
         nVertices = graph.vertexSet().size();
-        if (o == Operation.ENUMERATE) {
-            cycles = new ArrayList<>();
-        }
+        stopped = false;
         blocked = new boolean[nVertices];
         stack = new ArrayDeque<>(nVertices);
 
@@ -135,6 +140,9 @@ public class HawickJamesSimpleCycles<V, E>
 
     private void clearState()
     {
+        cancellationChecker = null;
+        action = null;
+        maxLength = Integer.MAX_VALUE;
         Ak = null;
         nVertices = 0;
         blocked = null;
@@ -148,12 +156,17 @@ public class HawickJamesSimpleCycles<V, E>
 
     private boolean circuit(Integer v, Operation o)
     {
+        cancellationChecker.checkCancelled();
         boolean f = false;
 
         stack.push(v);
         blocked[v] = true;
 
         for (Integer w : Ak[v]) {
+            if (stopped) {
+                break;
+            }
+
             if (w < start) {
                 continue;
             }
@@ -167,7 +180,9 @@ public class HawickJamesSimpleCycles<V, E>
                         cycle.add(iToV[iteratorStack.next()]);
                     }
 
-                    cycles.add(cycle);
+                    if (!action.test(cycle)) {
+                        stopped = true;
+                    }
                 }
 
                 if (o == Operation.PRINT_ONLY) {
@@ -181,7 +196,10 @@ public class HawickJamesSimpleCycles<V, E>
 
                 f = true;
             } else if (!blocked[w]) {
-                if (circuit(w, o)) {
+                if (stack.size() >= maxLength) {
+                    // the search is cut short, do not block the vertex
+                    f = true;
+                } else if (circuit(w, o)) {
                     f = true;
                 }
             }
@@ -267,14 +285,37 @@ public class HawickJamesSimpleCycles<V, E>
     @Override
     public List<List<V>> findSimpleCycles()
         throws IllegalArgumentException
+    {
+        List<List<V>> cycles = new ArrayList<>();
+        findSimpleCycles(Integer.MAX_VALUE, cycle -> {
+            cycles.add(cycle);
+            return true;
+        });
+        return cycles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A vertex is only blocked if its search was not cut short by the length limit, thus the
+     * limit never causes a cycle to be missed.
+     */
+    @Override
+    public boolean findSimpleCycles(int maxLength, Predicate<List<V>> action)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
 
         initState(Operation.ENUMERATE);
+        this.maxLength = maxLength;
+        this.action = Objects.requireNonNull(action, "Action cannot be null");
 
-        for (int i = 0; i < nVertices; i++) {
+        for (int i = 0; i < nVertices && !stopped; i++) {
             for (int j = 0; j < nVertices; j++) {
                 blocked[j] = false;
                 B[j].clear();
@@ -284,9 +325,9 @@ public class HawickJamesSimpleCycles<V, E>
             circuit(start, Operation.ENUMERATE);
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !stopped;
         clearState();
-        return result;
+        return completed;
     }
 
     /**
@@ -18,9 +18,10 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
-import org.jgrapht.graph.*;
+import org.jgrapht.alg.util.*;
 
 /**
  * Find all simple cycles of a directed graph using the Johnson's algorithm.
@@ -30,32 +31,67 @@ import org.jgrapht.graph.*;
  * D.B.Johnson, Finding all the elementary circuits of a directed graph, SIAM J. Comput., 4 (1975),
  * pp. 77-84.
  *
+ * <p>
+ * The vertices are numbered once and the algorithm works on arrays indexed by these numbers. The
+ * strongly connected component searched in each iteration is represented by a membership array
+ * instead of a separate graph, so no intermediate graphs are created. The depth-first searches use
+ * explicit stacks instead of recursion and the sets B of the algorithm are kept as lists of edges
+ * in a single array, thus long paths do not overflow the call stack and no sets are allocated.
+ *
  * @param <V> the vertex type.
  * @param <E> the edge type.
  *
  * @author Nikolay Ognyanov
  */
 public class JohnsonSimpleCycles<V, E>
+    extends BaseCancellableAlgorithm
     implements DirectedSimpleCycles<V, E>
 {
     // The graph.
     private Graph<V, E> graph;
+    private CancellationToken.Checker cancellationChecker = null;
 
-    // The main state of the algorithm.
-    private List<List<V>> cycles = null;
+    // The main state of the algorithm. The successors of vertex v are
+    // successorTargets[successorStart[v]] to successorTargets[successorStart[v + 1] - 1]
+    // and the position of a successor in successorTargets identifies the edge.
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
-    private Set<V> blocked = null;
-    private Map<V, Set<V>> bSets = null;
-    private ArrayDeque<V> stack = null;
+    private int[] successorStart = null;
+    private int[] successorTargets = null;
+    private int[] edgeSource = null;
+    private boolean[] selfLoop = null;
+    private boolean[] inComponent = null;
+    private boolean[] blocked = null;
+    private boolean[] foundCycle = null;
+    private int[] nextEdge = null;
+    private int[] stack = null;
+    private int stackSize = 0;
+    private int maxLength = Integer.MAX_VALUE;
+    private Predicate<List<V>> action = null;
+    private boolean stopped = false;
+
+    // The sets B of Johnson. B(w) holds the edges into w whose source
+    // waits for w to be unblocked, in bEdges[bStart[w]] to
+    // bEdges[bStart[w] + bSize[w] - 1]. Since every edge appears at most
+    // once, the in-degree of w bounds the size of B(w).
+    private int[] bStart = null;
+    private int[] bSize = null;
+    private int[] bEdges = null;
+    private boolean[] inBSet = null;
+    private int[] unblockStack = null;
 
     // The state of the embedded Tarjan SCC algorithm.
-    private List<Set<V>> SCCs = null;
     private int index = 0;
-    private Map<V, Integer> vIndex = null;
-    private Map<V, Integer> vLowlink = null;
-    private ArrayDeque<V> path = null;
-    private Set<V> pathSet = null;
+    private int[] vIndex = null;
+    private int[] vLowlink = null;
+    private int[] vComponent = null;
+    private int componentCount = 0;
+    private int minComponent = -1;
+    private int minIndexFound = Integer.MAX_VALUE;
+    private int[] path = null;
+    private int pathSize = 0;
+    private boolean[] onPath = null;
+    private int[] callStack = null;
 
     /**
      * Create a simple cycle finder with an unspecified graph.
@@ -99,41 +135,59 @@ public class JohnsonSimpleCycles<V, E>
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("unchecked")
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> cycles = new ArrayList<>();
+        findSimpleCycles(Integer.MAX_VALUE, cycle -> {
+            cycles.add(cycle);
+            return true;
+        });
+        return cycles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A vertex is only blocked if its search was not cut short by the length limit, thus the
+     * limit never causes a cycle to be missed.
+     */
+    @Override
+    public boolean findSimpleCycles(int maxLength, Predicate<List<V>> action)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        initState(maxLength, Objects.requireNonNull(action, "Action cannot be null"));
 
         int startIndex = 0;
-        int size = graph.vertexSet().size();
-        while (startIndex < size) {
-            Object[] minSCCGResult = findMinSCSG(startIndex);
-            if (minSCCGResult[0] != null) {
-                startIndex = (Integer) minSCCGResult[1];
-                Graph<V, E> scg = (Graph<V, E>) minSCCGResult[0];
-                V startV = toV(startIndex);
-                for (E e : scg.outgoingEdgesOf(startV)) {
-                    V v = graph.getEdgeTarget(e);
-                    blocked.remove(v);
-                    getBSet(v).clear();
-                }
-                findCyclesInSCG(startIndex, startIndex, scg);
-                startIndex++;
-            } else {
+        int size = iToV.length;
+        while (startIndex < size && !stopped) {
+            cancellationChecker.checkCancelled();
+            int minIndex = findMinSCSG(startIndex);
+            if (minIndex < 0) {
                 break;
             }
+            startIndex = minIndex;
+            for (int v = startIndex; v < size; v++) {
+                if (inComponent[v]) {
+                    blocked[v] = false;
+                    clearBSet(v);
+                }
+            }
+            findCyclesInSCG(startIndex);
+            startIndex++;
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !stopped;
         clearState();
-        return result;
+        return completed;
     }
 
-    @SuppressWarnings("unchecked")
-    private Object[] findMinSCSG(int startIndex)
+    private int findMinSCSG(int startIndex)
     {
         // Per Johnson : "adjacency structure of strong
         // component K with least vertex in subgraph of
@@ -141,234 +195,295 @@ public class JohnsonSimpleCycles<V, E>
         // Or in contemporary terms: the strongly connected
         // component of the subgraph induced by {v1,...,vn}
         // which contains the minimum (among those SCCs)
-        // vertex index. We return that index together with
-        // the graph.
+        // vertex index. We mark the vertices of that
+        // component and return the minimum index.
         initMinSCGState();
-        Object[] result = new Object[2];
-
-        List<Set<V>> SCCs = findSCCS(startIndex);
-
-        // find the SCC with the minimum index
-        int minIndexFound = Integer.MAX_VALUE;
-        Set<V> minSCC = null;
-        for (Set<V> scc : SCCs) {
-            for (V v : scc) {
-                int t = toI(v);
-                if (t < minIndexFound) {
-                    minIndexFound = t;
-                    minSCC = scc;
-                }
+
+        // Find SCCs in the subgraph induced
+        // by vertices startIndex and beyond.
+        // Vertices with an index smaller than
+        // startIndex are ignored.
+        for (int v = startIndex; v < iToV.length; v++) {
+            if (vIndex[v] < 0) {
+                getSCCs(startIndex, v);
             }
         }
-        if (minSCC == null) {
-            return result;
-        }
 
-        // build a graph for the SCC found
-        Graph<V, E> resultGraph = new DefaultDirectedGraph<>(
-            new ClassBasedEdgeFactory<>((Class<? extends E>) DefaultEdge.class));
-        for (V v : minSCC) {
-            resultGraph.addVertex(v);
+        Arrays.fill(inComponent, false);
+        if (minComponent < 0) {
+            return -1;
         }
-        for (V v : minSCC) {
-            for (V w : minSCC) {
-                if (graph.containsEdge(v, w)) {
-                    resultGraph.addEdge(v, w);
-                }
-            }
+        for (int v = startIndex; v < iToV.length; v++) {
+            inComponent[v] = vComponent[v] == minComponent;
         }
-
-        // It is ugly to return results in an array
-        // of Object but the idea is to restrict
-        // dependencies to JgraphT only and there is
-        // no utility pair container in JgraphT.
-        result[0] = resultGraph;
-        result[1] = minIndexFound;
-
-        clearMinSCCState();
-        return result;
+        return minIndexFound;
     }
 
-    private List<Set<V>> findSCCS(int startIndex)
+    private void getSCCs(int startIndex, int root)
     {
-        // Find SCCs in the subgraph induced
-        // by vertices startIndex and beyond.
-        // A call to StrongConnectivityAlgorithm
-        // would be too expensive because of the
-        // need to materialize the subgraph.
-        // So - do a local search by the Tarjan's
-        // algorithm and pretend that vertices
-        // with an index smaller than startIndex
-        // do not exist.
-        for (V v : graph.vertexSet()) {
-            int vI = toI(v);
-            if (vI < startIndex) {
+        int callSize = 0;
+        visitSCC(root);
+        callStack[callSize++] = root;
+
+        while (callSize > 0) {
+            int vertex = callStack[callSize - 1];
+            if (nextEdge[vertex] < successorStart[vertex + 1]) {
+                int successor = successorTargets[nextEdge[vertex]++];
+                if (successor < startIndex) {
+                    continue;
+                }
+                if (vIndex[successor] < 0) {
+                    // descend, the lowlink of vertex is updated when successor is finished
+                    visitSCC(successor);
+                    callStack[callSize++] = successor;
+                } else if (onPath[successor]) {
+                    vLowlink[vertex] = Math.min(vLowlink[vertex], vIndex[successor]);
+                }
                 continue;
             }
-            if (!vIndex.containsKey(v)) {
-                getSCCs(startIndex, vI);
+
+            // finish vertex
+            callSize--;
+            if (callSize > 0) {
+                int parent = callStack[callSize - 1];
+                vLowlink[parent] = Math.min(vLowlink[parent], vLowlink[vertex]);
+            }
+            if (vLowlink[vertex] == vIndex[vertex]) {
+                int component = componentCount++;
+                int size = 0;
+                int min = Integer.MAX_VALUE;
+                int temp;
+                do {
+                    temp = path[--pathSize];
+                    onPath[temp] = false;
+                    vComponent[temp] = component;
+                    min = Math.min(min, temp);
+                    size++;
+                } while (temp != vertex);
+
+                // single vertices only form a cycle with a self-loop
+                if ((size > 1 || selfLoop[vertex]) && min < minIndexFound) {
+                    minIndexFound = min;
+                    minComponent = component;
+                }
             }
         }
-        List<Set<V>> result = SCCs;
-        SCCs = null;
-        return result;
     }
 
-    private void getSCCs(int startIndex, int vertexIndex)
+    private void visitSCC(int vertex)
     {
-        V vertex = toV(vertexIndex);
-        vIndex.put(vertex, index);
-        vLowlink.put(vertex, index);
+        vIndex[vertex] = index;
+        vLowlink[vertex] = index;
         index++;
-        path.push(vertex);
-        pathSet.add(vertex);
-
-        Set<E> edges = graph.outgoingEdgesOf(vertex);
-        for (E e : edges) {
-            V successor = graph.getEdgeTarget(e);
-            int successorIndex = toI(successor);
-            if (successorIndex < startIndex) {
+        path[pathSize++] = vertex;
+        onPath[vertex] = true;
+        nextEdge[vertex] = successorStart[vertex];
+    }
+
+    private void findCyclesInSCG(int startIndex)
+    {
+        // Find cycles in a strongly connected graph
+        // per Johnson. The flag of a vertex also becomes
+        // true if the length limit cut the search short,
+        // which keeps the vertex from being blocked.
+        pushCycleSearch(startIndex);
+
+        while (stackSize > 0) {
+            int vertex = stack[stackSize - 1];
+            if (!stopped && nextEdge[vertex] < successorStart[vertex + 1]) {
+                int successor = successorTargets[nextEdge[vertex]++];
+                if (!inComponent[successor]) {
+                    continue;
+                }
+                if (successor == startIndex) {
+                    report();
+                    foundCycle[vertex] = true;
+                } else if (!blocked[successor]) {
+                    if (stackSize >= maxLength) {
+                        foundCycle[vertex] = true;
+                    } else {
+                        pushCycleSearch(successor);
+                    }
+                }
                 continue;
             }
-            if (!vIndex.containsKey(successor)) {
-                getSCCs(startIndex, successorIndex);
-                vLowlink.put(vertex, Math.min(vLowlink.get(vertex), vLowlink.get(successor)));
-            } else if (pathSet.contains(successor)) {
-                vLowlink.put(vertex, Math.min(vLowlink.get(vertex), vIndex.get(successor)));
-            }
-        }
-        if (vLowlink.get(vertex).equals(vIndex.get(vertex))) {
-            Set<V> result = new HashSet<>();
-            V temp;
-            do {
-                temp = path.pop();
-                pathSet.remove(temp);
-                result.add(temp);
-            } while (!vertex.equals(temp));
-            if (result.size() == 1) {
-                V v = result.iterator().next();
-                if (graph.containsEdge(vertex, v)) {
-                    SCCs.add(result);
-                }
+
+            // finish vertex
+            if (foundCycle[vertex]) {
+                unblock(vertex);
             } else {
-                SCCs.add(result);
+                for (int e = successorStart[vertex]; e < successorStart[vertex + 1]; e++) {
+                    int w = successorTargets[e];
+                    if (inComponent[w] && !inBSet[e]) {
+                        inBSet[e] = true;
+                        bEdges[bStart[w] + bSize[w]++] = e;
+                    }
+                }
+            }
+            stackSize--;
+            if (stackSize > 0 && foundCycle[vertex]) {
+                foundCycle[stack[stackSize - 1]] = true;
             }
         }
     }
 
-    private boolean findCyclesInSCG(int startIndex, int vertexIndex, Graph<V, E> scg)
+    private void pushCycleSearch(int vertex)
     {
-        // Find cycles in a strongly connected graph
-        // per Johnson.
-        boolean foundCycle = false;
-        V vertex = toV(vertexIndex);
-        stack.push(vertex);
-        blocked.add(vertex);
-
-        for (E e : scg.outgoingEdgesOf(vertex)) {
-            V successor = scg.getEdgeTarget(e);
-            int successorIndex = toI(successor);
-            if (successorIndex == startIndex) {
-                List<V> cycle = new ArrayList<>();
-                cycle.addAll(stack);
-                cycles.add(cycle);
-                foundCycle = true;
-            } else if (!blocked.contains(successor)) {
-                boolean gotCycle = findCyclesInSCG(startIndex, successorIndex, scg);
-                foundCycle = foundCycle || gotCycle;
-            }
+        cancellationChecker.checkCancelled();
+        stack[stackSize++] = vertex;
+        blocked[vertex] = true;
+        foundCycle[vertex] = false;
+        nextEdge[vertex] = successorStart[vertex];
+    }
+
+    private void report()
+    {
+        List<V> cycle = new ArrayList<>(stackSize);
+        for (int i = stackSize - 1; i >= 0; i--) {
+            cycle.add(iToV[stack[i]]);
         }
-        if (foundCycle) {
-            unblock(vertex);
-        } else {
-            for (E ew : scg.outgoingEdgesOf(vertex)) {
-                V w = scg.getEdgeTarget(ew);
-                Set<V> bSet = getBSet(w);
-                bSet.add(vertex);
-            }
+        if (!action.test(cycle)) {
+            stopped = true;
         }
-        stack.pop();
-        return foundCycle;
     }
 
-    private void unblock(V vertex)
+    private void unblock(int vertex)
     {
-        blocked.remove(vertex);
-        Set<V> bSet = getBSet(vertex);
-        while (bSet.size() > 0) {
-            V w = bSet.iterator().next();
-            bSet.remove(w);
-            if (blocked.contains(w)) {
-                unblock(w);
+        // the order of unblocking does not matter, thus a stack suffices
+        int unblockSize = 0;
+        blocked[vertex] = false;
+        unblockStack[unblockSize++] = vertex;
+        while (unblockSize > 0) {
+            int u = unblockStack[--unblockSize];
+            for (int i = bStart[u], end = bStart[u] + bSize[u]; i < end; i++) {
+                int e = bEdges[i];
+                inBSet[e] = false;
+                int w = edgeSource[e];
+                if (blocked[w]) {
+                    blocked[w] = false;
+                    unblockStack[unblockSize++] = w;
+                }
             }
+            bSize[u] = 0;
+        }
+    }
+
+    private void clearBSet(int vertex)
+    {
+        for (int i = bStart[vertex], end = bStart[vertex] + bSize[vertex]; i < end; i++) {
+            inBSet[bEdges[i]] = false;
         }
+        bSize[vertex] = 0;
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(int maxLength, Predicate<List<V>> action)
     {
-        cycles = new LinkedList<>();
+        cancellationChecker = newCancellationChecker();
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
-        blocked = new HashSet<>();
-        bSets = new HashMap<>();
-        stack = new ArrayDeque<>();
-
         for (int i = 0; i < iToV.length; i++) {
             vToI.put(iToV[i], i);
         }
+
+        // multiple edges do not create additional cycles
+        int n = iToV.length;
+        successorStart = new int[n + 1];
+        int[] targets = new int[graph.edgeSet().size()];
+        int[] lastSource = new int[n];
+        Arrays.fill(lastSource, -1);
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            successorStart[i] = m;
+            for (E e : graph.outgoingEdgesOf(iToV[i])) {
+                int t = vToI.get(graph.getEdgeTarget(e));
+                if (lastSource[t] != i) {
+                    lastSource[t] = i;
+                    targets[m++] = t;
+                }
+            }
+        }
+        successorStart[n] = m;
+        successorTargets = Arrays.copyOf(targets, m);
+
+        edgeSource = new int[m];
+        selfLoop = new boolean[n];
+        bStart = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int e = successorStart[i]; e < successorStart[i + 1]; e++) {
+                int t = successorTargets[e];
+                edgeSource[e] = i;
+                bStart[t + 1]++;
+                if (t == i) {
+                    selfLoop[i] = true;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            bStart[i + 1] += bStart[i];
+        }
+        bSize = new int[n];
+        bEdges = new int[m];
+        inBSet = new boolean[m];
+        unblockStack = new int[n];
+
+        inComponent = new boolean[n];
+        blocked = new boolean[n];
+        foundCycle = new boolean[n];
+        nextEdge = new int[n];
+        stack = new int[n];
+        stackSize = 0;
+        this.maxLength = maxLength;
+        this.action = action;
+        stopped = false;
+
+        vIndex = new int[n];
+        vLowlink = new int[n];
+        vComponent = new int[n];
+        path = new int[n];
+        onPath = new boolean[n];
+        callStack = new int[n];
     }
 
     private void clearState()
     {
-        cycles = null;
+        cancellationChecker = null;
         iToV = null;
         vToI = null;
+        successorStart = null;
+        successorTargets = null;
+        edgeSource = null;
+        selfLoop = null;
+        inComponent = null;
         blocked = null;
-        bSets = null;
+        foundCycle = null;
+        nextEdge = null;
         stack = null;
-    }
+        stackSize = 0;
+        action = null;
 
-    private void initMinSCGState()
-    {
-        index = 0;
-        SCCs = new ArrayList<>();
-        vIndex = new HashMap<>();
-        vLowlink = new HashMap<>();
-        path = new ArrayDeque<>();
-        pathSet = new HashSet<>();
-    }
+        bStart = null;
+        bSize = null;
+        bEdges = null;
+        inBSet = null;
+        unblockStack = null;
 
-    private void clearMinSCCState()
-    {
-        index = 0;
-        SCCs = null;
         vIndex = null;
         vLowlink = null;
+        vComponent = null;
         path = null;
-        pathSet = null;
-    }
-
-    private Integer toI(V vertex)
-    {
-        return vToI.get(vertex);
-    }
-
-    private V toV(Integer i)
-    {
-        return iToV[i];
+        onPath = null;
+        callStack = null;
     }
 
-    private Set<V> getBSet(V v)
+    private void initMinSCGState()
     {
-        // B sets typically not all needed,
-        // so instantiate lazily.
-        Set<V> result = bSets.get(v);
-        if (result == null) {
-            result = new HashSet<>();
-            bSets.put(v, result);
-        }
-        return result;
+        index = 0;
+        componentCount = 0;
+        minComponent = -1;
+        minIndexFound = Integer.MAX_VALUE;
+        pathSize = 0;
+        Arrays.fill(vIndex, -1);
     }
 }
 
@@ -18,9 +18,11 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.*;
+import org.jgrapht.alg.util.*;
 
 /**
  * Find all simple cycles of a directed graph using the Schwarcfiter and Lauer's algorithm.
@@ -37,13 +39,17 @@ import org.jgrapht.alg.*;
  * @author Nikolay Ognyanov
  */
 public class SzwarcfiterLauerSimpleCycles<V, E>
+    extends BaseCancellableAlgorithm
     implements DirectedSimpleCycles<V, E>
 {
     // The graph.
     private Graph<V, E> graph;
+    private CancellationToken.Checker cancellationChecker = null;
 
     // The state of the algorithm.
-    private List<List<V>> cycles = null;
+    private Predicate<List<V>> action = null;
+    private int maxLength = Integer.MAX_VALUE;
+    private boolean stopped = false;
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
     private Map<V, Set<V>> bSets = null;
@@ -97,13 +103,34 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> cycles = new ArrayList<>();
+        findSimpleCycles(Integer.MAX_VALUE, cycle -> {
+            cycles.add(cycle);
+            return true;
+        });
+        return cycles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This algorithm closes cycles anywhere on its stack, therefore the search itself is not
+     * bounded and cycles longer than the maximum length are skipped when they are found.
+     */
+    @Override
+    public boolean findSimpleCycles(int maxLength, Predicate<List<V>> action)
     {
         // Just a straightforward implementation of
         // the algorithm.
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        initState(maxLength, Objects.requireNonNull(action, "Action cannot be null"));
         KosarajuStrongConnectivityInspector<V, E> inspector =
             new KosarajuStrongConnectivityInspector<>(graph);
         List<Set<V>> sccs = inspector.stronglyConnectedSets();
@@ -121,16 +148,20 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
         }
 
         for (V vertex : startVertices) {
+            if (stopped) {
+                break;
+            }
             cycle(toI(vertex), 0);
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !stopped;
         clearState();
-        return result;
+        return completed;
     }
 
     private boolean cycle(int v, int q)
     {
+        cancellationChecker.checkCancelled();
         boolean foundCycle = false;
         V vV = toV(v);
         marked.add(vV);
@@ -143,6 +174,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
         Set<V> avRemoved = getRemoved(vV);
         Set<E> edgeSet = graph.outgoingEdgesOf(vV);
         for (E e : edgeSet) {
+            if (stopped) {
+                break;
+            }
             V wV = graph.getEdgeTarget(e);
             if (avRemoved.contains(wV)) {
                 continue;
@@ -174,7 +208,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
                         break;
                     }
                 }
-                cycles.add(cycle);
+                if (cycle.size() <= maxLength && !action.test(cycle)) {
+                    stopped = true;
+                }
             } else {
                 noCycle(v, w);
             }
@@ -216,9 +252,12 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(int maxLength, Predicate<List<V>> action)
     {
-        cycles = new ArrayList<>();
+        cancellationChecker = newCancellationChecker();
+        this.maxLength = maxLength;
+        this.action = action;
+        stopped = false;
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
         bSets = new HashMap<>();
@@ -237,7 +276,8 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        cancellationChecker = null;
+        action = null;
         iToV = null;
         vToI = null;
         bSets = null;
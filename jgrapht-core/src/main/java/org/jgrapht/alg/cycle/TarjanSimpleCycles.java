@@ -18,8 +18,10 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 
 /**
  * Find all simple cycles of a directed graph using the Tarjan's algorithm.
@@ -35,11 +37,15 @@ import org.jgrapht.*;
  * @author Nikolay Ognyanov
  */
 public class TarjanSimpleCycles<V, E>
+    extends BaseCancellableAlgorithm
     implements DirectedSimpleCycles<V, E>
 {
     private Graph<V, E> graph;
+    private CancellationToken.Checker cancellationChecker = null;
 
-    private List<List<V>> cycles;
+    private Predicate<List<V>> action;
+    private int maxLength;
+    private boolean stopped;
     private Set<V> marked;
     private ArrayDeque<V> markedStack;
     private ArrayDeque<V> pointStack;
@@ -89,32 +95,60 @@ public class TarjanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> cycles = new ArrayList<>();
+        findSimpleCycles(Integer.MAX_VALUE, cycle -> {
+            cycles.add(cycle);
+            return true;
+        });
+        return cycles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A vertex stays marked only if its search was not cut short by the length limit, thus the
+     * limit never causes a cycle to be missed.
+     */
+    @Override
+    public boolean findSimpleCycles(int maxLength, Predicate<List<V>> action)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        initState(maxLength, Objects.requireNonNull(action, "Action cannot be null"));
 
         for (V start : graph.vertexSet()) {
+            if (stopped) {
+                break;
+            }
             backtrack(start, start);
             while (!markedStack.isEmpty()) {
                 marked.remove(markedStack.pop());
             }
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !stopped;
         clearState();
-        return result;
+        return completed;
     }
 
     private boolean backtrack(V start, V vertex)
     {
+        cancellationChecker.checkCancelled();
         boolean foundCycle = false;
         pointStack.push(vertex);
         marked.add(vertex);
         markedStack.push(vertex);
 
         for (E currentEdge : graph.outgoingEdgesOf(vertex)) {
+            if (stopped) {
+                break;
+            }
             V currentVertex = graph.getEdgeTarget(currentEdge);
             if (getRemoved(vertex).contains(currentVertex)) {
                 continue;
@@ -137,10 +171,17 @@ public class TarjanSimpleCycles<V, E>
                 while (it.hasNext()) {
                     cycle.add(it.next());
                 }
-                cycles.add(cycle);
+                if (!action.test(cycle)) {
+                    stopped = true;
+                }
             } else if (!marked.contains(currentVertex)) {
-                boolean gotCycle = backtrack(start, currentVertex);
-                foundCycle = foundCycle || gotCycle;
+                if (pointStack.size() >= maxLength) {
+                    // the search is cut short, do not keep the vertex marked
+                    foundCycle = true;
+                } else {
+                    boolean gotCycle = backtrack(start, currentVertex);
+                    foundCycle = foundCycle || gotCycle;
+                }
             }
         }
 
@@ -155,9 +196,12 @@ public class TarjanSimpleCycles<V, E>
         return foundCycle;
     }
 
-    private void initState()
+    private void initState(int maxLength, Predicate<List<V>> action)
     {
-        cycles = new ArrayList<>();
+        cancellationChecker = newCancellationChecker();
+        this.maxLength = maxLength;
+        this.action = action;
+        stopped = false;
         marked = new HashSet<>();
         markedStack = new ArrayDeque<>();
         pointStack = new ArrayDeque<>();
@@ -171,11 +215,13 @@ public class TarjanSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        cancellationChecker = null;
+        action = null;
         marked = null;
         markedStack = null;
         pointStack = null;
         vToI = null;
+        removed = null;
     }
 
     private Integer toI(V v)
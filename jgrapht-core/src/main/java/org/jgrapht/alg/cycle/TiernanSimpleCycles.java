@@ -18,8 +18,10 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 
 /**
  * Find all simple cycles of a directed graph using the Tiernan's algorithm.
@@ -35,6 +37,7 @@ import org.jgrapht.*;
  * @author Nikolay Ognyanov
  */
 public class TiernanSimpleCycles<V, E>
+    extends BaseCancellableAlgorithm
     implements DirectedSimpleCycles<V, E>
 {
     private Graph<V, E> graph;
@@ -82,15 +85,36 @@ public class TiernanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> cycles = new LinkedList<>();
+        findSimpleCycles(Integer.MAX_VALUE, cycle -> {
+            cycles.add(cycle);
+            return true;
+        });
+        return cycles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Paths are never extended beyond the maximum length.
+     */
+    @Override
+    public boolean findSimpleCycles(int maxLength, Predicate<List<V>> action)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        Objects.requireNonNull(action, "Action cannot be null");
+        CancellationToken.Checker cancellationChecker = newCancellationChecker();
         Map<V, Integer> indices = new HashMap<>();
         List<V> path = new ArrayList<>();
         Set<V> pathSet = new HashSet<>();
         Map<V, Set<V>> blocked = new HashMap<>();
-        List<List<V>> cycles = new LinkedList<>();
 
         int index = 0;
         for (V v : graph.vertexSet()) {
@@ -100,7 +124,7 @@ public class TiernanSimpleCycles<V, E>
 
         Iterator<V> vertexIterator = graph.vertexSet().iterator();
         if (!vertexIterator.hasNext()) {
-            return cycles;
+            return true;
         }
 
         V startOfPath;
@@ -118,9 +142,13 @@ public class TiernanSimpleCycles<V, E>
         // no real need for the state machine from
         // the original paper.
         while (true) {
+            cancellationChecker.checkCancelled();
             // path extension
             do {
                 extensionFound = false;
+                if (path.size() >= maxLength) {
+                    break;
+                }
                 for (E e : graph.outgoingEdgesOf(endOfPath)) {
                     V n = graph.getEdgeTarget(e);
                     int cmp = indices.get(n).compareTo(indices.get(path.get(0)));
@@ -139,7 +167,9 @@ public class TiernanSimpleCycles<V, E>
             if (graph.containsEdge(endOfPath, startOfPath)) {
                 List<V> cycle = new ArrayList<>();
                 cycle.addAll(path);
-                cycles.add(cycle);
+                if (!action.test(cycle)) {
+                    return false;
+                }
             }
 
             // vertex closure
@@ -172,7 +202,7 @@ public class TiernanSimpleCycles<V, E>
             break;
         }
 
-        return cycles;
+        return true;
     }
 }
 
@@ -20,6 +20,7 @@ package org.jgrapht.alg.flow;
 import java.util.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.alg.util.extension.*;
 
 /**
@@ -53,6 +54,10 @@ import org.jgrapht.alg.util.extension.*;
  * implementation first computes a minimum s-t flow, after which a BFS is run on the residual graph.
  *
  * <p>
+ * The vertices and arcs scanned by the breadth-first searches and the augmenting paths of each
+ * invocation are reported to the {@link #setMetrics(AlgorithmMetrics) metrics} of the algorithm.
+ *
+ * <p>
  * For more details see Andrew V. Goldberg's <i>Combinatorial Optimization (Lecture Notes)</i>.
  *
  * Note: even though the algorithm accepts any kind of graph, currently only Simple directed and
@@ -73,6 +78,11 @@ public final class EdmondsKarpMFImpl<V, E>
     /* current sink vertex */
     private VertexExtension currentSink;
 
+    /* work counters of the current invocation */
+    private long verticesSettled;
+    private long edgesRelaxed;
+    private long augmentingPaths;
+
     private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
     private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
 
@@ -165,6 +175,9 @@ public final class EdmondsKarpMFImpl<V, E>
 
         currentSource = getVertexExtension(source);
         currentSink = getVertexExtension(sink);
+        verticesSettled = 0;
+        edgesRelaxed = 0;
+        augmentingPaths = 0;
 
         for (;;) {
             breadthFirstSearch();
@@ -176,6 +189,10 @@ public final class EdmondsKarpMFImpl<V, E>
             maxFlowValue += augmentFlow();
         }
 
+        metrics.record(getClass(), AlgorithmMetrics.Counter.VERTICES_SETTLED, verticesSettled);
+        metrics.record(getClass(), AlgorithmMetrics.Counter.EDGES_RELAXED, edgesRelaxed);
+        metrics.record(getClass(), AlgorithmMetrics.Counter.AUGMENTING_PATHS, augmentingPaths);
+
         return maxFlowValue;
     }
 
@@ -204,8 +221,10 @@ public final class EdmondsKarpMFImpl<V, E>
 
         while (queue.size() != 0) {
             VertexExtension ux = queue.poll();
+            verticesSettled++;
 
             for (AnnotatedFlowEdge ex : ux.getOutgoing()) {
+                edgesRelaxed++;
                 if (comparator.compare(ex.flow, ex.capacity) < 0) {
                     VertexExtension vx = ex.getTarget();
 
@@ -252,6 +271,7 @@ public final class EdmondsKarpMFImpl<V, E>
             if (augmentFlowAlongInternal(deltaFlow, ex.<VertexExtension> getSource(), seen)) {
                 pushFlowThrough(ex, deltaFlow);
                 flowIncrease += deltaFlow;
+                augmentingPaths++;
             }
         }
         return flowIncrease;
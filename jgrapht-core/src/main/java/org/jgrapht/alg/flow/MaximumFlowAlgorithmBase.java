@@ -68,6 +68,8 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
     protected Set<V> sinkPartition;
     /* Cut edges */
     protected Set<E> cutEdges;
+    /* Metrics which receive the work counters of each invocation */
+    protected AlgorithmMetrics metrics;
 
     /**
      * Construct a new maximum flow
@@ -80,6 +82,27 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
         this.network = network;
         this.directedGraph = network.getType().isDirected();
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.metrics = AlgorithmMetrics.NONE;
+    }
+
+    /**
+     * Get the metrics which receive the work counters of each invocation of the algorithm.
+     *
+     * @return the metrics
+     */
+    public AlgorithmMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * Set the metrics which receive the work counters of each invocation of the algorithm.
+     *
+     * @param metrics the metrics, or {@link AlgorithmMetrics#NONE} to disable reporting
+     */
+    public void setMetrics(AlgorithmMetrics metrics)
+    {
+        this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
     }
 
     /**
@@ -37,6 +37,11 @@ import org.jgrapht.alg.util.extension.*;
  * implementation first computes a minimum s-t flow, after which a BFS is run on the residual graph.
  * </p>
  *
+ * <p>
+ * The number of push and relabel operations of each invocation is reported to the
+ * {@link #setMetrics(AlgorithmMetrics) metrics} of the algorithm.
+ * </p>
+ *
  * Note: even though the algorithm accepts any kind of graph, currently only Simple directed and
  * undirected graphs are supported (and tested!).
  *
@@ -48,10 +53,6 @@ import org.jgrapht.alg.util.extension.*;
 public class PushRelabelMFImpl<V, E>
     extends MaximumFlowAlgorithmBase<V, E>
 {
-    // Diagnostic
-
-    private static final boolean DIAGNOSTIC_ENABLED = false;
-
     private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
     private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
 
@@ -61,7 +62,10 @@ public class PushRelabelMFImpl<V, E>
 
     boolean flowBack;
 
-    private PushRelabelDiagnostic diagnostic;
+    // Work counters of the current invocation
+
+    private long pushes;
+    private long relabels;
 
     /**
      * Construct a new push-relabel algorithm.
@@ -86,10 +90,6 @@ public class PushRelabelMFImpl<V, E>
         this.vertexExtensionsFactory = () -> new VertexExtension();
 
         this.edgeExtensionsFactory = () -> new AnnotatedFlowEdge();
-
-        if (DIAGNOSTIC_ENABLED) {
-            this.diagnostic = new PushRelabelDiagnostic();
-        }
     }
 
     /**
@@ -105,6 +105,8 @@ public class PushRelabelMFImpl<V, E>
 
         this.labeling = new HashMap<>();
         this.flowBack = false;
+        this.pushes = 0;
+        this.relabels = 0;
     }
 
     /**
@@ -171,10 +173,6 @@ public class PushRelabelMFImpl<V, E>
                 labeling.put(vx.label, labeling.get(vx.label) + 1);
             }
         }
-
-        if (DIAGNOSTIC_ENABLED) {
-            System.out.println("INIT LABELING " + labeling);
-        }
     }
 
     @Override
@@ -249,9 +247,8 @@ public class PushRelabelMFImpl<V, E>
             maxFlowValue += (directedGraph ? edge.flow : edge.flow + edge.getInverse().flow);
         }
 
-        if (DIAGNOSTIC_ENABLED) {
-            diagnostic.dump();
-        }
+        metrics.record(getClass(), AlgorithmMetrics.Counter.PUSHES, pushes);
+        metrics.record(getClass(), AlgorithmMetrics.Counter.RELABELS, relabels);
 
         return maxFlowValue;
     }
@@ -270,9 +267,7 @@ public class PushRelabelMFImpl<V, E>
             }
         }
 
-        if (DIAGNOSTIC_ENABLED) {
-            diagnostic.incrementRelabels(vx.label, min + 1);
-        }
+        relabels++;
 
         assert (labeling.get(vx.label) > 0);
         updateLabeling(vx, min + 1);
@@ -303,10 +298,6 @@ public class PushRelabelMFImpl<V, E>
     {
         VertexExtension ux = ex.getSource();
 
-        if (DIAGNOSTIC_ENABLED) {
-            diagnostic.incrementDischarges(ex);
-        }
-
         pushFlowThrough(ex, Math.min(ux.excess, ex.capacity - ex.flow));
         return !ux.hasExcess();
     }
@@ -325,6 +316,7 @@ public class PushRelabelMFImpl<V, E>
         assert ((ex.getSource().excess >= 0.0) && (ex.getTarget().excess >= 0));
 
         super.pushFlowThrough(ex, f);
+        pushes++;
     }
 
     private boolean isAdmissible(AnnotatedFlowEdge e)
@@ -338,79 +330,6 @@ public class PushRelabelMFImpl<V, E>
         return (VertexExtension) vertexExtensionManager.getExtension(v);
     }
 
-    private class PushRelabelDiagnostic
-    {
-        // Discharges
-        Map<Pair<V, V>, Integer> discharges = new HashMap<>();
-        long dischargesCounter = 0;
-
-        // Relabels
-        Map<Pair<Integer, Integer>, Integer> relabels = new HashMap<>();
-        long relabelsCounter = 0;
-
-        private void incrementDischarges(AnnotatedFlowEdge ex)
-        {
-            Pair<V, V> p = Pair.of(ex.getSource().prototype, ex.getTarget().prototype);
-            if (!discharges.containsKey(p)) {
-                discharges.put(p, 0);
-            }
-            discharges.put(p, discharges.get(p) + 1);
-
-            dischargesCounter++;
-        }
-
-        private void incrementRelabels(int from, int to)
-        {
-            Pair<Integer, Integer> p = Pair.of(from, to);
-            if (!relabels.containsKey(p)) {
-                relabels.put(p, 0);
-            }
-            relabels.put(p, relabels.get(p) + 1);
-
-            relabelsCounter++;
-        }
-
-        void dump()
-        {
-            Map<Integer, Integer> labels = new HashMap<>();
-
-            for (V v : network.vertexSet()) {
-                VertexExtension vx = getVertexExtension(v);
-
-                if (!labels.containsKey(vx.label)) {
-                    labels.put(vx.label, 0);
-                }
-
-                labels.put(vx.label, labels.get(vx.label) + 1);
-            }
-
-            System.out.println("LABELS  ");
-            System.out.println("------  ");
-            System.out.println(labels);
-
-            List<Map.Entry<Pair<Integer, Integer>, Integer>> relabelsSorted =
-                new ArrayList<>(relabels.entrySet());
-
-            Collections.sort(relabelsSorted, (o1, o2) -> -(o1.getValue() - o2.getValue()));
-
-            System.out.println("RELABELS    ");
-            System.out.println("--------    ");
-            System.out.println("    Count:  " + relabelsCounter);
-            System.out.println("            " + relabelsSorted);
-
-            List<Map.Entry<Pair<V, V>, Integer>> dischargesSorted =
-                new ArrayList<>(discharges.entrySet());
-
-            Collections
-                .sort(dischargesSorted, (one, other) -> -(one.getValue() - other.getValue()));
-
-            System.out.println("DISCHARGES  ");
-            System.out.println("----------  ");
-            System.out.println("    Count:  " + dischargesCounter);
-            System.out.println("            " + dischargesSorted);
-        }
-    }
-
     /**
      * Vertex extension for the push-relabel algorithm, which contains an additional label.
      */
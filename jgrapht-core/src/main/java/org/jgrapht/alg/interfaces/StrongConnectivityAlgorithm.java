@@ -17,6 +17,7 @@
  */
 package org.jgrapht.alg.interfaces;
 
+import java.io.*;
 import java.util.*;
 
 import org.jgrapht.*;
@@ -72,6 +73,325 @@ public interface StrongConnectivityAlgorithm<V, E>
      * @return the condensation of the given graph
      */
     Graph<Graph<V, E>, DefaultEdge> getCondensation();
+
+    /**
+     * Compute a compact representation of the condensation of the given graph. Unlike
+     * {@link #getCondensation()} no subgraph is created for the strongly connected components, the
+     * components are identified by integers and the condensation is stored in arrays.
+     *
+     * @return the compact condensation of the given graph
+     */
+    default CompactCondensation<V> getCompactCondensation()
+    {
+        return new CompactCondensationImpl<>(getGraph(), stronglyConnectedSets());
+    }
+
+    /**
+     * A compact representation of the condensation of a graph. The strongly connected components
+     * are numbered from $0$ to $k-1$ in topological order of the condensation, that is every edge
+     * of the condensation goes from a component to a component with a larger number.
+     *
+     * @param <V> the graph vertex type
+     */
+    interface CompactCondensation<V>
+    {
+        /**
+         * Get the number of strongly connected components.
+         *
+         * @return the number of strongly connected components
+         */
+        int getComponentCount();
+
+        /**
+         * Get the component of a vertex.
+         *
+         * @param vertex the vertex
+         * @return the component of the vertex
+         * @throws IllegalArgumentException if the vertex is not contained in the graph
+         */
+        int getComponent(V vertex);
+
+        /**
+         * Test whether two vertices belong to the same strongly connected component.
+         *
+         * @param vertex1 the first vertex
+         * @param vertex2 the second vertex
+         * @return true if both vertices belong to the same component, false otherwise
+         * @throws IllegalArgumentException if any of the vertices is not contained in the graph
+         */
+        default boolean inSameComponent(V vertex1, V vertex2)
+        {
+            return getComponent(vertex1) == getComponent(vertex2);
+        }
+
+        /**
+         * Get the vertices of a component.
+         *
+         * @param component the component
+         * @return an unmodifiable list of the vertices of the component
+         */
+        List<V> getComponentVertices(int component);
+
+        /**
+         * Get the successors of a component in the condensation, in increasing order. Every
+         * successor appears once, even if multiple edges of the graph connect both components.
+         *
+         * @param component the component
+         * @return the successors of the component
+         */
+        int[] getSuccessors(int component);
+
+        /**
+         * Get the vertices of the graph, in the order used by {@link #getComponents()}.
+         *
+         * @return an unmodifiable list of the vertices of the graph
+         */
+        List<V> getVertices();
+
+        /**
+         * Get the component of every vertex, aligned with {@link #getVertices()}.
+         *
+         * @return a new array containing the component of every vertex
+         */
+        int[] getComponents();
+    }
+
+    /**
+     * Default implementation of the compact condensation, based on arrays.
+     *
+     * @param <V> the graph vertex type
+     */
+    class CompactCondensationImpl<V>
+        implements CompactCondensation<V>, Serializable
+    {
+        private static final long serialVersionUID = -7040536358373612046L;
+
+        private final List<V> vertices;
+        private final Map<V, Integer> index;
+        private final int[] component;
+        private final int[] memberStart;
+        private final List<V> members;
+        private final int[] successorStart;
+        private final int[] successors;
+
+        /**
+         * Construct a new compact condensation from the strongly connected sets of a graph.
+         *
+         * @param graph the graph
+         * @param stronglyConnectedSets the strongly connected sets of the graph
+         * @param <E> the graph edge type
+         */
+        public <E> CompactCondensationImpl(Graph<V, E> graph, List<Set<V>> stronglyConnectedSets)
+        {
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            this.index = new HashMap<>();
+            for (V v : vertices) {
+                index.put(v, index.size());
+            }
+
+            int n = vertices.size();
+            int[] c = new int[n];
+            for (int i = 0; i < stronglyConnectedSets.size(); i++) {
+                for (V v : stronglyConnectedSets.get(i)) {
+                    c[index.get(v)] = i;
+                }
+            }
+            int[] outStart = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                outStart[v + 1] = outStart[v] + graph.outgoingEdgesOf(vertices.get(v)).size();
+            }
+            int[] outTargets = new int[outStart[n]];
+            for (int v = 0; v < n; v++) {
+                int k = outStart[v];
+                for (E e : graph.outgoingEdgesOf(vertices.get(v))) {
+                    outTargets[k++] = index.get(graph.getEdgeTarget(e));
+                }
+            }
+
+            this.component = new int[n];
+            this.memberStart = new int[stronglyConnectedSets.size() + 1];
+            this.successorStart = new int[stronglyConnectedSets.size() + 1];
+            this.successors = build(c, stronglyConnectedSets.size(), outStart, outTargets);
+            this.members = Collections.unmodifiableList(members());
+        }
+
+        /**
+         * Construct a new compact condensation from arrays. The arrays are not modified.
+         *
+         * @param vertices the vertices of the graph
+         * @param index the position of every vertex in the list of vertices
+         * @param component the component of every vertex, in any order
+         * @param componentCount the number of components
+         * @param outStart the start of the successors of every vertex in outTargets
+         * @param outTargets the successors of the vertices
+         */
+        public CompactCondensationImpl(
+            List<V> vertices, Map<V, Integer> index, int[] component, int componentCount,
+            int[] outStart, int[] outTargets)
+        {
+            this.vertices = vertices;
+            this.index = index;
+            this.component = new int[vertices.size()];
+            this.memberStart = new int[componentCount + 1];
+            this.successorStart = new int[componentCount + 1];
+            this.successors = build(component, componentCount, outStart, outTargets);
+            this.members = Collections.unmodifiableList(members());
+        }
+
+        /**
+         * Renumber the components in topological order and compute the condensation.
+         *
+         * @return the successors of all components
+         */
+        private int[] build(int[] c, int k, int[] outStart, int[] outTargets)
+        {
+            int n = c.length;
+
+            // group the vertices by their original component
+            int[] start = new int[k + 1];
+            for (int v = 0; v < n; v++) {
+                start[c[v] + 1]++;
+            }
+            for (int i = 0; i < k; i++) {
+                start[i + 1] += start[i];
+            }
+            int[] grouped = new int[n];
+            int[] next = Arrays.copyOf(start, k);
+            for (int v = 0; v < n; v++) {
+                grouped[next[c[v]]++] = v;
+            }
+
+            // distinct edges between the original components
+            int[] dagStart = new int[k + 1];
+            int[] dagTargets = new int[Math.max(16, k)];
+            int[] mark = new int[k];
+            Arrays.fill(mark, -1);
+            int[] inDegree = new int[k];
+            int m = 0;
+            for (int i = 0; i < k; i++) {
+                for (int p = start[i]; p < start[i + 1]; p++) {
+                    int v = grouped[p];
+                    for (int e = outStart[v]; e < outStart[v + 1]; e++) {
+                        int j = c[outTargets[e]];
+                        if (j != i && mark[j] != i) {
+                            mark[j] = i;
+                            if (m == dagTargets.length) {
+                                dagTargets = Arrays.copyOf(dagTargets, 2 * m);
+                            }
+                            dagTargets[m++] = j;
+                            inDegree[j]++;
+                        }
+                    }
+                }
+                dagStart[i + 1] = m;
+            }
+
+            // topological order of the components
+            int[] order = new int[k];
+            int[] renumber = new int[k];
+            int head = 0, tail = 0;
+            for (int i = 0; i < k; i++) {
+                if (inDegree[i] == 0) {
+                    order[tail++] = i;
+                }
+            }
+            while (head < tail) {
+                int i = order[head];
+                renumber[i] = head++;
+                for (int p = dagStart[i]; p < dagStart[i + 1]; p++) {
+                    if (--inDegree[dagTargets[p]] == 0) {
+                        order[tail++] = dagTargets[p];
+                    }
+                }
+            }
+            if (tail != k) {
+                throw new IllegalArgumentException("Components do not form a condensation");
+            }
+
+            // store everything using the new numbers
+            for (int v = 0; v < n; v++) {
+                component[v] = renumber[c[v]];
+            }
+            int[] result = new int[m];
+            int q = 0;
+            for (int r = 0; r < k; r++) {
+                int i = order[r];
+                memberStart[r + 1] = memberStart[r] + start[i + 1] - start[i];
+                int from = q;
+                for (int p = dagStart[i]; p < dagStart[i + 1]; p++) {
+                    result[q++] = renumber[dagTargets[p]];
+                }
+                Arrays.sort(result, from, q);
+                successorStart[r + 1] = q;
+            }
+            return result;
+        }
+
+        private List<V> members()
+        {
+            List<V> result = new ArrayList<>(Collections.nCopies(vertices.size(), null));
+            int[] next = Arrays.copyOf(memberStart, memberStart.length - 1);
+            for (int v = 0; v < component.length; v++) {
+                result.set(next[component[v]]++, vertices.get(v));
+            }
+            return result;
+        }
+
+        @Override
+        public int getComponentCount()
+        {
+            return memberStart.length - 1;
+        }
+
+        @Override
+        public int getComponent(V vertex)
+        {
+            Integer v = index.get(vertex);
+            if (v == null) {
+                throw new IllegalArgumentException("Graph must contain the vertex " + vertex);
+            }
+            return component[v];
+        }
+
+        @Override
+        public List<V> getComponentVertices(int component)
+        {
+            return members.subList(memberStart[component], memberStart[component + 1]);
+        }
+
+        @Override
+        public int[] getSuccessors(int component)
+        {
+            return Arrays.copyOfRange(
+                successors, successorStart[component], successorStart[component + 1]);
+        }
+
+        @Override
+        public List<V> getVertices()
+        {
+            return Collections.unmodifiableList(vertices);
+        }
+
+        @Override
+        public int[] getComponents()
+        {
+            return component.clone();
+        }
+
+        @Override
+        public String toString()
+        {
+            StringBuilder sb = new StringBuilder("Condensation [");
+            for (int c = 0; c < getComponentCount(); c++) {
+                if (c > 0) {
+                    sb.append(", ");
+                }
+                sb.append(c).append('=').append(getComponentVertices(c));
+                sb.append("->").append(Arrays.toString(getSuccessors(c)));
+            }
+            return sb.append(']').toString();
+        }
+    }
 }
 
 // End StrongConnectivityAlgorithm.java
@@ -0,0 +1,386 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * Canonical labeling of a graph using individualization and refinement.
+ *
+ * <p>
+ * The algorithm computes an ordering of the vertices which only depends on the structure of the
+ * graph. Relabeling the graph according to this ordering produces a {@link Certificate}, and two
+ * graphs are isomorphic if and only if their certificates are equal. This allows to deduplicate a
+ * large collection of graphs using a hash table instead of testing all pairs for isomorphism.
+ *
+ * <p>
+ * The search follows the scheme of McKay's nauty: the vertices are partitioned by color
+ * refinement, see {@link ColorRefinementGraphHash}, and while the partition is not discrete a
+ * vertex of the first non-singleton cell is placed in a cell of its own followed by another round
+ * of refinement. Every discrete partition reached this way is a candidate labeling and the one
+ * with the smallest certificate is chosen. Automorphisms discovered during the search are used to
+ * skip subtrees which are images of subtrees already explored. The running time is exponential in
+ * the worst case, but the algorithm is fast in practice, especially on small graphs.
+ *
+ * <p>
+ * The algorithm only considers the structure of the graph, vertices and edges are not compared.
+ * Multiple edges and self-loops are supported. The depth of the search is bounded by the number of
+ * vertices and every level of the search requires linear space.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class CanonicalGraphLabeling<V, E>
+{
+    private final Graph<V, E> graph;
+    private List<V> canonicalOrder;
+    private Certificate certificate;
+
+    /**
+     * Create a new canonical labeling algorithm.
+     *
+     * @param graph the input graph
+     */
+    public CanonicalGraphLabeling(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (graph.getType().isMixed()) {
+            throw new UnsupportedOperationException("mixed graphs not supported");
+        }
+    }
+
+    /**
+     * Get the vertices in canonical order. The vertex at position $i$ has canonical label $i$.
+     *
+     * @return the vertices in canonical order
+     */
+    public List<V> getCanonicalOrder()
+    {
+        lazyRun();
+        return canonicalOrder;
+    }
+
+    /**
+     * Get the canonical label of every vertex.
+     *
+     * @return a map from each vertex to its canonical label
+     */
+    public Map<V, Integer> getLabeling()
+    {
+        lazyRun();
+        Map<V, Integer> labeling = new HashMap<>();
+        for (int i = 0; i < canonicalOrder.size(); i++) {
+            labeling.put(canonicalOrder.get(i), i);
+        }
+        return labeling;
+    }
+
+    /**
+     * Get the certificate of the graph. Two graphs are isomorphic if and only if their
+     * certificates are equal.
+     *
+     * @return the certificate of the graph
+     */
+    public Certificate getCertificate()
+    {
+        lazyRun();
+        return certificate;
+    }
+
+    private void lazyRun()
+    {
+        if (certificate != null) {
+            return;
+        }
+
+        boolean directed = graph.getType().isDirected();
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        int[][] out = ColorRefinement.neighbors(graph, vertices, index, true);
+        int[][] in = directed ? ColorRefinement.neighbors(graph, vertices, index, false) : null;
+
+        Search search = new Search(out, directed);
+        search.search(new ColorRefinement(out, in, new int[vertices.size()]), 0);
+
+        List<V> order = new ArrayList<>(vertices.size());
+        for (int i = 0; i < vertices.size(); i++) {
+            order.add(null);
+        }
+        for (int v = 0; v < vertices.size(); v++) {
+            order.set(search.bestLabeling[v], vertices.get(v));
+        }
+        canonicalOrder = Collections.unmodifiableList(order);
+        certificate = new Certificate(search.bestCode);
+    }
+
+    /**
+     * Depth-first search over the tree of partitions.
+     */
+    private static class Search
+    {
+        private static final int CONTINUE = Integer.MAX_VALUE;
+
+        private final int n;
+        private final int[][] out;
+        private final boolean directed;
+
+        private final int[] path;
+        private int[] firstPath, firstLabeling, firstCode;
+        private int[] bestPath, bestLabeling, bestCode;
+        private final List<int[]> automorphisms;
+
+        Search(int[][] out, boolean directed)
+        {
+            this.n = out.length;
+            this.out = out;
+            this.directed = directed;
+            this.path = new int[n];
+            this.automorphisms = new ArrayList<>();
+        }
+
+        /**
+         * Explore the subtree of a partition.
+         *
+         * @return the depth at which the search should continue, or {@link #CONTINUE}
+         */
+        int search(ColorRefinement partition, int depth)
+        {
+            if (partition.isDiscrete()) {
+                return leaf(partition, depth);
+            }
+
+            int[] cell = partition.getCell(partition.firstNonSingletonCell());
+            List<Integer> explored = new ArrayList<>();
+            int[] orbits = null;
+            int knownAutomorphisms = -1;
+
+            for (int w : cell) {
+                if (!explored.isEmpty()) {
+                    if (knownAutomorphisms != automorphisms.size()) {
+                        orbits = orbits(depth);
+                        knownAutomorphisms = automorphisms.size();
+                    }
+                    if (inExploredOrbit(orbits, explored, w)) {
+                        continue;
+                    }
+                }
+
+                ColorRefinement child = new ColorRefinement(partition);
+                child.individualize(w);
+                path[depth] = w;
+                int jump = search(child, depth + 1);
+                explored.add(w);
+                if (jump < depth) {
+                    return jump;
+                }
+            }
+            return CONTINUE;
+        }
+
+        private int leaf(ColorRefinement partition, int depth)
+        {
+            int[] labeling = partition.getColors().clone();
+            int[] code = encode(labeling);
+
+            if (firstCode == null) {
+                firstPath = bestPath = Arrays.copyOf(path, depth);
+                firstLabeling = bestLabeling = labeling;
+                firstCode = bestCode = code;
+                return CONTINUE;
+            }
+
+            if (ColorRefinement.compare(code, firstCode) == 0) {
+                automorphisms.add(automorphism(firstLabeling, labeling));
+                return divergence(firstPath, depth);
+            }
+
+            int c = ColorRefinement.compare(code, bestCode);
+            if (c == 0) {
+                automorphisms.add(automorphism(bestLabeling, labeling));
+                return divergence(bestPath, depth);
+            } else if (c < 0) {
+                bestPath = Arrays.copyOf(path, depth);
+                bestLabeling = labeling;
+                bestCode = code;
+            }
+            return CONTINUE;
+        }
+
+        /**
+         * The adjacency lists of the graph relabeled by the given labeling.
+         */
+        private int[] encode(int[] labeling)
+        {
+            int[] inverse = new int[n];
+            int size = 2 + n;
+            for (int v = 0; v < n; v++) {
+                inverse[labeling[v]] = v;
+                size += out[v].length;
+            }
+
+            int[] code = new int[size];
+            code[0] = n;
+            code[1] = directed ? 1 : 0;
+            int k = 2;
+            for (int i = 0; i < n; i++) {
+                int[] neighbors = out[inverse[i]];
+                code[k++] = neighbors.length;
+                int start = k;
+                for (int u : neighbors) {
+                    code[k++] = labeling[u];
+                }
+                Arrays.sort(code, start, k);
+            }
+            return code;
+        }
+
+        /**
+         * The permutation mapping the vertex with label $i$ under the first labeling to the vertex
+         * with label $i$ under the second labeling.
+         */
+        private int[] automorphism(int[] labeling1, int[] labeling2)
+        {
+            int[] inverse2 = new int[n];
+            for (int v = 0; v < n; v++) {
+                inverse2[labeling2[v]] = v;
+            }
+            int[] gamma = new int[n];
+            for (int v = 0; v < n; v++) {
+                gamma[v] = inverse2[labeling1[v]];
+            }
+            return gamma;
+        }
+
+        /**
+         * The automorphism maps the subtree of the other path onto the current one, so the search
+         * continues at the node where both paths diverge.
+         */
+        private int divergence(int[] otherPath, int depth)
+        {
+            int i = 0;
+            while (i < depth && i < otherPath.length && otherPath[i] == path[i]) {
+                i++;
+            }
+            return i;
+        }
+
+        /**
+         * Orbits of the group generated by the automorphisms found so far which fix the vertices
+         * of the current path pointwise, as a union-find forest.
+         */
+        private int[] orbits(int depth)
+        {
+            int[] parent = new int[n];
+            for (int v = 0; v < n; v++) {
+                parent[v] = v;
+            }
+            for (int[] gamma : automorphisms) {
+                boolean fixes = true;
+                for (int i = 0; i < depth && fixes; i++) {
+                    fixes = gamma[path[i]] == path[i];
+                }
+                if (!fixes) {
+                    continue;
+                }
+                for (int v = 0; v < n; v++) {
+                    int a = find(parent, v);
+                    int b = find(parent, gamma[v]);
+                    if (a != b) {
+                        parent[a] = b;
+                    }
+                }
+            }
+            return parent;
+        }
+
+        private boolean inExploredOrbit(int[] orbits, List<Integer> explored, int w)
+        {
+            int root = find(orbits, w);
+            for (int x : explored) {
+                if (find(orbits, x) == root) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int find(int[] parent, int v)
+        {
+            while (parent[v] != v) {
+                parent[v] = parent[parent[v]];
+                v = parent[v];
+            }
+            return v;
+        }
+    }
+
+    /**
+     * A certificate of a graph, i.e. the adjacency structure of the graph under its canonical
+     * labeling. Two graphs are isomorphic if and only if their certificates are equal.
+     */
+    public static final class Certificate
+        implements Comparable<Certificate>
+    {
+        private final int[] code;
+
+        private Certificate(int[] code)
+        {
+            this.code = code;
+        }
+
+        @Override
+        public int compareTo(Certificate o)
+        {
+            return ColorRefinement.compare(code, o.code);
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Certificate)) {
+                return false;
+            }
+            return Arrays.equals(code, ((Certificate) obj).code);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Arrays.hashCode(code);
+        }
+
+        @Override
+        public String toString()
+        {
+            return Arrays.toString(code);
+        }
+    }
+}
+
+// End CanonicalGraphLabeling.java
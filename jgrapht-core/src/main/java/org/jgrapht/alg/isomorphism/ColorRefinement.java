@@ -0,0 +1,526 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * Color refinement (also known as the one-dimensional Weisfeiler-Lehman algorithm) on a graph
+ * whose vertices are numbered $0, \dots, n-1$.
+ *
+ * <p>
+ * The class maintains an ordered partition of the vertices into cells. Refinement splits the
+ * cells until every two vertices of the same cell have the same number of out- and in-neighbors
+ * in every cell, i.e. until the partition is equitable. The identifiers of the cells only depend
+ * on the structure of the graph and on the initial colors and never on the numbering of the
+ * vertices. Thus an isomorphism between two graphs always maps a vertex to a vertex with the same
+ * cell identifier, provided both graphs are refined together as a disjoint union.
+ *
+ * <p>
+ * Only the vertices adjacent to a vertex that changed its cell are inspected again and whenever a
+ * cell splits its largest part keeps the identifier of the cell. Thus every vertex changes its cell
+ * $O(\log n)$ times, which keeps refinement fast even on graphs which need many rounds such as
+ * long paths.
+ *
+ * @author agent
+ * @since October 2026
+ */
+final class ColorRefinement
+{
+    private final int n;
+    private final int[][] out;
+    private final int[][] in;
+
+    private final int[] color;
+    private final int[] elements;
+    private final int[] position;
+    private final int[] cellStart;
+    private final int[] cellSize;
+    private int cellCount;
+
+    /**
+     * Create a new partition and refine it to an equitable one.
+     *
+     * @param out the outgoing neighbors of each vertex, all neighbors for undirected graphs
+     * @param in the incoming neighbors of each vertex, or null for undirected graphs
+     * @param initialColors initial colors of the vertices, cells are created in increasing order
+     *        of the colors
+     */
+    ColorRefinement(int[][] out, int[][] in, int[] initialColors)
+    {
+        this.n = out.length;
+        this.out = out;
+        this.in = in;
+        this.color = new int[n];
+        this.elements = new int[n];
+        this.position = new int[n];
+        this.cellStart = new int[n];
+        this.cellSize = new int[n];
+
+        Integer[] sorted = new Integer[n];
+        for (int v = 0; v < n; v++) {
+            sorted[v] = v;
+        }
+        Arrays.sort(sorted, (a, b) -> Integer.compare(initialColors[a], initialColors[b]));
+
+        cellCount = 0;
+        for (int i = 0; i < n; i++) {
+            int v = sorted[i];
+            if (i == 0 || initialColors[sorted[i - 1]] != initialColors[v]) {
+                cellStart[cellCount] = i;
+                cellCount++;
+            }
+            int c = cellCount - 1;
+            color[v] = c;
+            cellSize[c]++;
+            elements[i] = v;
+            position[v] = i;
+        }
+
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++) {
+            all[v] = v;
+        }
+        refine(all, n, true);
+    }
+
+    /**
+     * Compute the neighbors of every vertex of a graph as vertex numbers.
+     *
+     * @param graph the graph
+     * @param vertices the vertices in the order of their numbers
+     * @param index the number of every vertex
+     * @param outgoing whether to compute the targets of the outgoing or the sources of the incoming
+     *        edges, for undirected graphs both are the same
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the neighbors of every vertex, with repetitions for multiple edges
+     */
+    static <V, E> int[][] neighbors(
+        Graph<V, E> graph, List<V> vertices, Map<V, Integer> index, boolean outgoing)
+    {
+        int[][] neighbors = new int[vertices.size()][];
+        for (int v = 0; v < neighbors.length; v++) {
+            V vertex = vertices.get(v);
+            Set<E> edges =
+                outgoing ? graph.outgoingEdgesOf(vertex) : graph.incomingEdgesOf(vertex);
+            int[] a = new int[edges.size()];
+            int k = 0;
+            for (E e : edges) {
+                a[k++] = index.get(Graphs.getOppositeVertex(graph, e, vertex));
+            }
+            neighbors[v] = a;
+        }
+        return neighbors;
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param other the partition to copy
+     */
+    ColorRefinement(ColorRefinement other)
+    {
+        this.n = other.n;
+        this.out = other.out;
+        this.in = other.in;
+        this.color = other.color.clone();
+        this.elements = other.elements.clone();
+        this.position = other.position.clone();
+        this.cellStart = other.cellStart.clone();
+        this.cellSize = other.cellSize.clone();
+        this.cellCount = other.cellCount;
+    }
+
+    /**
+     * Get the cell of a vertex.
+     *
+     * @param v the vertex
+     * @return the cell of the vertex
+     */
+    int getColor(int v)
+    {
+        return color[v];
+    }
+
+    /**
+     * Get the cells of all vertices. The returned array must not be modified.
+     *
+     * @return the cell of every vertex
+     */
+    int[] getColors()
+    {
+        return color;
+    }
+
+    /**
+     * Get the number of cells.
+     *
+     * @return the number of cells
+     */
+    int getCellCount()
+    {
+        return cellCount;
+    }
+
+    /**
+     * Get the size of a cell.
+     *
+     * @param c the cell
+     * @return the number of vertices in the cell
+     */
+    int getCellSize(int c)
+    {
+        return cellSize[c];
+    }
+
+    /**
+     * Get the vertices of a cell, sorted in increasing order.
+     *
+     * @param c the cell
+     * @return the vertices of the cell
+     */
+    int[] getCell(int c)
+    {
+        int[] result = Arrays.copyOfRange(elements, cellStart[c], cellStart[c] + cellSize[c]);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Check whether every cell consists of a single vertex.
+     *
+     * @return true if the partition is discrete
+     */
+    boolean isDiscrete()
+    {
+        return cellCount == n;
+    }
+
+    /**
+     * Get the first cell with more than one vertex.
+     *
+     * @return the non-singleton cell with the smallest identifier, or -1 if the partition is
+     *         discrete
+     */
+    int firstNonSingletonCell()
+    {
+        for (int c = 0; c < cellCount; c++) {
+            if (cellSize[c] > 1) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Move a vertex into a new cell of its own and refine the partition to an equitable one.
+     *
+     * @param v the vertex
+     */
+    void individualize(int v)
+    {
+        int c = color[v];
+        if (cellSize[c] == 1) {
+            return;
+        }
+        int last = cellStart[c] + cellSize[c] - 1;
+        swap(position[v], last);
+        cellSize[c]--;
+        int d = cellCount++;
+        cellStart[d] = last;
+        cellSize[d] = 1;
+        color[v] = d;
+        refine(new int[] { v }, 1, false);
+    }
+
+    /**
+     * Compute the signature of a vertex, that is the sorted colors of its out-neighbors followed by
+     * a separator and the sorted colors of its in-neighbors.
+     */
+    int[] signature(int v)
+    {
+        int[] o = out[v];
+        int[] i = (in == null) ? null : in[v];
+        int size = o.length + ((i == null) ? 0 : i.length + 1);
+        int[] sig = new int[size];
+        for (int k = 0; k < o.length; k++) {
+            sig[k] = color[o[k]];
+        }
+        Arrays.sort(sig, 0, o.length);
+        if (i != null) {
+            sig[o.length] = -1;
+            for (int k = 0; k < i.length; k++) {
+                sig[o.length + 1 + k] = color[i[k]];
+            }
+            Arrays.sort(sig, o.length + 1, size);
+        }
+        return sig;
+    }
+
+    private void refine(int[] changed, int changedCount, boolean allTouched)
+    {
+        boolean[] isTouched = new boolean[n];
+        int[] touched = new int[n];
+        int[] cellTouchedCount = new int[n];
+        int[] pendingVertex = new int[n];
+        int[] pendingColor = new int[n];
+
+        while (changedCount > 0) {
+            // collect the vertices whose signature might have changed
+            int touchedCount = 0;
+            if (allTouched) {
+                for (int v = 0; v < n; v++) {
+                    isTouched[v] = true;
+                    touched[touchedCount++] = v;
+                }
+                allTouched = false;
+            } else {
+                for (int k = 0; k < changedCount; k++) {
+                    int v = changed[k];
+                    touchedCount = touch(out[v], isTouched, touched, touchedCount);
+                    if (in != null) {
+                        touchedCount = touch(in[v], isTouched, touched, touchedCount);
+                    }
+                }
+            }
+
+            // group them by cell, cells are processed in increasing order
+            int touchedCells = 0;
+            int[] cells = new int[touchedCount];
+            for (int k = 0; k < touchedCount; k++) {
+                int c = color[touched[k]];
+                if (cellTouchedCount[c]++ == 0) {
+                    cells[touchedCells++] = c;
+                }
+            }
+            Arrays.sort(cells, 0, touchedCells);
+
+            // move the touched vertices to the end of their cell
+            for (int k = 0; k < touchedCells; k++) {
+                cellTouchedCount[cells[k]] = 0;
+            }
+            for (int k = 0; k < touchedCount; k++) {
+                int v = touched[k];
+                int c = color[v];
+                int target = cellStart[c] + cellSize[c] - 1 - cellTouchedCount[c]++;
+                swap(position[v], target);
+            }
+
+            // split the cells, the new colors are applied after the round
+            int pendingCount = 0;
+            for (int k = 0; k < touchedCells; k++) {
+                int c = cells[k];
+                int t = cellTouchedCount[c];
+                cellTouchedCount[c] = 0;
+                if (cellSize[c] > 1) {
+                    pendingCount = split(c, t, pendingVertex, pendingColor, pendingCount);
+                }
+            }
+            for (int k = 0; k < touchedCount; k++) {
+                isTouched[touched[k]] = false;
+            }
+
+            for (int k = 0; k < pendingCount; k++) {
+                color[pendingVertex[k]] = pendingColor[k];
+            }
+            changed = Arrays.copyOf(pendingVertex, pendingCount);
+            changedCount = pendingCount;
+        }
+    }
+
+    private int touch(int[] neighbors, boolean[] isTouched, int[] touched, int touchedCount)
+    {
+        for (int u : neighbors) {
+            if (!isTouched[u]) {
+                isTouched[u] = true;
+                touched[touchedCount++] = u;
+            }
+        }
+        return touchedCount;
+    }
+
+    /**
+     * Split a cell whose last {@code t} vertices are touched. All untouched vertices share the same
+     * signature, therefore the signature of the first vertex represents them. The untouched
+     * vertices stay at the front of the cell. Only vertices moving to a new cell are reported as
+     * pending.
+     */
+    private int split(int c, int t, int[] pendingVertex, int[] pendingColor, int pendingCount)
+    {
+        int start = cellStart[c];
+        int size = cellSize[c];
+        int untouched = size - t;
+
+        int[] representative = (untouched > 0) ? signature(elements[start]) : null;
+        int[][] sigs = new int[t][];
+        Integer[] order = new Integer[t];
+        for (int k = 0; k < t; k++) {
+            sigs[k] = signature(elements[start + untouched + k]);
+            order[k] = k;
+        }
+        Arrays.sort(order, (a, b) -> compare(sigs[a], sigs[b]));
+
+        // build the groups of equal signatures in increasing order of signatures
+        List<int[]> groupSignatures = new ArrayList<>();
+        List<List<Integer>> groups = new ArrayList<>();
+        int untouchedGroup = -1;
+        int k = 0;
+        boolean representativePlaced = (representative == null);
+        while (k < t || !representativePlaced) {
+            if (!representativePlaced
+                && (k == t || compare(representative, sigs[order[k]]) <= 0))
+            {
+                untouchedGroup = groups.size();
+                groupSignatures.add(representative);
+                groups.add(new ArrayList<>());
+                representativePlaced = true;
+            } else {
+                int[] sig = sigs[order[k]];
+                int last = groups.size() - 1;
+                if (last < 0 || compare(groupSignatures.get(last), sig) != 0) {
+                    groupSignatures.add(sig);
+                    groups.add(new ArrayList<>());
+                    last++;
+                }
+                groups.get(last).add(elements[start + untouched + order[k]]);
+                k++;
+            }
+        }
+
+        if (groups.size() == 1) {
+            return pendingCount;
+        }
+
+        // the largest group keeps the cell and the other groups get new cells in increasing order
+        // of their signatures, thus every vertex changes its cell at most a logarithmic number of
+        // times
+        int keep = 0, keepSize = -1;
+        for (int g = 0; g < groups.size(); g++) {
+            int groupSize = groups.get(g).size() + ((g == untouchedGroup) ? untouched : 0);
+            if (groupSize > keepSize) {
+                keep = g;
+                keepSize = groupSize;
+            }
+        }
+        int[] groupColor = new int[groups.size()];
+        for (int g = 0; g < groups.size(); g++) {
+            groupColor[g] = (g == keep) ? c : cellCount++;
+        }
+
+        int next = start + untouched;
+        if (untouchedGroup >= 0) {
+            next = place(groups.get(untouchedGroup), next);
+            assign(groupColor[untouchedGroup], start, next - start);
+        }
+        for (int g = 0; g < groups.size(); g++) {
+            if (g == untouchedGroup) {
+                continue;
+            }
+            int groupStart = next;
+            next = place(groups.get(g), next);
+            assign(groupColor[g], groupStart, next - groupStart);
+        }
+
+        for (int g = 0; g < groups.size(); g++) {
+            if (groupColor[g] == c) {
+                continue;
+            }
+            int s = cellStart[groupColor[g]];
+            for (int i = s; i < s + cellSize[groupColor[g]]; i++) {
+                pendingVertex[pendingCount] = elements[i];
+                pendingColor[pendingCount] = groupColor[g];
+                pendingCount++;
+            }
+        }
+        return pendingCount;
+    }
+
+    private int place(List<Integer> group, int next)
+    {
+        for (int v : group) {
+            elements[next] = v;
+            position[v] = next;
+            next++;
+        }
+        return next;
+    }
+
+    private void assign(int c, int start, int size)
+    {
+        cellStart[c] = start;
+        cellSize[c] = size;
+    }
+
+    private void swap(int i, int j)
+    {
+        int a = elements[i];
+        int b = elements[j];
+        elements[i] = b;
+        elements[j] = a;
+        position[b] = i;
+        position[a] = j;
+    }
+
+    /**
+     * Check whether two colorings contain every color equally often.
+     *
+     * @param colors1 the first coloring
+     * @param colors2 the second coloring
+     * @return true if both colorings have color classes of the same sizes
+     */
+    static boolean sameColorClasses(int[] colors1, int[] colors2)
+    {
+        if (colors1.length != colors2.length) {
+            return false;
+        }
+        int[] count = new int[colors1.length + colors2.length];
+        for (int c : colors1) {
+            count[c]++;
+        }
+        for (int c : colors2) {
+            if (--count[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lexicographic comparison of two integer arrays.
+     *
+     * @param a the first array
+     * @param b the second array
+     * @return a negative integer, zero, or a positive integer as the first array is less than,
+     *         equal to, or greater than the second
+     */
+    static int compare(int[] a, int[] b)
+    {
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) {
+                return Integer.compare(a[i], b[i]);
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+}
+
+// End ColorRefinement.java
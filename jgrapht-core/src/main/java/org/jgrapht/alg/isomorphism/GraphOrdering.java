@@ -37,9 +37,15 @@ class GraphOrdering<V, E>
     private ArrayList<V> mapOrderToVertex;
     private int vertexCount;
 
+    /*
+     * Graphs with at most this many vertices cache their adjacency as a bit matrix, larger graphs
+     * use binary search over the sorted outgoing neighbors.
+     */
+    static final int MAX_BIT_MATRIX_VERTICES = 1 << 13;
+
     private int[][] outgoingEdges;
     private int[][] incomingEdges;
-    private Boolean[][] adjMatrix;
+    private long[] adjMatrix;
 
     private boolean cacheEdges;
 
@@ -47,8 +53,10 @@ class GraphOrdering<V, E>
      * @param graph the graph to be ordered
      * @param orderByDegree should the vertices be ordered by their degree. This speeds up the VF2
      *        algorithm.
-     * @param cacheEdges if true, the class creates a adjacency matrix and two arrays for incoming
-     *        and outgoing edges for fast access.
+     * @param cacheEdges if true, the class creates two arrays of sorted vertex numbers for incoming
+     *        and outgoing edges for fast access. Small graphs additionally get an adjacency bit
+     *        matrix, while large sparse graphs answer edge queries by binary search, so that the
+     *        memory requirements remain linear in the size of the graph.
      */
     public GraphOrdering(Graph<V, E> graph, boolean orderByDegree, boolean cacheEdges)
     {
@@ -64,17 +72,51 @@ class GraphOrdering<V, E>
         mapVertexToOrder = new HashMap<>();
         mapOrderToVertex = new ArrayList<>(vertexCount);
 
-        if (cacheEdges) {
-            outgoingEdges = new int[vertexCount][];
-            incomingEdges = new int[vertexCount][];
-            adjMatrix = new Boolean[vertexCount][vertexCount];
-        }
-
         Integer i = 0;
         for (V vertex : vertexSet) {
             mapVertexToOrder.put(vertex, i++);
             mapOrderToVertex.add(vertex);
         }
+
+        if (cacheEdges) {
+            cacheEdges();
+        }
+    }
+
+    private void cacheEdges()
+    {
+        outgoingEdges = new int[vertexCount][];
+        incomingEdges = new int[vertexCount][];
+        for (int v = 0; v < vertexCount; v++) {
+            outgoingEdges[v] = computeNeighbors(v, graph.outgoingEdgesOf(getVertex(v)));
+            Arrays.sort(outgoingEdges[v]);
+            incomingEdges[v] = computeNeighbors(v, graph.incomingEdgesOf(getVertex(v)));
+            Arrays.sort(incomingEdges[v]);
+        }
+
+        if (vertexCount <= MAX_BIT_MATRIX_VERTICES) {
+            adjMatrix = new long[(int) (((long) vertexCount * vertexCount + 63) >>> 6)];
+            for (int v = 0; v < vertexCount; v++) {
+                for (int u : outgoingEdges[v]) {
+                    long bit = (long) v * vertexCount + u;
+                    adjMatrix[(int) (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+    }
+
+    private int[] computeNeighbors(int vertexNumber, Set<E> edgeSet)
+    {
+        V v = getVertex(vertexNumber);
+        int[] vertexArray = new int[edgeSet.size()];
+        int i = 0;
+
+        for (E edge : edgeSet) {
+            V source = graph.getEdgeSource(edge), target = graph.getEdgeTarget(edge);
+            vertexArray[i++] = mapVertexToOrder.get(source.equals(v) ? target : source);
+        }
+
+        return vertexArray;
     }
 
     /**
@@ -101,26 +143,11 @@ class GraphOrdering<V, E>
      */
     public int[] getOutEdges(int vertexNumber)
     {
-        if (cacheEdges && (outgoingEdges[vertexNumber] != null)) {
-            return outgoingEdges[vertexNumber];
-        }
-
-        V v = getVertex(vertexNumber);
-        Set<E> edgeSet = graph.outgoingEdgesOf(v);
-
-        int[] vertexArray = new int[edgeSet.size()];
-        int i = 0;
-
-        for (E edge : edgeSet) {
-            V source = graph.getEdgeSource(edge), target = graph.getEdgeTarget(edge);
-            vertexArray[i++] = mapVertexToOrder.get(source.equals(v) ? target : source);
-        }
-
         if (cacheEdges) {
-            outgoingEdges[vertexNumber] = vertexArray;
+            return outgoingEdges[vertexNumber];
         }
 
-        return vertexArray;
+        return computeNeighbors(vertexNumber, graph.outgoingEdgesOf(getVertex(vertexNumber)));
     }
 
     /**
@@ -131,26 +158,11 @@ class GraphOrdering<V, E>
      */
     public int[] getInEdges(int vertexNumber)
     {
-        if (cacheEdges && (incomingEdges[vertexNumber] != null)) {
-            return incomingEdges[vertexNumber];
-        }
-
-        V v = getVertex(vertexNumber);
-        Set<E> edgeSet = graph.incomingEdgesOf(v);
-
-        int[] vertexArray = new int[edgeSet.size()];
-        int i = 0;
-
-        for (E edge : edgeSet) {
-            V source = graph.getEdgeSource(edge), target = graph.getEdgeTarget(edge);
-            vertexArray[i++] = mapVertexToOrder.get(source.equals(v) ? target : source);
-        }
-
         if (cacheEdges) {
-            incomingEdges[vertexNumber] = vertexArray;
+            return incomingEdges[vertexNumber];
         }
 
-        return vertexArray;
+        return computeNeighbors(vertexNumber, graph.incomingEdgesOf(getVertex(vertexNumber)));
     }
 
     /**
@@ -161,24 +173,16 @@ class GraphOrdering<V, E>
      */
     public boolean hasEdge(int v1Number, int v2Number)
     {
-        V v1, v2;
-        Boolean containsEdge = null;
-
-        if (cacheEdges) {
-            containsEdge = adjMatrix[v1Number][v2Number];
-        }
-
-        if (!cacheEdges || (containsEdge == null)) {
-            v1 = getVertex(v1Number);
-            v2 = getVertex(v2Number);
-            containsEdge = graph.containsEdge(v1, v2);
+        if (!cacheEdges) {
+            return graph.containsEdge(getVertex(v1Number), getVertex(v2Number));
         }
 
-        if (cacheEdges && (adjMatrix[v1Number][v2Number] == null)) {
-            adjMatrix[v1Number][v2Number] = containsEdge;
+        if (adjMatrix != null) {
+            long bit = (long) v1Number * vertexCount + v2Number;
+            return (adjMatrix[(int) (bit >>> 6)] & (1L << bit)) != 0;
         }
 
-        return containsEdge;
+        return Arrays.binarySearch(outgoingEdges[v1Number], v2Number) >= 0;
     }
 
     /**
@@ -18,8 +18,11 @@
 package org.jgrapht.alg.isomorphism;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 
 /**
  * Base implementation of the VF2 algorithm using its feature of detecting
@@ -32,10 +35,18 @@ import org.jgrapht.*;
  * <p>
  * This implementation of the VF2 algorithm does not support graphs with multiple edges.
  *
+ * <p>
+ * The search can be bounded by a {@link CancellationToken}. The mapping iterators and the parallel
+ * search check the token while exploring the state tree and throw an
+ * {@link AlgorithmCancelledException} once it is cancelled. Mappings returned before remain valid.
+ * The token applies to the iterators returned by subsequent calls of {@link #getMappings()} and to
+ * subsequent parallel searches.
+ *
  * @param <V> the type of the vertices
  * @param <E> the type of the edges
  */
 public abstract class VF2AbstractIsomorphismInspector<V, E>
+    extends BaseCancellableAlgorithm
     implements IsomorphismInspector<V, E>
 {
     protected Graph<V, E> graph1, graph2;
@@ -134,6 +145,76 @@ public abstract class VF2AbstractIsomorphismInspector<V, E>
         Iterator<GraphMapping<V, E>> iter = getMappings();
         return iter.hasNext();
     }
+
+    /**
+     * Enumerate the mappings using multiple threads. The state tree of the algorithm is split at
+     * its first level, where the first vertex of the second graph is paired with each vertex of the
+     * first graph, and every such subtree is explored by an independent task of the given pool.
+     *
+     * <p>
+     * The action is invoked concurrently from the threads of the pool and therefore needs to be
+     * thread-safe. Mappings are reported in no particular order. The search stops as soon as
+     * possible after the action returns false. Subclasses which do not provide a search state
+     * enumerate the mappings of {@link #getMappings()} sequentially in the calling thread.
+     *
+     * @param pool the fork-join pool used to execute the search
+     * @param action invoked for every mapping found, returns true to continue the search or false
+     *        to stop it
+     * @return true if all mappings have been enumerated, false if the search was stopped by the
+     *         action
+     */
+    public boolean forEachMapping(ForkJoinPool pool, Predicate<? super GraphMapping<V, E>> action)
+    {
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        Objects.requireNonNull(action, "Action cannot be null");
+        if (!isSizeCompatible()) {
+            return true;
+        }
+        if (createState() == null) {
+            Iterator<GraphMapping<V, E>> it = getMappings();
+            while (it.hasNext()) {
+                if (!action.test(it.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return new VF2ParallelMappingSearch<>(this::createState, action, getCancellationToken())
+            .run(pool);
+    }
+
+    /**
+     * Checks if a mapping exists, searching the state tree using multiple threads.
+     *
+     * @param pool the fork-join pool used to execute the search
+     * @return true iff there exists at least one mapping
+     * @see #forEachMapping(ForkJoinPool, Predicate)
+     */
+    public boolean isomorphismExists(ForkJoinPool pool)
+    {
+        return !forEachMapping(pool, m -> false);
+    }
+
+    /**
+     * Creates a new empty state for the parallel search. The default implementation returns null,
+     * in which case the mappings are enumerated sequentially.
+     *
+     * @return a new state with its own mapping arrays, or null if not supported
+     */
+    VF2State<V, E> createState()
+    {
+        return null;
+    }
+
+    /**
+     * Checks whether the sizes of the graphs allow for a mapping at all.
+     *
+     * @return false if there cannot exist any mapping
+     */
+    boolean isSizeCompatible()
+    {
+        return true;
+    }
 }
 
 // End VF2AbstractIsomorphismInspector.java
@@ -38,6 +38,8 @@ import org.jgrapht.*;
 public class VF2GraphIsomorphismInspector<V, E>
     extends VF2AbstractIsomorphismInspector<V, E>
 {
+    private int[] colors1, colors2;
+
     /**
      * Construct a new VF2 isomorphism inspector.
      *
@@ -95,8 +97,73 @@ public class VF2GraphIsomorphismInspector<V, E>
     @Override
     public VF2GraphMappingIterator<V, E> getMappings()
     {
-        return new VF2GraphMappingIterator<>(
-            ordering1, ordering2, vertexComparator, edgeComparator);
+        refineColors();
+        VF2GraphMappingIterator<V, E> iterator = new VF2GraphMappingIterator<>(
+            ordering1, ordering2, vertexComparator, edgeComparator, colors1, colors2);
+        iterator.cancellationChecker = newCancellationChecker();
+        return iterator;
+    }
+
+    @Override
+    VF2State<V, E> createState()
+    {
+        refineColors();
+        return new VF2GraphIsomorphismState<>(
+            ordering1, ordering2, vertexComparator, edgeComparator, colors1, colors2);
+    }
+
+    @Override
+    boolean isSizeCompatible()
+    {
+        if (graph1.vertexSet().size() != graph2.vertexSet().size()
+            || graph1.edgeSet().size() != graph2.edgeSet().size())
+        {
+            return false;
+        }
+        refineColors();
+        return ColorRefinement.sameColorClasses(colors1, colors2);
+    }
+
+    /**
+     * Refine the disjoint union of both graphs by color refinement. Any isomorphism maps every
+     * vertex to a vertex of the same color, which allows the states to reject candidate pairs
+     * early.
+     */
+    private void refineColors()
+    {
+        if (colors1 != null) {
+            return;
+        }
+
+        int n1 = ordering1.getVertexCount(), n2 = ordering2.getVertexCount();
+        boolean directed = graph1.getType().isDirected();
+        int[][] out = new int[n1 + n2][];
+        int[][] in = directed ? new int[n1 + n2][] : null;
+        for (int v = 0; v < n1; v++) {
+            out[v] = ordering1.getOutEdges(v);
+            if (directed) {
+                in[v] = ordering1.getInEdges(v);
+            }
+        }
+        for (int v = 0; v < n2; v++) {
+            out[n1 + v] = shift(ordering2.getOutEdges(v), n1);
+            if (directed) {
+                in[n1 + v] = shift(ordering2.getInEdges(v), n1);
+            }
+        }
+
+        int[] colors = new ColorRefinement(out, in, new int[n1 + n2]).getColors();
+        colors1 = Arrays.copyOfRange(colors, 0, n1);
+        colors2 = Arrays.copyOfRange(colors, n1, n1 + n2);
+    }
+
+    private static int[] shift(int[] vertices, int offset)
+    {
+        int[] result = new int[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            result[i] = vertices[i] + offset;
+        }
+        return result;
     }
 }
 
@@ -29,11 +29,36 @@ class VF2GraphIsomorphismState<V, E>
         super(g1, g2, vertexComparator, edgeComparator);
     }
 
+    /**
+     * @param g1 GraphOrdering on first graph
+     * @param g2 GraphOrdering on second graph
+     * @param vertexComparator comparator for semantic equality of vertices
+     * @param edgeComparator comparator for semantic equality of edges
+     * @param colors1 the colors of the vertices of the first graph computed by color refinement
+     *        of both graphs, or null
+     * @param colors2 the colors of the vertices of the second graph computed by color refinement
+     *        of both graphs, or null
+     */
+    public VF2GraphIsomorphismState(
+        GraphOrdering<V, E> g1, GraphOrdering<V, E> g2, Comparator<V> vertexComparator,
+        Comparator<E> edgeComparator, int[] colors1, int[] colors2)
+    {
+        super(g1, g2, vertexComparator, edgeComparator);
+        this.colors1 = colors1;
+        this.colors2 = colors2;
+    }
+
     public VF2GraphIsomorphismState(VF2State<V, E> s)
     {
         super(s);
     }
 
+    @Override
+    public VF2GraphIsomorphismState<V, E> copy()
+    {
+        return new VF2GraphIsomorphismState<>(this);
+    }
+
     /**
      * @return true, if the already matched vertices of graph1 plus the first vertex of nextPair are
      *         graph isomorphic to the already matched vertices of graph2 and the second one vertex
@@ -42,8 +67,16 @@ class VF2GraphIsomorphismState<V, E>
     @Override
     public boolean isFeasiblePair()
     {
-        String pairstr = "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ")",
+        String pairstr = null, abortmsg = null;
+        if (DEBUG) {
+            pairstr = "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ")";
             abortmsg = pairstr + " does not fit in the current matching";
+        }
+
+        // an isomorphism preserves the colors computed by color refinement
+        if (colors1 != null && colors1[addVertex1] != colors2[addVertex2]) {
+            return false;
+        }
 
         // check for semantic equality of both vertexes
         if (!areCompatibleVertexes(addVertex1, addVertex2)) {
@@ -61,9 +94,11 @@ class VF2GraphIsomorphismState<V, E>
                 if (!g2.hasEdge(addVertex2, other2)
                     || !areCompatibleEdges(addVertex1, other1, addVertex2, other2))
                 {
-                    showLog(
-                        "isFeasiblePair", abortmsg + ": edge from " + g2.getVertex(addVertex2)
-                            + " to " + g2.getVertex(other2) + " is missing in the 2nd graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasiblePair", abortmsg + ": edge from " + g2.getVertex(addVertex2)
+                                + " to " + g2.getVertex(other2) + " is missing in the 2nd graph");
+                    }
                     return false;
                 }
             } else {
@@ -84,9 +119,11 @@ class VF2GraphIsomorphismState<V, E>
             if (core2[other2] != NULL_NODE) {
                 int other1 = core2[other2];
                 if (!g1.hasEdge(addVertex1, other1)) {
-                    showLog(
-                        "isFeasbilePair", abortmsg + ": edge from " + g1.getVertex(addVertex1)
-                            + " to " + g1.getVertex(other1) + " is missing in the 1st graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasbilePair", abortmsg + ": edge from " + g1.getVertex(addVertex1)
+                                + " to " + g1.getVertex(other1) + " is missing in the 1st graph");
+                    }
                     return false;
                 }
             } else {
@@ -132,9 +169,12 @@ class VF2GraphIsomorphismState<V, E>
                 if (!g2.hasEdge(other2, addVertex2)
                     || !areCompatibleEdges(other1, addVertex1, other2, addVertex2))
                 {
-                    showLog(
-                        "isFeasbilePair", abortmsg + ": edge from " + g2.getVertex(other2) + " to "
-                            + g2.getVertex(addVertex2) + " is missing in the 2nd graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasbilePair",
+                            abortmsg + ": edge from " + g2.getVertex(other2) + " to "
+                                + g2.getVertex(addVertex2) + " is missing in the 2nd graph");
+                    }
                     return false;
                 }
             } else {
@@ -155,9 +195,12 @@ class VF2GraphIsomorphismState<V, E>
             if (core2[other2] != NULL_NODE) {
                 int other1 = core2[other2];
                 if (!g1.hasEdge(other1, addVertex1)) {
-                    showLog(
-                        "isFeasiblePair", abortmsg + ": edge from " + g1.getVertex(other1) + " to "
-                            + g1.getVertex(addVertex1) + " is missing in the 1st graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasiblePair",
+                            abortmsg + ": edge from " + g1.getVertex(other1) + " to "
+                                + g1.getVertex(addVertex1) + " is missing in the 1st graph");
+                    }
                     return false;
                 }
             } else {
@@ -176,7 +219,9 @@ class VF2GraphIsomorphismState<V, E>
         if ((termInPred1 == termInPred2) && (termOutPred1 == termOutPred2)
             && (newPred1 == newPred2))
         {
-            showLog("isFeasiblePair", pairstr + " fits");
+            if (DEBUG) {
+                showLog("isFeasiblePair", pairstr + " fits");
+            }
             return true;
         } else {
             if (DEBUG) {
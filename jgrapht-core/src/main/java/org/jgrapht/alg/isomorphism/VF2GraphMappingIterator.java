@@ -31,6 +31,8 @@ import org.jgrapht.*;
 class VF2GraphMappingIterator<V, E>
     extends VF2MappingIterator<V, E>
 {
+    private final int[] colors1, colors2;
+
     /**
      * @param ordering1
      * @param ordering2
@@ -40,8 +42,28 @@ class VF2GraphMappingIterator<V, E>
     public VF2GraphMappingIterator(
         GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
         Comparator<V> vertexComparator, Comparator<E> edgeComparator)
+    {
+        this(ordering1, ordering2, vertexComparator, edgeComparator, null, null);
+    }
+
+    /**
+     * @param ordering1
+     * @param ordering2
+     * @param vertexComparator
+     * @param edgeComparator
+     * @param colors1 colors of the vertices of the first graph computed by color refinement of
+     *        both graphs, or null
+     * @param colors2 colors of the vertices of the second graph computed by color refinement of
+     *        both graphs, or null
+     */
+    public VF2GraphMappingIterator(
+        GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
+        Comparator<V> vertexComparator, Comparator<E> edgeComparator, int[] colors1,
+        int[] colors2)
     {
         super(ordering1, ordering2, vertexComparator, edgeComparator);
+        this.colors1 = colors1;
+        this.colors2 = colors2;
     }
 
     @Override
@@ -53,13 +75,14 @@ class VF2GraphMappingIterator<V, E>
             Graph<V, E> g1 = ordering1.getGraph(), g2 = ordering2.getGraph();
 
             if ((g1.vertexSet().size() != g2.vertexSet().size())
-                || (g1.edgeSet().size() != g2.edgeSet().size()))
+                || (g1.edgeSet().size() != g2.edgeSet().size())
+                || (colors1 != null && !ColorRefinement.sameColorClasses(colors1, colors2)))
             {
                 return null;
             }
 
             s = new VF2GraphIsomorphismState<>(
-                ordering1, ordering2, vertexComparator, edgeComparator);
+                ordering1, ordering2, vertexComparator, edgeComparator, colors1, colors2);
 
             if (g2.vertexSet().isEmpty()) {
                 return (hadOneMapping != null) ? null : s.getCurrentMapping();
@@ -71,6 +94,7 @@ class VF2GraphMappingIterator<V, E>
 
         while (true) {
             while (s.nextPair()) {
+                cancellationChecker.checkCancelled();
                 if (s.isFeasiblePair()) {
                     stateStack.push(s);
                     s = new VF2GraphIsomorphismState<>(s);
@@ -20,6 +20,7 @@ package org.jgrapht.alg.isomorphism;
 import java.util.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 
 abstract class VF2MappingIterator<V, E>
     implements Iterator<GraphMapping<V, E>>
@@ -34,6 +35,8 @@ abstract class VF2MappingIterator<V, E>
 
     protected ArrayDeque<VF2State<V, E>> stateStack;
 
+    protected CancellationToken.Checker cancellationChecker;
+
     public VF2MappingIterator(
         GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
         Comparator<V> vertexComparator, Comparator<E> edgeComparator)
@@ -43,6 +46,7 @@ abstract class VF2MappingIterator<V, E>
         this.vertexComparator = vertexComparator;
         this.edgeComparator = edgeComparator;
         this.stateStack = new ArrayDeque<>();
+        this.cancellationChecker = CancellationToken.NONE.newChecker();
     }
 
     /**
@@ -0,0 +1,168 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * Parallel depth-first search over the VF2 state tree. The tree is split at its first level: the
+ * first vertex of the second graph is paired with every vertex of the first graph and each such
+ * pair becomes an independent task of a fork-join pool. Every task owns its own state arrays, so
+ * the tasks do not share any mutable data except for a termination flag.
+ *
+ * @param <V> the type of the vertices
+ * @param <E> the type of the edges
+ *
+ * @author agent
+ */
+class VF2ParallelMappingSearch<V, E>
+{
+    private final Supplier<VF2State<V, E>> stateFactory;
+    private final Predicate<? super GraphMapping<V, E>> action;
+    private final CancellationToken cancellationToken;
+    private final AtomicBoolean terminated;
+
+    /**
+     * @param stateFactory creates a new empty state with its own mapping arrays
+     * @param action invoked for every mapping found, returns false to stop the search
+     * @param cancellationToken token checked while exploring the state tree
+     */
+    VF2ParallelMappingSearch(
+        Supplier<VF2State<V, E>> stateFactory, Predicate<? super GraphMapping<V, E>> action,
+        CancellationToken cancellationToken)
+    {
+        this.stateFactory = stateFactory;
+        this.action = action;
+        this.cancellationToken = cancellationToken;
+        this.terminated = new AtomicBoolean(false);
+    }
+
+    /**
+     * Run the search.
+     *
+     * @param pool the pool executing the tasks
+     * @return true if the search completed, false if it was terminated by the action
+     */
+    boolean run(ForkJoinPool pool)
+    {
+        VF2State<V, E> root = stateFactory.get();
+        if (root.n2 == 0) {
+            return action.test(root.getCurrentMapping());
+        }
+
+        List<SubtreeTask> tasks = new ArrayList<>(root.n1);
+        for (int v1 = 0; v1 < root.n1; v1++) {
+            tasks.add(new SubtreeTask(v1));
+        }
+        pool.invoke(new RecursiveAction()
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute()
+            {
+                invokeAll(tasks);
+            }
+        });
+        return !terminated.get();
+    }
+
+    private void report(VF2State<V, E> s)
+    {
+        if (!action.test(s.getCurrentMapping())) {
+            terminated.set(true);
+        }
+    }
+
+    /**
+     * Explores the subtree below the pair (v1, 0).
+     */
+    private class SubtreeTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int vertex1;
+
+        SubtreeTask(int vertex1)
+        {
+            this.vertex1 = vertex1;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (terminated.get()) {
+                return;
+            }
+
+            VF2State<V, E> s = stateFactory.get();
+            s.setCandidatePair(vertex1, 0);
+            if (!s.isFeasiblePair()) {
+                return;
+            }
+            s = s.copy();
+            s.addPair();
+            if (s.isGoal()) {
+                report(s);
+                return;
+            }
+            s.resetAddVertexes();
+
+            // each task counts its own checks, only the state of the token is shared
+            CancellationToken.Checker cancellationChecker = cancellationToken.newChecker();
+            Deque<VF2State<V, E>> stack = new ArrayDeque<>();
+            while (!terminated.get()) {
+                while (s.nextPair()) {
+                    cancellationChecker.checkCancelled();
+                    if (s.isFeasiblePair()) {
+                        stack.push(s);
+                        s = s.copy();
+                        s.addPair();
+
+                        if (s.isGoal()) {
+                            report(s);
+                            if (terminated.get()) {
+                                return;
+                            }
+                            s.backtrack();
+                            s = stack.pop();
+                        } else {
+                            s.resetAddVertexes();
+                        }
+                    }
+                }
+
+                if (stack.isEmpty()) {
+                    return;
+                }
+
+                s.backtrack();
+                s = stack.pop();
+            }
+        }
+    }
+}
+
+// End VF2ParallelMappingSearch.java
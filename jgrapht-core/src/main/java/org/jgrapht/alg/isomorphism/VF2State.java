@@ -43,6 +43,12 @@ abstract class VF2State<V, E>
     protected Comparator<V> vertexComparator;
     protected Comparator<E> edgeComparator;
 
+    /*
+     * Optional colors of the vertices of both graphs, only vertices with equal colors may be
+     * paired.
+     */
+    protected int[] colors1, colors2;
+
     /**
      * @param g1 GraphOrdering on first graph
      * @param g2 GraphOrdering on second graph (possible subgraph)
@@ -107,6 +113,8 @@ abstract class VF2State<V, E>
 
         vertexComparator = s.vertexComparator;
         edgeComparator = s.edgeComparator;
+        colors1 = s.colors1;
+        colors2 = s.colors2;
 
         addVertex1 = s.addVertex1;
         addVertex2 = s.addVertex2;
@@ -194,14 +202,18 @@ abstract class VF2State<V, E>
         }
 
         if ((addVertex1 < n1) && (addVertex2 < n2)) {
-            showLog(
-                "nextPair", "next candidate pair: (" + g1.getVertex(addVertex1) + ", "
-                    + g2.getVertex(addVertex2) + ")");
+            if (DEBUG) {
+                showLog(
+                    "nextPair", "next candidate pair: (" + g1.getVertex(addVertex1) + ", "
+                        + g2.getVertex(addVertex2) + ")");
+            }
             return true;
         }
 
         // there are no more pairs..
-        showLog("nextPair", "no more candidate pairs");
+        if (DEBUG) {
+            showLog("nextPair", "no more candidate pairs");
+        }
 
         addVertex1 = addVertex2 = NULL_NODE;
         return false;
@@ -212,9 +224,11 @@ abstract class VF2State<V, E>
      */
     public void addPair()
     {
-        showLog(
-            "addPair",
-            "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ") added");
+        if (DEBUG) {
+            showLog(
+                "addPair",
+                "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ") added");
+        }
 
         coreLen++;
         addedVertex1 = addVertex1;
@@ -317,9 +331,12 @@ abstract class VF2State<V, E>
     {
         int addedVertex2 = core1[addedVertex1];
 
-        showLog(
-            "backtrack", "remove (" + g1.getVertex(addedVertex1) + ", " + g2.getVertex(addedVertex2)
-                + ") from the matching");
+        if (DEBUG) {
+            showLog(
+                "backtrack",
+                "remove (" + g1.getVertex(addedVertex1) + ", " + g2.getVertex(addedVertex2)
+                    + ") from the matching");
+        }
 
         if (in1[addedVertex1] == coreLen) {
             in1[addedVertex1] = 0;
@@ -396,6 +413,26 @@ abstract class VF2State<V, E>
             || (edgeComparator.compare(g1.getEdge(v1, v2), g2.getEdge(u1, u2)) == 0);
     }
 
+    /**
+     * creates a copy of this state which shares the mapping arrays, see the copy constructor.
+     *
+     * @return a copy of this state
+     */
+    public abstract VF2State<V, E> copy();
+
+    /**
+     * sets the candidate pair which is checked by {@link #isFeasiblePair()} and added by
+     * {@link #addPair()}.
+     *
+     * @param vertex1 the number of the vertex in the first graph
+     * @param vertex2 the number of the vertex in the second graph
+     */
+    public void setCandidatePair(int vertex1, int vertex2)
+    {
+        addVertex1 = vertex1;
+        addVertex2 = vertex2;
+    }
+
     public IsomorphicGraphMapping<V, E> getCurrentMapping()
     {
         return new IsomorphicGraphMapping<>(g1, g2, core1, core2);
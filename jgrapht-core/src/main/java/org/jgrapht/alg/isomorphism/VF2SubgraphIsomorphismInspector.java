@@ -97,8 +97,24 @@ public class VF2SubgraphIsomorphismInspector<V, E>
     @Override
     public VF2SubgraphMappingIterator<V, E> getMappings()
     {
-        return new VF2SubgraphMappingIterator<>(
+        VF2SubgraphMappingIterator<V, E> iterator = new VF2SubgraphMappingIterator<>(
             ordering1, ordering2, vertexComparator, edgeComparator);
+        iterator.cancellationChecker = newCancellationChecker();
+        return iterator;
+    }
+
+    @Override
+    VF2State<V, E> createState()
+    {
+        return new VF2SubgraphIsomorphismState<>(
+            ordering1, ordering2, vertexComparator, edgeComparator);
+    }
+
+    @Override
+    boolean isSizeCompatible()
+    {
+        return graph1.vertexSet().size() >= graph2.vertexSet().size()
+            && graph1.edgeSet().size() >= graph2.edgeSet().size();
     }
 }
 
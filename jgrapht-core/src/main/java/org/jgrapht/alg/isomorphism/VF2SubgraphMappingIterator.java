@@ -65,6 +65,7 @@ class VF2SubgraphMappingIterator<V, E>
 
         while (true) {
             while (s.nextPair()) {
+                cancellationChecker.checkCancelled();
                 if (s.isFeasiblePair()) {
                     stateStack.push(s);
                     s = new VF2SubgraphIsomorphismState<>(s);
@@ -0,0 +1,1253 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+/**
+ * Exact maximum weight matching in general undirected graphs, using the primal-dual blossom
+ * algorithm of Edmonds.
+ *
+ * <p>
+ * A matching in a graph G(V,E) is a subset of edges M such that no two edges in M have a vertex in
+ * common. This algorithm computes a matching of maximum total weight. Optionally, the algorithm
+ * computes a maximum cardinality matching which has maximum weight among all maximum cardinality
+ * matchings. Edge weights can be arbitrary, including zero or negative. Self-loops are ignored and
+ * multiple edges are allowed.
+ *
+ * <p>
+ * The implementation maintains a dual variable for every vertex and every (nested) blossom and
+ * grows alternating trees using only tight edges. Every free vertex and every outer blossom keeps
+ * track of its least-slack edge towards the alternating forest, and every blossom keeps the
+ * least-slack edges towards other outer blossoms. These edges and the inner blossoms are kept in
+ * priority queues keyed so that a dual update does not change the keys, in the spirit of Blossom V
+ * by Kolmogorov. The dual updates themselves are applied lazily, so that each dual adjustment takes
+ * O(log n) time instead of the O(n) time of a scan over all vertices and blossoms. As in Blossom
+ * V, the alternating trees survive an augmentation and only the two trees joined by the augmenting
+ * path are dissolved, so that most of the work of a stage is not repeated. Blossoms however still
+ * relabel their vertices when they are formed or expanded, and a single priority queue is shared by
+ * all trees, so the worst-case running time is not better than the one of the classical O(n^3)
+ * implementation; the gain is in practice, on large sparse graphs. The graph is first converted
+ * into compact integer arrays, so that the memory requirements are O(n + m).
+ *
+ * <p>
+ * The algorithm is described in:
+ * <ul>
+ * <li>J. Edmonds, Maximum matching and a polyhedron with 0,1-vertices, Journal of Research of the
+ * National Bureau of Standards 69B, 125-130, 1965.</li>
+ * <li>Z. Galil, Efficient algorithms for finding maximum matching in graphs, ACM Computing Surveys
+ * 18(1), 23-38, 1986.</li>
+ * <li>H.N. Gabow, Implementation of algorithms for maximum matching on nonbipartite graphs, Ph.D.
+ * thesis, Stanford University, 1973.</li>
+ * <li>V. Kolmogorov, Blossom V: A new implementation of a minimum cost perfect matching
+ * algorithm, Mathematical Programming Computation 1(1), 43-67, 2009.</li>
+ * </ul>
+ * The bookkeeping of least-slack edges follows the Python implementation by J. van Rantwijk.
+ *
+ * <p>
+ * For bipartite graphs with equally sized partitions which only need a minimum weight perfect
+ * matching, see {@link KuhnMunkresMinimalWeightBipartitePerfectMatching}. For minimum weight
+ * perfect matchings in general graphs, see {@link EdmondsMinimumWeightPerfectMatching}.
+ *
+ * @see GreedyWeightedMatching
+ * @see PathGrowingWeightedMatching
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class EdmondsMaximumWeightMatching<V, E>
+    implements MatchingAlgorithm<V, E>
+{
+    private final Graph<V, E> graph;
+    private final boolean maximumCardinality;
+    private final ToDoubleFunction<E> weightFunction;
+
+    /**
+     * Construct a new instance of the algorithm which computes a maximum weight matching.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is not undirected
+     */
+    public EdmondsMaximumWeightMatching(Graph<V, E> graph)
+    {
+        this(graph, false);
+    }
+
+    /**
+     * Construct a new instance of the algorithm.
+     *
+     * @param graph the input graph
+     * @param maximumCardinality if true the algorithm computes a maximum weight matching among all
+     *        maximum cardinality matchings, otherwise a maximum weight matching
+     * @throws IllegalArgumentException if the graph is not undirected
+     */
+    public EdmondsMaximumWeightMatching(Graph<V, E> graph, boolean maximumCardinality)
+    {
+        this(graph, maximumCardinality, graph::getEdgeWeight);
+    }
+
+    /**
+     * Construct a new instance of the algorithm which uses a different weight for the edges than
+     * the one reported by the graph.
+     *
+     * @param graph the input graph
+     * @param maximumCardinality if true the algorithm computes a maximum weight matching among all
+     *        maximum cardinality matchings, otherwise a maximum weight matching
+     * @param weightFunction the weight of each edge used during the computation
+     */
+    EdmondsMaximumWeightMatching(
+        Graph<V, E> graph, boolean maximumCardinality, ToDoubleFunction<E> weightFunction)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.maximumCardinality = maximumCardinality;
+        this.weightFunction = Objects.requireNonNull(weightFunction);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Matching<V, E> getMatching()
+    {
+        /*
+         * Index vertices and edges. Self-loops can never be part of a matching.
+         */
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            vertexIndex.put(v, vertexIndex.size());
+        }
+        List<E> edgeList = new ArrayList<>(graph.edgeSet().size());
+        for (E e : graph.edgeSet()) {
+            if (!graph.getEdgeSource(e).equals(graph.getEdgeTarget(e))) {
+                edgeList.add(e);
+            }
+        }
+        int m = edgeList.size();
+        int[] endpoint = new int[2 * m];
+        double[] weight = new double[m];
+        for (int k = 0; k < m; k++) {
+            E e = edgeList.get(k);
+            endpoint[2 * k] = vertexIndex.get(graph.getEdgeSource(e));
+            endpoint[2 * k + 1] = vertexIndex.get(graph.getEdgeTarget(e));
+            weight[k] = weightFunction.applyAsDouble(e);
+        }
+
+        Solver solver = new Solver(vertexIndex.size(), endpoint, weight, maximumCardinality);
+        solver.solve();
+
+        Set<E> matching = new HashSet<>();
+        double matchingWeight = 0d;
+        for (int k = 0; k < m; k++) {
+            if (solver.isMatched(k)) {
+                E e = edgeList.get(k);
+                matching.add(e);
+                matchingWeight += graph.getEdgeWeight(e);
+            }
+        }
+        return new MatchingImpl<>(graph, matching, matchingWeight);
+    }
+
+    /**
+     * The primal-dual algorithm working on integer indexed vertices and edges.
+     *
+     * <p>
+     * Edge k has endpoints 2k and 2k+1. Indices 0 to n-1 are used for vertices (trivial blossoms)
+     * and n to 2n-1 for non-trivial blossoms. A vertex or blossom is labeled {@link #FREE},
+     * {@link #OUTER} (S-blossom) or {@link #INNER} (T-blossom). Every labeled vertex belongs to the
+     * alternating tree of a single vertex, which is identified by that vertex.
+     *
+     * <p>
+     * Dual updates are applied lazily. The total dual change is kept in {@link #deltaSum} and the
+     * actual dual of a vertex or top-level blossom x is {@code dual[x] + dualSign[x] * deltaSum},
+     * where the sign is -1 for outer vertices and inner blossoms, +1 for inner vertices and outer
+     * blossoms and 0 otherwise. The sign is changed, and the stored dual normalized, whenever x
+     * changes its label.
+     *
+     * <p>
+     * When a tree is dissolved after an augmentation, the least-slack edges which lead to its
+     * vertices are recomputed from the incident edges of their other end.
+     */
+    private static class Solver
+    {
+        private static final int FREE = 0;
+        private static final int OUTER = 1;
+        private static final int INNER = 2;
+        private static final int BREADCRUMB = 5;
+
+        /**
+         * Tolerance of the slack and dual comparisons, relative to the largest absolute weight.
+         */
+        private static final double EPSILON_SCALE = 1e-12;
+
+        private final int n;
+        private final int m;
+        private final int[] endpoint;
+        private final double[] weight;
+        private final boolean maximumCardinality;
+        private final double epsilon;
+
+        /* remote endpoints of the edges incident to each vertex, in CSR format */
+        private final int[] neighborStart;
+        private final int[] neighborEndpoint;
+
+        /* remote endpoint of the matched edge, or -1 if single */
+        private final int[] mate;
+        private final int[] label;
+        /* endpoint through which a blossom obtained its label, or -1 */
+        private final int[] labelEnd;
+        /* top-level blossom containing each vertex */
+        private final int[] inBlossom;
+        private final int[] blossomParent;
+        private final int[][] blossomChilds;
+        private final int[] blossomBase;
+        private final int[][] blossomEndpoints;
+        /*
+         * vertices of each blossom as a segment of a linked list, from firstLeaf to lastLeaf
+         * following nextLeaf
+         */
+        private final int[] firstLeaf;
+        private final int[] lastLeaf;
+        private final int[] nextLeaf;
+        /* root of the tree containing each labeled vertex or -1, and the vertices of each tree */
+        private final int[] treeOf;
+        private final int[] treeFirst;
+        private final int[] treeNext;
+        private final int[] treePrev;
+        /* least-slack edge to a different outer blossom, or -1 */
+        private final int[] bestEdge;
+        /* least-slack edges to neighboring outer blossoms, for non-trivial outer blossoms */
+        private final int[][] blossomBestEdges;
+        private final int[] unusedBlossoms;
+        private int unusedBlossomsSize;
+        private final double[] dual;
+        private final int[] dualSign;
+        private double deltaSum;
+        /* initial dual of the vertices, single vertices have dual initialDual - deltaSum */
+        private final double initialDual;
+        private final boolean[] allowEdge;
+        private int[] queue;
+        private int queueSize;
+
+        /* free vertices with a least-slack edge, keyed by slack plus deltaSum */
+        private final IndexedBinaryHeap freeHeap;
+        /* top-level outer blossoms with a least-slack edge, keyed by slack plus 2 deltaSum */
+        private final IndexedBinaryHeap outerHeap;
+        /* top-level non-trivial inner blossoms, keyed by their stored dual */
+        private final IndexedBinaryHeap innerHeap;
+
+        /* work arrays */
+        private final int[] pathBuffer;
+        private final int[] childBuffer;
+        private final int[] endpointBuffer;
+        private final int[] bestEdgeTo;
+        private final int[] touched;
+        private int touchedSize;
+        private final int[] workList;
+        private final int[] dissolved;
+        private final int[] refresh;
+
+        Solver(int n, int[] endpoint, double[] weight, boolean maximumCardinality)
+        {
+            this.n = n;
+            this.m = weight.length;
+            this.endpoint = endpoint;
+            this.weight = weight;
+            this.maximumCardinality = maximumCardinality;
+
+            this.neighborStart = new int[n + 1];
+            for (int p = 0; p < 2 * m; p++) {
+                neighborStart[endpoint[p] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                neighborStart[v + 1] += neighborStart[v];
+            }
+            this.neighborEndpoint = new int[2 * m];
+            int[] next = Arrays.copyOf(neighborStart, n);
+            for (int p = 0; p < 2 * m; p++) {
+                neighborEndpoint[next[endpoint[p]]++] = p ^ 1;
+            }
+
+            double maxWeight = 0d;
+            double maxAbsWeight = 0d;
+            for (int k = 0; k < m; k++) {
+                maxWeight = Math.max(maxWeight, weight[k]);
+                maxAbsWeight = Math.max(maxAbsWeight, Math.abs(weight[k]));
+            }
+            this.epsilon = EPSILON_SCALE * maxAbsWeight;
+
+            this.mate = new int[n];
+            Arrays.fill(mate, -1);
+            this.label = new int[2 * n];
+            this.labelEnd = new int[2 * n];
+            Arrays.fill(labelEnd, -1);
+            this.inBlossom = new int[n];
+            this.blossomParent = new int[2 * n];
+            Arrays.fill(blossomParent, -1);
+            this.blossomChilds = new int[2 * n][];
+            this.blossomBase = new int[2 * n];
+            Arrays.fill(blossomBase, -1);
+            this.blossomEndpoints = new int[2 * n][];
+            this.firstLeaf = new int[2 * n];
+            this.lastLeaf = new int[2 * n];
+            this.nextLeaf = new int[n];
+            for (int v = 0; v < n; v++) {
+                inBlossom[v] = v;
+                blossomBase[v] = v;
+                firstLeaf[v] = v;
+                lastLeaf[v] = v;
+            }
+            this.treeOf = new int[n];
+            Arrays.fill(treeOf, -1);
+            this.treeFirst = new int[n];
+            Arrays.fill(treeFirst, -1);
+            this.treeNext = new int[n];
+            this.treePrev = new int[n];
+            this.bestEdge = new int[2 * n];
+            Arrays.fill(bestEdge, -1);
+            this.blossomBestEdges = new int[2 * n][];
+            this.unusedBlossoms = new int[n];
+            for (int b = 0; b < n; b++) {
+                unusedBlossoms[b] = n + b;
+            }
+            this.unusedBlossomsSize = n;
+            this.dual = new double[2 * n];
+            Arrays.fill(dual, 0, n, maxWeight);
+            this.dualSign = new int[2 * n];
+            this.deltaSum = 0d;
+            this.initialDual = maxWeight;
+            this.allowEdge = new boolean[m];
+            this.queue = new int[Math.max(1, n)];
+            this.queueSize = 0;
+
+            this.freeHeap = new IndexedBinaryHeap(n);
+            this.outerHeap = new IndexedBinaryHeap(2 * n);
+            this.innerHeap = new IndexedBinaryHeap(2 * n);
+
+            this.pathBuffer = new int[n];
+            this.childBuffer = new int[n + 1];
+            this.endpointBuffer = new int[n + 1];
+            this.bestEdgeTo = new int[2 * n];
+            Arrays.fill(bestEdgeTo, -1);
+            this.touched = new int[2 * n];
+            this.workList = new int[2 * n];
+            this.dissolved = new int[n];
+            this.refresh = new int[2 * n];
+        }
+
+        boolean isMatched(int k)
+        {
+            return mate[endpoint[2 * k]] == 2 * k + 1;
+        }
+
+        void solve()
+        {
+            // every single vertex is the root of a tree
+            for (int v = 0; v < n; v++) {
+                assignLabel(v, OUTER, -1);
+            }
+            do {
+                growForest();
+            } while (adjustDuals());
+        }
+
+        /**
+         * Scan outer vertices using tight edges until the queue is empty.
+         */
+        private void growForest()
+        {
+            while (queueSize > 0) {
+                int v = queue[--queueSize];
+                if (label[inBlossom[v]] != OUTER) {
+                    // the tree of v has been dissolved after an augmentation
+                    continue;
+                }
+                for (int i = neighborStart[v]; i < neighborStart[v + 1]; i++) {
+                    int p = neighborEndpoint[i];
+                    int k = p / 2;
+                    int w = endpoint[p];
+                    if (inBlossom[v] == inBlossom[w]) {
+                        // edge internal to a blossom
+                        continue;
+                    }
+                    double kSlack = 0d;
+                    if (!allowEdge[k]) {
+                        kSlack = slack(k);
+                        if (kSlack <= epsilon) {
+                            allowEdge[k] = true;
+                        }
+                    }
+                    if (allowEdge[k]) {
+                        if (addTightEdge(p)) {
+                            // the tree of v has been dissolved
+                            break;
+                        }
+                    } else if (label[inBlossom[w]] == OUTER) {
+                        int b = inBlossom[v];
+                        if (bestEdge[b] == -1 || kSlack < slack(bestEdge[b])) {
+                            bestEdge[b] = k;
+                            outerHeap.update(b, kSlack + 2d * deltaSum);
+                        }
+                    } else if (label[w] == FREE) {
+                        if (bestEdge[w] == -1 || kSlack < slack(bestEdge[w])) {
+                            bestEdge[w] = k;
+                            if (label[inBlossom[w]] == FREE) {
+                                freeHeap.update(w, kSlack + deltaSum);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Use a tight edge from an outer vertex to the vertex of endpoint p.
+         *
+         * @return true if the matching was augmented
+         */
+        private boolean addTightEdge(int p)
+        {
+            int v = endpoint[p ^ 1];
+            int w = endpoint[p];
+            int k = p / 2;
+            if (label[inBlossom[w]] == FREE) {
+                assignLabel(w, INNER, p ^ 1);
+            } else if (label[inBlossom[w]] == OUTER) {
+                int base = scanBlossom(v, w);
+                if (base >= 0) {
+                    addBlossom(base, k);
+                } else {
+                    int root = treeOf[v];
+                    int otherRoot = treeOf[w];
+                    augmentMatching(k);
+                    dissolveTrees(root, otherRoot);
+                    return true;
+                }
+            } else if (label[w] == FREE) {
+                // w is inside an inner blossom but was not reached yet
+                label[w] = INNER;
+                labelEnd[w] = p ^ 1;
+            }
+            return false;
+        }
+
+        /**
+         * Perform a dual adjustment using the minima of the heaps of least-slack edges and inner
+         * blossoms. The adjustment itself only changes {@link #deltaSum}.
+         *
+         * @return false if an optimum has been reached, true otherwise
+         */
+        private boolean adjustDuals()
+        {
+            int deltaType = -1;
+            double delta = 0d;
+            int deltaEdge = -1;
+            int deltaBlossom = -1;
+
+            // type 1: minimum dual of a vertex (stops the algorithm), attained by single vertices
+            if (!maximumCardinality) {
+                deltaType = 1;
+                delta = initialDual - deltaSum;
+            }
+
+            // type 2: edge between an outer and a free vertex
+            if (!freeHeap.isEmpty()) {
+                double d = freeHeap.minKey() - deltaSum;
+                if (deltaType == -1 || d < delta) {
+                    delta = d;
+                    deltaType = 2;
+                    deltaEdge = bestEdge[freeHeap.min()];
+                }
+            }
+
+            // type 3: edge between two outer blossoms
+            if (!outerHeap.isEmpty()) {
+                double d = (outerHeap.minKey() - 2d * deltaSum) / 2d;
+                if (deltaType == -1 || d < delta) {
+                    delta = d;
+                    deltaType = 3;
+                    deltaEdge = bestEdge[outerHeap.min()];
+                }
+            }
+
+            // type 4: dual of an inner blossom reaches zero
+            if (!innerHeap.isEmpty()) {
+                double d = innerHeap.minKey() - deltaSum;
+                if (deltaType == -1 || d < delta) {
+                    delta = d;
+                    deltaType = 4;
+                    deltaBlossom = innerHeap.min();
+                }
+            }
+
+            if (deltaType == -1) {
+                // no further improvement possible, maximum cardinality optimum reached
+                return false;
+            }
+
+            deltaSum += delta;
+
+            switch (deltaType) {
+            case 1:
+                return false;
+            case 2:
+                allowEdge[deltaEdge] = true;
+                if (label[inBlossom[endpoint[2 * deltaEdge]]] == FREE) {
+                    addTightEdge(2 * deltaEdge);
+                } else {
+                    addTightEdge(2 * deltaEdge + 1);
+                }
+                break;
+            case 3:
+                allowEdge[deltaEdge] = true;
+                addTightEdge(2 * deltaEdge);
+                break;
+            default:
+                expandBlossom(deltaBlossom);
+                break;
+            }
+            return true;
+        }
+
+        private void enqueue(int v)
+        {
+            if (queueSize == queue.length) {
+                queue = Arrays.copyOf(queue, 2 * queueSize);
+            }
+            queue[queueSize++] = v;
+        }
+
+        private double slack(int k)
+        {
+            int u = endpoint[2 * k];
+            int v = endpoint[2 * k + 1];
+            return dual[u] + dual[v] + (dualSign[u] + dualSign[v]) * deltaSum - 2d * weight[k];
+        }
+
+        /**
+         * Change the sign with which the dual updates apply to vertex or blossom x, keeping its
+         * actual dual.
+         */
+        private void setDualSign(int x, int sign)
+        {
+            dual[x] += (dualSign[x] - sign) * deltaSum;
+            dualSign[x] = sign;
+        }
+
+        /**
+         * Assign label t to the top-level blossom containing vertex w, coming through endpoint p.
+         */
+        private void assignLabel(int w, int t, int p)
+        {
+            int root = p == -1 ? w : treeOf[endpoint[p]];
+            while (true) {
+                int b = inBlossom[w];
+                label[w] = label[b] = t;
+                labelEnd[w] = labelEnd[b] = p;
+                bestEdge[w] = bestEdge[b] = -1;
+                int sign = t == OUTER ? -1 : 1;
+                for (int v = firstLeaf[b];; v = nextLeaf[v]) {
+                    freeHeap.remove(v);
+                    setDualSign(v, sign);
+                    if (treeOf[v] != root) {
+                        if (treeOf[v] != -1) {
+                            removeFromTree(v);
+                        }
+                        addToTree(root, v);
+                    }
+                    if (t == OUTER) {
+                        enqueue(v);
+                    }
+                    if (v == lastLeaf[b]) {
+                        break;
+                    }
+                }
+                if (b >= n) {
+                    setDualSign(b, -sign);
+                    if (t == INNER) {
+                        innerHeap.insert(b, dual[b]);
+                    }
+                }
+                if (t == OUTER) {
+                    return;
+                }
+                // inner blossom, label its mate outer
+                int base = blossomBase[b];
+                w = endpoint[mate[base]];
+                t = OUTER;
+                p = mate[base] ^ 1;
+            }
+        }
+
+        private void addToTree(int root, int v)
+        {
+            treeOf[v] = root;
+            treePrev[v] = -1;
+            treeNext[v] = treeFirst[root];
+            if (treeFirst[root] != -1) {
+                treePrev[treeFirst[root]] = v;
+            }
+            treeFirst[root] = v;
+        }
+
+        private void removeFromTree(int v)
+        {
+            if (treePrev[v] != -1) {
+                treeNext[treePrev[v]] = treeNext[v];
+            } else {
+                treeFirst[treeOf[v]] = treeNext[v];
+            }
+            if (treeNext[v] != -1) {
+                treePrev[treeNext[v]] = treePrev[v];
+            }
+            treeOf[v] = -1;
+        }
+
+        /**
+         * Trace back from vertices v and w to discover either a new blossom or an augmenting path.
+         *
+         * @return the base vertex of the new blossom or -1
+         */
+        private int scanBlossom(int v, int w)
+        {
+            int pathSize = 0;
+            int base = -1;
+            while (v != -1 || w != -1) {
+                int b = inBlossom[v];
+                if ((label[b] & 4) != 0) {
+                    base = blossomBase[b];
+                    break;
+                }
+                pathBuffer[pathSize++] = b;
+                label[b] = BREADCRUMB;
+                if (labelEnd[b] == -1) {
+                    // reached the root of the tree
+                    v = -1;
+                } else {
+                    v = endpoint[labelEnd[b]];
+                    b = inBlossom[v];
+                    v = endpoint[labelEnd[b]];
+                }
+                // swap v and w so that we alternate between both paths
+                if (w != -1) {
+                    int tmp = v;
+                    v = w;
+                    w = tmp;
+                }
+            }
+            for (int i = 0; i < pathSize; i++) {
+                label[pathBuffer[i]] = OUTER;
+            }
+            return base;
+        }
+
+        /**
+         * Construct a new blossom with given base, containing edge k which connects two outer
+         * blossoms.
+         */
+        private void addBlossom(int base, int k)
+        {
+            int v = endpoint[2 * k];
+            int w = endpoint[2 * k + 1];
+            int bb = inBlossom[base];
+            int bv = inBlossom[v];
+            int bw = inBlossom[w];
+
+            int b = unusedBlossoms[--unusedBlossomsSize];
+            blossomBase[b] = base;
+            blossomParent[b] = -1;
+            blossomParent[bb] = b;
+
+            int size = 0;
+            while (bv != bb) {
+                blossomParent[bv] = b;
+                childBuffer[size] = bv;
+                endpointBuffer[size] = labelEnd[bv];
+                size++;
+                v = endpoint[labelEnd[bv]];
+                bv = inBlossom[v];
+            }
+            childBuffer[size] = bb;
+            reverse(childBuffer, 0, size + 1);
+            reverse(endpointBuffer, 0, size);
+            endpointBuffer[size++] = 2 * k;
+            while (bw != bb) {
+                blossomParent[bw] = b;
+                childBuffer[size] = bw;
+                endpointBuffer[size] = labelEnd[bw] ^ 1;
+                size++;
+                w = endpoint[labelEnd[bw]];
+                bw = inBlossom[w];
+            }
+            int[] childs = Arrays.copyOf(childBuffer, size);
+            blossomChilds[b] = childs;
+            blossomEndpoints[b] = Arrays.copyOf(endpointBuffer, size);
+
+            // concatenate the leaf lists of the children
+            firstLeaf[b] = firstLeaf[childs[0]];
+            for (int i = 1; i < size; i++) {
+                nextLeaf[lastLeaf[childs[i - 1]]] = firstLeaf[childs[i]];
+            }
+            lastLeaf[b] = lastLeaf[childs[size - 1]];
+
+            label[b] = OUTER;
+            labelEnd[b] = labelEnd[bb];
+            dual[b] = 0d;
+            dualSign[b] = 0;
+            setDualSign(b, 1);
+
+            for (int child : childs) {
+                boolean inner = label[child] == INNER;
+                for (int leaf = firstLeaf[child];; leaf = nextLeaf[leaf]) {
+                    if (inner) {
+                        // former inner vertices become outer and need to be scanned
+                        enqueue(leaf);
+                    }
+                    setDualSign(leaf, -1);
+                    inBlossom[leaf] = b;
+                    if (leaf == lastLeaf[child]) {
+                        break;
+                    }
+                }
+                if (child >= n) {
+                    // nested blossoms are unlabeled
+                    setDualSign(child, 0);
+                    label[child] = FREE;
+                    labelEnd[child] = -1;
+                }
+                outerHeap.remove(child);
+                innerHeap.remove(child);
+            }
+
+            // compute the least-slack edges to neighboring outer blossoms
+            touchedSize = 0;
+            for (int child : childs) {
+                if (blossomBestEdges[child] == null) {
+                    for (int leaf = firstLeaf[child];; leaf = nextLeaf[leaf]) {
+                        for (int i = neighborStart[leaf]; i < neighborStart[leaf + 1]; i++) {
+                            updateBestEdgeTo(b, neighborEndpoint[i] / 2);
+                        }
+                        if (leaf == lastLeaf[child]) {
+                            break;
+                        }
+                    }
+                } else {
+                    for (int kk : blossomBestEdges[child]) {
+                        updateBestEdgeTo(b, kk);
+                    }
+                }
+                blossomBestEdges[child] = null;
+                bestEdge[child] = -1;
+            }
+            int[] best = new int[touchedSize];
+            double bestSlack = 0d;
+            bestEdge[b] = -1;
+            for (int i = 0; i < touchedSize; i++) {
+                int bj = touched[i];
+                int kk = bestEdgeTo[bj];
+                bestEdgeTo[bj] = -1;
+                best[i] = kk;
+                double kkSlack = slack(kk);
+                if (bestEdge[b] == -1 || kkSlack < bestSlack) {
+                    bestEdge[b] = kk;
+                    bestSlack = kkSlack;
+                }
+            }
+            blossomBestEdges[b] = best;
+            if (bestEdge[b] != -1) {
+                outerHeap.insert(b, bestSlack + 2d * deltaSum);
+            }
+        }
+
+        private void updateBestEdgeTo(int b, int k)
+        {
+            int j = endpoint[2 * k + 1];
+            if (inBlossom[j] == b) {
+                j = endpoint[2 * k];
+            }
+            int bj = inBlossom[j];
+            if (bj != b && label[bj] == OUTER) {
+                int current = bestEdgeTo[bj];
+                if (current == -1) {
+                    touched[touchedSize++] = bj;
+                    bestEdgeTo[bj] = k;
+                } else if (slack(k) < slack(current)) {
+                    bestEdgeTo[bj] = k;
+                }
+            }
+        }
+
+        /**
+         * Expand the given top-level inner blossom whose dual has reached zero, and relabel its
+         * sub-blossoms.
+         */
+        private void expandBlossom(int b)
+        {
+            int[] childs = blossomChilds[b];
+            for (int leaf = firstLeaf[b];; leaf = nextLeaf[leaf]) {
+                setDualSign(leaf, 0);
+                if (leaf == lastLeaf[b]) {
+                    break;
+                }
+            }
+            for (int s : childs) {
+                blossomParent[s] = -1;
+                if (s < n) {
+                    inBlossom[s] = s;
+                } else {
+                    setInBlossom(s);
+                }
+            }
+
+            /*
+             * Relabel the sub-blossoms on the even-length path from the entry child to the base.
+             */
+            int[] endps = blossomEndpoints[b];
+            int entryChild = inBlossom[endpoint[labelEnd[b] ^ 1]];
+            int j = indexOf(childs, entryChild);
+            int jStep;
+            int endpTrick;
+            if ((j & 1) != 0) {
+                // start index is odd, go forward and wrap
+                j -= childs.length;
+                jStep = 1;
+                endpTrick = 0;
+            } else {
+                // start index is even, go backward
+                jStep = -1;
+                endpTrick = 1;
+            }
+            int p = labelEnd[b];
+            while (j != 0) {
+                label[endpoint[p ^ 1]] = FREE;
+                label[endpoint[at(endps, j - endpTrick) ^ endpTrick ^ 1]] = FREE;
+                assignLabel(endpoint[p ^ 1], INNER, p);
+                allowEdge[at(endps, j - endpTrick) / 2] = true;
+                j += jStep;
+                p = at(endps, j - endpTrick) ^ endpTrick;
+                allowEdge[p / 2] = true;
+                j += jStep;
+            }
+            // relabel the base sub-blossom as inner without propagating to its mate
+            int bv = at(childs, j);
+            label[endpoint[p ^ 1]] = label[bv] = INNER;
+            labelEnd[endpoint[p ^ 1]] = labelEnd[bv] = p;
+            bestEdge[bv] = -1;
+            for (int leaf = firstLeaf[bv];; leaf = nextLeaf[leaf]) {
+                setDualSign(leaf, 1);
+                if (leaf == lastLeaf[bv]) {
+                    break;
+                }
+            }
+            if (bv >= n) {
+                setDualSign(bv, -1);
+                innerHeap.insert(bv, dual[bv]);
+            }
+            j += jStep;
+            // sub-blossoms on the odd-length path may have been reached by outer vertices
+            while (at(childs, j) != entryChild) {
+                bv = at(childs, j);
+                if (label[bv] == OUTER) {
+                    j += jStep;
+                    continue;
+                }
+                int reached = -1;
+                for (int leaf = firstLeaf[bv];; leaf = nextLeaf[leaf]) {
+                    if (label[leaf] != FREE) {
+                        reached = leaf;
+                        break;
+                    }
+                    if (leaf == lastLeaf[bv]) {
+                        break;
+                    }
+                }
+                if (reached != -1) {
+                    label[reached] = FREE;
+                    label[endpoint[mate[blossomBase[bv]]]] = FREE;
+                    assignLabel(reached, INNER, labelEnd[reached]);
+                }
+                j += jStep;
+            }
+
+            releaseBlossom(b);
+
+            // the sub-blossoms which remain free leave the tree
+            for (int s : childs) {
+                if (label[s] != FREE) {
+                    continue;
+                }
+                for (int leaf = firstLeaf[s];; leaf = nextLeaf[leaf]) {
+                    removeFromTree(leaf);
+                    if (bestEdge[leaf] != -1) {
+                        freeHeap.insert(leaf, slack(bestEdge[leaf]) + deltaSum);
+                    }
+                    if (leaf == lastLeaf[s]) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Dissolve the two trees connected by an augmenting path. Their vertices become free, outer
+         * blossoms with zero dual are expanded and the remaining trees stay intact.
+         */
+        private void dissolveTrees(int root, int otherRoot)
+        {
+            int size = collectTree(root, 0);
+            size = collectTree(otherRoot, size);
+
+            for (int i = 0; i < size; i++) {
+                int b = inBlossom[dissolved[i]];
+                if (b >= n && label[b] != FREE) {
+                    boolean outer = label[b] == OUTER;
+                    setDualSign(b, 0);
+                    label[b] = FREE;
+                    labelEnd[b] = -1;
+                    bestEdge[b] = -1;
+                    blossomBestEdges[b] = null;
+                    outerHeap.remove(b);
+                    innerHeap.remove(b);
+                    if (outer && dual[b] <= epsilon) {
+                        expandZeroDualBlossom(b);
+                    }
+                }
+            }
+
+            for (int i = 0; i < size; i++) {
+                int v = dissolved[i];
+                setDualSign(v, 0);
+                label[v] = FREE;
+                labelEnd[v] = -1;
+                bestEdge[v] = -1;
+                outerHeap.remove(v);
+            }
+
+            /*
+             * Edges to the dissolved vertices are no longer known to be tight, vertices in inner
+             * blossoms of other trees which were reached through them are unmarked, and least-slack
+             * edges to them are recomputed.
+             */
+            int refreshSize = 0;
+            for (int i = 0; i < size; i++) {
+                int v = dissolved[i];
+                for (int j = neighborStart[v]; j < neighborStart[v + 1]; j++) {
+                    int p = neighborEndpoint[j];
+                    int k = p / 2;
+                    allowEdge[k] = false;
+                    int w = endpoint[p];
+                    int bw = inBlossom[w];
+                    if (label[bw] == OUTER) {
+                        if (bestEdge[bw] == k) {
+                            refreshOuterBlossom(bw);
+                        }
+                    } else if (bestEdge[w] == k) {
+                        bestEdge[w] = -1;
+                        refresh[refreshSize++] = w;
+                    } else if (treeOf[w] != -1 && label[w] == INNER && labelEnd[w] == (p ^ 1)) {
+                        label[w] = FREE;
+                        labelEnd[w] = -1;
+                        refresh[refreshSize++] = w;
+                    }
+                }
+            }
+
+            for (int i = 0; i < size; i++) {
+                refreshVertex(dissolved[i]);
+            }
+            for (int i = 0; i < refreshSize; i++) {
+                refreshVertex(refresh[i]);
+            }
+        }
+
+        /**
+         * Append the vertices of a tree to the dissolved vertices and remove them from the tree.
+         *
+         * @return the new number of dissolved vertices
+         */
+        private int collectTree(int root, int size)
+        {
+            for (int v = treeFirst[root]; v != -1; v = treeNext[v]) {
+                dissolved[size++] = v;
+                treeOf[v] = -1;
+            }
+            treeFirst[root] = -1;
+            return size;
+        }
+
+        /**
+         * Recompute the least-slack edge from a vertex which is not outer to the outer blossoms.
+         * A tight edge is used immediately to reach the vertex.
+         */
+        private void refreshVertex(int v)
+        {
+            int b = inBlossom[v];
+            if (label[b] == OUTER || label[b] == INNER && label[v] != FREE) {
+                return;
+            }
+            int best = -1;
+            double bestSlack = 0d;
+            for (int i = neighborStart[v]; i < neighborStart[v + 1]; i++) {
+                int p = neighborEndpoint[i];
+                int bu = inBlossom[endpoint[p]];
+                if (bu != b && label[bu] == OUTER) {
+                    double s = slack(p / 2);
+                    if (best == -1 || s < bestSlack) {
+                        best = p;
+                        bestSlack = s;
+                    }
+                }
+            }
+            freeHeap.remove(v);
+            bestEdge[v] = -1;
+            if (best == -1) {
+                return;
+            }
+            if (bestSlack <= epsilon) {
+                allowEdge[best / 2] = true;
+                if (label[b] == FREE) {
+                    assignLabel(v, INNER, best);
+                } else {
+                    label[v] = INNER;
+                    labelEnd[v] = best;
+                }
+                return;
+            }
+            bestEdge[v] = best / 2;
+            if (label[b] == FREE) {
+                freeHeap.insert(v, bestSlack + deltaSum);
+            }
+        }
+
+        /**
+         * Recompute the least-slack edge from a top-level outer blossom to the other outer
+         * blossoms.
+         */
+        private void refreshOuterBlossom(int b)
+        {
+            int best = -1;
+            double bestSlack = 0d;
+            for (int leaf = firstLeaf[b];; leaf = nextLeaf[leaf]) {
+                for (int i = neighborStart[leaf]; i < neighborStart[leaf + 1]; i++) {
+                    int p = neighborEndpoint[i];
+                    int bu = inBlossom[endpoint[p]];
+                    if (bu != b && label[bu] == OUTER) {
+                        double s = slack(p / 2);
+                        if (best == -1 || s < bestSlack) {
+                            best = p / 2;
+                            bestSlack = s;
+                        }
+                    }
+                }
+                if (leaf == lastLeaf[b]) {
+                    break;
+                }
+            }
+            bestEdge[b] = best;
+            outerHeap.remove(b);
+            if (best != -1) {
+                outerHeap.insert(b, bestSlack + 2d * deltaSum);
+            }
+        }
+
+        /**
+         * Expand the given top-level free blossom with zero dual, together with all its nested
+         * sub-blossoms which have zero dual.
+         */
+        private void expandZeroDualBlossom(int b)
+        {
+            int size = 0;
+            workList[size++] = b;
+            while (size > 0) {
+                int x = workList[--size];
+                for (int s : blossomChilds[x]) {
+                    blossomParent[s] = -1;
+                    if (s < n) {
+                        inBlossom[s] = s;
+                    } else if (dual[s] <= epsilon) {
+                        workList[size++] = s;
+                    } else {
+                        setInBlossom(s);
+                    }
+                }
+                releaseBlossom(x);
+            }
+        }
+
+        /**
+         * Make blossom b the top-level blossom of all its vertices.
+         */
+        private void setInBlossom(int b)
+        {
+            for (int leaf = firstLeaf[b];; leaf = nextLeaf[leaf]) {
+                inBlossom[leaf] = b;
+                if (leaf == lastLeaf[b]) {
+                    break;
+                }
+            }
+        }
+
+        private void releaseBlossom(int b)
+        {
+            label[b] = -1;
+            labelEnd[b] = -1;
+            blossomChilds[b] = null;
+            blossomEndpoints[b] = null;
+            blossomBase[b] = -1;
+            blossomBestEdges[b] = null;
+            bestEdge[b] = -1;
+            dualSign[b] = 0;
+            outerHeap.remove(b);
+            innerHeap.remove(b);
+            unusedBlossoms[unusedBlossomsSize++] = b;
+        }
+
+        /**
+         * Swap matched and unmatched edges along an alternating path through blossom b, between
+         * vertex v and the base of the blossom. The sub-blossoms on the path are processed
+         * independently of each other using a work list.
+         */
+        private void augmentBlossom(int b, int v)
+        {
+            int size = 0;
+            workList[size++] = b;
+            workList[size++] = v;
+            while (size > 0) {
+                v = workList[--size];
+                b = workList[--size];
+                int t = v;
+                while (blossomParent[t] != b) {
+                    t = blossomParent[t];
+                }
+                if (t >= n) {
+                    workList[size++] = t;
+                    workList[size++] = v;
+                }
+                int[] childs = blossomChilds[b];
+                int[] endps = blossomEndpoints[b];
+                int i = indexOf(childs, t);
+                int j = i;
+                int jStep;
+                int endpTrick;
+                if ((i & 1) != 0) {
+                    j -= childs.length;
+                    jStep = 1;
+                    endpTrick = 0;
+                } else {
+                    jStep = -1;
+                    endpTrick = 1;
+                }
+                while (j != 0) {
+                    j += jStep;
+                    t = at(childs, j);
+                    int p = at(endps, j - endpTrick) ^ endpTrick;
+                    if (t >= n) {
+                        workList[size++] = t;
+                        workList[size++] = endpoint[p];
+                    }
+                    j += jStep;
+                    t = at(childs, j);
+                    if (t >= n) {
+                        workList[size++] = t;
+                        workList[size++] = endpoint[p ^ 1];
+                    }
+                    mate[endpoint[p]] = p ^ 1;
+                    mate[endpoint[p ^ 1]] = p;
+                }
+                // rotate so that the child containing the new base is at the front
+                rotate(childs, i);
+                rotate(endps, i);
+                blossomBase[b] = v;
+            }
+        }
+
+        /**
+         * Swap matched and unmatched edges along the augmenting path through edge k.
+         */
+        private void augmentMatching(int k)
+        {
+            for (int side = 0; side < 2; side++) {
+                int s = endpoint[2 * k + side];
+                int p = 2 * k + 1 - side;
+                while (true) {
+                    int bs = inBlossom[s];
+                    if (bs >= n) {
+                        augmentBlossom(bs, s);
+                    }
+                    mate[s] = p;
+                    if (labelEnd[bs] == -1) {
+                        // reached the root
+                        break;
+                    }
+                    int t = endpoint[labelEnd[bs]];
+                    int bt = inBlossom[t];
+                    s = endpoint[labelEnd[bt]];
+                    int j = endpoint[labelEnd[bt] ^ 1];
+                    if (bt >= n) {
+                        augmentBlossom(bt, j);
+                    }
+                    mate[j] = labelEnd[bt];
+                    p = labelEnd[bt] ^ 1;
+                }
+            }
+        }
+
+        private static int at(int[] a, int i)
+        {
+            return i < 0 ? a[i + a.length] : a[i];
+        }
+
+        private static int indexOf(int[] a, int value)
+        {
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] == value) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Child not found in blossom");
+        }
+
+        /**
+         * Rotate the array in place so that position i becomes the first.
+         */
+        private static void rotate(int[] a, int i)
+        {
+            reverse(a, 0, i);
+            reverse(a, i, a.length);
+            reverse(a, 0, a.length);
+        }
+
+        private static void reverse(int[] a, int from, int to)
+        {
+            for (int i = from, j = to - 1; i < j; i++, j--) {
+                int tmp = a[i];
+                a[i] = a[j];
+                a[j] = tmp;
+            }
+        }
+    }
+
+}
+
+// End EdmondsMaximumWeightMatching.java
@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+/**
+ * Minimum weight perfect matching in general undirected graphs.
+ *
+ * <p>
+ * A matching is perfect if every vertex of the graph is incident to an edge of the matching. This
+ * algorithm computes a perfect matching of minimum total weight, using the primal-dual blossom
+ * algorithm of {@link EdmondsMaximumWeightMatching}. Every edge weight w is transformed into C - w,
+ * where C is larger than any edge weight, after which a maximum weight matching among all maximum
+ * cardinality matchings is computed. Since all perfect matchings have the same cardinality, such a
+ * matching is a minimum weight perfect matching of the original graph. Edge weights can be
+ * arbitrary and the running time is the same as the one of {@link EdmondsMaximumWeightMatching}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class EdmondsMinimumWeightPerfectMatching<V, E>
+    implements MatchingAlgorithm<V, E>
+{
+    private final Graph<V, E> graph;
+
+    /**
+     * Construct a new instance of the algorithm.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is not undirected
+     */
+    public EdmondsMinimumWeightPerfectMatching(Graph<V, E> graph)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+    }
+
+    /**
+     * Compute a minimum weight perfect matching.
+     *
+     * @return a minimum weight perfect matching
+     * @throws IllegalArgumentException if the graph does not contain a perfect matching
+     */
+    @Override
+    public Matching<V, E> getMatching()
+    {
+        double maxWeight = 0d;
+        for (E e : graph.edgeSet()) {
+            maxWeight = Math.max(maxWeight, Math.abs(graph.getEdgeWeight(e)));
+        }
+        final double shift = 2d * maxWeight + 1d;
+
+        Matching<V, E> matching = new EdmondsMaximumWeightMatching<>(
+            graph, true, e -> shift - graph.getEdgeWeight(e)).getMatching();
+
+        if (2 * matching.getEdges().size() != graph.vertexSet().size()) {
+            throw new IllegalArgumentException("Graph does not contain a perfect matching");
+        }
+        return matching;
+    }
+
+}
+
+// End EdmondsMinimumWeightPerfectMatching.java
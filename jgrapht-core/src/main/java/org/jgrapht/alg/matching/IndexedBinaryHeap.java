@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import java.util.*;
+
+/**
+ * A binary heap over integer elements 0..n-1 with double keys which supports decrease-key and
+ * removal of arbitrary elements. The heap is backed by arrays and does not allocate after
+ * construction.
+ *
+ * @author agent
+ * @since October 2026
+ */
+class IndexedBinaryHeap
+{
+    private final int[] elements;
+    private final double[] keys;
+    private final int[] position;
+    private int size;
+
+    /**
+     * Create a new empty heap.
+     *
+     * @param capacity the number of possible elements
+     */
+    IndexedBinaryHeap(int capacity)
+    {
+        this.elements = new int[capacity];
+        this.keys = new double[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    boolean contains(int element)
+    {
+        return position[element] != -1;
+    }
+
+    void insert(int element, double key)
+    {
+        elements[size] = element;
+        keys[element] = key;
+        position[element] = size;
+        siftUp(size++);
+    }
+
+    void decreaseKey(int element, double key)
+    {
+        keys[element] = key;
+        siftUp(position[element]);
+    }
+
+    /**
+     * Insert an element, or change its key if it is already contained in the heap.
+     *
+     * @param element the element
+     * @param key the new key
+     */
+    void update(int element, double key)
+    {
+        int i = position[element];
+        if (i == -1) {
+            insert(element, key);
+        } else {
+            keys[element] = key;
+            siftUp(i);
+            siftDown(position[element]);
+        }
+    }
+
+    /**
+     * Get an element with minimum key. The heap must not be empty.
+     *
+     * @return an element with minimum key
+     */
+    int min()
+    {
+        return elements[0];
+    }
+
+    /**
+     * Get the minimum key. The heap must not be empty.
+     *
+     * @return the minimum key
+     */
+    double minKey()
+    {
+        return keys[elements[0]];
+    }
+
+    int deleteMin()
+    {
+        int min = elements[0];
+        remove(min);
+        return min;
+    }
+
+    /**
+     * Remove an element if it is contained in the heap.
+     *
+     * @param element the element
+     */
+    void remove(int element)
+    {
+        int i = position[element];
+        if (i == -1) {
+            return;
+        }
+        position[element] = -1;
+        size--;
+        if (i < size) {
+            int last = elements[size];
+            elements[i] = last;
+            position[last] = i;
+            siftUp(i);
+            siftDown(position[last]);
+        }
+    }
+
+    void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[elements[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i)
+    {
+        int element = elements[i];
+        double key = keys[element];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[elements[parent]] <= key) {
+                break;
+            }
+            elements[i] = elements[parent];
+            position[elements[i]] = i;
+            i = parent;
+        }
+        elements[i] = element;
+        position[element] = i;
+    }
+
+    private void siftDown(int i)
+    {
+        int element = elements[i];
+        double key = keys[element];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[elements[child + 1]] < keys[elements[child]]) {
+                child++;
+            }
+            if (keys[elements[child]] >= key) {
+                break;
+            }
+            elements[i] = elements[child];
+            position[elements[i]] = i;
+            i = child;
+        }
+        elements[i] = element;
+        position[element] = i;
+    }
+}
+
+// End IndexedBinaryHeap.java
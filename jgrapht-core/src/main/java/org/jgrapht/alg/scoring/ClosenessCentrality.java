@@ -52,7 +52,9 @@ import org.jgrapht.graph.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either $O(n (m
  * +n \log n))$ or $O(n^3)$ respectively, where $n$ is the number of vertices and $m$ the number of
- * edges of the graph.
+ * edges of the graph. If the graph is unweighted, a {@link BFSShortestPath} is used instead, and
+ * the distances are read directly from its breadth-first search trees in $O(n(n+m))$ time. All
+ * three choices are made by {@link #getShortestPathAlgorithm()}, which subclasses may override.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -135,7 +137,9 @@ public class ClosenessCentrality<V, E>
     }
 
     /**
-     * Get the shortest path algorithm for the paths computation.
+     * Get the shortest path algorithm for the paths computation. The default is a
+     * {@link BFSShortestPath} for unweighted graphs, and Dijkstra's algorithm or Floyd-Warshall for
+     * weighted graphs.
      * 
      * @return the shortest path algorithm
      */
@@ -149,6 +153,10 @@ public class ClosenessCentrality<V, E>
             g = graph;
         }
 
+        if (!g.getType().isWeighted()) {
+            return new BFSShortestPath<>(g);
+        }
+
         // test if we can use Dijkstra
         boolean noNegativeWeights = true;
         for (E e : g.edgeSet()) {
@@ -176,12 +184,27 @@ public class ClosenessCentrality<V, E>
     {
         // create result container
         this.scores = new HashMap<>();
+        int n = graph.vertexSet().size();
 
         // initialize shortest path algorithm
         ShortestPathAlgorithm<V, E> alg = getShortestPathAlgorithm();
 
+        if (alg instanceof BFSShortestPath) {
+            DirectionOptimizingBFS<V, E> bfs = ((BFSShortestPath<V, E>) alg).getSearch();
+            for (V v : graph.vertexSet()) {
+                DirectionOptimizingBFS.SearchTree tree = bfs.search(v);
+                double sum =
+                    tree.getReachedCount() == n ? tree.getLevelSum() : Double.POSITIVE_INFINITY;
+                if (normalize) {
+                    this.scores.put(v, (n - 1) / sum);
+                } else {
+                    this.scores.put(v, 1 / sum);
+                }
+            }
+            return;
+        }
+
         // compute shortest paths
-        int n = graph.vertexSet().size();
         for (V v : graph.vertexSet()) {
             double sum = 0d;
 
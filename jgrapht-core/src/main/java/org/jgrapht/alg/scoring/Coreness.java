@@ -17,10 +17,10 @@
  */
 package org.jgrapht.alg.scoring;
 
-import java.lang.reflect.*;
 import java.util.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.*;
 import org.jgrapht.alg.interfaces.*;
 
 /**
@@ -45,7 +45,7 @@ import org.jgrapht.alg.interfaces.*;
  * </ul>
  * it is possible to find a vertex ordering of a finite graph G that optimizes the coloring number
  * of the ordering, in linear time, by using a bucket queue to repeatedly find and remove the vertex
- * of smallest degree.
+ * of smallest degree. The computation is delegated to {@link CoreDecomposition}.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -109,7 +109,6 @@ public final class Coreness<V, E>
         return degeneracy;
     }
 
-    @SuppressWarnings("unchecked")
     private void lazyRun()
     {
         if (scores != null) {
@@ -120,56 +119,14 @@ public final class Coreness<V, E>
             throw new IllegalArgumentException("Graph must be simple");
         }
 
+        CoreDecomposition<V, E> decomposition = new CoreDecomposition<>(g);
+        List<V> vertices = decomposition.getVertices();
+        int[] core = decomposition.getCoreness();
         scores = new HashMap<>();
-        degeneracy = 0;
-
-        /*
-         * Initialize buckets
-         */
-        int n = g.vertexSet().size();
-        int maxDegree = n - 1;
-        Set<V>[] buckets = (Set<V>[]) Array.newInstance(Set.class, maxDegree + 1);
-        for (int i = 0; i < buckets.length; i++) {
-            buckets[i] = new HashSet<>();
-        }
-
-        int minDegree = n;
-        Map<V, Integer> degrees = new HashMap<>();
-        for (V v : g.vertexSet()) {
-            int d = g.degreeOf(v);
-            buckets[d].add(v);
-            degrees.put(v, d);
-            minDegree = Math.min(minDegree, d);
-        }
-
-        /*
-         * Extract from buckets
-         */
-        while (minDegree < n) {
-            Set<V> b = buckets[minDegree];
-            if (b.isEmpty()) {
-                minDegree++;
-                continue;
-            }
-
-            V v = b.iterator().next();
-            b.remove(v);
-            scores.put(v, minDegree);
-            degeneracy = Math.max(degeneracy, minDegree);
-
-            for (E e : g.edgesOf(v)) {
-                V u = Graphs.getOppositeVertex(g, e, v);
-                int uDegree = degrees.get(u);
-                if (uDegree > minDegree && !scores.containsKey(u)) {
-                    buckets[uDegree].remove(u);
-                    uDegree--;
-                    degrees.put(u, uDegree);
-                    buckets[uDegree].add(u);
-                    minDegree = Math.min(minDegree, uDegree);
-                }
-            }
+        for (int v = 0; v < core.length; v++) {
+            scores.put(vertices.get(v), core[v]);
         }
-
+        degeneracy = decomposition.getDegeneracy();
     }
 
 }
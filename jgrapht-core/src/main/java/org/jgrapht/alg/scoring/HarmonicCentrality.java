@@ -22,6 +22,7 @@ import java.util.*;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
 
 /**
  * Harmonic centrality.
@@ -49,7 +50,8 @@ import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either O(n (m +
  * n logn)) or O(n^3) respectively, where n is the number of vertices and m the number of edges of
- * the graph.
+ * the graph. If the graph is unweighted, a {@link BFSShortestPath} is used instead, in O(n(n+m))
+ * time.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -89,12 +91,30 @@ public final class HarmonicCentrality<V, E>
     {
         // create result container
         this.scores = new HashMap<>();
+        int n = graph.vertexSet().size();
 
         // initialize shortest path algorithm
         ShortestPathAlgorithm<V, E> alg = getShortestPathAlgorithm();
 
+        if (alg instanceof BFSShortestPath) {
+            DirectionOptimizingBFS<V, E> bfs = ((BFSShortestPath<V, E>) alg).getSearch();
+            for (V v : graph.vertexSet()) {
+                double sum = 0d;
+
+                // unreachable vertices have level -1 and contribute nothing
+                DirectionOptimizingBFS.SearchTree tree = bfs.search(v);
+                for (int u = 0; u < n; u++) {
+                    int level = tree.getLevel(u);
+                    if (level > 0) {
+                        sum += 1.0 / level;
+                    }
+                }
+                putScore(v, sum, n);
+            }
+            return;
+        }
+
         // compute shortest paths
-        int n = graph.vertexSet().size();
         for (V v : graph.vertexSet()) {
             double sum = 0d;
 
@@ -105,11 +125,16 @@ public final class HarmonicCentrality<V, E>
                 }
             }
 
-            if (normalize && n > 1) {
-                this.scores.put(v, sum / (n - 1));
-            } else {
-                this.scores.put(v, sum);
-            }
+            putScore(v, sum, n);
+        }
+    }
+
+    private void putScore(V v, double sum, int n)
+    {
+        if (normalize && n > 1) {
+            this.scores.put(v, sum / (n - 1));
+        } else {
+            this.scores.put(v, sum);
         }
     }
 
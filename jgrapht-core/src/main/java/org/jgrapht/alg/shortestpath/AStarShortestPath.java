@@ -32,13 +32,16 @@ import org.jgrapht.util.*;
  * algorithm</a>. This class works for directed and undirected graphs, as well as multi-graphs and
  * mixed-graphs. The graph can also change between invocations of the
  * {@link #getPath(Object, Object)} method; no new instance of this class has to be created. The
- * heuristic is implemented using a FibonacciHeap data structure to maintain the set of open nodes.
+ * heuristic is implemented using an {@link AddressableHeap} to maintain the set of open nodes. By
+ * default a {@link DaryHeap} is used, but any other heap can be provided using a factory. The
+ * expanded nodes, the relaxed edges and the heap operations of each query are reported to the
+ * {@link #setMetrics(AlgorithmMetrics) metrics} of the algorithm.
  * However, there still exist several approaches in literature to improve the performance of this
  * heuristic which one could consider to implement. Another issue to take into consideration is the
  * following: given two candidate nodes, i, j to expand, where f(i)=f(j), g(i)&gt;g(j),
  * h(i)&lt;g(j), f(i)=g(i)+h(i), g(i) is the actual distance from the source node to i, h(i) is the
  * estimated distance from i to the target node. Usually a depth-first search is desired, so ideally
- * we would expand node i first. Using the FibonacciHeap, this is not necessarily the case though.
+ * we would expand node i first. Using the heap, this is not necessarily the case though.
  * This could be improved in a later version.
  * 
  * <p>
@@ -61,8 +64,8 @@ public class AStarShortestPath<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
     // List of open nodes
-    protected FibonacciHeap<V> openList;
-    protected Map<V, FibonacciHeapNode<V>> vertexToHeapNodeMap;
+    protected AddressableHeap<V> openList;
+    protected Map<V, AddressableHeap.Handle<V>> vertexToHeapNodeMap;
 
     // List of closed nodes
     protected Set<V> closedList;
@@ -80,9 +83,16 @@ public class AStarShortestPath<V, E>
     // Counter which keeps track of the number of expanded nodes
     protected int numberOfExpandedNodes;
 
+    // Counters of the relaxed edges and heap operations
+    private long numberOfRelaxedEdges;
+    private long numberOfHeapOperations;
+
     // Comparator for comparing doubles with tolerance
     protected Comparator<Double> comparator;
 
+    // Factory of the heap which stores the open nodes
+    private final AddressableHeap.Factory heapFactory;
+
     /**
      * Create a new instance of the A* shortest path algorithm.
      * 
@@ -91,11 +101,28 @@ public class AStarShortestPath<V, E>
      *        the target node. The heuristic must never overestimate the distance.
      */
     public AStarShortestPath(Graph<V, E> graph, AStarAdmissibleHeuristic<V> admissibleHeuristic)
+    {
+        this(graph, admissibleHeuristic, DaryHeap::new);
+    }
+
+    /**
+     * Create a new instance of the A* shortest path algorithm which uses a particular heap
+     * implementation for the open nodes.
+     * 
+     * @param graph the input graph
+     * @param admissibleHeuristic admissible heuristic which estimates the distance from a node to
+     *        the target node. The heuristic must never overestimate the distance.
+     * @param heapFactory factory of the heap used for the open nodes
+     */
+    public AStarShortestPath(
+        Graph<V, E> graph, AStarAdmissibleHeuristic<V> admissibleHeuristic,
+        AddressableHeap.Factory heapFactory)
     {
         super(graph);
         this.admissibleHeuristic =
             Objects.requireNonNull(admissibleHeuristic, "Heuristic function cannot be null!");
         this.comparator = new ToleranceDoubleComparator();
+        this.heapFactory = Objects.requireNonNull(heapFactory, "Heap factory cannot be null");
     }
 
     /**
@@ -106,12 +133,14 @@ public class AStarShortestPath<V, E>
     private void initialize(AStarAdmissibleHeuristic<V> admissibleHeuristic)
     {
         this.admissibleHeuristic = admissibleHeuristic;
-        openList = new FibonacciHeap<>();
+        openList = heapFactory.create();
         vertexToHeapNodeMap = new HashMap<>();
         closedList = new HashSet<>();
         gScoreMap = new HashMap<>();
         cameFrom = new HashMap<>();
         numberOfExpandedNodes = 0;
+        numberOfRelaxedEdges = 0;
+        numberOfHeapOperations = 0;
     }
 
     /**
@@ -136,15 +165,16 @@ public class AStarShortestPath<V, E>
 
         this.initialize(admissibleHeuristic);
         gScoreMap.put(sourceVertex, 0.0);
-        FibonacciHeapNode<V> heapNode = new FibonacciHeapNode<>(sourceVertex);
-        openList.insert(heapNode, 0.0);
-        vertexToHeapNodeMap.put(sourceVertex, heapNode);
+        vertexToHeapNodeMap.put(sourceVertex, openList.insert(sourceVertex, 0.0));
+        numberOfHeapOperations++;
 
         do {
-            FibonacciHeapNode<V> currentNode = openList.removeMin();
+            AddressableHeap.Handle<V> currentNode = openList.deleteMin();
+            numberOfHeapOperations++;
 
             // Check whether we reached the target vertex
             if (currentNode.getData().equals(targetVertex)) {
+                recordMetrics();
                 // Build the path
                 return this.buildGraphPath(sourceVertex, targetVertex, currentNode.getKey());
             }
@@ -154,6 +184,7 @@ public class AStarShortestPath<V, E>
             closedList.add(currentNode.getData());
         } while (!openList.isEmpty());
 
+        recordMetrics();
         // No path exists from sourceVertex to TargetVertex
         return createEmptyPath(sourceVertex, targetVertex);
     }
@@ -199,7 +230,7 @@ public class AStarShortestPath<V, E>
         return true;
     }
 
-    private void expandNode(FibonacciHeapNode<V> currentNode, V endVertex)
+    private void expandNode(AddressableHeap.Handle<V> currentNode, V endVertex)
     {
         numberOfExpandedNodes++;
 
@@ -212,6 +243,7 @@ public class AStarShortestPath<V, E>
                 continue;
             }
 
+            numberOfRelaxedEdges++;
             double gScore_current = gScoreMap.get(currentNode.getData());
             double tentativeGScore = gScore_current + graph.getEdgeWeight(edge);
             double fScore =
@@ -230,20 +262,29 @@ public class AStarShortestPath<V, E>
                                                       // open list, since we discovered a shorter
                                                       // path to this node
                     closedList.remove(successor);
-                    openList.insert(vertexToHeapNodeMap.get(successor), fScore);
+                    vertexToHeapNodeMap.put(successor, openList.insert(successor, fScore));
                 } else { // It's in the open list
                     openList.decreaseKey(vertexToHeapNodeMap.get(successor), fScore);
                 }
+                numberOfHeapOperations++;
             } else { // We've encountered a new vertex.
                 cameFrom.put(successor, edge);
                 gScoreMap.put(successor, tentativeGScore);
-                FibonacciHeapNode<V> heapNode = new FibonacciHeapNode<>(successor);
-                openList.insert(heapNode, fScore);
-                vertexToHeapNodeMap.put(successor, heapNode);
+                vertexToHeapNodeMap.put(successor, openList.insert(successor, fScore));
+                numberOfHeapOperations++;
             }
         }
     }
 
+    private void recordMetrics()
+    {
+        metrics.record(
+            getClass(), AlgorithmMetrics.Counter.VERTICES_SETTLED, numberOfExpandedNodes);
+        metrics.record(getClass(), AlgorithmMetrics.Counter.EDGES_RELAXED, numberOfRelaxedEdges);
+        metrics.record(
+            getClass(), AlgorithmMetrics.Counter.HEAP_OPERATIONS, numberOfHeapOperations);
+    }
+
     /**
      * Builds the graph path
      *
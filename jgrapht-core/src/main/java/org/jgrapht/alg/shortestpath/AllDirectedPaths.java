@@ -20,6 +20,7 @@ package org.jgrapht.alg.shortestpath;
 import java.util.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 
 /**
@@ -33,6 +34,7 @@ import org.jgrapht.graph.*;
  * @since Feb, 2016
  */
 public class AllDirectedPaths<V, E>
+    extends BaseCancellableAlgorithm
 {
     private final Graph<V, E> graph;
 
@@ -200,6 +202,7 @@ public class AllDirectedPaths<V, E>
          */
         List<GraphPath<V, E>> completePaths = new ArrayList<>();
         Deque<List<E>> incompletePaths = new LinkedList<>();
+        CancellationToken.Checker cancellationChecker = newCancellationChecker();
 
         // Input sanity checking
         if (maxPathLength != null) {
@@ -233,6 +236,8 @@ public class AllDirectedPaths<V, E>
 
         // Walk through the queue of incomplete paths
         for (List<E> incompletePath; (incompletePath = incompletePaths.poll()) != null;) {
+            cancellationChecker.checkCancelled();
+
             Integer lengthSoFar = incompletePath.size();
             assert (maxPathLength == null) || (lengthSoFar < maxPathLength);
 
@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * Shortest paths in unweighted graphs using a {@link DirectionOptimizingBFS}.
+ *
+ * <p>
+ * The graph must be unweighted, so that the weight of a path is its number of edges. Each query
+ * runs a breadth-first search in O(n+m) time. The graph is translated into arrays when the
+ * algorithm is constructed and must not be modified afterwards.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public final class BFSShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    private final DirectionOptimizingBFS<V, E> search;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph is weighted
+     */
+    public BFSShortestPath(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param pool the pool used to expand the levels of the searches in parallel, or null to
+     *        search sequentially
+     * @throws IllegalArgumentException if the graph is weighted
+     */
+    public BFSShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        super(graph);
+        if (graph.getType().isWeighted()) {
+            throw new IllegalArgumentException("Graph must be unweighted");
+        }
+        this.search = new DirectionOptimizingBFS<>(graph, pool);
+    }
+
+    /**
+     * Get the breadth-first search used by the algorithm.
+     *
+     * @return the breadth-first search
+     */
+    public DirectionOptimizingBFS<V, E> getSearch()
+    {
+        return search;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        DirectionOptimizingBFS.SearchTree tree = search.search(source);
+        List<V> vertices = search.getVertices();
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < vertices.size(); v++) {
+            int level = tree.getLevel(v);
+            if (level < 0) {
+                continue;
+            }
+            int parent = tree.getParent(v);
+            E e = parent < 0 ? null : graph.getEdge(vertices.get(parent), vertices.get(v));
+            distanceAndPredecessorMap.put(vertices.get(v), Pair.of((double) level, e));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+}
+
+// End BFSShortestPath.java
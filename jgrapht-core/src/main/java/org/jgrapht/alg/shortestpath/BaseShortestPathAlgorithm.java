@@ -21,6 +21,7 @@ import java.util.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 
 /**
@@ -54,6 +55,11 @@ abstract class BaseShortestPathAlgorithm<V, E>
      */
     protected final Graph<V, E> graph;
 
+    /**
+     * The metrics which receive the work counters of each query.
+     */
+    protected AlgorithmMetrics metrics;
+
     /**
      * Constructs a new instance of the algorithm for a given graph.
      * 
@@ -62,6 +68,28 @@ abstract class BaseShortestPathAlgorithm<V, E>
     public BaseShortestPathAlgorithm(Graph<V, E> graph)
     {
         this.graph = Objects.requireNonNull(graph, "Graph is null");
+        this.metrics = AlgorithmMetrics.NONE;
+    }
+
+    /**
+     * Get the metrics which receive the work counters of each query.
+     *
+     * @return the metrics
+     */
+    public AlgorithmMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * Set the metrics which receive the work counters of each query. Algorithms which do not
+     * support metrics ignore them.
+     *
+     * @param metrics the metrics, or {@link AlgorithmMetrics#NONE} to disable reporting
+     */
+    public void setMetrics(AlgorithmMetrics metrics)
+    {
+        this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
     }
 
     /**
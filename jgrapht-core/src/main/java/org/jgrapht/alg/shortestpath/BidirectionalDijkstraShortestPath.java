@@ -20,6 +20,8 @@ package org.jgrapht.alg.shortestpath;
 import java.util.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.DijkstraClosestFirstIterator.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
@@ -32,6 +34,12 @@ import org.jgrapht.util.*;
  * technique does not change the worst-case behavior of the algorithm but reduces, in some cases,
  * the number of visited vertices in practice. This implementation alternatively constructs forward
  * and reverse paths from the source and target vertices respectively.
+ *
+ * <p>
+ * Both searches use a {@link DaryHeap} as a priority queue by default. A different
+ * {@link AddressableHeap} can be used by providing a factory. The vertices settled, the edges
+ * relaxed and the heap operations of each query are reported to the
+ * {@link #setMetrics(AlgorithmMetrics) metrics} of the algorithm.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -45,6 +53,7 @@ public final class BidirectionalDijkstraShortestPath<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
     private double radius;
+    private final AddressableHeap.Factory heapFactory;
 
     /**
      * Constructs a new instance for a specified graph.
@@ -63,12 +72,26 @@ public final class BidirectionalDijkstraShortestPath<V, E>
      * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public BidirectionalDijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, DaryHeap::new);
+    }
+
+    /**
+     * Constructs a new instance for a specified graph which uses a particular heap implementation.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapFactory factory of the heaps used as priority queues
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius, AddressableHeap.Factory heapFactory)
     {
         super(graph);
         if (radius < 0.0) {
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
+        this.heapFactory = Objects.requireNonNull(heapFactory, "Heap factory cannot be null");
     }
 
     @Override
@@ -108,18 +131,24 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         SearchFrontier frontier = forwardFrontier;
         SearchFrontier otherFrontier = backwardFrontier;
 
+        // work counters
+        long verticesSettled = 0;
+        long edgesRelaxed = 0;
+
         while (true) {
             // stopping condition
             if (frontier.heap.isEmpty() || otherFrontier.heap.isEmpty()
-                || frontier.heap.min().getKey() + otherFrontier.heap.min().getKey() >= bestPath)
+                || frontier.heap.findMin().getKey()
+                    + otherFrontier.heap.findMin().getKey() >= bestPath)
             {
                 break;
             }
 
             // frontier scan
-            FibonacciHeapNode<QueueEntry> node = frontier.heap.removeMin();
-            V v = node.getData().v;
+            AddressableHeap.Handle<QueueEntry<V, E>> node = frontier.heap.deleteMin();
+            V v = node.getData().vertex;
             double vDistance = node.getKey();
+            verticesSettled++;
 
             for (E e : frontier.graph.outgoingEdgesOf(v)) {
                 V u = Graphs.getOppositeVertex(frontier.graph, e, v);
@@ -127,6 +156,7 @@ public final class BidirectionalDijkstraShortestPath<V, E>
                 double eWeight = frontier.graph.getEdgeWeight(e);
 
                 frontier.updateDistance(u, e, vDistance + eWeight);
+                edgesRelaxed++;
 
                 // check path with u's distance from the other frontier
                 double pathDistance = vDistance + eWeight + otherFrontier.getDistance(u);
@@ -145,6 +175,12 @@ public final class BidirectionalDijkstraShortestPath<V, E>
 
         }
 
+        metrics.record(getClass(), AlgorithmMetrics.Counter.VERTICES_SETTLED, verticesSettled);
+        metrics.record(getClass(), AlgorithmMetrics.Counter.EDGES_RELAXED, edgesRelaxed);
+        metrics.record(
+            getClass(), AlgorithmMetrics.Counter.HEAP_OPERATIONS,
+            forwardFrontier.heapOperations + backwardFrontier.heapOperations + verticesSettled);
+
         // create path if found
         if (Double.isFinite(bestPath) && bestPath <= radius) {
             return createPath(
@@ -220,34 +256,37 @@ public final class BidirectionalDijkstraShortestPath<V, E>
     {
         final Graph<V, E> graph;
 
-        final FibonacciHeap<QueueEntry> heap;
-        final Map<V, FibonacciHeapNode<QueueEntry>> seen;
+        final AddressableHeap<QueueEntry<V, E>> heap;
+        final Map<V, AddressableHeap.Handle<QueueEntry<V, E>>> seen;
+
+        // number of insert and decrease-key operations
+        long heapOperations;
 
         public SearchFrontier(Graph<V, E> graph)
         {
             this.graph = graph;
-            this.heap = new FibonacciHeap<>();
+            this.heap = heapFactory.create();
             this.seen = new HashMap<>();
         }
 
         public void updateDistance(V v, E e, double distance)
         {
-            FibonacciHeapNode<QueueEntry> node = seen.get(v);
+            AddressableHeap.Handle<QueueEntry<V, E>> node = seen.get(v);
             if (node == null) {
-                node = new FibonacciHeapNode<>(new QueueEntry(e, v));
-                heap.insert(node, distance);
-                seen.put(v, node);
+                seen.put(v, heap.insert(new QueueEntry<>(v, e), distance));
+                heapOperations++;
             } else {
                 if (distance < node.getKey()) {
                     heap.decreaseKey(node, distance);
-                    node.getData().e = e;
+                    heapOperations++;
+                    node.getData().edge = e;
                 }
             }
         }
 
         public double getDistance(V v)
         {
-            FibonacciHeapNode<QueueEntry> node = seen.get(v);
+            AddressableHeap.Handle<QueueEntry<V, E>> node = seen.get(v);
             if (node == null) {
                 return Double.POSITIVE_INFINITY;
             } else {
@@ -257,28 +296,16 @@ public final class BidirectionalDijkstraShortestPath<V, E>
 
         public E getTreeEdge(V v)
         {
-            FibonacciHeapNode<QueueEntry> node = seen.get(v);
+            AddressableHeap.Handle<QueueEntry<V, E>> node = seen.get(v);
             if (node == null) {
                 return null;
             } else {
-                return node.getData().e;
+                return node.getData().edge;
             }
         }
 
     }
 
-    class QueueEntry
-    {
-        E e;
-        V v;
-
-        public QueueEntry(E e, V v)
-        {
-            this.e = e;
-            this.v = v;
-        }
-    }
-
 }
 
 // End BidirectionalDijkstraShortestPath.java
@@ -40,6 +40,10 @@ import org.jgrapht.util.*;
  * implementation is must faster since it does not support graph traversal listeners nor
  * disconnected components.
  *
+ * <p>
+ * The priority queue used by the iterator can be chosen by providing a factory of
+ * {@link AddressableHeap} instances. By default a {@link DaryHeap} is used.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -52,8 +56,13 @@ class DijkstraClosestFirstIterator<V, E>
     private final Graph<V, E> graph;
     private final V source;
     private final double radius;
-    private final FibonacciHeap<QueueEntry> heap;
-    private final Map<V, FibonacciHeapNode<QueueEntry>> seen;
+    private final AddressableHeap<QueueEntry<V, E>> heap;
+    private final Map<V, AddressableHeap.Handle<QueueEntry<V, E>>> seen;
+
+    // work counters
+    private long verticesSettled;
+    private long edgesRelaxed;
+    private long heapOperations;
 
     /**
      * Creates a new iterator for the specified graph. Iteration will start at the specified start
@@ -78,6 +87,22 @@ class DijkstraClosestFirstIterator<V, E>
      * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public DijkstraClosestFirstIterator(Graph<V, E> graph, V source, double radius)
+    {
+        this(graph, source, radius, DaryHeap::new);
+    }
+
+    /**
+     * Creates a new radius-bounded iterator for the specified graph which uses a particular heap
+     * implementation.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapFactory factory of the heap used as a priority queue
+     */
+    public DijkstraClosestFirstIterator(
+        Graph<V, E> graph, V source, double radius,
+        AddressableHeap.Factory heapFactory)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         this.source = Objects.requireNonNull(source, "Sourve vertex cannot be null");
@@ -85,7 +110,7 @@ class DijkstraClosestFirstIterator<V, E>
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
-        this.heap = new FibonacciHeap<>();
+        this.heap = Objects.requireNonNull(heapFactory, "Heap factory cannot be null").create();
         this.seen = new HashMap<>();
 
         // initialize with source vertex
@@ -101,7 +126,7 @@ class DijkstraClosestFirstIterator<V, E>
         if (heap.isEmpty()) {
             return false;
         }
-        FibonacciHeapNode<QueueEntry> vNode = heap.min();
+        AddressableHeap.Handle<QueueEntry<V, E>> vNode = heap.findMin();
         double vDistance = vNode.getKey();
         if (radius < vDistance) {
             heap.clear();
@@ -121,9 +146,11 @@ class DijkstraClosestFirstIterator<V, E>
         }
 
         // settle next node
-        FibonacciHeapNode<QueueEntry> vNode = heap.removeMin();
-        V v = vNode.getData().v;
+        AddressableHeap.Handle<QueueEntry<V, E>> vNode = heap.deleteMin();
+        V v = vNode.getData().vertex;
         double vDistance = vNode.getKey();
+        verticesSettled++;
+        heapOperations++;
 
         // relax edges
         for (E e : graph.outgoingEdgesOf(v)) {
@@ -133,6 +160,7 @@ class DijkstraClosestFirstIterator<V, E>
                 throw new IllegalArgumentException("Negative edge weight not allowed");
             }
             updateDistance(u, e, vDistance + eWeight);
+            edgesRelaxed++;
         }
 
         return v;
@@ -168,42 +196,69 @@ class DijkstraClosestFirstIterator<V, E>
     {
         Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
 
-        for (FibonacciHeapNode<QueueEntry> vNode : seen.values()) {
+        for (AddressableHeap.Handle<QueueEntry<V, E>> vNode : seen.values()) {
             double vDistance = vNode.getKey();
             if (radius < vDistance) {
                 continue;
             }
-            V v = vNode.getData().v;
-            distanceAndPredecessorMap.put(v, Pair.of(vDistance, vNode.getData().e));
+            QueueEntry<V, E> entry = vNode.getData();
+            distanceAndPredecessorMap.put(entry.vertex, Pair.of(vDistance, entry.edge));
         }
 
         return distanceAndPredecessorMap;
     }
 
+    /**
+     * Report the work performed by this iterator so far.
+     *
+     * @param metrics the metrics to report to
+     * @param algorithm the algorithm on behalf of which the iterator was used
+     */
+    void recordMetrics(AlgorithmMetrics metrics, Class<?> algorithm)
+    {
+        metrics.record(algorithm, AlgorithmMetrics.Counter.VERTICES_SETTLED, verticesSettled);
+        metrics.record(algorithm, AlgorithmMetrics.Counter.EDGES_RELAXED, edgesRelaxed);
+        metrics.record(algorithm, AlgorithmMetrics.Counter.HEAP_OPERATIONS, heapOperations);
+    }
+
     private void updateDistance(V v, E e, double distance)
     {
-        FibonacciHeapNode<QueueEntry> node = seen.get(v);
+        AddressableHeap.Handle<QueueEntry<V, E>> node = seen.get(v);
         if (node == null) {
-            node = new FibonacciHeapNode<>(new QueueEntry(e, v));
-            heap.insert(node, distance);
-            seen.put(v, node);
+            seen.put(v, heap.insert(new QueueEntry<>(v, e), distance));
+            heapOperations++;
         } else {
             if (distance < node.getKey()) {
                 heap.decreaseKey(node, distance);
-                node.getData().e = e;
+                heapOperations++;
+                node.getData().edge = e;
             }
         }
     }
 
-    class QueueEntry
+    /**
+     * Data associated with each entry in the priority queue. The edge is updated in place when
+     * the distance of the vertex decreases.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    static class QueueEntry<V, E>
     {
-        E e;
-        V v;
+        /**
+         * The vertex reached.
+         */
+        final V vertex;
+
+        /**
+         * Last edge of the best path to the vertex seen so far.
+         */
+        E edge;
 
-        public QueueEntry(E e, V v)
+        QueueEntry(V vertex, E edge)
         {
-            this.e = e;
-            this.v = v;
+            this.vertex = vertex;
+            this.edge = edge;
         }
     }
 }
@@ -17,11 +17,24 @@
  */
 package org.jgrapht.alg.shortestpath;
 
+import java.util.*;
+
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 
 /**
  * An implementation of <a href="http://mathworld.wolfram.com/DijkstrasAlgorithm.html">Dijkstra's
- * shortest path algorithm</a> using a Fibonacci heap.
+ * shortest path algorithm</a> using an addressable heap.
+ *
+ * <p>
+ * By default the priority queue is a {@link DaryHeap}. Any other {@link AddressableHeap} can be
+ * used by providing a factory, for example {@code PairingHeap::new} or, when all edge weights
+ * are non-negative integers, {@code RadixHeap::new}.
+ *
+ * <p>
+ * The algorithm reports the vertices settled, the edges relaxed and the heap operations of each
+ * query to its {@link #setMetrics(AlgorithmMetrics) metrics}.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -32,6 +45,7 @@ public final class DijkstraShortestPath<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
     private final double radius;
+    private final AddressableHeap.Factory heapFactory;
 
     /**
      * Constructs a new instance of the algorithm for a given graph.
@@ -50,12 +64,27 @@ public final class DijkstraShortestPath<V, E>
      * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public DijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, DaryHeap::new);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph which uses a particular heap
+     * implementation.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapFactory factory of the heap used as a priority queue
+     */
+    public DijkstraShortestPath(
+        Graph<V, E> graph, double radius, AddressableHeap.Factory heapFactory)
     {
         super(graph);
         if (radius < 0.0) {
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
+        this.heapFactory = Objects.requireNonNull(heapFactory, "Heap factory cannot be null");
     }
 
     /**
@@ -75,7 +104,7 @@ public final class DijkstraShortestPath<V, E>
         }
 
         DijkstraClosestFirstIterator<V, E> it =
-            new DijkstraClosestFirstIterator<>(graph, source, radius);
+            new DijkstraClosestFirstIterator<>(graph, source, radius, heapFactory);
 
         while (it.hasNext()) {
             V vertex = it.next();
@@ -83,6 +112,7 @@ public final class DijkstraShortestPath<V, E>
                 break;
             }
         }
+        it.recordMetrics(metrics, getClass());
 
         return it.getPaths().getPath(sink);
     }
@@ -102,11 +132,12 @@ public final class DijkstraShortestPath<V, E>
         }
 
         DijkstraClosestFirstIterator<V, E> it =
-            new DijkstraClosestFirstIterator<>(graph, source, radius);
+            new DijkstraClosestFirstIterator<>(graph, source, radius, heapFactory);
 
         while (it.hasNext()) {
             it.next();
         }
+        it.recordMetrics(metrics, getClass());
 
         return it.getPaths();
     }
@@ -0,0 +1,486 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+
+/**
+ * Direction-optimizing breadth-first search, computing the level (the number of edges on a
+ * shortest path) and the parent of every vertex reachable from a source.
+ *
+ * <p>
+ * The search follows S. Beamer, K. Asanović and D. Patterson. Direction-Optimizing Breadth-First
+ * Search. SC 2012. Every level is expanded either top-down, where the vertices of the frontier scan
+ * their outgoing edges for unvisited vertices, or bottom-up, where the unvisited vertices scan
+ * their incoming edges for a vertex of the frontier and stop at the first one found. Bottom-up
+ * steps are much cheaper when the frontier contains a large part of the graph, which is typical
+ * for the middle levels of low-diameter graphs. The search switches to bottom-up when the edges
+ * leaving the frontier exceed a $1/\alpha$ fraction of the edges of the unvisited vertices, and
+ * back to top-down when the frontier contains less than a $1/\beta$ fraction of the vertices. The
+ * frontier is kept as an array of vertices in top-down steps and as a bitmap in bottom-up steps.
+ *
+ * <p>
+ * The graph is translated once into arrays of vertex indices, after which any number of searches
+ * can be run. If a pool is given, each level is expanded in parallel: top-down steps claim
+ * vertices with a compare-and-set on their parent, bottom-up steps split the bitmap into blocks of
+ * whole words owned by a single task. The levels are always the same, but in a parallel search the
+ * parent of a vertex may be any of its neighbors in the previous level. In case of directed graphs
+ * the outgoing edges are followed. The graph must not be modified after the search has been
+ * created.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class DirectionOptimizingBFS<V, E>
+{
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 10;
+
+    private final ForkJoinPool pool;
+    private final List<V> vertices;
+    private final Map<V, Integer> index;
+    private final int[] outStart;
+    private final int[] outTarget;
+    private final int[] inStart;
+    private final int[] inSource;
+
+    /**
+     * Create a new sequential search.
+     *
+     * @param graph the input graph
+     */
+    public DirectionOptimizingBFS(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a new search.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to expand the levels in parallel, or null to search sequentially
+     */
+    public DirectionOptimizingBFS(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = pool;
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        int n = vertices.size();
+        boolean directed = graph.getType().isDirected();
+
+        this.outStart = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int degree = directed ? graph.outDegreeOf(vertex) : graph.edgesOf(vertex).size();
+            outStart[v + 1] = outStart[v] + degree;
+        }
+        this.outTarget = new int[outStart[n]];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int k = outStart[v];
+            for (E e : directed ? graph.outgoingEdgesOf(vertex) : graph.edgesOf(vertex)) {
+                outTarget[k++] = index.get(Graphs.getOppositeVertex(graph, e, vertex));
+            }
+        }
+
+        if (directed) {
+            this.inStart = new int[n + 1];
+            for (int k = 0; k < outTarget.length; k++) {
+                inStart[outTarget[k] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                inStart[v + 1] += inStart[v];
+            }
+            this.inSource = new int[outTarget.length];
+            int[] next = Arrays.copyOf(inStart, n);
+            for (int v = 0; v < n; v++) {
+                for (int k = outStart[v]; k < outStart[v + 1]; k++) {
+                    inSource[next[outTarget[k]]++] = v;
+                }
+            }
+        } else {
+            this.inStart = outStart;
+            this.inSource = outTarget;
+        }
+    }
+
+    /**
+     * Get the vertices of the graph in the order of their indices in the search results.
+     *
+     * @return the vertices of the graph
+     */
+    public List<V> getVertices()
+    {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    /**
+     * Search from a source vertex.
+     *
+     * @param source the source vertex
+     * @return the levels and parents of the vertices
+     * @throws IllegalArgumentException if the graph does not contain the source vertex
+     */
+    public SearchTree search(V source)
+    {
+        Integer s = index.get(source);
+        if (s == null) {
+            throw new IllegalArgumentException("Graph must contain the source vertex");
+        }
+        return new Search(s).run();
+    }
+
+    /**
+     * The result of a search: the level and the parent of every vertex, indexed as in
+     * {@link DirectionOptimizingBFS#getVertices()}.
+     */
+    public static class SearchTree
+    {
+        private final int[] level;
+        private final int[] parent;
+        private final int reached;
+        private final int maxLevel;
+        private final long levelSum;
+
+        SearchTree(int[] level, int[] parent, int reached, int maxLevel, long levelSum)
+        {
+            this.level = level;
+            this.parent = parent;
+            this.reached = reached;
+            this.maxLevel = maxLevel;
+            this.levelSum = levelSum;
+        }
+
+        /**
+         * Get the level of every vertex, $0$ for the source and $-1$ for the vertices which are not
+         * reachable from the source.
+         *
+         * @return the level of every vertex
+         */
+        public int[] getLevels()
+        {
+            return level.clone();
+        }
+
+        /**
+         * Get the parent of every vertex in the search tree, $-1$ for the source and for the
+         * vertices which are not reachable from the source.
+         *
+         * @return the parent of every vertex
+         */
+        public int[] getParents()
+        {
+            return parent.clone();
+        }
+
+        /**
+         * Get the level of a vertex.
+         *
+         * @param vertex the index of the vertex
+         * @return the level of the vertex or $-1$ if it is not reachable from the source
+         */
+        public int getLevel(int vertex)
+        {
+            return level[vertex];
+        }
+
+        /**
+         * Get the parent of a vertex.
+         *
+         * @param vertex the index of the vertex
+         * @return the parent of the vertex or $-1$
+         */
+        public int getParent(int vertex)
+        {
+            return parent[vertex];
+        }
+
+        /**
+         * Get the number of vertices reachable from the source, including the source.
+         *
+         * @return the number of vertices reachable from the source
+         */
+        public int getReachedCount()
+        {
+            return reached;
+        }
+
+        /**
+         * Get the largest level of a vertex, i.e. the eccentricity of the source within the
+         * vertices reachable from it.
+         *
+         * @return the largest level of a vertex
+         */
+        public int getMaxLevel()
+        {
+            return maxLevel;
+        }
+
+        /**
+         * Get the sum of the levels of all vertices reachable from the source.
+         *
+         * @return the sum of the levels of all vertices reachable from the source
+         */
+        public long getLevelSum()
+        {
+            return levelSum;
+        }
+    }
+
+    /**
+     * The state of a single search.
+     */
+    private class Search
+    {
+        private final int n;
+        private final int source;
+        private final int[] level;
+        private final AtomicIntegerArray parent;
+
+        private int[] frontier;
+        private int frontierSize;
+        private final AtomicInteger nextSize;
+        private int[] next;
+        private long[] frontierBits;
+        private long[] nextBits;
+        private int depth;
+
+        Search(int source)
+        {
+            this.n = vertices.size();
+            this.source = source;
+            this.level = new int[n];
+            Arrays.fill(level, -1);
+            this.parent = new AtomicIntegerArray(n);
+            for (int v = 0; v < n; v++) {
+                parent.set(v, -1);
+            }
+            this.frontier = new int[n];
+            this.next = new int[n];
+            this.nextSize = new AtomicInteger();
+        }
+
+        SearchTree run()
+        {
+            level[source] = 0;
+            parent.set(source, source);
+            frontier[0] = source;
+            frontierSize = 1;
+
+            long edgesToCheck = outTarget.length;
+            long frontierEdges = degree(source);
+            int reached = 1;
+            long levelSum = 0;
+            boolean bottomUp = false;
+
+            while (frontierSize > 0) {
+                edgesToCheck -= frontierEdges;
+                if (!bottomUp && frontierEdges > edgesToCheck / ALPHA) {
+                    bottomUp = true;
+                    toBitmap();
+                } else if (bottomUp && frontierSize < n / BETA) {
+                    bottomUp = false;
+                    toQueue();
+                }
+
+                long[] counts = new long[2];
+                if (bottomUp) {
+                    nextBits = new long[frontierBits.length];
+                    int words = frontierBits.length;
+                    if (pool == null) {
+                        bottomUpStep(0, words, counts);
+                    } else {
+                        pool.invoke(new StepTask(true, 0, words, counts));
+                    }
+                    frontierBits = nextBits;
+                } else {
+                    nextSize.set(0);
+                    if (pool == null) {
+                        topDownStep(0, frontierSize, counts);
+                    } else {
+                        pool.invoke(new StepTask(false, 0, frontierSize, counts));
+                    }
+                    int[] tmp = frontier;
+                    frontier = next;
+                    next = tmp;
+                }
+                depth++;
+                frontierSize = (int) counts[0];
+                frontierEdges = counts[1];
+                reached += frontierSize;
+                levelSum += (long) frontierSize * depth;
+            }
+
+            int[] parents = new int[n];
+            for (int v = 0; v < n; v++) {
+                parents[v] = parent.get(v);
+            }
+            parents[source] = -1;
+            return new SearchTree(level, parents, reached, depth - 1, levelSum);
+        }
+
+        private int degree(int v)
+        {
+            return outStart[v + 1] - outStart[v];
+        }
+
+        private void toBitmap()
+        {
+            frontierBits = new long[(n + 63) >>> 6];
+            for (int i = 0; i < frontierSize; i++) {
+                int v = frontier[i];
+                frontierBits[v >>> 6] |= 1L << v;
+            }
+        }
+
+        private void toQueue()
+        {
+            int k = 0;
+            for (int w = 0; w < frontierBits.length; w++) {
+                long bits = frontierBits[w];
+                while (bits != 0) {
+                    frontier[k++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        /**
+         * Expand the frontier vertices in [from, to) along their outgoing edges.
+         */
+        private void topDownStep(int from, int to, long[] counts)
+        {
+            int[] buffer = new int[Math.min(64, n)];
+            int size = 0;
+            long found = 0, edges = 0;
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                for (int k = outStart[u]; k < outStart[u + 1]; k++) {
+                    int w = outTarget[k];
+                    if (parent.get(w) < 0 && parent.compareAndSet(w, -1, u)) {
+                        level[w] = depth + 1;
+                        found++;
+                        edges += degree(w);
+                        if (size == buffer.length) {
+                            flush(buffer, size);
+                            size = 0;
+                        }
+                        buffer[size++] = w;
+                    }
+                }
+            }
+            flush(buffer, size);
+            add(counts, found, edges);
+        }
+
+        private void flush(int[] buffer, int size)
+        {
+            if (size > 0) {
+                int offset = nextSize.getAndAdd(size);
+                System.arraycopy(buffer, 0, next, offset, size);
+            }
+        }
+
+        /**
+         * Let the unvisited vertices of the words [from, to) of the bitmap look for a parent in
+         * the frontier.
+         */
+        private void bottomUpStep(int from, int to, long[] counts)
+        {
+            long found = 0, edges = 0;
+            int end = Math.min(n, to << 6);
+            for (int v = from << 6; v < end; v++) {
+                if (parent.get(v) >= 0) {
+                    continue;
+                }
+                for (int k = inStart[v]; k < inStart[v + 1]; k++) {
+                    int u = inSource[k];
+                    if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                        parent.set(v, u);
+                        level[v] = depth + 1;
+                        nextBits[v >>> 6] |= 1L << v;
+                        found++;
+                        edges += degree(v);
+                        break;
+                    }
+                }
+            }
+            add(counts, found, edges);
+        }
+
+        private void add(long[] counts, long found, long edges)
+        {
+            synchronized (counts) {
+                counts[0] += found;
+                counts[1] += edges;
+            }
+        }
+
+        private class StepTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final boolean bottomUp;
+            private final int from;
+            private final int to;
+            private final long[] counts;
+
+            StepTask(boolean bottomUp, int from, int to, long[] counts)
+            {
+                this.bottomUp = bottomUp;
+                this.from = from;
+                this.to = to;
+                this.counts = counts;
+            }
+
+            @Override
+            protected void compute()
+            {
+                // a word of the bitmap covers 64 vertices
+                int size = bottomUp ? (to - from) << 6 : to - from;
+                if (size <= SEQUENTIAL_THRESHOLD) {
+                    if (bottomUp) {
+                        bottomUpStep(from, to, counts);
+                    } else {
+                        topDownStep(from, to, counts);
+                    }
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new StepTask(bottomUp, from, mid, counts),
+                    new StepTask(bottomUp, mid, to, counts));
+            }
+        }
+    }
+}
+
+// End DirectionOptimizingBFS.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
@@ -28,6 +29,12 @@ import org.jgrapht.alg.util.*;
  * distance metrics can be found
  * <a href="https://en.wikipedia.org/wiki/Distance_(graph_theory)">here</a>.
  *
+ * <p>
+ * Unless a shortest path algorithm is given, the distances of unweighted graphs are computed by a
+ * {@link DirectionOptimizingBFS} from every vertex instead of {@link FloydWarshallShortestPaths}.
+ * In both cases the graph is read when a metric is requested for the first time, and the metrics
+ * are cached afterwards, so later modifications of the graph are not reflected.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -40,6 +47,10 @@ public class GraphMeasurer<V, E>
     private final Graph<V, E> graph;
     /* All-pairs shortest path algorithm */
     private final ShortestPathAlgorithm<V, E> shortestPathAlgorithm;
+    /* Whether breadth-first search is used instead of the shortest path algorithm */
+    private final boolean breadthFirst;
+    /* Pool used by the breadth-first searches, or null */
+    private final ForkJoinPool pool;
 
     /* Vertex eccentricity map */
     private Map<V, Double> eccentricityMap = null;
@@ -50,13 +61,36 @@ public class GraphMeasurer<V, E>
 
     /**
      * Constructs a new instance of GraphMeasurer. {@link FloydWarshallShortestPaths} is used as the
-     * default shortest path algorithm.
+     * default shortest path algorithm. If the graph is unweighted, the distances are instead
+     * computed by a {@link DirectionOptimizingBFS} from every vertex in $O(n(n+m))$ time.
      * 
      * @param graph input graph
      */
     public GraphMeasurer(Graph<V, E> graph)
     {
-        this(graph, new FloydWarshallShortestPaths<V, E>(graph));
+        this(
+            graph, graph.getType().isWeighted() ? new FloydWarshallShortestPaths<>(graph) : null,
+            !graph.getType().isWeighted(), null);
+    }
+
+    /**
+     * Constructs a new instance of GraphMeasurer for an unweighted graph which computes the
+     * distances by a {@link DirectionOptimizingBFS} from every vertex, expanding the levels of
+     * each search in parallel.
+     * 
+     * @param graph input graph, which must be unweighted
+     * @param pool the pool used by the breadth-first searches, or null to search sequentially
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the graph measurer
+     * @throws IllegalArgumentException if the graph is weighted
+     */
+    public static <V, E> GraphMeasurer<V, E> unweighted(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        if (graph.getType().isWeighted()) {
+            throw new IllegalArgumentException("Graph must be unweighted");
+        }
+        return new GraphMeasurer<>(graph, null, true, pool);
     }
 
     /**
@@ -71,9 +105,18 @@ public class GraphMeasurer<V, E>
      *        $O(|V|^3)$.
      */
     public GraphMeasurer(Graph<V, E> graph, ShortestPathAlgorithm<V, E> shortestPathAlgorithm)
+    {
+        this(graph, shortestPathAlgorithm, false, null);
+    }
+
+    private GraphMeasurer(
+        Graph<V, E> graph, ShortestPathAlgorithm<V, E> shortestPathAlgorithm,
+        boolean breadthFirst, ForkJoinPool pool)
     {
         this.graph = graph;
         this.shortestPathAlgorithm = shortestPathAlgorithm;
+        this.breadthFirst = breadthFirst;
+        this.pool = pool;
     }
 
     /**
@@ -168,7 +211,15 @@ public class GraphMeasurer<V, E>
 
         // Compute the eccentricity map
         eccentricityMap = new LinkedHashMap<>();
-        if (graph.getType().isUndirected()) {
+        if (breadthFirst) {
+            DirectionOptimizingBFS<V, E> bfs = new DirectionOptimizingBFS<>(graph, pool);
+            int n = graph.vertexSet().size();
+            for (V v : graph.vertexSet()) {
+                DirectionOptimizingBFS.SearchTree tree = bfs.search(v);
+                eccentricityMap.put(
+                    v, tree.getReachedCount() == n ? tree.getMaxLevel() : Double.POSITIVE_INFINITY);
+            }
+        } else if (graph.getType().isUndirected()) {
             List<V> vertices = new ArrayList<>(graph.vertexSet());
             double[] eccentricityVector = new double[vertices.size()];
             for (int i = 0; i < vertices.size() - 1; i++) {
@@ -32,10 +32,10 @@ import org.jgrapht.alg.util.*;
  * information on the history of the algorithm.
  * 
  * <p>
- * This implementation uses a union-find data structure (with union by rank and path compression
- * heuristic) in order to track components. In graphs where edges have identical weights, edges with
- * equal weights are ordered lexicographically. The running time is O((E+V) logV) under the
- * assumption that the union-find uses path-compression.
+ * This implementation uses a union-find data structure (with union by rank and path halving
+ * heuristic) over vertex indices in order to track components. In graphs where edges have
+ * identical weights, edges with equal weights are ordered lexicographically. The running time is
+ * O((E+V) logV) under the assumption that the union-find uses path-compression.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -70,74 +70,75 @@ public class BoruvkaMinimumSpanningTree<V, E>
         Set<E> mstEdges = new LinkedHashSet<>();
         double mstWeight = 0d;
 
-        // fix edge order for unique comparison of edge weights
-        Map<E, Integer> edgeOrder = new HashMap<>();
-        int i = 0;
-        for (E e : graph.edgeSet()) {
-            edgeOrder.put(e, i++);
+        // index vertices and fix edge order for unique comparison of edge weights
+        Map<V, Integer> index = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            index.put(v, index.size());
+        }
+        List<E> edges = new ArrayList<>(graph.edgeSet());
+        int m = edges.size();
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weight = new double[m];
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            source[i] = index.get(graph.getEdgeSource(e));
+            target[i] = index.get(graph.getEdgeTarget(e));
+            weight[i] = graph.getEdgeWeight(e);
         }
 
         // initialize forest
-        UnionFind<V> forest = new UnionFind<>(graph.vertexSet());
-        Map<V, E> bestEdge = new LinkedHashMap<>();
+        int n = index.size();
+        IntUnionFind forest = new IntUnionFind(n);
+        int[] bestEdge = new int[n];
+        Arrays.fill(bestEdge, -1);
+        int[] trees = new int[n];
+        int treeCount;
 
         do {
             // find safe edges
-            bestEdge.clear();
-            for (E e : graph.edgeSet()) {
-                V sTree = forest.find(graph.getEdgeSource(e));
-                V tTree = forest.find(graph.getEdgeTarget(e));
+            treeCount = 0;
+            for (int i = 0; i < m; i++) {
+                int sTree = forest.find(source[i]);
+                int tTree = forest.find(target[i]);
 
-                if (sTree.equals(tTree)) {
+                if (sTree == tTree) {
                     // same tree, skip
                     continue;
                 }
 
-                double eWeight = graph.getEdgeWeight(e);
-
                 // check if better edge
-                E sTreeEdge = bestEdge.get(sTree);
-                if (sTreeEdge == null) {
-                    bestEdge.put(sTree, e);
-                } else {
-                    double sTreeEdgeWeight = graph.getEdgeWeight(sTreeEdge);
-                    int c = comparator.compare(eWeight, sTreeEdgeWeight);
-                    if (c < 0 || (c == 0 && edgeOrder.get(e) < edgeOrder.get(sTreeEdge))) {
-                        bestEdge.put(sTree, e);
-                    }
+                if (bestEdge[sTree] == -1) {
+                    trees[treeCount++] = sTree;
+                    bestEdge[sTree] = i;
+                } else if (comparator.compare(weight[i], weight[bestEdge[sTree]]) < 0) {
+                    bestEdge[sTree] = i;
                 }
 
                 // check if better edge
-                E tTreeEdge = bestEdge.get(tTree);
-                if (tTreeEdge == null) {
-                    bestEdge.put(tTree, e);
-                } else {
-                    double tTreeEdgeWeight = graph.getEdgeWeight(tTreeEdge);
-                    int c = comparator.compare(eWeight, tTreeEdgeWeight);
-                    if (c < 0 || (c == 0 && edgeOrder.get(e) < edgeOrder.get(tTreeEdge))) {
-                        bestEdge.put(tTree, e);
-                    }
+                if (bestEdge[tTree] == -1) {
+                    trees[treeCount++] = tTree;
+                    bestEdge[tTree] = i;
+                } else if (comparator.compare(weight[i], weight[bestEdge[tTree]]) < 0) {
+                    bestEdge[tTree] = i;
                 }
             }
 
             // add safe edges to forest
-            for (V v : bestEdge.keySet()) {
-                E e = bestEdge.get(v);
+            for (int k = 0; k < treeCount; k++) {
+                int i = bestEdge[trees[k]];
+                bestEdge[trees[k]] = -1;
 
-                V sTree = forest.find(graph.getEdgeSource(e));
-                V tTree = forest.find(graph.getEdgeTarget(e));
-
-                if (sTree.equals(tTree)) {
+                if (!forest.union(source[i], target[i])) {
                     // same tree, skip
                     continue;
                 }
 
+                E e = edges.get(i);
                 mstEdges.add(e);
-                mstWeight += graph.getEdgeWeight(e);
-
-                forest.union(sTree, tTree);
+                mstWeight += weight[i];
             }
-        } while (!bestEdge.isEmpty());
+        } while (treeCount > 0);
 
         // return mst
         return new SpanningTreeImpl<>(mstEdges, mstWeight);
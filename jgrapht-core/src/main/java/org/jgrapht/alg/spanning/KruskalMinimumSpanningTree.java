@@ -56,7 +56,11 @@ public class KruskalMinimumSpanningTree<V, E>
     @Override
     public SpanningTree<E> getSpanningTree()
     {
-        UnionFind<V> forest = new UnionFind<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            index.put(v, index.size());
+        }
+        IntUnionFind forest = new IntUnionFind(index.size());
         ArrayList<E> allEdges = new ArrayList<>(graph.edgeSet());
         Collections.sort(
             allEdges, (edge1, edge2) -> Double
@@ -66,13 +70,12 @@ public class KruskalMinimumSpanningTree<V, E>
         Set<E> edgeList = new HashSet<>();
 
         for (E edge : allEdges) {
-            V source = graph.getEdgeSource(edge);
-            V target = graph.getEdgeTarget(edge);
-            if (forest.find(source).equals(forest.find(target))) {
+            int source = index.get(graph.getEdgeSource(edge));
+            int target = index.get(graph.getEdgeTarget(edge));
+            if (!forest.union(source, target)) {
                 continue;
             }
 
-            forest.union(source, target);
             edgeList.add(edge);
             spanningTreeCost += graph.getEdgeWeight(edge);
         }
@@ -0,0 +1,60 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.concurrent.*;
+
+/**
+ * Thrown by an algorithm when its {@link CancellationToken} has been cancelled or its deadline has
+ * passed.
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class AlgorithmCancelledException
+    extends CancellationException
+{
+    private static final long serialVersionUID = 1L;
+
+    private final boolean deadlineExceeded;
+
+    /**
+     * Create a new exception.
+     *
+     * @param message the detail message
+     * @param deadlineExceeded whether the algorithm was cancelled because a deadline passed
+     */
+    public AlgorithmCancelledException(String message, boolean deadlineExceeded)
+    {
+        super(message);
+        this.deadlineExceeded = deadlineExceeded;
+    }
+
+    /**
+     * Whether the algorithm was cancelled because the deadline of its token passed, rather than
+     * by an explicit call to {@link CancellationToken#cancel()}.
+     *
+     * @return true if the deadline passed, false otherwise
+     */
+    public boolean isDeadlineExceeded()
+    {
+        return deadlineExceeded;
+    }
+}
+
+// End AlgorithmCancelledException.java
@@ -0,0 +1,95 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+/**
+ * Service provider interface for collecting work counters from algorithms.
+ *
+ * <p>
+ * Algorithms which support metrics count the work they perform during a single query, such as a
+ * call to {@code getPath} of a shortest path algorithm or {@code calculateMaximumFlow} of a
+ * maximum flow algorithm, in plain local counters. When the query finishes, every counter
+ * maintained by the algorithm is reported once using {@link #record(Class, Counter, long)}. Thus
+ * the hot loops of the algorithms are not affected by the metrics, and the default {@link #NONE}
+ * instance adds no overhead apart from a few ignored calls per query.
+ *
+ * <p>
+ * Implementations forward the counters to the registry of the caller, for example a metrics
+ * library or a per-request trace, in order to attribute the latency of a query. A simple
+ * implementation which aggregates the counters is {@link CountingAlgorithmMetrics}.
+ * Implementations must be thread-safe if they are shared by algorithm instances which are used
+ * concurrently.
+ *
+ * @author agent
+ * @since October 2026
+ */
+public interface AlgorithmMetrics
+{
+    /**
+     * The counters reported by the algorithms.
+     */
+    enum Counter
+    {
+        /**
+         * Vertices whose final distance or label has been determined, for example vertices
+         * removed from the priority queue of Dijkstra's algorithm.
+         */
+        VERTICES_SETTLED,
+        /**
+         * Edges scanned or relaxed while exploring the graph.
+         */
+        EDGES_RELAXED,
+        /**
+         * Insert, decrease-key and delete-min operations on a priority queue.
+         */
+        HEAP_OPERATIONS,
+        /**
+         * Push operations of push-relabel algorithms.
+         */
+        PUSHES,
+        /**
+         * Relabel operations of push-relabel algorithms.
+         */
+        RELABELS,
+        /**
+         * Augmenting paths found by augmenting path algorithms.
+         */
+        AUGMENTING_PATHS,
+        /**
+         * Steps of backtracking search algorithms.
+         */
+        BACKTRACKING_STEPS
+    }
+
+    /**
+     * Metrics which ignore all counters.
+     */
+    AlgorithmMetrics NONE = (algorithm, counter, count) -> {
+    };
+
+    /**
+     * Record the value of a counter after a query of an algorithm.
+     *
+     * @param algorithm the class of the algorithm which performed the query
+     * @param counter the counter
+     * @param count the amount of work counted during the query
+     */
+    void record(Class<?> algorithm, Counter counter, long count);
+}
+
+// End AlgorithmMetrics.java
@@ -37,6 +37,7 @@ public class AliasMethodSampler
 {
     private final Random rng;
     private Comparator<Double> comparator;
+    private final double epsilon;
 
     private final double[] prob;
     private final int[] alias;
@@ -87,6 +88,7 @@ public class AliasMethodSampler
     {
         this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.epsilon = epsilon;
 
         if (p == null || p.length < 1) {
             throw new IllegalArgumentException("Probabilities cannot be empty");
@@ -153,10 +155,23 @@ public class AliasMethodSampler
      * @return a sample from the distribution
      */
     public int next()
+    {
+        return next(rng);
+    }
+
+    /**
+     * Sample a value from the distribution using the given random number generator instead of the
+     * one of the sampler. This allows to share the sampler between independent, reproducible
+     * streams of samples. The method does not allocate any memory.
+     * 
+     * @param rng the random number generator
+     * @return a sample from the distribution
+     */
+    public int next(Random rng)
     {
         double u = rng.nextDouble() * prob.length;
         int j = (int) Math.floor(u);
-        if (comparator.compare(u - j, prob[j]) <= 0) {
+        if (u - j < prob[j] + epsilon) {
             return j;
         } else {
             return alias[j];
@@ -0,0 +1,72 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * Base class for algorithms which can be cancelled by a {@link CancellationToken}.
+ *
+ * <p>
+ * Each run of the algorithm obtains a {@link CancellationToken.Checker} by calling
+ * {@link #newCancellationChecker()} and checks it in its hot loops.
+ *
+ * @author agent
+ * @since October 2026
+ */
+public abstract class BaseCancellableAlgorithm
+{
+    private CancellationToken cancellationToken = CancellationToken.NONE;
+
+    /**
+     * Get the cancellation token checked by the algorithm.
+     *
+     * @return the cancellation token
+     */
+    public CancellationToken getCancellationToken()
+    {
+        return cancellationToken;
+    }
+
+    /**
+     * Set the cancellation token checked by the algorithm. Once the token is cancelled, the
+     * algorithm terminates by throwing an {@link AlgorithmCancelledException}. Results which have
+     * already been reported by the algorithm, for example to an action or an iterator, remain
+     * valid.
+     *
+     * @param cancellationToken the cancellation token, or {@link CancellationToken#NONE}
+     */
+    public void setCancellationToken(CancellationToken cancellationToken)
+    {
+        this.cancellationToken =
+            Objects.requireNonNull(cancellationToken, "Cancellation token cannot be null");
+    }
+
+    /**
+     * Create a new checker of the current cancellation token. A checker must only be used by a
+     * single thread.
+     *
+     * @return the new checker
+     */
+    protected CancellationToken.Checker newCancellationChecker()
+    {
+        return cancellationToken.newChecker();
+    }
+}
+
+// End BaseCancellableAlgorithm.java
@@ -0,0 +1,204 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.concurrent.*;
+
+/**
+ * A token for the cooperative cancellation of long running algorithms.
+ *
+ * <p>
+ * A token is cancelled either explicitly, by calling {@link #cancel()} from any thread, or
+ * implicitly, when its optional deadline passes. Algorithms supporting cancellation obtain a
+ * {@link Checker} from the token and call {@link Checker#checkCancelled()} in their hot loops. This
+ * method is cheap: it only decrements a counter of the checker and inspects the state of the token
+ * once every {@value #CHECK_INTERVAL} calls, which bounds the cost of reading the system clock for
+ * the deadline. When the token is found cancelled, the algorithm terminates by throwing an
+ * {@link AlgorithmCancelledException}. Results which have already been reported by the algorithm,
+ * for example to an action or an iterator, remain valid.
+ *
+ * <p>
+ * A token can be shared by several algorithms and threads, for example in order to give a
+ * single time budget to all the work performed for a request. The only state written after the
+ * creation of a token is its cancellation flag, while each thread counts its calls in a checker of
+ * its own. The default token {@link #NONE} is never cancelled.
+ *
+ * @author agent
+ * @since October 2026
+ */
+public final class CancellationToken
+{
+    /**
+     * The number of calls of {@link Checker#checkCancelled()} between two inspections of the
+     * state of the token.
+     */
+    public static final int CHECK_INTERVAL = 1 << 10;
+
+    /**
+     * A token which is never cancelled. Calling {@link #cancel()} on it is not supported.
+     */
+    public static final CancellationToken NONE = new CancellationToken(false, Long.MAX_VALUE);
+
+    private final boolean cancellable;
+    private final boolean hasDeadline;
+    private final long deadline;
+    private volatile boolean cancelled;
+
+    /**
+     * Create a new token without a deadline, which is only cancelled by calling {@link #cancel()}.
+     */
+    public CancellationToken()
+    {
+        this(true, Long.MAX_VALUE);
+    }
+
+    private CancellationToken(boolean cancellable, long timeoutNanos)
+    {
+        this.cancellable = cancellable;
+        this.hasDeadline = timeoutNanos != Long.MAX_VALUE;
+        this.deadline = hasDeadline ? System.nanoTime() + timeoutNanos : 0L;
+        this.cancelled = false;
+    }
+
+    /**
+     * Create a new token which is cancelled when the given amount of time has passed or when
+     * {@link #cancel()} is called, whatever happens first.
+     *
+     * @param timeout the time budget, must be non-negative
+     * @param unit the time unit of the timeout argument
+     * @return the new token
+     */
+    public static CancellationToken withTimeout(long timeout, TimeUnit unit)
+    {
+        if (timeout < 0L) {
+            throw new IllegalArgumentException("Invalid timeout, must be non-negative");
+        }
+        long nanos = unit.toNanos(timeout);
+        // keep the deadline from overflowing
+        return new CancellationToken(true, Math.min(nanos, Long.MAX_VALUE / 2));
+    }
+
+    /**
+     * Cancel the token. Algorithms using the token terminate the next time they inspect it.
+     *
+     * @throws UnsupportedOperationException if the token is {@link #NONE}
+     */
+    public void cancel()
+    {
+        if (!cancellable) {
+            throw new UnsupportedOperationException("Token cannot be cancelled");
+        }
+        cancelled = true;
+    }
+
+    /**
+     * Check whether the token has been cancelled or its deadline has passed. Unlike
+     * {@link #checkCancelled()}, this method always inspects the state of the token.
+     *
+     * @return true if the token is cancelled, false otherwise
+     */
+    public boolean isCancelled()
+    {
+        return cancelled || isDeadlineExceeded();
+    }
+
+    /**
+     * Check whether the deadline of the token has passed.
+     *
+     * @return true if the token has a deadline which has passed, false otherwise
+     */
+    public boolean isDeadlineExceeded()
+    {
+        return hasDeadline && System.nanoTime() - deadline >= 0L;
+    }
+
+    /**
+     * Get the remaining time until the deadline of the token.
+     *
+     * @param unit the time unit of the result
+     * @return the remaining time, zero if the deadline has passed, or {@link Long#MAX_VALUE} if
+     *         the token has no deadline
+     */
+    public long getRemaining(TimeUnit unit)
+    {
+        if (!hasDeadline) {
+            return Long.MAX_VALUE;
+        }
+        return unit.convert(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Create a new checker of this token. A checker must not be shared between threads.
+     *
+     * @return the new checker
+     */
+    public Checker newChecker()
+    {
+        return new Checker(this);
+    }
+
+    /**
+     * Check for cancellation, always inspecting the state of the token. Algorithms call this
+     * method at points which are reached rarely, such as before each expensive phase.
+     *
+     * @throws AlgorithmCancelledException if the token is cancelled
+     */
+    public void checkCancelledNow()
+    {
+        if (cancelled) {
+            throw new AlgorithmCancelledException("Algorithm cancelled", false);
+        }
+        if (isDeadlineExceeded()) {
+            throw new AlgorithmCancelledException("Algorithm deadline exceeded", true);
+        }
+    }
+
+    /**
+     * Amortized check of a cancellation token, to be called from the hot loops of algorithms. Each
+     * run of an algorithm, and each thread taking part in it, uses a checker of its own, so that
+     * the counting of the calls does not write to memory shared with other threads.
+     */
+    public static final class Checker
+    {
+        private final CancellationToken token;
+        private int countdown;
+
+        private Checker(CancellationToken token)
+        {
+            this.token = token;
+            this.countdown = CHECK_INTERVAL;
+        }
+
+        /**
+         * Check for cancellation. The state of the token is only inspected once every
+         * {@value CancellationToken#CHECK_INTERVAL} calls.
+         *
+         * @throws AlgorithmCancelledException if the token was found cancelled
+         */
+        public void checkCancelled()
+        {
+            if (--countdown > 0) {
+                return;
+            }
+            countdown = CHECK_INTERVAL;
+            token.checkCancelledNow();
+        }
+    }
+}
+
+// End CancellationToken.java
@@ -0,0 +1,235 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A lock-free union-find data structure over the integers $0, \dots, n-1$ which supports
+ * concurrent unions and finds from multiple threads.
+ *
+ * <p>
+ * The parents are stored in an {@link AtomicIntegerArray}. A union links the root of one set below
+ * the root of the other using a single compare-and-set, and retries if either root was linked by
+ * another thread in the meantime. Instead of ranks, which cannot be updated together with the
+ * parent atomically, every element has a fixed pseudo-random priority and roots are always linked
+ * below roots of higher priority. This randomized linking keeps the expected tree height
+ * logarithmic. Finds perform path halving, again using compare-and-set, so concurrent finds never
+ * corrupt the trees.
+ *
+ * <p>
+ * All operations are linearizable. The method {@link #union(int[], int[], ForkJoinPool)} merges a
+ * batch of pairs in parallel, which is the building block for computing connected components or
+ * the contraction steps of spanning tree algorithms using multiple threads.
+ *
+ * @author agent
+ * @since October 2026
+ */
+public final class ConcurrentIntUnionFind
+{
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger count;
+
+    /**
+     * Create a new union-find data structure with all elements in separate sets.
+     *
+     * @param n the number of elements
+     */
+    public ConcurrentIntUnionFind(int n)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+        count = new AtomicInteger(n);
+    }
+
+    /**
+     * Returns the representative element of the set that element is in. If other threads perform
+     * unions concurrently, the representative may change as soon as this method returns.
+     *
+     * @param element the element to find
+     * @return the element representing the set the element is in
+     */
+    public int find(int element)
+    {
+        int x = element;
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int gp = parent.get(p);
+            if (p != gp) {
+                parent.compareAndSet(x, p, gp);
+            }
+            x = gp;
+        }
+    }
+
+    /**
+     * Merges the sets which contain element1 and element2.
+     *
+     * @param element1 the first element to union
+     * @param element2 the second element to union
+     * @return true if this call merged two different sets, false if the elements were already in
+     *         the same set
+     */
+    public boolean union(int element1, int element2)
+    {
+        int x = element1;
+        int y = element2;
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return false;
+            }
+            if (higherPriority(x, y)) {
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+            // x has the lower priority and is linked below y, if it is still a root
+            if (parent.compareAndSet(x, x, y)) {
+                count.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Merges the sets of every pair of elements element1[i] and element2[i]. The unions are
+     * performed in parallel using the given pool.
+     *
+     * @param elements1 the first element of each pair
+     * @param elements2 the second element of each pair
+     * @param pool the pool executing the unions
+     * @return the number of unions which merged two different sets
+     */
+    public int union(int[] elements1, int[] elements2, ForkJoinPool pool)
+    {
+        if (elements1.length != elements2.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        return pool.invoke(new BatchUnionTask(elements1, elements2, 0, elements1.length));
+    }
+
+    /**
+     * Tests whether two elements are contained in the same set.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if element1 and element2 are contained in the same set, false otherwise
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        int x = element1;
+        int y = element2;
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return true;
+            }
+            // x is still a root, so the sets were different at this point in time
+            if (parent.get(x) == x) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sets.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return count.get();
+    }
+
+    /**
+     * Returns the total number of elements in this data structure.
+     *
+     * @return the total number of elements in this data structure
+     */
+    public int size()
+    {
+        return parent.length();
+    }
+
+    private static boolean higherPriority(int x, int y)
+    {
+        int px = priority(x);
+        int py = priority(y);
+        return px > py || (px == py && x > y);
+    }
+
+    private static int priority(int x)
+    {
+        int h = x * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    private class BatchUnionTask
+        extends RecursiveTask<Integer>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] elements1;
+        private final int[] elements2;
+        private final int from;
+        private final int to;
+
+        BatchUnionTask(int[] elements1, int[] elements2, int from, int to)
+        {
+            this.elements1 = elements1;
+            this.elements2 = elements2;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                int merged = 0;
+                for (int i = from; i < to; i++) {
+                    if (union(elements1[i], elements2[i])) {
+                        merged++;
+                    }
+                }
+                return merged;
+            }
+            int mid = (from + to) >>> 1;
+            BatchUnionTask left = new BatchUnionTask(elements1, elements2, from, mid);
+            left.fork();
+            int right = new BatchUnionTask(elements1, elements2, mid, to).compute();
+            return left.join() + right;
+        }
+    }
+}
+
+// End ConcurrentIntUnionFind.java
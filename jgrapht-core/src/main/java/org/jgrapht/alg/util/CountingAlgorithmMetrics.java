@@ -0,0 +1,98 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Algorithm metrics which sum up the reported counters.
+ *
+ * <p>
+ * The counters of all algorithms reporting to an instance are added together, therefore using a
+ * separate instance for each query attributes the work to that query. The implementation is
+ * thread-safe and can also be shared by algorithms running concurrently.
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class CountingAlgorithmMetrics
+    implements AlgorithmMetrics
+{
+    private final EnumMap<Counter, LongAdder> counts;
+
+    /**
+     * Create a new instance with all counters equal to zero.
+     */
+    public CountingAlgorithmMetrics()
+    {
+        this.counts = new EnumMap<>(Counter.class);
+        for (Counter counter : Counter.values()) {
+            counts.put(counter, new LongAdder());
+        }
+    }
+
+    @Override
+    public void record(Class<?> algorithm, Counter counter, long count)
+    {
+        counts.get(counter).add(count);
+    }
+
+    /**
+     * Get the current value of a counter.
+     *
+     * @param counter the counter
+     * @return the sum of all values reported for the counter
+     */
+    public long getCount(Counter counter)
+    {
+        return counts.get(counter).sum();
+    }
+
+    /**
+     * Get the current values of all counters.
+     *
+     * @return a snapshot of all counters
+     */
+    public Map<Counter, Long> getCounts()
+    {
+        Map<Counter, Long> result = new EnumMap<>(Counter.class);
+        for (Map.Entry<Counter, LongAdder> e : counts.entrySet()) {
+            result.put(e.getKey(), e.getValue().sum());
+        }
+        return result;
+    }
+
+    /**
+     * Reset all counters to zero.
+     */
+    public void reset()
+    {
+        for (LongAdder adder : counts.values()) {
+            adder.reset();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return getCounts().toString();
+    }
+}
+
+// End CountingAlgorithmMetrics.java
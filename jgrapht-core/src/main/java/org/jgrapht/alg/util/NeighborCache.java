@@ -34,6 +34,11 @@ import org.jgrapht.util.*;
  * result of the union of calling predecessorsOf(v) and successorsOf(v) is equal to the result of
  * calling neighborsOf(v) for a given vertex v.
  * 
+ * <p>
+ * The cache is a {@link BatchGraphListener}. When a batch of modifications is committed, the cached
+ * entries of the vertices touched by the batch are recomputed once, instead of being updated for
+ * every single modification.
+ * 
  * @param <V> the vertex type
  * @param <E> the edge type
  * 
@@ -41,7 +46,7 @@ import org.jgrapht.util.*;
  * @since November 2017
  */
 public class NeighborCache<V, E>
-    implements GraphListener<V, E>
+    implements BatchGraphListener<V, E>
 {
     private Map<V, Neighbors<V>> successors = new HashMap<>();
     private Map<V, Neighbors<V>> predecessors = new HashMap<>();
@@ -188,6 +193,35 @@ public class NeighborCache<V, E>
         neighbors.remove(e.getVertex());
     }
 
+    @Override
+    public void graphChanged(GraphBatchChangeEvent<V, E> e)
+    {
+        assert e.getSource()==this.graph : "This NeighborCache is added as a listener to a graph other than the one specified during the construction of this NeighborCache!";
+
+        // the touched vertices include the ones of changes which cancel out within the batch, since
+        // their neighbors may have been cached while the batch was in progress
+        for (V v : e.getTouchedVertices()) {
+            if (!graph.containsVertex(v)) {
+                successors.remove(v);
+                predecessors.remove(v);
+                neighbors.remove(v);
+                continue;
+            }
+            Neighbors<V> nbrs = successors.get(v);
+            if (nbrs != null) {
+                nbrs.reset(Graphs.successorListOf(graph, v));
+            }
+            nbrs = predecessors.get(v);
+            if (nbrs != null) {
+                nbrs.reset(Graphs.predecessorListOf(graph, v));
+            }
+            nbrs = neighbors.get(v);
+            if (nbrs != null) {
+                nbrs.reset(Graphs.neighborListOf(graph, v));
+            }
+        }
+    }
+
     /**
      * Stores cached neighbors for a single vertex. Includes support for live neighbor sets and
      * duplicate neighbors.
@@ -208,6 +242,14 @@ public class NeighborCache<V, E>
             }
         }
 
+        public void reset(Collection<V> neighbors)
+        {
+            neighborCounts.clear();
+            for (V neighbor : neighbors) {
+                addNeighbor(neighbor);
+            }
+        }
+
         public void addNeighbor(V v)
         {
             ModifiableInteger count = neighborCounts.get(v);
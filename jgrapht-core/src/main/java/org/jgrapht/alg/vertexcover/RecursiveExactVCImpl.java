@@ -58,6 +58,7 @@ import org.jgrapht.alg.util.*;
  * @author Joris Kinable
  */
 public class RecursiveExactVCImpl<V, E>
+    extends BaseCancellableAlgorithm
     implements MinimumWeightedVertexCoverAlgorithm<V, E>
 {
 
@@ -93,6 +94,9 @@ public class RecursiveExactVCImpl<V, E>
 
     private Map<V, Double> vertexWeightMap = null;
 
+    /** Checker of the cancellation token, used while branching **/
+    private CancellationToken.Checker cancellationChecker;
+
     @Override
     public VertexCover<V> getVertexCover(Graph<V, E> graph)
     {
@@ -113,6 +117,7 @@ public class RecursiveExactVCImpl<V, E>
         vertexIDDictionary = new HashMap<>();
         this.vertexWeightMap = vertexWeightMap;
         this.weighted = vertexWeightMap != null;
+        cancellationChecker = newCancellationChecker();
 
         N = vertices.size();
         // Sort vertices based on their weight/degree ratio in ascending order
@@ -146,6 +151,8 @@ public class RecursiveExactVCImpl<V, E>
     private BitSetCover calculateCoverRecursively(
         int indexNextCandidate, BitSet visited, double accumulatedWeight)
     {
+        cancellationChecker.checkCancelled();
+
         // Check memoization table
         if (memo.containsKey(visited)) {
             return memo.get(visited).copy(); // Cache hit
@@ -0,0 +1,440 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.event;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * A graph listener which delivers the events it receives to another listener asynchronously.
+ *
+ * <p>
+ * Received events are stored in a bounded ring buffer and the thread modifying the graph returns
+ * immediately. The events are delivered to the wrapped listener by tasks submitted to an
+ * {@link Executor}, one event at a time and in the order they were received, regardless of the
+ * number of threads of the executor. The {@link OverflowPolicy} determines what happens if events
+ * are received faster than they are delivered and the buffer is full. Method {@link #flush()}
+ * waits until all events received before its invocation have been delivered.
+ *
+ * <p>
+ * Since this listener is a {@link BatchGraphListener}, a batch of modifications of a
+ * {@link org.jgrapht.graph.DefaultListenableGraph} occupies a single slot of the buffer. If the
+ * wrapped listener is not a batch listener, the net changes of the batch are delivered to it as
+ * individual events, in the order described in {@link GraphBatchChangeEvent}.
+ *
+ * <p>
+ * Events are copied before they are buffered, so that graphs reusing their event objects can be
+ * listened to. Exceptions thrown by the wrapped listener do not stop the delivery of later events;
+ * they are passed to the uncaught exception handler of the delivering thread. If the executor
+ * rejects a delivery task, the {@link RejectedExecutionException} is thrown to the caller and the
+ * buffered events are kept; the next received event or call of {@link #flush()} submits the task
+ * again.
+ *
+ * <p>
+ * <b>Note that the wrapped listener runs on the threads of the executor while the graph may keep
+ * changing.</b> By the time an event is delivered the graph can already contain later
+ * modifications, and reading it (for example through {@link GraphChangeEvent#getSource()}) races
+ * with the thread modifying it, since graphs are not thread-safe. The wrapped listener should
+ * therefore only use the payload of the events, that is the vertices and edges they carry, or
+ * synchronize with the modifying thread itself, for example by locking the graph on both sides or
+ * by calling {@link #flush()} before modifying the graph again.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class AsyncGraphListener<V, E>
+    implements BatchGraphListener<V, E>
+{
+    /**
+     * What to do with an event received while the buffer is full.
+     */
+    public enum OverflowPolicy
+    {
+        /**
+         * Block the thread modifying the graph until there is space in the buffer.
+         */
+        BLOCK,
+        /**
+         * Discard the event.
+         */
+        DISCARD,
+        /**
+         * Throw an {@link IllegalStateException} to the thread modifying the graph.
+         */
+        FAIL
+    }
+
+    private final GraphListener<V, E> delegate;
+    private final Executor executor;
+    private final OverflowPolicy policy;
+
+    private final GraphChangeEvent[] buffer;
+    private int head;
+    private int size;
+    private long receivedCount;
+    private long deliveredCount;
+    private long discardedCount;
+    private boolean scheduled;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition delivered = lock.newCondition();
+    private final Runnable deliveryTask = this::deliver;
+
+    /**
+     * Create a new asynchronous listener which blocks the thread modifying the graph when the
+     * buffer is full.
+     *
+     * @param delegate the listener to deliver the events to
+     * @param executor the executor running the delivery
+     * @param capacity the maximum number of buffered events
+     */
+    public AsyncGraphListener(GraphListener<V, E> delegate, Executor executor, int capacity)
+    {
+        this(delegate, executor, capacity, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Create a new asynchronous listener.
+     *
+     * @param delegate the listener to deliver the events to
+     * @param executor the executor running the delivery
+     * @param capacity the maximum number of buffered events
+     * @param policy what to do with an event received while the buffer is full
+     */
+    public AsyncGraphListener(
+        GraphListener<V, E> delegate, Executor executor, int capacity, OverflowPolicy policy)
+    {
+        this.delegate = Objects.requireNonNull(delegate, "Listener cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.policy = Objects.requireNonNull(policy, "Policy cannot be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.buffer = new GraphChangeEvent[capacity];
+    }
+
+    /**
+     * Get the listener the events are delivered to.
+     *
+     * @return the listener the events are delivered to
+     */
+    public GraphListener<V, E> getDelegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * Wait until all events received before the invocation of this method have been delivered.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void flush()
+        throws InterruptedException
+    {
+        schedule();
+        lock.lock();
+        try {
+            long target = receivedCount;
+            while (deliveredCount < target) {
+                delivered.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until all events received before the invocation of this method have been delivered or
+     * the timeout expires.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if all events have been delivered, false if the timeout expired
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean flush(long timeout, TimeUnit unit)
+        throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        schedule();
+        lock.lock();
+        try {
+            long target = receivedCount;
+            while (deliveredCount < target) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = delivered.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of events which are buffered and not yet delivered.
+     *
+     * @return the number of pending events
+     */
+    public int getPendingCount()
+    {
+        lock.lock();
+        try {
+            return (int) (receivedCount - deliveredCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of events discarded because the buffer was full. Only the
+     * {@link OverflowPolicy#DISCARD} policy discards events.
+     *
+     * @return the number of discarded events
+     */
+    public long getDiscardedCount()
+    {
+        lock.lock();
+        try {
+            return discardedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        enqueue(copy(e));
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        enqueue(copy(e));
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        enqueue(copy(e));
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        enqueue(copy(e));
+    }
+
+    @Override
+    public void graphChanged(GraphBatchChangeEvent<V, E> e)
+    {
+        enqueue(e);
+    }
+
+    private void enqueue(GraphChangeEvent e)
+    {
+        lock.lock();
+        try {
+            while (size == buffer.length) {
+                switch (policy) {
+                case DISCARD:
+                    discardedCount++;
+                    return;
+                case FAIL:
+                    throw new IllegalStateException("Event buffer is full");
+                default:
+                    if (!scheduled) {
+                        // a previous submission failed, nobody else will empty the buffer
+                        lock.unlock();
+                        try {
+                            schedule();
+                        } finally {
+                            lock.lock();
+                        }
+                        continue;
+                    }
+                    notFull.awaitUninterruptibly();
+                }
+            }
+            buffer[(head + size) % buffer.length] = e;
+            size++;
+            receivedCount++;
+            if (scheduled) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        schedule();
+    }
+
+    /**
+     * Submit a delivery task if events are buffered and no task is active. Must be called without
+     * holding the lock, since the executor may run the task in the calling thread.
+     */
+    private void schedule()
+    {
+        lock.lock();
+        try {
+            if (scheduled || size == 0) {
+                return;
+            }
+            scheduled = true;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            executor.execute(deliveryTask);
+        } catch (RejectedExecutionException ex) {
+            // the buffered events are kept for the next submission
+            lock.lock();
+            try {
+                scheduled = false;
+            } finally {
+                lock.unlock();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Deliver buffered events until the buffer is empty. At most one such task is active at any
+     * time, which keeps the events in order.
+     */
+    private void deliver()
+    {
+        GraphChangeEvent e = null;
+        try {
+            while (true) {
+                lock.lock();
+                try {
+                    if (e != null) {
+                        deliveredCount++;
+                        delivered.signalAll();
+                        e = null;
+                    }
+                    if (size == 0) {
+                        scheduled = false;
+                        return;
+                    }
+                    e = buffer[head];
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    size--;
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    dispatch(e);
+                } catch (RuntimeException ex) {
+                    Thread t = Thread.currentThread();
+                    t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+                }
+            }
+        } finally {
+            if (e != null) {
+                // an error escaped from the listener, hand the remaining events to a new task
+                lock.lock();
+                try {
+                    deliveredCount++;
+                    delivered.signalAll();
+                    scheduled = false;
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    schedule();
+                } catch (RejectedExecutionException ex) {
+                    // retried by the next received event or flush
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(GraphChangeEvent e)
+    {
+        switch (e.getType()) {
+        case GraphVertexChangeEvent.VERTEX_ADDED:
+            delegate.vertexAdded((GraphVertexChangeEvent<V>) e);
+            break;
+        case GraphVertexChangeEvent.VERTEX_REMOVED:
+            delegate.vertexRemoved((GraphVertexChangeEvent<V>) e);
+            break;
+        case GraphEdgeChangeEvent.EDGE_ADDED:
+            delegate.edgeAdded((GraphEdgeChangeEvent<V, E>) e);
+            break;
+        case GraphEdgeChangeEvent.EDGE_REMOVED:
+            delegate.edgeRemoved((GraphEdgeChangeEvent<V, E>) e);
+            break;
+        default:
+            dispatchBatch((GraphBatchChangeEvent<V, E>) e);
+        }
+    }
+
+    private void dispatchBatch(GraphBatchChangeEvent<V, E> e)
+    {
+        if (delegate instanceof BatchGraphListener<?, ?>) {
+            ((BatchGraphListener<V, E>) delegate).graphChanged(e);
+            return;
+        }
+        Object source = e.getSource();
+        for (GraphEdgeChangeEvent<V, E> edgeEvent : e.getRemovedEdges()) {
+            delegate.edgeRemoved(edgeEvent);
+        }
+        for (V v : e.getRemovedVertices()) {
+            delegate.vertexRemoved(
+                new GraphVertexChangeEvent<>(source, GraphVertexChangeEvent.VERTEX_REMOVED, v));
+        }
+        for (V v : e.getAddedVertices()) {
+            delegate.vertexAdded(
+                new GraphVertexChangeEvent<>(source, GraphVertexChangeEvent.VERTEX_ADDED, v));
+        }
+        for (GraphEdgeChangeEvent<V, E> edgeEvent : e.getAddedEdges()) {
+            delegate.edgeAdded(edgeEvent);
+        }
+    }
+
+    private static <V> GraphVertexChangeEvent<V> copy(GraphVertexChangeEvent<V> e)
+    {
+        if (e.getClass() == GraphVertexChangeEvent.class) {
+            return e;
+        }
+        return new GraphVertexChangeEvent<>(e.getSource(), e.getType(), e.getVertex());
+    }
+
+    private static <V, E> GraphEdgeChangeEvent<V, E> copy(GraphEdgeChangeEvent<V, E> e)
+    {
+        if (e.getClass() == GraphEdgeChangeEvent.class) {
+            return e;
+        }
+        return new GraphEdgeChangeEvent<>(
+            e.getSource(), e.getType(), e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+}
+
+// End AsyncGraphListener.java
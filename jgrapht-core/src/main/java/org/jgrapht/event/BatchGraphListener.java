@@ -0,0 +1,48 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.event;
+
+/**
+ * A graph listener which is able to process a whole batch of modifications at once.
+ *
+ * <p>
+ * While a batch is in progress on a {@link org.jgrapht.graph.DefaultListenableGraph}, a batch
+ * listener receives no per-modification callbacks. Instead, when the batch is committed, it
+ * receives a single {@link GraphBatchChangeEvent} with the net changes of the whole batch.
+ * Modifications performed outside of a batch are delivered using the usual {@link GraphListener}
+ * callbacks.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see org.jgrapht.graph.DefaultListenableGraph#beginBatch()
+ * @since October 2026
+ */
+public interface BatchGraphListener<V, E>
+    extends GraphListener<V, E>
+{
+    /**
+     * Notifies that a batch of modifications has been committed to the graph.
+     *
+     * @param e the batch event.
+     */
+    void graphChanged(GraphBatchChangeEvent<V, E> e);
+}
+
+// End BatchGraphListener.java
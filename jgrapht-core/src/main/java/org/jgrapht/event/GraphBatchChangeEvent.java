@@ -0,0 +1,219 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.event;
+
+import java.util.*;
+
+/**
+ * An event which indicates that a batch of modifications has been applied to a graph. The event
+ * lists the net changes of the batch: a vertex or an edge which was added and removed again within
+ * the same batch does not appear at all, and neither does one which was removed and added back
+ * (with the same endpoints in the case of an edge).
+ *
+ * <p>
+ * The changes are reported as if they were applied in the following order: first all edge
+ * removals, then all vertex removals, then all vertex additions and finally all edge additions.
+ * Applying them in this order to the graph as it was before the batch yields the graph after the
+ * batch. Within each group the changes are listed in the order in which they first happened.
+ *
+ * <p>
+ * Since listeners may have been queried while the batch was in progress, the event also lists
+ * every vertex touched by the batch, including the vertices of changes which cancel out. A listener
+ * which caches state per vertex should invalidate it for all touched vertices, and a listener
+ * which caches global state should discard it if {@link #hasCancelledChanges()} is true. For this
+ * reason the event is delivered even if the batch has no net changes.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see BatchGraphListener
+ * @since October 2026
+ */
+public class GraphBatchChangeEvent<V, E>
+    extends GraphChangeEvent
+{
+    private static final long serialVersionUID = 2305419212734968711L;
+
+    /**
+     * Batch changed event. This event is fired after a batch of modifications has been committed.
+     */
+    public static final int BATCH_CHANGED = 31;
+
+    private final List<V> addedVertices;
+    private final List<V> removedVertices;
+    private final List<GraphEdgeChangeEvent<V, E>> addedEdges;
+    private final List<GraphEdgeChangeEvent<V, E>> removedEdges;
+    private final List<V> touchedVertices;
+    private final boolean cancelledChanges;
+
+    /**
+     * Creates a new batch change event without cancelled changes. The touched vertices are the
+     * added and removed vertices and the endpoints of the added and removed edges.
+     *
+     * @param eventSource the source of the event.
+     * @param addedVertices the vertices added by the batch
+     * @param removedVertices the vertices removed by the batch
+     * @param addedEdges the edges added by the batch together with their endpoints
+     * @param removedEdges the edges removed by the batch together with their endpoints
+     */
+    public GraphBatchChangeEvent(
+        Object eventSource, Collection<V> addedVertices, Collection<V> removedVertices,
+        Collection<GraphEdgeChangeEvent<V, E>> addedEdges,
+        Collection<GraphEdgeChangeEvent<V, E>> removedEdges)
+    {
+        this(
+            eventSource, addedVertices, removedVertices, addedEdges, removedEdges,
+            endpoints(addedVertices, removedVertices, addedEdges, removedEdges), false);
+    }
+
+    /**
+     * Creates a new batch change event.
+     *
+     * @param eventSource the source of the event.
+     * @param addedVertices the vertices added by the batch
+     * @param removedVertices the vertices removed by the batch
+     * @param addedEdges the edges added by the batch together with their endpoints
+     * @param removedEdges the edges removed by the batch together with their endpoints
+     * @param touchedVertices all vertices touched by the batch, including the vertices of changes
+     *        which cancel out
+     * @param cancelledChanges whether some changes of the batch cancel out
+     */
+    public GraphBatchChangeEvent(
+        Object eventSource, Collection<V> addedVertices, Collection<V> removedVertices,
+        Collection<GraphEdgeChangeEvent<V, E>> addedEdges,
+        Collection<GraphEdgeChangeEvent<V, E>> removedEdges, Collection<V> touchedVertices,
+        boolean cancelledChanges)
+    {
+        super(eventSource, BATCH_CHANGED);
+        this.addedVertices = Collections.unmodifiableList(new ArrayList<>(addedVertices));
+        this.removedVertices = Collections.unmodifiableList(new ArrayList<>(removedVertices));
+        this.addedEdges = Collections.unmodifiableList(new ArrayList<>(addedEdges));
+        this.removedEdges = Collections.unmodifiableList(new ArrayList<>(removedEdges));
+        this.touchedVertices = Collections.unmodifiableList(new ArrayList<>(touchedVertices));
+        this.cancelledChanges = cancelledChanges;
+    }
+
+    private static <V, E> Set<V> endpoints(
+        Collection<V> addedVertices, Collection<V> removedVertices,
+        Collection<GraphEdgeChangeEvent<V, E>> addedEdges,
+        Collection<GraphEdgeChangeEvent<V, E>> removedEdges)
+    {
+        Set<V> touched = new LinkedHashSet<>();
+        for (GraphEdgeChangeEvent<V, E> e : removedEdges) {
+            touched.add(e.getEdgeSource());
+            touched.add(e.getEdgeTarget());
+        }
+        touched.addAll(removedVertices);
+        touched.addAll(addedVertices);
+        for (GraphEdgeChangeEvent<V, E> e : addedEdges) {
+            touched.add(e.getEdgeSource());
+            touched.add(e.getEdgeTarget());
+        }
+        return touched;
+    }
+
+    /**
+     * Returns the vertices added by the batch.
+     *
+     * @return the vertices added by the batch
+     */
+    public List<V> getAddedVertices()
+    {
+        return addedVertices;
+    }
+
+    /**
+     * Returns the vertices removed by the batch.
+     *
+     * @return the vertices removed by the batch
+     */
+    public List<V> getRemovedVertices()
+    {
+        return removedVertices;
+    }
+
+    /**
+     * Returns the edges added by the batch. Each edge is reported as an edge added event which also
+     * contains its endpoints.
+     *
+     * @return the edges added by the batch
+     */
+    public List<GraphEdgeChangeEvent<V, E>> getAddedEdges()
+    {
+        return addedEdges;
+    }
+
+    /**
+     * Returns the edges removed by the batch. Each edge is reported as an edge removed event which
+     * also contains the endpoints it had before its removal.
+     *
+     * @return the edges removed by the batch
+     */
+    public List<GraphEdgeChangeEvent<V, E>> getRemovedEdges()
+    {
+        return removedEdges;
+    }
+
+    /**
+     * Returns every vertex touched by the batch: the vertices which were added or removed and the
+     * endpoints of the edges which were added or removed, including changes which cancel out. Some
+     * of these vertices may no longer be contained in the graph.
+     *
+     * @return the vertices touched by the batch
+     */
+    public List<V> getTouchedVertices()
+    {
+        return touchedVertices;
+    }
+
+    /**
+     * Tests whether some changes of the batch cancel out, and are thus not reported as net changes.
+     * Listeners which were queried while the batch was in progress may hold state which reflects
+     * such intermediate changes.
+     *
+     * @return true if some changes of the batch cancel out, false otherwise
+     */
+    public boolean hasCancelledChanges()
+    {
+        return cancelledChanges;
+    }
+
+    /**
+     * Tests whether the batch removed any vertices or edges.
+     *
+     * @return true if the batch removed any vertices or edges, false otherwise
+     */
+    public boolean hasRemovals()
+    {
+        return !removedVertices.isEmpty() || !removedEdges.isEmpty();
+    }
+
+    /**
+     * Tests whether the batch has no net changes.
+     *
+     * @return true if the batch has no net changes, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return addedVertices.isEmpty() && removedVertices.isEmpty() && addedEdges.isEmpty()
+            && removedEdges.isEmpty();
+    }
+}
+
+// End GraphBatchChangeEvent.java
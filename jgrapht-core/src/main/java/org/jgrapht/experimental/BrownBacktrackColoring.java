@@ -20,9 +20,14 @@ package org.jgrapht.experimental;
 import java.util.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 
 /**
  * Brown graph coloring algorithm.
+ *
+ * <p>
+ * The number of recursive coloring steps of each invocation is reported as backtracking steps to
+ * the {@link #setMetrics(AlgorithmMetrics) metrics} of the algorithm.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -30,6 +35,7 @@ import org.jgrapht.*;
  * @author Michael Behrisch
  */
 public class BrownBacktrackColoring<V, E>
+    extends BaseCancellableAlgorithm
 {
     private final List<V> _vertices;
     private final int[][] _neighbors;
@@ -39,6 +45,9 @@ public class BrownBacktrackColoring<V, E>
     private int[] _colorCount;
     private BitSet[] _allowedColors;
     private int _chi;
+    private long _steps;
+    private AlgorithmMetrics _metrics = AlgorithmMetrics.NONE;
+    private CancellationToken.Checker _cancellationChecker;
 
     /**
      * Construct a new Brown backtracking algorithm.
@@ -65,8 +74,30 @@ public class BrownBacktrackColoring<V, E>
         }
     }
 
+    /**
+     * Get the metrics which receive the work counters of each invocation.
+     *
+     * @return the metrics
+     */
+    public AlgorithmMetrics getMetrics()
+    {
+        return _metrics;
+    }
+
+    /**
+     * Set the metrics which receive the work counters of each invocation.
+     *
+     * @param metrics the metrics, or {@link AlgorithmMetrics#NONE} to disable reporting
+     */
+    public void setMetrics(AlgorithmMetrics metrics)
+    {
+        _metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
+    }
+
     void recursiveColor(int pos)
     {
+        _steps++;
+        _cancellationChecker.checkCancelled();
         _colorCount[pos] = _colorCount[pos - 1];
         _allowedColors[pos].set(0, _colorCount[pos] + 1);
         for (int i = 0; i < _neighbors[pos].length; i++) {
@@ -114,7 +145,10 @@ public class BrownBacktrackColoring<V, E>
         for (int i = 0; i < _neighbors.length; i++) {
             _allowedColors[i] = new BitSet(1);
         }
+        _steps = 0;
+        _cancellationChecker = newCancellationChecker();
         recursiveColor(1);
+        _metrics.record(getClass(), AlgorithmMetrics.Counter.BACKTRACKING_STEPS, _steps);
         if (additionalData != null) {
             for (int i = 0; i < _vertices.size(); i++) {
                 additionalData.put(_vertices.get(i), _color[i]);
@@ -18,6 +18,7 @@
 package org.jgrapht.graph;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.event.*;
@@ -34,6 +35,20 @@ import org.jgrapht.util.*;
  * but relies on <tt>Object</tt>'s <tt>equals</tt> and <tt>hashCode</tt> methods.
  * </p>
  *
+ * <p>
+ * Modifications can be grouped into a batch using {@link #beginBatch()} and {@link #commitBatch()}.
+ * While a batch is in progress, listeners implementing {@link BatchGraphListener} receive no
+ * per-modification callbacks; on commit they receive a single {@link GraphBatchChangeEvent} with
+ * the net changes of the batch and the vertices it touched. All other listeners keep receiving the
+ * per-modification callbacks immediately, so batches are transparent to them.
+ * </p>
+ *
+ * <p>
+ * Listeners are invoked by the thread modifying the graph. A listener can be registered using
+ * {@link #addAsyncGraphListener(GraphListener, Executor, int, AsyncGraphListener.OverflowPolicy)}
+ * in order to receive the events asynchronously on an executor instead.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -53,6 +68,8 @@ public class DefaultListenableGraph<V, E>
     private FlyweightEdgeEvent<V, E> reuseableEdgeEvent;
     private FlyweightVertexEvent<V> reuseableVertexEvent;
     private boolean reuseEvents;
+    private transient int batchDepth;
+    private transient BatchRecorder<V, E> batch;
 
     /**
      * Creates a new listenable graph.
@@ -115,6 +132,62 @@ public class DefaultListenableGraph<V, E>
         return reuseEvents;
     }
 
+    /**
+     * Starts a batch of modifications. Batches may be nested, in which case only the outermost
+     * {@link #commitBatch()} delivers the batch event. Callers should commit the batch in a
+     * <code>finally</code> block, so that batch listeners are notified even if a modification
+     * fails.
+     *
+     * <p>
+     * Until the batch is committed, the state of batch listeners may not reflect the modifications
+     * performed so far.
+     */
+    public void beginBatch()
+    {
+        if (batchDepth++ == 0) {
+            batch = new BatchRecorder<>(this);
+        }
+    }
+
+    /**
+     * Commits the current batch of modifications. When the outermost batch is committed, every
+     * {@link BatchGraphListener} is notified once with the net changes of the batch, unless the
+     * batch did not modify the graph at all. A batch whose changes cancel out is still delivered,
+     * so that listeners queried during the batch can invalidate the touched vertices.
+     *
+     * @throws IllegalStateException if no batch is in progress
+     */
+    public void commitBatch()
+    {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        GraphBatchChangeEvent<V, E> e = batch.toEvent();
+        batch = null;
+        if (e.getTouchedVertices().isEmpty()) {
+            return;
+        }
+        for (GraphListener<V, E> l : graphListeners) {
+            if (l instanceof BatchGraphListener<?, ?>) {
+                ((BatchGraphListener<V, E>) l).graphChanged(e);
+            }
+        }
+    }
+
+    /**
+     * Tests whether a batch of modifications is in progress.
+     *
+     * @return true if a batch is in progress, false otherwise
+     */
+    public boolean isBatchInProgress()
+    {
+        return batchDepth > 0;
+    }
+
     /**
      * @see Graph#addEdge(Object, Object)
      */
@@ -154,6 +227,27 @@ public class DefaultListenableGraph<V, E>
         addToListenerList(graphListeners, l);
     }
 
+    /**
+     * Adds a listener which receives the events asynchronously. The events are buffered and
+     * delivered in order by the given executor, see {@link AsyncGraphListener}. The returned
+     * listener can be used to wait for the delivery of the buffered events and must be passed to
+     * {@link #removeGraphListener(GraphListener)} in order to remove the listener.
+     *
+     * @param l the listener
+     * @param executor the executor delivering the events
+     * @param capacity the maximum number of buffered events
+     * @param policy what to do with an event while the buffer is full
+     * @return the registered asynchronous listener
+     */
+    public AsyncGraphListener<V, E> addAsyncGraphListener(
+        GraphListener<V, E> l, Executor executor, int capacity,
+        AsyncGraphListener.OverflowPolicy policy)
+    {
+        AsyncGraphListener<V, E> async = new AsyncGraphListener<>(l, executor, capacity, policy);
+        addGraphListener(async);
+        return async;
+    }
+
     /**
      * @see Graph#addVertex(Object)
      */
@@ -188,6 +282,8 @@ public class DefaultListenableGraph<V, E>
             DefaultListenableGraph<V, E> g = TypeUtil.uncheckedCast(super.clone(), null);
             g.graphListeners = new ArrayList<>();
             g.vertexSetListeners = new ArrayList<>();
+            g.batchDepth = 0;
+            g.batch = null;
 
             return g;
         } catch (CloneNotSupportedException e) {
@@ -283,7 +379,12 @@ public class DefaultListenableGraph<V, E>
             createGraphEdgeChangeEvent(GraphEdgeChangeEvent.EDGE_ADDED, edge, source, target);
 
         for (GraphListener<V, E> l : graphListeners) {
-            l.edgeAdded(e);
+            if (!isDeferred(l)) {
+                l.edgeAdded(e);
+            }
+        }
+        if (batch != null) {
+            batch.edgeAdded(edge, source, target);
         }
     }
 
@@ -300,7 +401,12 @@ public class DefaultListenableGraph<V, E>
             createGraphEdgeChangeEvent(GraphEdgeChangeEvent.EDGE_REMOVED, edge, source, target);
 
         for (GraphListener<V, E> l : graphListeners) {
-            l.edgeRemoved(e);
+            if (!isDeferred(l)) {
+                l.edgeRemoved(e);
+            }
+        }
+        if (batch != null) {
+            batch.edgeRemoved(edge, source, target);
         }
     }
 
@@ -319,7 +425,12 @@ public class DefaultListenableGraph<V, E>
         }
 
         for (GraphListener<V, E> l : graphListeners) {
-            l.vertexAdded(e);
+            if (!isDeferred(l)) {
+                l.vertexAdded(e);
+            }
+        }
+        if (batch != null) {
+            batch.vertexAdded(vertex);
         }
     }
 
@@ -338,10 +449,20 @@ public class DefaultListenableGraph<V, E>
         }
 
         for (GraphListener<V, E> l : graphListeners) {
-            l.vertexRemoved(e);
+            if (!isDeferred(l)) {
+                l.vertexRemoved(e);
+            }
+        }
+        if (batch != null) {
+            batch.vertexRemoved(vertex);
         }
     }
 
+    private boolean isDeferred(GraphListener<V, E> l)
+    {
+        return batch != null && l instanceof BatchGraphListener<?, ?>;
+    }
+
     private static <L extends EventListener> void addToListenerList(List<L> list, L l)
     {
         if (!list.contains(l)) {
@@ -376,6 +497,83 @@ public class DefaultListenableGraph<V, E>
         }
     }
 
+    /**
+     * Collects the modifications of a batch, cancelling out the ones which revert each other but
+     * remembering every vertex they touched.
+     */
+    private static class BatchRecorder<VV, EE>
+    {
+        private final Object eventSource;
+        private final Set<VV> addedVertices = new LinkedHashSet<>();
+        private final Set<VV> removedVertices = new LinkedHashSet<>();
+        private final Map<EE, GraphEdgeChangeEvent<VV, EE>> addedEdges = new LinkedHashMap<>();
+        private final Map<EE, GraphEdgeChangeEvent<VV, EE>> removedEdges = new LinkedHashMap<>();
+        private final Set<VV> touchedVertices = new LinkedHashSet<>();
+        private boolean cancelledChanges;
+
+        BatchRecorder(Object eventSource)
+        {
+            this.eventSource = eventSource;
+        }
+
+        void vertexAdded(VV v)
+        {
+            touchedVertices.add(v);
+            if (removedVertices.remove(v)) {
+                cancelledChanges = true;
+            } else {
+                addedVertices.add(v);
+            }
+        }
+
+        void vertexRemoved(VV v)
+        {
+            touchedVertices.add(v);
+            if (addedVertices.remove(v)) {
+                cancelledChanges = true;
+            } else {
+                removedVertices.add(v);
+            }
+        }
+
+        void edgeAdded(EE e, VV source, VV target)
+        {
+            touchedVertices.add(source);
+            touchedVertices.add(target);
+            GraphEdgeChangeEvent<VV, EE> removed = removedEdges.get(e);
+            if (removed != null && removed.getEdgeSource().equals(source)
+                && removed.getEdgeTarget().equals(target))
+            {
+                removedEdges.remove(e);
+                cancelledChanges = true;
+            } else {
+                addedEdges.put(
+                    e, new GraphEdgeChangeEvent<>(
+                        eventSource, GraphEdgeChangeEvent.EDGE_ADDED, e, source, target));
+            }
+        }
+
+        void edgeRemoved(EE e, VV source, VV target)
+        {
+            touchedVertices.add(source);
+            touchedVertices.add(target);
+            if (addedEdges.remove(e) != null) {
+                cancelledChanges = true;
+            } else {
+                removedEdges.put(
+                    e, new GraphEdgeChangeEvent<>(
+                        eventSource, GraphEdgeChangeEvent.EDGE_REMOVED, e, source, target));
+            }
+        }
+
+        GraphBatchChangeEvent<VV, EE> toEvent()
+        {
+            return new GraphBatchChangeEvent<>(
+                eventSource, addedVertices, removedVertices, addedEdges.values(),
+                removedEdges.values(), touchedVertices, cancelledChanges);
+        }
+    }
+
     /**
      * A reuseable edge event.
      *
@@ -21,8 +21,10 @@ import java.io.*;
 import java.util.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.builder.*;
 import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
 
 /**
  * A directed acyclic graph (DAG).
@@ -50,6 +52,15 @@ import org.jgrapht.traverse.*;
  * previously mentioned paper.
  *
  * <p>
+ * Reachability queries are answered by {@link #isReachable(Object, Object)} using an index which is
+ * created on the first query and afterwards maintained on every modification. The index is a
+ * variant of GRAIL (Yildirim, Chaoji and Zaki. "GRAIL: Scalable Reachability Index for Large
+ * Graphs", PVLDB 3(1), 2010): every vertex is labeled with a few intervals such that the interval
+ * of a vertex contains the intervals of all its descendants. Most negative queries are answered by
+ * a failed containment test or by comparing the topological indices, and the remaining queries
+ * run a depth-first search pruned by the same tests.
+ *
+ * <p>
  * This class makes no claims to thread safety, and concurrent usage from multiple threads will
  * produce undefined results.
  * 
@@ -65,6 +76,13 @@ public class DirectedAcyclicGraph<V, E>
     private static final long serialVersionUID = 4522128427004938150L;
 
     private static final String EDGE_WOULD_INDUCE_A_CYCLE = "Edge would induce a cycle";
+    private static final String EDGES_WOULD_INDUCE_A_CYCLE = "Edges would induce a cycle";
+
+    /**
+     * A batch of edges is inserted by recomputing the topological order from scratch if it
+     * contains at least a (1 / BULK_LOAD_RATIO) fraction of the vertices and edges of the graph.
+     */
+    private static final int BULK_LOAD_RATIO = 8;
 
     private final Comparator<V> topoComparator;
     private final TopoOrderMap<V> topoOrderMap;
@@ -79,6 +97,11 @@ public class DirectedAcyclicGraph<V, E>
      */
     private final VisitedStrategyFactory visitedStrategyFactory;
 
+    /**
+     * The reachability index, created lazily on the first reachability query.
+     */
+    private transient ReachabilityIndex reachabilityIndex;
+
     /**
      * Construct a directed acyclic graph.
      * 
@@ -189,6 +212,10 @@ public class DirectedAcyclicGraph<V, E>
             ++maxTopoIndex;
             topoOrderMap.putVertex(maxTopoIndex, v);
             ++topoModCount;
+
+            if (reachabilityIndex != null) {
+                reachabilityIndex.vertexAdded(v);
+            }
         }
 
         return added;
@@ -221,6 +248,10 @@ public class DirectedAcyclicGraph<V, E>
             }
 
             ++topoModCount;
+
+            if (reachabilityIndex != null) {
+                reachabilityIndex.vertexRemoved(v);
+            }
         }
 
         return removed;
@@ -249,6 +280,9 @@ public class DirectedAcyclicGraph<V, E>
         } catch (CycleFoundException e) {
             throw new IllegalArgumentException(EDGE_WOULD_INDUCE_A_CYCLE);
         }
+        if (result != null && reachabilityIndex != null) {
+            reachabilityIndex.edgeAdded(sourceVertex, targetVertex);
+        }
         return result;
     }
 
@@ -281,9 +315,136 @@ public class DirectedAcyclicGraph<V, E>
         } catch (CycleFoundException ex) {
             throw new IllegalArgumentException(EDGE_WOULD_INDUCE_A_CYCLE);
         }
+        if (result && reachabilityIndex != null) {
+            reachabilityIndex.edgeAdded(sourceVertex, targetVertex);
+        }
+        return result;
+    }
+
+    /**
+     * Add a batch of edges to the graph, creating them with the edge factory. Either all edges are
+     * added or, if they would induce a cycle, none of them.
+     *
+     * <p>
+     * A small batch is inserted edge by edge, maintaining the topological order incrementally as
+     * in {@link #addEdge(Object, Object)}. A batch which is large compared to the graph, such as
+     * the initial load of a graph, is instead validated by a single topological sort (Kahn's
+     * algorithm) over the graph and the new edges in O(n+m) time, after which the topological
+     * order is replaced by the computed one.
+     *
+     * @param edges the source and target vertices of the edges to add
+     * @return the newly created edges in the order of the batch, with null for every pair which
+     *         was not added because the graph does not allow multiple edges between two vertices
+     * @throws IllegalArgumentException if a vertex is not contained in the graph or if the edges
+     *         would induce a cycle in the graph
+     */
+    public List<E> addEdges(Collection<? extends Pair<V, V>> edges)
+    {
+        for (Pair<V, V> p : edges) {
+            assertVertexExist(p.getFirst());
+            assertVertexExist(p.getSecond());
+        }
+
+        List<E> result = new ArrayList<>(edges.size());
+        if ((long) edges.size() * BULK_LOAD_RATIO < vertexSet().size() + edgeSet().size()) {
+            try {
+                for (Pair<V, V> p : edges) {
+                    result.add(addEdge(p.getFirst(), p.getSecond()));
+                }
+            } catch (IllegalArgumentException e) {
+                // the order remains valid when edges are removed
+                for (E edge : result) {
+                    if (edge != null) {
+                        removeEdge(edge);
+                    }
+                }
+                throw new IllegalArgumentException(EDGES_WOULD_INDUCE_A_CYCLE, e);
+            }
+            return result;
+        }
+
+        List<V> order = topologicalSort(edges);
+        if (order == null) {
+            throw new IllegalArgumentException(EDGES_WOULD_INDUCE_A_CYCLE);
+        }
+        for (Pair<V, V> p : edges) {
+            result.add(super.addEdge(p.getFirst(), p.getSecond()));
+        }
+        topoOrderMap.removeAllVertices();
+        for (int i = 0; i < order.size(); i++) {
+            topoOrderMap.putVertex(i + 1, order.get(i));
+        }
+        minTopoIndex = 0;
+        maxTopoIndex = order.size();
+        ++topoModCount;
+        reachabilityIndex = null;
         return result;
     }
 
+    /**
+     * Topological sort of the graph together with additional edges using Kahn's algorithm.
+     * Vertices become ready in their current topological order, so that the new order stays close
+     * to the old one.
+     *
+     * @param additionalEdges the additional edges
+     * @return the vertices in topological order, or null if there is a cycle
+     */
+    private List<V> topologicalSort(Collection<? extends Pair<V, V>> additionalEdges)
+    {
+        int n = vertexSet().size();
+        List<V> vertices = new ArrayList<>(n);
+        Map<V, Integer> index = new HashMap<>();
+        for (Iterator<V> it = iterator(); it.hasNext();) {
+            V v = it.next();
+            index.put(v, vertices.size());
+            vertices.add(v);
+        }
+
+        // successors of the additional edges as linked lists over the batch
+        int[] inDegree = new int[n];
+        int[] head = new int[n];
+        Arrays.fill(head, -1);
+        int[] next = new int[additionalEdges.size()];
+        int[] target = new int[additionalEdges.size()];
+        int k = 0;
+        for (Pair<V, V> p : additionalEdges) {
+            int u = index.get(p.getFirst());
+            target[k] = index.get(p.getSecond());
+            inDegree[target[k]]++;
+            next[k] = head[u];
+            head[u] = k++;
+        }
+        for (int v = 0; v < n; v++) {
+            inDegree[v] += inDegreeOf(vertices.get(v));
+        }
+
+        int[] queue = new int[n];
+        int queueHead = 0, queueTail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                queue[queueTail++] = v;
+            }
+        }
+        List<V> order = new ArrayList<>(n);
+        while (queueHead < queueTail) {
+            int u = queue[queueHead++];
+            V vertex = vertices.get(u);
+            order.add(vertex);
+            for (E e : outgoingEdgesOf(vertex)) {
+                int w = index.get(getEdgeTarget(e));
+                if (--inDegree[w] == 0) {
+                    queue[queueTail++] = w;
+                }
+            }
+            for (int e = head[u]; e != -1; e = next[e]) {
+                if (--inDegree[target[e]] == 0) {
+                    queue[queueTail++] = target[e];
+                }
+            }
+        }
+        return order.size() == n ? order : null;
+    }
+
     /**
      * Get the ancestors of a vertex.
      * 
@@ -327,6 +488,47 @@ public class DirectedAcyclicGraph<V, E>
         return descendants;
     }
 
+    /**
+     * Test whether there is a directed path from a source to a target vertex. Every vertex is
+     * reachable from itself.
+     *
+     * <p>
+     * The first call builds the reachability index in O(k(n+m)) time, where k is a small constant
+     * number of interval labels per vertex. Afterwards vertex and edge additions update the labels
+     * of the affected ancestors only, and removals keep the labels since they remain valid. When
+     * the accumulated update work exceeds the size of the graph the index is rebuilt on the next
+     * query in order to keep the labels tight.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return true if the target vertex is reachable from the source vertex, false otherwise
+     * @throws IllegalArgumentException if any of the vertices is not contained in the graph
+     */
+    public boolean isReachable(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (reachabilityIndex == null || reachabilityIndex.isStale()) {
+            reachabilityIndex = new ReachabilityIndex();
+        }
+        return reachabilityIndex.isReachable(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Returns a shallow copy of this graph instance. The reachability index is not shared with
+     * the copy.
+     *
+     * @return a shallow copy of this graph
+     */
+    @Override
+    public Object clone()
+    {
+        DirectedAcyclicGraph<V, E> newGraph = TypeUtil.uncheckedCast(super.clone(), null);
+        newGraph.reachabilityIndex = null;
+        return newGraph;
+    }
+
     /**
      * Returns a topological order iterator.
      * 
@@ -371,7 +573,8 @@ public class DirectedAcyclicGraph<V, E>
 
     /**
      * Depth first search forward, building up the set (df) of forward-connected vertices in the
-     * Affected Region
+     * Affected Region. The search uses an explicit stack, so large regions do not exhaust the call
+     * stack.
      *
      * @param vertex the vertex being visited
      * @param df the set we are populating with forward connected vertices in the Affected Region
@@ -383,39 +586,44 @@ public class DirectedAcyclicGraph<V, E>
     private void dfsF(V vertex, Set<V> df, VisitedStrategy visited, Region affectedRegion)
         throws CycleFoundException
     {
-        int topoIndex = topoOrderMap.getTopologicalIndex(vertex);
+        Deque<V> stack = new ArrayDeque<>();
 
         // Assumption: vertex is in the AR and so it will be in visited
-        visited.setVisited(topoIndex);
-
+        visited.setVisited(topoOrderMap.getTopologicalIndex(vertex));
         df.add(vertex);
-
-        for (E outEdge : outgoingEdgesOf(vertex)) {
-            V nextVertex = getEdgeTarget(outEdge);
-            Integer nextVertexTopoIndex = topoOrderMap.getTopologicalIndex(nextVertex);
-
-            if (nextVertexTopoIndex == affectedRegion.finish) {
-                // reset visited
-                try {
-                    for (V visitedVertex : df) {
-                        visited.clearVisited(topoOrderMap.getTopologicalIndex(visitedVertex));
+        stack.push(vertex);
+
+        while (!stack.isEmpty()) {
+            V v = stack.pop();
+            for (E outEdge : outgoingEdgesOf(v)) {
+                V nextVertex = getEdgeTarget(outEdge);
+                Integer nextVertexTopoIndex = topoOrderMap.getTopologicalIndex(nextVertex);
+
+                if (nextVertexTopoIndex == affectedRegion.finish) {
+                    // reset visited
+                    try {
+                        for (V visitedVertex : df) {
+                            visited.clearVisited(topoOrderMap.getTopologicalIndex(visitedVertex));
+                        }
+                    } catch (UnsupportedOperationException e) {
+                        // okay, fine, some implementations (ones that automatically
+                        // reset themselves out) don't work this way
                     }
-                } catch (UnsupportedOperationException e) {
-                    // okay, fine, some implementations (ones that automatically
-                    // reset themselves out) don't work this way
+                    throw new CycleFoundException();
                 }
-                throw new CycleFoundException();
-            }
 
-            /*
-             * Note, order of checks is important as we need to make sure the vertex is in the
-             * affected region before we check its visited status (otherwise we will be causing an
-             * ArrayIndexOutOfBoundsException).
-             */
-            if (affectedRegion.isIn(nextVertexTopoIndex)
-                && !visited.getVisited(nextVertexTopoIndex))
-            {
-                dfsF(nextVertex, df, visited, affectedRegion); // recurse
+                /*
+                 * Note, order of checks is important as we need to make sure the vertex is in the
+                 * affected region before we check its visited status (otherwise we will be causing
+                 * an ArrayIndexOutOfBoundsException).
+                 */
+                if (affectedRegion.isIn(nextVertexTopoIndex)
+                    && !visited.getVisited(nextVertexTopoIndex))
+                {
+                    visited.setVisited(nextVertexTopoIndex);
+                    df.add(nextVertex);
+                    stack.push(nextVertex);
+                }
             }
         }
     }
@@ -430,28 +638,32 @@ public class DirectedAcyclicGraph<V, E>
      */
     private void dfsB(V vertex, Set<V> db, VisitedStrategy visited, Region affectedRegion)
     {
+        Deque<V> stack = new ArrayDeque<>();
+
         // Assumption: vertex is in the AR and so we will get a topoIndex from
         // the map
-        int topoIndex = topoOrderMap.getTopologicalIndex(vertex);
-        visited.setVisited(topoIndex);
-
+        visited.setVisited(topoOrderMap.getTopologicalIndex(vertex));
         db.add(vertex);
-
-        for (E inEdge : incomingEdgesOf(vertex)) {
-            V previousVertex = getEdgeSource(inEdge);
-            Integer previousVertexTopoIndex = topoOrderMap.getTopologicalIndex(previousVertex);
-
-            /*
-             * Note, order of checks is important as we need to make sure the vertex is in the
-             * affected region before we check its visited status (otherwise we will be causing an
-             * ArrayIndexOutOfBoundsException).
-             */
-            if (affectedRegion.isIn(previousVertexTopoIndex)
-                && !visited.getVisited(previousVertexTopoIndex))
-            {
-                // if previousVertexTopoIndex != null, the vertex is in the
-                // Affected Region according to our topoIndexMap
-                dfsB(previousVertex, db, visited, affectedRegion);
+        stack.push(vertex);
+
+        while (!stack.isEmpty()) {
+            V v = stack.pop();
+            for (E inEdge : incomingEdgesOf(v)) {
+                V previousVertex = getEdgeSource(inEdge);
+                Integer previousVertexTopoIndex = topoOrderMap.getTopologicalIndex(previousVertex);
+
+                /*
+                 * Note, order of checks is important as we need to make sure the vertex is in the
+                 * affected region before we check its visited status (otherwise we will be causing
+                 * an ArrayIndexOutOfBoundsException).
+                 */
+                if (affectedRegion.isIn(previousVertexTopoIndex)
+                    && !visited.getVisited(previousVertexTopoIndex))
+                {
+                    visited.setVisited(previousVertexTopoIndex);
+                    db.add(previousVertex);
+                    stack.push(previousVertex);
+                }
             }
         }
     }
@@ -1120,6 +1332,210 @@ public class DirectedAcyclicGraph<V, E>
 
     }
 
+    /**
+     * Interval labels for reachability queries.
+     *
+     * <p>
+     * Each of the {@link #LABELS} labelings assigns a rank to every vertex using a depth-first
+     * traversal with a random order of the roots and successors, and labels every vertex $u$ with
+     * the interval $[\min r(w), \max r(w)]$ over all vertices $w$ reachable from $u$. If $v$ is
+     * reachable from $u$ then every interval of $v$ is contained in the corresponding interval of
+     * $u$. With post-order ranks the intervals are initially tight, and when an edge $(u,v)$ is
+     * added the intervals of $u$ and its ancestors are widened to contain the intervals of $v$.
+     * Removing vertices or edges only shrinks the reachable sets, so the labels remain valid.
+     */
+    private class ReachabilityIndex
+    {
+        private static final int LABELS = 2;
+
+        private final Map<V, int[]> labels;
+        private final Random random;
+        private int nextRank;
+        private long work;
+        private boolean stale;
+
+        ReachabilityIndex()
+        {
+            this.labels = new HashMap<>();
+            this.random = new Random(17);
+
+            List<V> roots = new ArrayList<>();
+            for (V v : vertexSet()) {
+                labels.put(v, new int[2 * LABELS]);
+                if (inDegreeOf(v) == 0) {
+                    roots.add(v);
+                }
+            }
+            for (int k = 0; k < LABELS; k++) {
+                Collections.shuffle(roots, random);
+                label(k, roots);
+            }
+            this.nextRank = vertexSet().size();
+        }
+
+        /**
+         * Iterative depth-first traversal assigning post-order ranks.
+         */
+        private void label(int k, List<V> roots)
+        {
+            Set<V> visited = new HashSet<>();
+            Deque<V> stack = new ArrayDeque<>();
+            Deque<Iterator<V>> successors = new ArrayDeque<>();
+            int rank = 0;
+
+            for (V root : roots) {
+                visited.add(root);
+                stack.push(root);
+                successors.push(shuffledSuccessors(root));
+                while (!stack.isEmpty()) {
+                    Iterator<V> it = successors.peek();
+                    if (it.hasNext()) {
+                        V w = it.next();
+                        if (visited.add(w)) {
+                            stack.push(w);
+                            successors.push(shuffledSuccessors(w));
+                        }
+                        continue;
+                    }
+
+                    V v = stack.pop();
+                    successors.pop();
+                    int[] label = labels.get(v);
+                    int low = rank;
+                    for (E e : outgoingEdgesOf(v)) {
+                        low = Math.min(low, labels.get(getEdgeTarget(e))[2 * k]);
+                    }
+                    label[2 * k] = low;
+                    label[2 * k + 1] = rank++;
+                }
+            }
+        }
+
+        private Iterator<V> shuffledSuccessors(V v)
+        {
+            List<V> successors = new ArrayList<>();
+            for (E e : outgoingEdgesOf(v)) {
+                successors.add(getEdgeTarget(e));
+            }
+            Collections.shuffle(successors, random);
+            return successors.iterator();
+        }
+
+        boolean isStale()
+        {
+            return stale;
+        }
+
+        void vertexAdded(V v)
+        {
+            int[] label = new int[2 * LABELS];
+            Arrays.fill(label, nextRank++);
+            labels.put(v, label);
+        }
+
+        void vertexRemoved(V v)
+        {
+            labels.remove(v);
+        }
+
+        /**
+         * Widen the intervals of the source vertex and its ancestors to contain the intervals of
+         * the target vertex.
+         */
+        void edgeAdded(V sourceVertex, V targetVertex)
+        {
+            if (stale) {
+                return;
+            }
+            int[] target = labels.get(targetVertex);
+            Deque<V> queue = new ArrayDeque<>();
+            if (widen(labels.get(sourceVertex), target)) {
+                queue.add(sourceVertex);
+            }
+            while (!queue.isEmpty()) {
+                V v = queue.poll();
+                int[] label = labels.get(v);
+                for (E e : incomingEdgesOf(v)) {
+                    if (++work > vertexSet().size() + edgeSet().size()) {
+                        stale = true;
+                        return;
+                    }
+                    V u = getEdgeSource(e);
+                    if (widen(labels.get(u), label)) {
+                        queue.add(u);
+                    }
+                }
+            }
+        }
+
+        private boolean widen(int[] label, int[] other)
+        {
+            boolean changed = false;
+            for (int i = 0; i < label.length; i += 2) {
+                if (other[i] < label[i]) {
+                    label[i] = other[i];
+                    changed = true;
+                }
+                if (other[i + 1] > label[i + 1]) {
+                    label[i + 1] = other[i + 1];
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private boolean contains(int[] label, int[] other)
+        {
+            for (int i = 0; i < label.length; i += 2) {
+                if (other[i] < label[i] || other[i + 1] > label[i + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Depth-first search which skips every vertex that cannot reach the target, either
+         * because it comes later in the topological order or because its intervals do not contain
+         * the intervals of the target.
+         */
+        boolean isReachable(V sourceVertex, V targetVertex)
+        {
+            if (sourceVertex.equals(targetVertex)) {
+                return true;
+            }
+            int targetTopoIndex = topoOrderMap.getTopologicalIndex(targetVertex);
+            int[] target = labels.get(targetVertex);
+            if (!canReach(sourceVertex, targetTopoIndex, target)) {
+                return false;
+            }
+
+            Set<V> visited = new HashSet<>();
+            Deque<V> stack = new ArrayDeque<>();
+            visited.add(sourceVertex);
+            stack.push(sourceVertex);
+            while (!stack.isEmpty()) {
+                V v = stack.pop();
+                for (E e : outgoingEdgesOf(v)) {
+                    V w = getEdgeTarget(e);
+                    if (w.equals(targetVertex)) {
+                        return true;
+                    }
+                    if (visited.add(w) && canReach(w, targetTopoIndex, target)) {
+                        stack.push(w);
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean canReach(V v, int targetTopoIndex, int[] target)
+        {
+            return topoOrderMap.getTopologicalIndex(v) < targetTopoIndex
+                && contains(labels.get(v), target);
+        }
+    }
+
     /**
      * An iterator which follows topological order
      *
@@ -32,6 +32,11 @@ import org.jgrapht.util.*;
  * Graph.getEdgeWeight(Edge) is summed to calculate path length. Negative edge weights will result
  * in an IllegalArgumentException. Optionally, path length may be bounded by a finite radius.
  * </p>
+ *
+ * <p>
+ * The fringe vertices are kept in a {@link DaryHeap} by default. A different
+ * {@link AddressableHeap} implementation can be used by providing a factory.
+ * </p>
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -40,12 +45,13 @@ import org.jgrapht.util.*;
  * @since Sep 2, 2003
  */
 public class ClosestFirstIterator<V, E>
-    extends CrossComponentIterator<V, E, FibonacciHeapNode<ClosestFirstIterator.QueueEntry<V, E>>>
+    extends
+    CrossComponentIterator<V, E, AddressableHeap.Handle<ClosestFirstIterator.QueueEntry<V, E>>>
 {
     /**
      * Priority queue of fringe vertices.
      */
-    private FibonacciHeap<QueueEntry<V, E>> heap = new FibonacciHeap<>();
+    private final AddressableHeap<QueueEntry<V, E>> heap;
 
     /**
      * Maximum distance to search.
@@ -122,8 +128,49 @@ public class ClosestFirstIterator<V, E>
      *        search.
      */
     public ClosestFirstIterator(Graph<V, E> g, Iterable<V> startVertices, double radius)
+    {
+        this(g, startVertices, radius, DaryHeap::new);
+    }
+
+    /**
+     * Creates a new radius-bounded closest-first iterator for the specified graph which uses a
+     * particular heap implementation. Iteration will start at the specified start vertex and will
+     * be limited to the subset of the connected component which includes that vertex and is
+     * reachable via paths of weighted length less than or equal to the specified radius.
+     *
+     * @param g the graph to be iterated.
+     * @param startVertex the vertex iteration to be started.
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded
+     *        search.
+     * @param heapFactory factory of the heap used as a priority queue.
+     */
+    public ClosestFirstIterator(
+        Graph<V, E> g, V startVertex, double radius,
+        AddressableHeap.Factory heapFactory)
+    {
+        this(
+            g, startVertex == null ? null : Collections.singletonList(startVertex), radius,
+            heapFactory);
+    }
+
+    /**
+     * Creates a new radius-bounded closest-first iterator for the specified graph which uses a
+     * particular heap implementation. Iteration will start at the specified start vertices and
+     * will be limited to the subset of the connected component which includes those vertices and
+     * their reachable via paths of weighted length less than or equal to the specified radius.
+     *
+     * @param g the graph to be iterated.
+     * @param startVertices the vertices iteration to be started.
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded
+     *        search.
+     * @param heapFactory factory of the heap used as a priority queue.
+     */
+    public ClosestFirstIterator(
+        Graph<V, E> g, Iterable<V> startVertices, double radius,
+        AddressableHeap.Factory heapFactory)
     {
         super(g, startVertices);
+        this.heap = Objects.requireNonNull(heapFactory, "Heap factory cannot be null").create();
         this.radius = radius;
         checkRadiusTraversal(isCrossComponentTraversal());
         initialized = true;
@@ -151,7 +198,7 @@ public class ClosestFirstIterator<V, E>
      */
     public double getShortestPathLength(V vertex)
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = getSeenData(vertex);
+        AddressableHeap.Handle<QueueEntry<V, E>> node = getSeenData(vertex);
 
         if (node == null) {
             return Double.POSITIVE_INFINITY;
@@ -173,7 +220,7 @@ public class ClosestFirstIterator<V, E>
      */
     public E getSpanningTreeEdge(V vertex)
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = getSeenData(vertex);
+        AddressableHeap.Handle<QueueEntry<V, E>> node = getSeenData(vertex);
 
         if (node == null) {
             return null;
@@ -191,7 +238,7 @@ public class ClosestFirstIterator<V, E>
         if (heap.size() == 0) {
             return true;
         } else {
-            if (heap.min().getKey() > radius) {
+            if (heap.findMin().getKey() > radius) {
                 heap.clear();
 
                 return true;
@@ -213,9 +260,11 @@ public class ClosestFirstIterator<V, E>
         } else {
             shortestPathLength = calculatePathLength(vertex, edge);
         }
-        FibonacciHeapNode<QueueEntry<V, E>> node = createSeenData(vertex, edge);
-        putSeenData(vertex, node);
-        heap.insert(node, shortestPathLength);
+        QueueEntry<V, E> entry = new QueueEntry<>();
+        entry.vertex = vertex;
+        entry.spanningTreeEdge = edge;
+
+        putSeenData(vertex, heap.insert(entry, shortestPathLength));
     }
 
     /**
@@ -228,7 +277,7 @@ public class ClosestFirstIterator<V, E>
     @Override
     protected void encounterVertexAgain(V vertex, E edge)
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = getSeenData(vertex);
+        AddressableHeap.Handle<QueueEntry<V, E>> node = getSeenData(vertex);
 
         if (node.getData().frozen) {
             // no improvement for this vertex possible
@@ -238,8 +287,8 @@ public class ClosestFirstIterator<V, E>
         double candidatePathLength = calculatePathLength(vertex, edge);
 
         if (candidatePathLength < node.getKey()) {
-            node.getData().spanningTreeEdge = edge;
             heap.decreaseKey(node, candidatePathLength);
+            node.getData().spanningTreeEdge = edge;
         }
     }
 
@@ -249,10 +298,10 @@ public class ClosestFirstIterator<V, E>
     @Override
     protected V provideNextVertex()
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = heap.removeMin();
-        node.getData().frozen = true;
+        QueueEntry<V, E> entry = heap.deleteMin().getData();
+        entry.frozen = true;
 
-        return node.getData().vertex;
+        return entry.vertex;
     }
 
     private void assertNonNegativeEdge(E edge)
@@ -276,7 +325,7 @@ public class ClosestFirstIterator<V, E>
         assertNonNegativeEdge(edge);
 
         V otherVertex = Graphs.getOppositeVertex(getGraph(), edge, vertex);
-        FibonacciHeapNode<QueueEntry<V, E>> otherEntry = getSeenData(otherVertex);
+        AddressableHeap.Handle<QueueEntry<V, E>> otherEntry = getSeenData(otherVertex);
 
         return otherEntry.getKey() + getGraph().getEdgeWeight(edge);
     }
@@ -289,23 +338,6 @@ public class ClosestFirstIterator<V, E>
         }
     }
 
-    /**
-     * The first time we see a vertex, make up a new heap node for it.
-     *
-     * @param vertex a vertex which has just been encountered.
-     * @param edge the edge via which the vertex was encountered.
-     *
-     * @return the new heap node.
-     */
-    private FibonacciHeapNode<QueueEntry<V, E>> createSeenData(V vertex, E edge)
-    {
-        QueueEntry<V, E> entry = new QueueEntry<>();
-        entry.vertex = vertex;
-        entry.spanningTreeEdge = edge;
-
-        return new FibonacciHeapNode<>(entry);
-    }
-
     /**
      * Private data to associate with each entry in the priority queue.
      */
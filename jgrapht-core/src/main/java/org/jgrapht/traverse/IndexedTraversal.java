@@ -0,0 +1,330 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.traverse;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+
+/**
+ * Breadth-first and depth-first traversals which keep their state in primitive arrays.
+ *
+ * <p>
+ * The vertices are identified by indices from $0$ to $n-1$, given either by the order of the vertex
+ * set or by a caller supplied indexer, for example the identity when the vertices already are
+ * small integers. The adjacency of the graph is translated once into arrays of indices and every
+ * traversal reuses the same depth, parent and queue arrays, so that after construction a traversal
+ * allocates no memory at all. A traversal only resets the entries of the vertices it visited, so
+ * many small traversals cost time proportional to their size and not to the size of the graph.
+ *
+ * <p>
+ * The vertices are reported to a {@link Visitor} which receives indices only and can stop the
+ * traversal early. After a traversal, the depth and the parent of every visited vertex are
+ * available until the next traversal starts. This replaces the event objects and the hash map of
+ * {@link CrossComponentIterator} when only the order, the levels or the search tree are needed.
+ * In case of directed graphs the outgoing edges are followed.
+ *
+ * <p>
+ * The graph must not be modified after the traversal has been created. The traversal is not
+ * thread-safe, since every traversal reuses the same state.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class IndexedTraversal<V, E>
+{
+    /**
+     * A callback receiving the vertices of a traversal in the order they are visited.
+     */
+    @FunctionalInterface
+    public interface Visitor
+    {
+        /**
+         * Visit a vertex.
+         *
+         * @param vertex the index of the vertex
+         * @param parent the index of the vertex from which it was discovered, or -1 for the start
+         *        vertex
+         * @param depth the number of edges from the start vertex in the traversal tree
+         * @return true to continue the traversal, false to stop it
+         */
+        boolean visit(int vertex, int parent, int depth);
+    }
+
+    private final List<V> vertices;
+    private final ToIntFunction<V> indexer;
+    private final int[] start;
+    private final int[] target;
+
+    private final int[] depth;
+    private final int[] parent;
+    private final int[] order;
+    private final int[] position;
+    private final int[] stack;
+    private int visitedCount;
+
+    /**
+     * Create a new traversal, indexing the vertices in the order of the vertex set.
+     *
+     * @param graph the input graph
+     */
+    public IndexedTraversal(Graph<V, E> graph)
+    {
+        this(graph, new ArrayList<>(graph.vertexSet()), null);
+    }
+
+    /**
+     * Create a new traversal using the given vertex indices.
+     *
+     * @param graph the input graph
+     * @param vertices all vertices of the graph, the vertex at position $i$ has index $i$
+     * @param indexer maps every vertex to its position in the list, or null to compute the
+     *        positions using a hash map
+     * @throws IllegalArgumentException if the list does not contain every vertex of the graph
+     *         exactly once
+     */
+    public IndexedTraversal(Graph<V, E> graph, List<V> vertices, ToIntFunction<V> indexer)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        int n = graph.vertexSet().size();
+        if (vertices.size() != n) {
+            throw new IllegalArgumentException("Vertex list must contain every vertex once");
+        }
+        this.vertices = vertices;
+        if (indexer == null) {
+            Map<V, Integer> index = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                index.put(vertices.get(i), i);
+            }
+            indexer = v -> {
+                Integer i = index.get(v);
+                return i == null ? -1 : i;
+            };
+        }
+        this.indexer = indexer;
+        for (int i = 0; i < n; i++) {
+            if (!graph.containsVertex(vertices.get(i))
+                || indexer.applyAsInt(vertices.get(i)) != i)
+            {
+                throw new IllegalArgumentException("Vertex list must contain every vertex once");
+            }
+        }
+
+        boolean directed = graph.getType().isDirected();
+        this.start = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int degree = directed ? graph.outDegreeOf(vertex) : graph.edgesOf(vertex).size();
+            start[v + 1] = start[v] + degree;
+        }
+        this.target = new int[start[n]];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int k = start[v];
+            for (E e : directed ? graph.outgoingEdgesOf(vertex) : graph.edgesOf(vertex)) {
+                target[k++] = indexer.applyAsInt(Graphs.getOppositeVertex(graph, e, vertex));
+            }
+        }
+
+        this.depth = new int[n];
+        Arrays.fill(depth, -1);
+        this.parent = new int[n];
+        this.order = new int[n];
+        this.position = new int[n];
+        this.stack = new int[n];
+    }
+
+    /**
+     * Traverse the graph in breadth-first order. The depth of a vertex is its distance from the
+     * start vertex.
+     *
+     * @param startVertex the start vertex
+     * @param visitor the visitor, or null to only compute depths and parents
+     * @return the number of visited vertices
+     * @throws IllegalArgumentException if the graph does not contain the start vertex
+     */
+    public int breadthFirst(V startVertex, Visitor visitor)
+    {
+        int s = begin(startVertex);
+        if (visitor != null && !visitor.visit(s, -1, 0)) {
+            return visitedCount;
+        }
+        // the visit order doubles as the queue
+        int head = 0;
+        while (head < visitedCount) {
+            int u = order[head++];
+            for (int k = start[u]; k < start[u + 1]; k++) {
+                int w = target[k];
+                if (depth[w] < 0) {
+                    depth[w] = depth[u] + 1;
+                    parent[w] = u;
+                    order[visitedCount++] = w;
+                    if (visitor != null && !visitor.visit(w, u, depth[w])) {
+                        return visitedCount;
+                    }
+                }
+            }
+        }
+        return visitedCount;
+    }
+
+    /**
+     * Traverse the graph in depth-first order. The vertices are reported in preorder and the depth
+     * of a vertex is its depth in the depth-first search tree.
+     *
+     * @param startVertex the start vertex
+     * @param visitor the visitor, or null to only compute depths and parents
+     * @return the number of visited vertices
+     * @throws IllegalArgumentException if the graph does not contain the start vertex
+     */
+    public int depthFirst(V startVertex, Visitor visitor)
+    {
+        int s = begin(startVertex);
+        if (visitor != null && !visitor.visit(s, -1, 0)) {
+            return visitedCount;
+        }
+        // the stack contains the path from the start vertex, it is indexed by depth
+        int top = 0;
+        stack[0] = s;
+        position[s] = start[s];
+        while (top >= 0) {
+            int u = stack[top];
+            int k = position[u];
+            if (k == start[u + 1]) {
+                top--;
+                continue;
+            }
+            position[u] = k + 1;
+            int w = target[k];
+            if (depth[w] < 0) {
+                depth[w] = top + 1;
+                parent[w] = u;
+                order[visitedCount++] = w;
+                if (visitor != null && !visitor.visit(w, u, top + 1)) {
+                    return visitedCount;
+                }
+                stack[++top] = w;
+                position[w] = start[w];
+            }
+        }
+        return visitedCount;
+    }
+
+    private int begin(V startVertex)
+    {
+        int s = indexOf(startVertex);
+        for (int i = 0; i < visitedCount; i++) {
+            depth[order[i]] = -1;
+        }
+        depth[s] = 0;
+        parent[s] = -1;
+        order[0] = s;
+        visitedCount = 1;
+        return s;
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the graph does not contain the vertex
+     */
+    public int indexOf(V vertex)
+    {
+        int i = indexer.applyAsInt(vertex);
+        if (i < 0 || i >= vertices.size() || !vertices.get(i).equals(vertex)) {
+            throw new IllegalArgumentException("Graph must contain the vertex " + vertex);
+        }
+        return i;
+    }
+
+    /**
+     * Get the vertex with a given index.
+     *
+     * @param index the index
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Get the number of vertices visited by the last traversal.
+     *
+     * @return the number of vertices visited by the last traversal
+     */
+    public int getVisitedCount()
+    {
+        return visitedCount;
+    }
+
+    /**
+     * Get the vertex visited at some position of the last traversal.
+     *
+     * @param i the position, between $0$ and the number of visited vertices minus one
+     * @return the index of the vertex visited at that position
+     */
+    public int getVisited(int i)
+    {
+        if (i < 0 || i >= visitedCount) {
+            throw new IndexOutOfBoundsException("No vertex visited at position " + i);
+        }
+        return order[i];
+    }
+
+    /**
+     * Test whether the last traversal visited a vertex.
+     *
+     * @param vertex the index of the vertex
+     * @return true if the vertex was visited, false otherwise
+     */
+    public boolean isVisited(int vertex)
+    {
+        return depth[vertex] >= 0;
+    }
+
+    /**
+     * Get the depth of a vertex in the last traversal.
+     *
+     * @param vertex the index of the vertex
+     * @return the depth of the vertex, or -1 if it was not visited
+     */
+    public int getDepth(int vertex)
+    {
+        return depth[vertex];
+    }
+
+    /**
+     * Get the parent of a vertex in the traversal tree of the last traversal.
+     *
+     * @param vertex the index of the vertex
+     * @return the parent of the vertex, or -1 if it is the start vertex or was not visited
+     */
+    public int getParent(int vertex)
+    {
+        return depth[vertex] > 0 ? parent[vertex] : -1;
+    }
+}
+
+// End IndexedTraversal.java
@@ -0,0 +1,403 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.traverse;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * Generates random walks over a graph which does not change while walking.
+ *
+ * <p>
+ * Unlike {@link RandomWalkIterator}, which inspects the edges of the current vertex at every step,
+ * the generator translates the graph once into arrays of vertex indices. In a weighted walk every
+ * vertex also gets an {@link AliasMethodSampler} over the weights of its edges. Afterwards each
+ * step of a walk takes constant expected time and does not allocate any memory. In case of
+ * directed graphs the outgoing edges are used. A walk ends early when it reaches a vertex without
+ * edges or, in a weighted walk, a vertex all of whose edges have zero weight.
+ *
+ * <p>
+ * The generator optionally biases the walk as in node2vec (A. Grover and J. Leskovec. node2vec:
+ * Scalable Feature Learning for Networks. KDD 2016): after moving from $t$ to $v$, the weight of
+ * the edge towards $x$ is multiplied by $1/p$ if $x = t$, by $1$ if $x$ is a neighbor of $t$ and by
+ * $1/q$ otherwise. Instead of a table for every pair of consecutive vertices, which requires memory
+ * quadratic in the degrees, a step first decides whether to return to $t$, using the first order
+ * probability of the edges towards $t$ which is looked up by binary search in the sorted adjacency
+ * array of $v$. Otherwise it draws a neighbor other than $t$ from the first order distribution and
+ * accepts it with probability proportional to its bias, repeating otherwise. Since the return
+ * parameter does not take part in the rejection, a step takes constant expected time for any $p$,
+ * and at most $\max(q, 1/q)$ trials in expectation in addition to the binary searches which test
+ * whether a neighbor of $v$ is a neighbor of $t$.
+ *
+ * <p>
+ * Walks are reproducible: the walk with a given number in a batch only depends on the seed of the
+ * batch and on its number, no matter how many threads generate the batch. All methods only read
+ * the arrays of the generator and may be called concurrently.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class RandomWalkGenerator<V, E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> index;
+    private final int[] start;
+    private final int[] target;
+    private final AliasMethodSampler[] samplers;
+    /* targets of the edges of each vertex in sorted order, for second order walks */
+    private final int[] sortedTarget;
+    /* first order probability of the edge at the same position of sortedTarget */
+    private final double[] sortedProbability;
+    /* number of edges of each vertex with a positive first order probability */
+    private final int[] positiveDegree;
+    private final double returnBias;
+    private final double inOutBias;
+    private final double otherBias;
+
+    /**
+     * Create a new generator for unweighted first order walks.
+     *
+     * @param graph the input graph
+     */
+    public RandomWalkGenerator(Graph<V, E> graph)
+    {
+        this(graph, false);
+    }
+
+    /**
+     * Create a new generator for first order walks.
+     *
+     * @param graph the input graph
+     * @param weighted whether an edge is selected with probability proportional to its weight or
+     *        uniformly
+     */
+    public RandomWalkGenerator(Graph<V, E> graph, boolean weighted)
+    {
+        this(graph, weighted, 1d, 1d);
+    }
+
+    /**
+     * Create a new generator for second order walks as in node2vec.
+     *
+     * @param graph the input graph
+     * @param weighted whether an edge is selected with probability proportional to its weight or
+     *        uniformly
+     * @param p the return parameter, the weight of returning to the previous vertex is divided by
+     *        $p$
+     * @param q the in-out parameter, the weight of moving to a vertex which is not a neighbor of
+     *        the previous vertex is divided by $q$
+     * @throws IllegalArgumentException if $p$ or $q$ is not positive, or if a weight is negative
+     */
+    public RandomWalkGenerator(Graph<V, E> graph, boolean weighted, double p, double q)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        if (!(p > 0d) || !(q > 0d)) {
+            throw new IllegalArgumentException("Parameters p and q must be positive");
+        }
+        this.returnBias = 1d / p;
+        this.inOutBias = 1d / q;
+        this.otherBias = Math.max(1d, inOutBias);
+        boolean biased = returnBias != 1d || inOutBias != 1d;
+
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        int n = vertices.size();
+        boolean directed = graph.getType().isDirected();
+
+        this.start = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int degree = directed ? graph.outDegreeOf(vertex) : graph.edgesOf(vertex).size();
+            start[v + 1] = start[v] + degree;
+        }
+        this.target = new int[start[n]];
+        this.samplers = weighted ? new AliasMethodSampler[n] : null;
+        double[] probability = biased ? new double[start[n]] : null;
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            Set<E> edges = directed ? graph.outgoingEdgesOf(vertex) : graph.edgesOf(vertex);
+            double[] weights = weighted ? new double[edges.size()] : null;
+            double total = 0d;
+            int k = start[v];
+            for (E e : edges) {
+                target[k] = index.get(Graphs.getOppositeVertex(graph, e, vertex));
+                if (weighted) {
+                    double w = graph.getEdgeWeight(e);
+                    if (w < 0d) {
+                        throw new IllegalArgumentException("Edge weights must be non-negative");
+                    }
+                    weights[k - start[v]] = w;
+                    total += w;
+                }
+                k++;
+            }
+            if (weighted && total > 0d) {
+                for (int i = 0; i < weights.length; i++) {
+                    weights[i] /= total;
+                }
+                samplers[v] = new AliasMethodSampler(weights, new Random(0));
+            }
+            if (biased) {
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    probability[i] = weighted ? (total > 0d ? weights[i - start[v]] : 0d)
+                        : 1d / (start[v + 1] - start[v]);
+                }
+            }
+        }
+
+        if (biased) {
+            this.sortedTarget = new int[start[n]];
+            this.sortedProbability = new double[start[n]];
+            this.positiveDegree = new int[n];
+            long[] keys = new long[start[n]];
+            for (int v = 0; v < n; v++) {
+                // sort the positions of the edges by their targets
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    keys[i] = ((long) target[i] << 32) | (i - start[v]);
+                }
+                Arrays.sort(keys, start[v], start[v + 1]);
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    int k = start[v] + (int) keys[i];
+                    sortedTarget[i] = target[k];
+                    sortedProbability[i] = probability[k];
+                    if (probability[k] > 0d) {
+                        positiveDegree[v]++;
+                    }
+                }
+            }
+        } else {
+            this.sortedTarget = null;
+            this.sortedProbability = null;
+            this.positiveDegree = null;
+        }
+    }
+
+    /**
+     * Generate a single walk.
+     *
+     * @param startVertex the first vertex of the walk
+     * @param walkLength the maximum number of steps
+     * @param seed the seed of the random number generator
+     * @return the vertices of the walk, starting with the start vertex
+     * @throws IllegalArgumentException if the graph does not contain the start vertex or if the
+     *         length is negative
+     */
+    public List<V> walk(V startVertex, int walkLength, long seed)
+    {
+        if (walkLength < 0) {
+            throw new IllegalArgumentException("Length of walk must be non-negative");
+        }
+        Integer v = index.get(startVertex);
+        if (v == null) {
+            throw new IllegalArgumentException("Graph must contain the start vertex");
+        }
+        return toVertices(walk(v, walkLength, new Random(seed)));
+    }
+
+    /**
+     * Generate a batch of walks, a given number starting at every vertex of the graph. Walk $k$ of
+     * the batch starts at vertex $k \bmod n$ in the order of the vertex set, and its random numbers
+     * are generated from a seed derived from the seed of the batch and $k$.
+     *
+     * @param walksPerVertex the number of walks starting at every vertex
+     * @param walkLength the maximum number of steps of every walk
+     * @param seed the seed of the batch
+     * @param pool the pool used to generate the walks in parallel, or null to generate them
+     *        sequentially
+     * @return the walks in the order of their numbers
+     * @throws IllegalArgumentException if the number or the length of the walks is negative, or if
+     *         the total number of walks exceeds {@link Integer#MAX_VALUE}
+     */
+    public List<List<V>> walks(int walksPerVertex, int walkLength, long seed, ForkJoinPool pool)
+    {
+        if (walksPerVertex < 0 || walkLength < 0) {
+            throw new IllegalArgumentException("Number and length of walks must be non-negative");
+        }
+        int total;
+        try {
+            total = Math.multiplyExact(walksPerVertex, vertices.size());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Total number of walks is too large", e);
+        }
+        int[][] walks = new int[total][];
+        if (pool == null) {
+            for (int k = 0; k < walks.length; k++) {
+                walks[k] = walk(k % vertices.size(), walkLength, new Random(seedOf(seed, k)));
+            }
+        } else {
+            pool.invoke(new WalkTask(walks, walkLength, seed, 0, walks.length));
+        }
+
+        List<List<V>> result = new ArrayList<>(walks.length);
+        for (int[] walk : walks) {
+            result.add(toVertices(walk));
+        }
+        return result;
+    }
+
+    private int[] walk(int v, int walkLength, Random rng)
+    {
+        int[] walk = new int[walkLength + 1];
+        walk[0] = v;
+        int previous = -1;
+        int length = 1;
+        while (length <= walkLength) {
+            int next = step(previous, v, rng);
+            if (next < 0) {
+                break;
+            }
+            walk[length++] = next;
+            previous = v;
+            v = next;
+        }
+        return length == walk.length ? walk : Arrays.copyOf(walk, length);
+    }
+
+    /**
+     * Draw the next vertex of a walk.
+     *
+     * @param previous the previous vertex or -1 at the start of a walk
+     * @param v the current vertex
+     * @param rng the random number generator
+     * @return the next vertex or -1 if the current vertex has no edges
+     */
+    private int step(int previous, int v, Random rng)
+    {
+        int degree = start[v + 1] - start[v];
+        if (degree == 0 || (samplers != null && samplers[v] == null)) {
+            return -1;
+        }
+        if (sortedTarget == null || previous < 0) {
+            return draw(v, degree, rng);
+        }
+
+        // first order probability of returning to the previous vertex
+        double returnProbability = 0d;
+        int returnDegree = 0;
+        int i = Arrays.binarySearch(sortedTarget, start[v], start[v + 1], previous);
+        if (i >= 0) {
+            while (i > start[v] && sortedTarget[i - 1] == previous) {
+                i--;
+            }
+            for (; i < start[v + 1] && sortedTarget[i] == previous; i++) {
+                if (sortedProbability[i] > 0d) {
+                    returnProbability += sortedProbability[i];
+                    returnDegree++;
+                }
+            }
+        }
+        if (returnDegree == positiveDegree[v]) {
+            return previous;
+        }
+
+        /*
+         * Rejection sampling from a proposal which returns with its exact weight and bounds the
+         * bias of every other neighbor by the largest bias among them.
+         */
+        double returnMass = returnProbability * returnBias;
+        double otherMass = Math.max(0d, 1d - returnProbability) * otherBias;
+        while (true) {
+            if (returnMass > 0d && rng.nextDouble() * (returnMass + otherMass) < returnMass) {
+                return previous;
+            }
+            int x;
+            do {
+                x = draw(v, degree, rng);
+            } while (x == previous);
+            double bias = Arrays.binarySearch(
+                sortedTarget, start[previous], start[previous + 1], x) >= 0 ? 1d : inOutBias;
+            if (bias == otherBias || rng.nextDouble() * otherBias < bias) {
+                return x;
+            }
+        }
+    }
+
+    private int draw(int v, int degree, Random rng)
+    {
+        if (samplers == null) {
+            return target[start[v] + rng.nextInt(degree)];
+        }
+        return target[start[v] + samplers[v].next(rng)];
+    }
+
+    private List<V> toVertices(int[] walk)
+    {
+        List<V> result = new ArrayList<>(walk.length);
+        for (int v : walk) {
+            result.add(vertices.get(v));
+        }
+        return result;
+    }
+
+    private static long seedOf(long seed, int walk)
+    {
+        long h = seed + (walk + 1) * 0x9e3779b97f4a7c15L;
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    private class WalkTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] walks;
+        private final int walkLength;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        WalkTask(int[][] walks, int walkLength, long seed, int from, int to)
+        {
+            this.walks = walks;
+            this.walkLength = walkLength;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int k = from; k < to; k++) {
+                    walks[k] = walk(k % vertices.size(), walkLength, new Random(seedOf(seed, k)));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new WalkTask(walks, walkLength, seed, from, mid),
+                new WalkTask(walks, walkLength, seed, mid, to));
+        }
+    }
+}
+
+// End RandomWalkGenerator.java
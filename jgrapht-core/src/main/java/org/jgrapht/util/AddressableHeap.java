@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+/**
+ * A priority queue with double keys whose elements can be addressed through handles.
+ *
+ * <p>
+ * Inserting an element returns a handle, which can later be used to decrease the key of the
+ * element. The handle keeps its key and data after the element has been removed from the heap.
+ * Algorithms such as Dijkstra's shortest path algorithm only need these operations, therefore they
+ * accept a {@link Factory} of heaps and any implementation can be plugged in, for example with
+ * {@code PairingHeap::new}. Available implementations
+ * are {@link FibonacciHeap}, {@link DaryHeap}, {@link PairingHeap} and, for non-negative integer
+ * keys which are inserted in a monotone fashion, {@link RadixHeap}.
+ *
+ * @param <T> the data type of the elements
+ *
+ * @author agent
+ * @since October 2026
+ */
+public interface AddressableHeap<T>
+{
+    /**
+     * A handle to an element of an addressable heap.
+     *
+     * @param <T> the data type of the element
+     */
+    interface Handle<T>
+    {
+        /**
+         * Get the key of the element.
+         *
+         * @return the key of the element
+         */
+        double getKey();
+
+        /**
+         * Get the data of the element.
+         *
+         * @return the data of the element
+         */
+        T getData();
+
+        /**
+         * Replace the data of the element. The position of the element in the heap is not
+         * affected.
+         *
+         * @param data the new data of the element
+         */
+        void setData(T data);
+    }
+
+    /**
+     * A factory of empty heaps, which can hold elements of any type. Since the factory method is
+     * generic, a factory can be given as a constructor reference such as
+     * {@code FibonacciHeap::new}.
+     */
+    @FunctionalInterface
+    interface Factory
+    {
+        /**
+         * Create a new empty heap.
+         *
+         * @param <T> the data type of the elements
+         * @return a new empty heap
+         */
+        <T> AddressableHeap<T> create();
+    }
+
+    /**
+     * Insert a new element into the heap.
+     *
+     * @param data the data of the element
+     * @param key the key of the element
+     * @return a handle to the new element
+     */
+    Handle<T> insert(T data, double key);
+
+    /**
+     * Get an element with minimum key, without removing it.
+     *
+     * @return an element with minimum key, or null if the heap is empty
+     */
+    Handle<T> findMin();
+
+    /**
+     * Remove and return an element with minimum key.
+     *
+     * @return the removed element, or null if the heap is empty
+     */
+    Handle<T> deleteMin();
+
+    /**
+     * Decrease the key of an element of the heap.
+     *
+     * @param handle the handle of the element
+     * @param key the new key, which must not be larger than the current key of the element
+     * @throws IllegalArgumentException if the new key is larger than the current key or the handle
+     *         does not belong to an element of this heap
+     */
+    void decreaseKey(Handle<T> handle, double key);
+
+    /**
+     * Test whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    int size();
+
+    /**
+     * Remove all elements from the heap.
+     */
+    void clear();
+}
+
+// End AddressableHeap.java
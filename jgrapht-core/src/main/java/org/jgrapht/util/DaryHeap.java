@@ -0,0 +1,262 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An addressable d-ary heap stored in an array.
+ *
+ * <p>
+ * The element at position $i$ of the array has its children at positions $d i + 1$ to $d i + d$.
+ * Every element knows its position in the array, which makes its handle usable for decrease-key
+ * operations. Insert and decrease-key take O(log_d n) time and delete-min takes O(d log_d n) time.
+ * Compared to pointer based heaps, the heap allocates a single small object per element and its
+ * operations touch few and mostly adjacent memory locations, which makes it fast in practice.
+ * A small arity such as the default of 4 is a good choice for shortest path computations.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @param <T> the data type of the elements
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class DaryHeap<T>
+    implements AddressableHeap<T>
+{
+    /**
+     * The default arity of the heap.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int d;
+    private Node<T>[] array;
+    private int size;
+
+    /**
+     * Create a new empty heap with the default arity.
+     */
+    public DaryHeap()
+    {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Create a new empty heap.
+     *
+     * @param d the arity of the heap, at least two
+     */
+    @SuppressWarnings("unchecked")
+    public DaryHeap(int d)
+    {
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least two");
+        }
+        this.d = d;
+        this.array = (Node<T>[]) new Node<?>[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Get a factory of empty heaps with the given arity.
+     *
+     * @param d the arity of the heaps, at least two
+     * @return a factory of heaps with arity d
+     */
+    public static AddressableHeap.Factory factory(int d)
+    {
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least two");
+        }
+        return new AddressableHeap.Factory()
+        {
+            @Override
+            public <T> AddressableHeap<T> create()
+            {
+                return new DaryHeap<>(d);
+            }
+        };
+    }
+
+    @Override
+    public Handle<T> insert(T data, double key)
+    {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, 2 * size);
+        }
+        Node<T> node = new Node<>(data, key);
+        array[size] = node;
+        siftUp(node, size++);
+        return node;
+    }
+
+    @Override
+    public Handle<T> findMin()
+    {
+        return size == 0 ? null : array[0];
+    }
+
+    @Override
+    public Handle<T> deleteMin()
+    {
+        if (size == 0) {
+            return null;
+        }
+        Node<T> min = array[0];
+        Node<T> last = array[--size];
+        array[size] = null;
+        if (size > 0) {
+            siftDown(last, 0);
+        }
+        min.index = -1;
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(Handle<T> handle, double key)
+    {
+        if (!(handle instanceof Node<?>)) {
+            throw new IllegalArgumentException("Invalid heap node");
+        }
+        Node<T> node = (Node<T>) handle;
+        if (node.index < 0 || node.index >= size || array[node.index] != node) {
+            throw new IllegalArgumentException("Invalid heap node");
+        }
+        if (key > node.key) {
+            throw new IllegalArgumentException(
+                "Larger key value. Current key: " + node.key + " new key: " + key);
+        }
+        node.key = key;
+        siftUp(node, node.index);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            array[i].index = -1;
+            array[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Move a node from position i towards the root until its parent has a smaller or equal key.
+     */
+    private void siftUp(Node<T> node, int i)
+    {
+        while (i > 0) {
+            int p = (i - 1) / d;
+            Node<T> parent = array[p];
+            if (parent.key <= node.key) {
+                break;
+            }
+            array[i] = parent;
+            parent.index = i;
+            i = p;
+        }
+        array[i] = node;
+        node.index = i;
+    }
+
+    /**
+     * Place a node at position i and move it down until all its children have larger or equal
+     * keys.
+     */
+    private void siftDown(Node<T> node, int i)
+    {
+        while (true) {
+            int first = d * i + 1;
+            if (first >= size) {
+                break;
+            }
+            int end = Math.min(first + d, size);
+            int c = first;
+            double cKey = array[first].key;
+            for (int j = first + 1; j < end; j++) {
+                if (array[j].key < cKey) {
+                    c = j;
+                    cKey = array[j].key;
+                }
+            }
+            if (cKey >= node.key) {
+                break;
+            }
+            array[i] = array[c];
+            array[i].index = i;
+            i = c;
+        }
+        array[i] = node;
+        node.index = i;
+    }
+
+    private static final class Node<T>
+        implements Handle<T>
+    {
+        T data;
+        double key;
+        int index;
+
+        Node(T data, double key)
+        {
+            this.data = data;
+            this.key = key;
+        }
+
+        @Override
+        public double getKey()
+        {
+            return key;
+        }
+
+        @Override
+        public T getData()
+        {
+            return data;
+        }
+
+        @Override
+        public void setData(T data)
+        {
+            this.data = data;
+        }
+
+        @Override
+        public String toString()
+        {
+            return Double.toString(key);
+        }
+    }
+}
+
+// End DaryHeap.java
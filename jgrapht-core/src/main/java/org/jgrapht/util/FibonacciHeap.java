@@ -39,12 +39,18 @@ import java.util.*;
  * This class was originally developed by Nathan Fiedler for the GraphMaker project. It was imported
  * to JGraphT with permission, courtesy of Nathan Fiedler.
  * </p>
+ *
+ * <p>
+ * The heap also implements the {@link AddressableHeap} interface, where the handles of the elements
+ * are the heap nodes.
+ * </p>
  * 
  * @param <T> node data type
  *
  * @author Nathan Fiedler
  */
 public class FibonacciHeap<T>
+    implements AddressableHeap<T>
 {
     private static final double ONEOVERLOGPHI = 1.0 / Math.log((1.0 + Math.sqrt(5.0)) / 2.0);
 
@@ -58,6 +64,11 @@ public class FibonacciHeap<T>
      */
     private int nNodes;
 
+    /**
+     * Identifies the nodes of this heap.
+     */
+    private Owner owner = new Owner();
+
     /**
      * Constructs a FibonacciHeap object that contains no elements.
      */
@@ -75,6 +86,7 @@ public class FibonacciHeap<T>
      *
      * @return true if the heap is empty, false otherwise
      */
+    @Override
     public boolean isEmpty()
     {
         return minNode == null;
@@ -85,10 +97,12 @@ public class FibonacciHeap<T>
     /**
      * Removes all elements from this heap.
      */
+    @Override
     public void clear()
     {
         minNode = null;
         nNodes = 0;
+        owner = new Owner();
     }
 
     // clear
@@ -104,19 +118,20 @@ public class FibonacciHeap<T>
      * @param x node to decrease the key of
      * @param k new key value for node x
      *
-     * @exception IllegalArgumentException Thrown if k is larger than x.key value.
+     * @exception IllegalArgumentException Thrown if k is larger than x.key value or if x is not a
+     *            node of this heap.
      */
     public void decreaseKey(FibonacciHeapNode<T> x, double k)
     {
+        if (x.owner == null || x.owner.find() != owner.find()) {
+            throw new IllegalArgumentException("Invalid heap node");
+        }
+
         if (k > x.key) {
             throw new IllegalArgumentException(
                 "decreaseKey() got larger key value. Current key: " + x.key + " new key: " + k);
         }
 
-        if (x.right == null) {
-            throw new IllegalArgumentException("Invalid heap node");
-        }
-
         x.key = k;
 
         FibonacciHeapNode<T> y = x.parent;
@@ -174,6 +189,7 @@ public class FibonacciHeap<T>
         }
 
         node.key = key;
+        node.owner = owner;
 
         // concatenate node into min list
         if (minNode != null) {
@@ -196,6 +212,64 @@ public class FibonacciHeap<T>
 
     // insert
 
+    /**
+     * Inserts a new data element into the heap, creating a new node for it.
+     *
+     * <p>
+     * Running time: O(1) actual
+     * </p>
+     *
+     * @param data data object to insert
+     * @param key key value associated with data object
+     * @return the new heap node
+     */
+    @Override
+    public FibonacciHeapNode<T> insert(T data, double key)
+    {
+        FibonacciHeapNode<T> node = new FibonacciHeapNode<>(data);
+        insert(node, key);
+        return node;
+    }
+
+    /**
+     * Equivalent to {@link #min()}.
+     *
+     * @return heap node with the smallest key
+     */
+    @Override
+    public FibonacciHeapNode<T> findMin()
+    {
+        return minNode;
+    }
+
+    /**
+     * Equivalent to {@link #removeMin()}.
+     *
+     * @return node with the smallest key
+     */
+    @Override
+    public FibonacciHeapNode<T> deleteMin()
+    {
+        return removeMin();
+    }
+
+    /**
+     * Decreases the key value for a heap node, see {@link #decreaseKey(FibonacciHeapNode, double)}.
+     *
+     * @param handle node to decrease the key of, must be a node of this heap
+     * @param key new key value for the node
+     * @throws IllegalArgumentException if the handle is not a node of this heap or the key is
+     *         larger than the current key
+     */
+    @Override
+    public void decreaseKey(AddressableHeap.Handle<T> handle, double key)
+    {
+        if (!(handle instanceof FibonacciHeapNode<?>)) {
+            throw new IllegalArgumentException("Invalid heap node");
+        }
+        decreaseKey((FibonacciHeapNode<T>) handle, key);
+    }
+
     /**
      * Returns the smallest element in the heap. This smallest element is the one with the minimum
      * key value.
@@ -272,6 +346,7 @@ public class FibonacciHeap<T>
             z.degree = 0;
             z.child = null;
             z.mark = false;
+            z.owner = null;
         }
 
         return z;
@@ -289,6 +364,7 @@ public class FibonacciHeap<T>
      *
      * @return number of elements in the heap
      */
+    @Override
     public int size()
     {
         return nNodes;
@@ -315,6 +391,10 @@ public class FibonacciHeap<T>
         FibonacciHeap<T> h = new FibonacciHeap<>();
 
         if ((h1 != null) && (h2 != null)) {
+            // the nodes of both heaps now belong to the new heap
+            h1.owner.find().forward = h.owner;
+            h2.owner.find().forward = h.owner;
+
             h.minNode = h1.minNode;
 
             if (h.minNode != null) {
@@ -340,6 +420,31 @@ public class FibonacciHeap<T>
 
     // union
 
+    /**
+     * Identity of a heap, used to check that a node belongs to it. When heaps are joined, their
+     * owners forward to the owner of the new heap.
+     */
+    static final class Owner
+    {
+        private Owner forward;
+
+        Owner find()
+        {
+            Owner root = this;
+            while (root.forward != null) {
+                root = root.forward;
+            }
+            // compress the path
+            Owner o = this;
+            while (o != root) {
+                Owner next = o.forward;
+                o.forward = root;
+                o = next;
+            }
+            return root;
+        }
+    }
+
     /**
      * Creates a String representation of this Fibonacci heap.
      *
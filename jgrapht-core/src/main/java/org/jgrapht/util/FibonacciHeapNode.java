@@ -27,6 +27,7 @@ package org.jgrapht.util;
  * @author Nathan Fiedler
  */
 public class FibonacciHeapNode<T>
+    implements AddressableHeap.Handle<T>
 {
     /**
      * Node data.
@@ -68,6 +69,11 @@ public class FibonacciHeapNode<T>
      */
     int degree;
 
+    /**
+     * owner of the heap containing this node, or null if the node is not contained in a heap
+     */
+    FibonacciHeap.Owner owner;
+
     /**
      * Constructs a new node.
      *
@@ -83,6 +89,7 @@ public class FibonacciHeapNode<T>
      *
      * @return the key
      */
+    @Override
     public final double getKey()
     {
         return key;
@@ -93,11 +100,23 @@ public class FibonacciHeapNode<T>
      * 
      * @return the data
      */
+    @Override
     public final T getData()
     {
         return data;
     }
 
+    /**
+     * Replace the data for this node.
+     * 
+     * @param data the new data
+     */
+    @Override
+    public final void setData(T data)
+    {
+        this.data = data;
+    }
+
     /**
      * Return the string representation of this object.
      *
@@ -0,0 +1,250 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+/**
+ * An addressable pairing heap.
+ *
+ * <p>
+ * The heap is a single heap-ordered multiway tree, where each node points to its first child and
+ * its next sibling. Insertion and decrease-key link a single node with the root in O(1) time.
+ * Delete-min combines the children of the root with the standard two-pass pairing, in O(log n)
+ * amortized time. Pairing heaps are much simpler than Fibonacci heaps and usually faster, since
+ * they keep no ranks or marks and perform no cascading cuts. See
+ * <ul>
+ * <li>M. L. Fredman, R. Sedgewick, D. D. Sleator and R. E. Tarjan. The pairing heap: A new form of
+ * self-adjusting heap. Algorithmica, 1(1):111--129, 1986.</li>
+ * </ul>
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @param <T> the data type of the elements
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class PairingHeap<T>
+    implements AddressableHeap<T>
+{
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Identifies the nodes of this heap. It is replaced whenever the heap is cleared, so that
+     * handles of removed elements are detected.
+     */
+    private Object owner;
+
+    /**
+     * Create a new empty heap.
+     */
+    public PairingHeap()
+    {
+        this.owner = new Object();
+    }
+
+    @Override
+    public Handle<T> insert(T data, double key)
+    {
+        Node<T> node = new Node<>(owner, data, key);
+        root = link(root, node);
+        size++;
+        return node;
+    }
+
+    @Override
+    public Handle<T> findMin()
+    {
+        return root;
+    }
+
+    @Override
+    public Handle<T> deleteMin()
+    {
+        Node<T> min = root;
+        if (min == null) {
+            return null;
+        }
+        root = combineSiblings(min.child);
+        min.child = null;
+        min.owner = null;
+        size--;
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(Handle<T> handle, double key)
+    {
+        if (!(handle instanceof Node<?>) || ((Node<?>) handle).owner != owner) {
+            throw new IllegalArgumentException("Invalid heap node");
+        }
+        Node<T> node = (Node<T>) handle;
+        if (key > node.key) {
+            throw new IllegalArgumentException(
+                "Larger key value. Current key: " + node.key + " new key: " + key);
+        }
+        node.key = key;
+        if (node == root) {
+            return;
+        }
+
+        // cut the subtree of the node and link it with the root
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.next = null;
+        node.prev = null;
+        root = link(root, node);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return root == null;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        root = null;
+        size = 0;
+        owner = new Object();
+    }
+
+    /**
+     * Link two trees without siblings, making the root with the larger key the first child of the
+     * other root.
+     */
+    private static <T> Node<T> link(Node<T> a, Node<T> b)
+    {
+        if (a == null) {
+            return b;
+        }
+        if (b.key < a.key) {
+            Node<T> tmp = a;
+            a = b;
+            b = tmp;
+        }
+        b.next = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        b.prev = a;
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * Two-pass pairing: link the siblings in pairs from left to right and then link the resulting
+     * trees from right to left. The trees of the first pass are kept in a stack threaded through
+     * the next pointers.
+     */
+    private static <T> Node<T> combineSiblings(Node<T> first)
+    {
+        Node<T> stack = null;
+        Node<T> cur = first;
+        while (cur != null) {
+            Node<T> a = cur;
+            Node<T> b = a.next;
+            a.prev = null;
+            a.next = null;
+            if (b == null) {
+                a.next = stack;
+                stack = a;
+                break;
+            }
+            cur = b.next;
+            b.prev = null;
+            b.next = null;
+            Node<T> linked = link(a, b);
+            linked.next = stack;
+            stack = linked;
+        }
+
+        if (stack == null) {
+            return null;
+        }
+        Node<T> result = stack;
+        stack = stack.next;
+        result.next = null;
+        while (stack != null) {
+            Node<T> next = stack.next;
+            stack.next = null;
+            result = link(result, stack);
+            stack = next;
+        }
+        return result;
+    }
+
+    private static final class Node<T>
+        implements Handle<T>
+    {
+        Object owner;
+        T data;
+        double key;
+        Node<T> child;
+        Node<T> next;
+        // the previous sibling, or the parent for the first child
+        Node<T> prev;
+
+        Node(Object owner, T data, double key)
+        {
+            this.owner = owner;
+            this.data = data;
+            this.key = key;
+        }
+
+        @Override
+        public double getKey()
+        {
+            return key;
+        }
+
+        @Override
+        public T getData()
+        {
+            return data;
+        }
+
+        @Override
+        public void setData(T data)
+        {
+            this.data = data;
+        }
+
+        @Override
+        public String toString()
+        {
+            return Double.toString(key);
+        }
+    }
+}
+
+// End PairingHeap.java
@@ -0,0 +1,276 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An addressable radix heap for non-negative integer keys.
+ *
+ * <p>
+ * A radix heap is a monotone priority queue: the key of an inserted element, and every decreased
+ * key, must not be smaller than the key of the last element returned by {@link #findMin()} or
+ * {@link #deleteMin()}, unless the heap has become empty in the meantime. This is exactly the
+ * access pattern of Dijkstra's algorithm with non-negative integer edge weights. The elements are
+ * kept in 65 buckets, where bucket $i > 0$ contains the elements whose key differs from the last
+ * minimum first at bit $i-1$ and bucket 0 contains the elements whose key equals the last minimum.
+ * Inserts and decrease-key operations take O(1) time, while finding the minimum redistributes the
+ * elements of the first non-empty bucket into lower buckets. Since every element moves to a lower
+ * bucket at most 64 times, the amortized cost of delete-min is O(log C) where C is the largest
+ * key. See
+ * <ul>
+ * <li>R. K. Ahuja, K. Mehlhorn, J. Orlin and R. E. Tarjan. Faster algorithms for the shortest path
+ * problem. Journal of the ACM, 37(2):213--223, 1990.</li>
+ * </ul>
+ *
+ * <p>
+ * Keys are passed as doubles in order to implement {@link AddressableHeap}, but must be integral
+ * values in the range $[0, 2^{53}]$.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @param <T> the data type of the elements
+ *
+ * @author agent
+ * @since October 2026
+ */
+public class RadixHeap<T>
+    implements AddressableHeap<T>
+{
+    private static final int BUCKETS = 65;
+
+    private final List<List<Node<T>>> buckets;
+    /**
+     * Empty list which takes the place of a bucket being redistributed.
+     */
+    private List<Node<T>> spare;
+    private long last;
+    private int size;
+
+    /**
+     * Identifies the nodes of this heap. It is replaced whenever the heap is cleared, so that
+     * handles of removed elements are detected.
+     */
+    private Object owner;
+
+    /**
+     * Create a new empty heap.
+     */
+    public RadixHeap()
+    {
+        this.buckets = new ArrayList<>(BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.spare = new ArrayList<>();
+        this.last = 0;
+        this.owner = new Object();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the key is not an integral value or smaller than the
+     *         last minimum key
+     */
+    @Override
+    public Handle<T> insert(T data, double key)
+    {
+        Node<T> node = new Node<>(owner, data, toLong(key));
+        add(node);
+        size++;
+        return node;
+    }
+
+    @Override
+    public Handle<T> findMin()
+    {
+        if (size == 0) {
+            return null;
+        }
+        List<Node<T>> first = buckets.get(0);
+        if (first.isEmpty()) {
+            redistribute();
+        }
+        return first.get(0);
+    }
+
+    @Override
+    public Handle<T> deleteMin()
+    {
+        Node<T> min = (Node<T>) findMin();
+        if (min == null) {
+            return null;
+        }
+        remove(min);
+        min.owner = null;
+        if (--size == 0) {
+            last = 0;
+        }
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(Handle<T> handle, double key)
+    {
+        if (!(handle instanceof Node<?>) || ((Node<?>) handle).owner != owner) {
+            throw new IllegalArgumentException("Invalid heap node");
+        }
+        Node<T> node = (Node<T>) handle;
+        long k = toLong(key);
+        if (k > node.key) {
+            throw new IllegalArgumentException(
+                "Larger key value. Current key: " + node.key + " new key: " + key);
+        }
+        if (bucketOf(k) == node.bucket) {
+            node.key = k;
+        } else {
+            remove(node);
+            node.key = k;
+            add(node);
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (List<Node<T>> b : buckets) {
+            b.clear();
+        }
+        size = 0;
+        last = 0;
+        owner = new Object();
+    }
+
+    /**
+     * Move the elements of the first non-empty bucket into lower buckets, after making their
+     * minimum key the last minimum.
+     */
+    private void redistribute()
+    {
+        int i = 1;
+        while (buckets.get(i).isEmpty()) {
+            i++;
+        }
+        List<Node<T>> b = buckets.get(i);
+        long min = Long.MAX_VALUE;
+        for (Node<T> node : b) {
+            min = Math.min(min, node.key);
+        }
+        last = min;
+        // all elements move to lower buckets, so bucket i can be swapped with the spare list
+        buckets.set(i, spare);
+        for (Node<T> node : b) {
+            add(node);
+        }
+        b.clear();
+        spare = b;
+    }
+
+    private long toLong(double key)
+    {
+        long k = (long) key;
+        if (k != key || k < 0 || k > (1L << 53)) {
+            throw new IllegalArgumentException("Key must be a non-negative integer: " + key);
+        }
+        if (k < last) {
+            throw new IllegalArgumentException(
+                "Key " + key + " is smaller than the last minimum key " + last);
+        }
+        return k;
+    }
+
+    private int bucketOf(long key)
+    {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void add(Node<T> node)
+    {
+        node.bucket = bucketOf(node.key);
+        List<Node<T>> b = buckets.get(node.bucket);
+        node.pos = b.size();
+        b.add(node);
+    }
+
+    private void remove(Node<T> node)
+    {
+        List<Node<T>> b = buckets.get(node.bucket);
+        Node<T> tail = b.remove(b.size() - 1);
+        if (tail != node) {
+            b.set(node.pos, tail);
+            tail.pos = node.pos;
+        }
+    }
+
+    private static final class Node<T>
+        implements Handle<T>
+    {
+        Object owner;
+        T data;
+        long key;
+        int bucket;
+        int pos;
+
+        Node(Object owner, T data, long key)
+        {
+            this.owner = owner;
+            this.data = data;
+            this.key = key;
+        }
+
+        @Override
+        public double getKey()
+        {
+            return key;
+        }
+
+        @Override
+        public T getData()
+        {
+            return data;
+        }
+
+        @Override
+        public void setData(T data)
+        {
+            this.data = data;
+        }
+
+        @Override
+        public String toString()
+        {
+            return Long.toString(key);
+        }
+    }
+}
+
+// End RadixHeap.java
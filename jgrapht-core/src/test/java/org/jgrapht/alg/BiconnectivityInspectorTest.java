@@ -17,6 +17,8 @@
  */
 package org.jgrapht.alg;
 
+import java.util.*;
+
 import org.jgrapht.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
@@ -74,6 +76,97 @@ public class BiconnectivityInspectorTest
         assertEquals(2, inspector.getCutpoints().size());
         assertEquals(3, inspector.getBiconnectedVertexComponents().size());
     }
+
+    public void testRandomGraphsAgainstBlockCutpointGraph()
+    {
+        Random rng = new Random(17);
+        for (int run = 0; run < 50; run++) {
+            int n = 2 + rng.nextInt(30);
+            Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+            for (int v = 0; v < n; v++) {
+                graph.addVertex(v);
+                if (v > 0) {
+                    graph.addEdge(v, rng.nextInt(v));
+                }
+            }
+            for (int k = rng.nextInt(n); k > 0; k--) {
+                int u = rng.nextInt(n), v = rng.nextInt(n);
+                if (u != v) {
+                    graph.addEdge(u, v);
+                }
+            }
+
+            BlockCutpointGraph<Integer, DefaultEdge> bcg = new BlockCutpointGraph<>(graph);
+            Set<Set<Integer>> expected = new HashSet<>();
+            for (Graph<Integer, DefaultEdge> block : bcg.vertexSet()) {
+                if (!block.edgeSet().isEmpty()) {
+                    expected.add(block.vertexSet());
+                }
+            }
+            BiconnectivityInspector<Integer, DefaultEdge> inspector =
+                new BiconnectivityInspector<>(graph);
+            assertEquals(bcg.getCutpoints(), inspector.getCutpoints());
+            assertEquals(expected, inspector.getBiconnectedVertexComponents());
+            assertEquals(expected.size() == 1, inspector.isBiconnected());
+            for (Integer v : graph.vertexSet()) {
+                Set<Set<Integer>> blocks = inspector.getBiconnectedVertexComponents(v);
+                assertEquals(bcg.getCutpoints().contains(v), blocks.size() > 1);
+                for (Set<Integer> block : blocks) {
+                    assertTrue(block.contains(v));
+                }
+            }
+
+            HopcroftTarjanBiconnectivityInspector<Integer, DefaultEdge> ht =
+                new HopcroftTarjanBiconnectivityInspector<>(graph);
+            for (DefaultEdge e : graph.edgeSet()) {
+                Graph<Integer, DefaultEdge> copy = new SimpleGraph<>(DefaultEdge.class);
+                Graphs.addGraph(copy, graph);
+                copy.removeEdge(e);
+                boolean bridge = !new ConnectivityInspector<>(copy).isGraphConnected();
+                assertEquals(bridge, ht.isBridge(e));
+                assertEquals(bridge, ht.getBridges().contains(e));
+                assertEquals(bridge, ht.getBlockEdges(ht.getBlock(e)).size() == 1);
+            }
+        }
+    }
+
+    public void testMultipleEdgesAndSelfLoops()
+    {
+        Graph<Integer, DefaultEdge> graph = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(0, 1, 2, 3));
+        DefaultEdge e01 = graph.addEdge(0, 1);
+        DefaultEdge f01 = graph.addEdge(0, 1);
+        DefaultEdge e12 = graph.addEdge(1, 2);
+        DefaultEdge loop = graph.addEdge(2, 2);
+
+        HopcroftTarjanBiconnectivityInspector<Integer, DefaultEdge> inspector =
+            new HopcroftTarjanBiconnectivityInspector<>(graph);
+        assertEquals(2, inspector.getBlockCount());
+        assertEquals(inspector.getBlock(e01), inspector.getBlock(f01));
+        assertEquals(-1, inspector.getBlock(loop));
+        assertEquals(Collections.singleton(e12), inspector.getBridges());
+        assertEquals(Collections.singleton(1), inspector.getCutpoints());
+        assertEquals(2, inspector.getBlocks(1).length);
+        assertEquals(0, inspector.getBlocks(3).length);
+        assertFalse(new BiconnectivityInspector<>(graph).isBiconnected());
+    }
+
+    public void testLongPath()
+    {
+        int n = 100000;
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+            if (v > 0) {
+                graph.addEdge(v - 1, v);
+            }
+        }
+        HopcroftTarjanBiconnectivityInspector<Integer, DefaultEdge> inspector =
+            new HopcroftTarjanBiconnectivityInspector<>(graph);
+        assertEquals(n - 1, inspector.getBlockCount());
+        assertEquals(n - 2, inspector.getCutpoints().size());
+        assertEquals(n - 1, inspector.getBridges().size());
+    }
 }
 
 // End BiconnectivityInspectorTest.java
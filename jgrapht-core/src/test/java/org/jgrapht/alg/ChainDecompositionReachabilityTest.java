@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.matching.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ChainDecompositionReachability}.
+ *
+ * @author agent
+ */
+public class ChainDecompositionReachabilityTest
+{
+    @Test
+    public void testSmallDag()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.addEdge("a", "b");
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("a", "d");
+        g.addEdge("d", "c");
+
+        ChainDecompositionReachability<String, DefaultEdge> index =
+            new ChainDecompositionReachability<>(g);
+        assertTrue(index.isReachable("a", "c"));
+        assertTrue(index.isReachable("d", "c"));
+        assertTrue(index.isReachable("b", "b"));
+        assertFalse(index.isReachable("c", "a"));
+        assertFalse(index.isReachable("b", "d"));
+        assertFalse(index.isReachable("a", "e"));
+        assertEquals(new HashSet<>(Arrays.asList("b", "c", "d")), index.getDescendants("a"));
+        assertTrue(index.getDescendants("e").isEmpty());
+        assertEquals(3, index.getChains().size());
+    }
+
+    @Test
+    public void testRandomDag()
+    {
+        Random rnd = new Random(5);
+        int n = 200;
+        List<Integer> labels = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            labels.add(i);
+        }
+        Collections.shuffle(labels, rnd);
+
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, labels);
+        for (int k = 0; k < 3 * n; k++) {
+            int i = rnd.nextInt(n);
+            int j = rnd.nextInt(n);
+            if (i < j) {
+                g.addEdge(labels.get(i), labels.get(j));
+            }
+        }
+
+        ChainDecompositionReachability<Integer, DefaultEdge> index =
+            new ChainDecompositionReachability<>(g);
+
+        int covered = 0;
+        for (List<Integer> chain : index.getChains()) {
+            for (int i = 0; i + 1 < chain.size(); i++) {
+                assertTrue(g.containsEdge(chain.get(i), chain.get(i + 1)));
+            }
+            covered += chain.size();
+        }
+        assertEquals(n, covered);
+        assertEquals(n - maximumMatchingSize(g), index.getChains().size());
+
+        SimpleDirectedGraph<Integer, DefaultEdge> closure =
+            new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addGraph(closure, g);
+        TransitiveClosure.INSTANCE.closeSimpleDirectedGraph(closure);
+        for (Integer u : g.vertexSet()) {
+            assertEquals(Graphs.successorListOf(closure, u).size(), index.getDescendants(u).size());
+            for (Integer v : g.vertexSet()) {
+                assertEquals(u.equals(v) || closure.containsEdge(u, v), index.isReachable(u, v));
+            }
+        }
+    }
+
+    @Test
+    public void testWideDag()
+    {
+        // a layered DAG whose minimum path cover has width chains of length depth
+        int width = 300, depth = 20;
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        for (int v = 0; v < width * depth; v++) {
+            g.addVertex(v);
+        }
+        Random rnd = new Random(11);
+        for (int l = 0; l + 1 < depth; l++) {
+            for (int i = 0; i < width; i++) {
+                g.addEdge(l * width + i, (l + 1) * width + (i + 1) % width);
+                g.addEdge(l * width + i, (l + 1) * width + rnd.nextInt(width));
+            }
+        }
+
+        ChainDecompositionReachability<Integer, DefaultEdge> index =
+            new ChainDecompositionReachability<>(g);
+        assertEquals(width, index.getChains().size());
+        assertTrue(index.isReachable(0, width * (depth - 1) + depth - 1));
+        assertFalse(index.isReachable(width, 0));
+        assertFalse(index.isReachable(width, 1));
+    }
+
+    private static int maximumMatchingSize(Graph<Integer, DefaultEdge> g)
+    {
+        Graph<String, DefaultEdge> split = new SimpleGraph<>(DefaultEdge.class);
+        Set<String> tails = new HashSet<>();
+        Set<String> heads = new HashSet<>();
+        for (Integer v : g.vertexSet()) {
+            split.addVertex("t" + v);
+            split.addVertex("h" + v);
+            tails.add("t" + v);
+            heads.add("h" + v);
+        }
+        for (DefaultEdge e : g.edgeSet()) {
+            split.addEdge("t" + g.getEdgeSource(e), "h" + g.getEdgeTarget(e));
+        }
+        return new HopcroftKarpMaximumCardinalityBipartiteMatching<>(split, tails, heads)
+            .getMatching().getEdges().size();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCyclicGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2, 3));
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        g.addEdge(3, 1);
+        new ChainDecompositionReachability<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(1);
+        new ChainDecompositionReachability<>(g).isReachable(1, 2);
+    }
+}
+
+// End ChainDecompositionReachabilityTest.java
@@ -17,6 +17,9 @@
  */
 package org.jgrapht.alg;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import org.jgrapht.*;
 import org.jgrapht.graph.*;
 
@@ -138,6 +141,149 @@ public class ConnectivityInspectorTest
         assertEquals(false, inspector.isGraphConnected());
     }
 
+    /**
+     * Apply random modifications to a listened graph and compare the inspector against one created
+     * from scratch after every modification.
+     */
+    public void testIncrementalMaintenance()
+    {
+        for (boolean directed : new boolean[] { false, true }) {
+            Random rnd = new Random(17);
+            ListenableGraph<Integer, DefaultEdge> g = new DefaultListenableGraph<>(directed
+                ? new DirectedPseudograph<>(DefaultEdge.class)
+                : new Pseudograph<>(DefaultEdge.class));
+            for (int i = 0; i < 30; i++) {
+                g.addVertex(i);
+            }
+
+            ConnectivityInspector<Integer, DefaultEdge> inspector = new ConnectivityInspector<>(g);
+            g.addGraphListener(inspector);
+            int nextVertex = 30;
+
+            for (int step = 0; step < 2000; step++) {
+                List<Integer> vertices = new ArrayList<>(g.vertexSet());
+                List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+                int op = rnd.nextInt(10);
+                if (op < 5 || edges.isEmpty()) {
+                    g.addEdge(
+                        vertices.get(rnd.nextInt(vertices.size())),
+                        vertices.get(rnd.nextInt(vertices.size())));
+                } else if (op < 8) {
+                    g.removeEdge(edges.get(rnd.nextInt(edges.size())));
+                } else if (op < 9 && vertices.size() > 2) {
+                    g.removeVertex(vertices.get(rnd.nextInt(vertices.size())));
+                } else {
+                    g.addVertex(nextVertex++);
+                }
+
+                if (step % 3 == 0) {
+                    assertSameComponents(new ConnectivityInspector<>(g), inspector, g);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply random batches of modifications to a listened graph and compare the inspector against
+     * one created from scratch after every batch.
+     */
+    public void testBatchMaintenance()
+    {
+        Random rnd = new Random(23);
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new Pseudograph<>(DefaultEdge.class));
+        for (int i = 0; i < 50; i++) {
+            g.addVertex(i);
+        }
+
+        ConnectivityInspector<Integer, DefaultEdge> inspector = new ConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+        int nextVertex = 50;
+
+        for (int round = 0; round < 200; round++) {
+            // every other batch only adds vertices and edges
+            boolean onlyAdditions = round % 2 == 0;
+            g.beginBatch();
+            try {
+                for (int step = rnd.nextInt(20); step >= 0; step--) {
+                    List<Integer> vertices = new ArrayList<>(g.vertexSet());
+                    List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+                    int op = rnd.nextInt(10);
+                    if (op < 5 || (onlyAdditions && op < 9)) {
+                        g.addEdge(
+                            vertices.get(rnd.nextInt(vertices.size())),
+                            vertices.get(rnd.nextInt(vertices.size())));
+                    } else if (onlyAdditions || op == 9) {
+                        g.addVertex(nextVertex++);
+                    } else if (op < 8 && !edges.isEmpty()) {
+                        g.removeEdge(edges.get(rnd.nextInt(edges.size())));
+                    } else if (vertices.size() > 2) {
+                        g.removeVertex(vertices.get(rnd.nextInt(vertices.size())));
+                    }
+                    if (step == 5) {
+                        // queries during the batch must not break the maintenance
+                        inspector.isGraphConnected();
+                    }
+                }
+            } finally {
+                g.commitBatch();
+            }
+            assertSameComponents(new ConnectivityInspector<>(g), inspector, g);
+        }
+    }
+
+    public void testParallelConnectivityInspector()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rnd = new Random(11);
+            for (int run = 0; run < 10; run++) {
+                int n = run == 0 ? 0 : 1 + rnd.nextInt(run < 5 ? 50 : 20000);
+                Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+                for (int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                }
+                for (int k = (int) (0.8 * n); k > 0; k--) {
+                    g.addEdge(rnd.nextInt(n), rnd.nextInt(n));
+                }
+
+                ConnectivityInspector<Integer, DefaultEdge> expected =
+                    new ConnectivityInspector<>(g);
+                for (ForkJoinPool p : Arrays.asList(null, pool)) {
+                    ParallelConnectivityInspector<Integer, DefaultEdge> actual =
+                        new ParallelConnectivityInspector<>(g, p);
+                    assertEquals(expected.isGraphConnected(), actual.isGraphConnected());
+                    assertEquals(
+                        new HashSet<>(expected.connectedSets()),
+                        new HashSet<>(actual.connectedSets()));
+                    int[] labels = actual.getComponentLabels();
+                    int max = -1;
+                    for (int i = 0; i < labels.length; i++) {
+                        Integer v = actual.getVertices().get(i);
+                        assertEquals(labels[i], actual.getComponent(v));
+                        assertTrue(actual.connectedSets().get(labels[i]).contains(v));
+                        assertTrue(labels[i] <= max + 1);
+                        max = Math.max(max, labels[i]);
+                    }
+                    assertEquals(max + 1, actual.getComponentCount());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <V, E> void assertSameComponents(
+        ConnectivityInspector<V, E> expected, ConnectivityInspector<V, E> actual, Graph<V, E> g)
+    {
+        assertEquals(expected.isGraphConnected(), actual.isGraphConnected());
+        assertEquals(
+            new HashSet<>(expected.connectedSets()), new HashSet<>(actual.connectedSets()));
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.connectedSetOf(v), actual.connectedSetOf(v));
+        }
+    }
+
 }
 
 // End ConnectivityInspectorTest.java
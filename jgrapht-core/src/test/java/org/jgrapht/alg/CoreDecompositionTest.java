@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.clique.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link CoreDecomposition}.
+ *
+ * @author agent
+ */
+public class CoreDecompositionTest
+{
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+        // a 4-clique with a pendant path and an isolated vertex with a self-loop
+        g.addEdge(0, 1);
+        g.addEdge(0, 2);
+        g.addEdge(0, 3);
+        g.addEdge(1, 2);
+        g.addEdge(1, 3);
+        g.addEdge(2, 3);
+        g.addEdge(3, 4);
+        g.addEdge(4, 5);
+        g.addEdge(6, 6);
+
+        for (ForkJoinPool pool : Arrays.asList(null, ForkJoinPool.commonPool())) {
+            CoreDecomposition<Integer, DefaultEdge> cd = new CoreDecomposition<>(g, pool);
+            assertArrayEquals(new int[] { 3, 3, 3, 3, 1, 1, 0 }, cd.getCoreness());
+            cd.getCoreness()[0] = -1;
+            assertEquals(3, cd.getCoreness()[0]);
+            assertEquals(3, cd.getDegeneracy());
+            assertEquals(1, cd.getCoreness(5));
+            assertEquals(Arrays.asList(0, 1, 2, 3), cd.getCore(2));
+            assertEquals(7, cd.getCore(0).size());
+            assertOrdering(g, cd);
+        }
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(19);
+            for (int run = 0; run < 12; run++) {
+                int n = run == 0 ? 0 : 1 + rng.nextInt(run < 6 ? 50 : 5000);
+                Graph<Integer, DefaultEdge> g = run % 2 == 0
+                    ? new DirectedPseudograph<>(DefaultEdge.class)
+                    : new Pseudograph<>(DefaultEdge.class);
+                for (int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                }
+                for (int k = (1 + run % 3) * 3 * n; k > 0; k--) {
+                    g.addEdge(rng.nextInt(n), rng.nextInt(n));
+                }
+
+                int[] expected = naiveCoreness(g);
+                CoreDecomposition<Integer, DefaultEdge> sequential =
+                    new CoreDecomposition<>(g, null);
+                CoreDecomposition<Integer, DefaultEdge> parallel =
+                    new CoreDecomposition<>(g, pool);
+                assertArrayEquals(expected, sequential.getCoreness());
+                assertArrayEquals(expected, parallel.getCoreness());
+                assertEquals(sequential.getDegeneracy(), parallel.getDegeneracy());
+                assertOrdering(g, sequential);
+                assertOrdering(g, parallel);
+                assertEquals(
+                    parallel.getOrdering(), new CoreDecomposition<>(g, pool).getOrdering());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCliqueFinderWithDecomposition()
+    {
+        GnmRandomGraphGenerator<Integer, DefaultEdge> gen =
+            new GnmRandomGraphGenerator<>(100, 1500, 7);
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        gen.generateGraph(g, new IntegerVertexFactory(), null);
+
+        Set<Set<Integer>> expected = new HashSet<>();
+        new BronKerboschCliqueFinder<>(g).forEach(expected::add);
+
+        Set<Set<Integer>> actual = new HashSet<>();
+        CoreDecomposition<Integer, DefaultEdge> cd =
+            new CoreDecomposition<>(g, ForkJoinPool.commonPool());
+        new DegeneracyBronKerboschCliqueFinder<>(g, cd, 0L, TimeUnit.SECONDS)
+            .forEach(actual::add);
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Every vertex must have at most as many neighbors later in the ordering as its coreness.
+     */
+    private static <V, E> void assertOrdering(Graph<V, E> g, CoreDecomposition<V, E> cd)
+    {
+        List<V> ordering = cd.getOrdering();
+        assertEquals(g.vertexSet(), new HashSet<>(ordering));
+        for (int i = 0; i < ordering.size(); i++) {
+            V v = ordering.get(i);
+            assertEquals(i, cd.getOrderingIndex(v));
+            int later = 0;
+            for (E e : g.edgesOf(v)) {
+                V u = Graphs.getOppositeVertex(g, e, v);
+                if (!u.equals(v) && cd.getOrderingIndex(u) > i) {
+                    later++;
+                }
+            }
+            assertTrue(later <= cd.getCoreness(v));
+        }
+    }
+
+    /**
+     * Compute the coreness by removing vertices of degree less than k until none is left, for
+     * increasing k.
+     */
+    private static int[] naiveCoreness(Graph<Integer, DefaultEdge> g)
+    {
+        int n = g.vertexSet().size();
+        int[] core = new int[n];
+        int[] degree = new int[n];
+        boolean[] removed = new boolean[n];
+        for (DefaultEdge e : g.edgeSet()) {
+            int s = g.getEdgeSource(e);
+            int t = g.getEdgeTarget(e);
+            if (s != t) {
+                degree[s]++;
+                degree[t]++;
+            }
+        }
+        int left = n;
+        for (int k = 0; left > 0; k++) {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (int v = 0; v < n; v++) {
+                    if (!removed[v] && degree[v] <= k) {
+                        removed[v] = true;
+                        core[v] = k;
+                        left--;
+                        changed = true;
+                        for (DefaultEdge e : g.edgesOf(v)) {
+                            int u = Graphs.getOppositeVertex(g, e, v);
+                            if (u != v) {
+                                degree[u]--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return core;
+    }
+}
+
+// End CoreDecompositionTest.java
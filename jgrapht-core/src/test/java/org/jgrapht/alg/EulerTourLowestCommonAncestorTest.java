@@ -0,0 +1,140 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link EulerTourLowestCommonAncestor}.
+ *
+ * @author agent
+ */
+public class EulerTourLowestCommonAncestorTest
+{
+    @Test
+    public void testSmallDirectedTree()
+    {
+        Graph<String, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e", "f"));
+        g.addEdge("a", "b");
+        g.addEdge("a", "c");
+        g.addEdge("b", "d");
+        g.addEdge("b", "e");
+        g.addEdge("e", "f");
+
+        EulerTourLowestCommonAncestor<String, DefaultEdge> lca =
+            new EulerTourLowestCommonAncestor<>(g, "a");
+        assertEquals("b", lca.getLCA("d", "f"));
+        assertEquals("a", lca.getLCA("f", "c"));
+        assertEquals("e", lca.getLCA("e", "f"));
+        assertEquals("d", lca.getLCA("d", "d"));
+        assertEquals(3, lca.getDepth("f"));
+        assertEquals(
+            Arrays.asList("b", "a", "a"),
+            lca.getBatchLCA(
+                Arrays.asList(Pair.of("d", "e"), Pair.of("c", "d"), Pair.of("a", "f"))));
+    }
+
+    @Test
+    public void testRandomUndirectedTrees()
+    {
+        Random rng = new Random(7);
+        for (int run = 0; run < 20; run++) {
+            int n = 1 + rng.nextInt(500);
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+            int[] parent = new int[n];
+            int[] depth = new int[n];
+            g.addVertex(0);
+            parent[0] = -1;
+            for (int v = 1; v < n; v++) {
+                g.addVertex(v);
+                parent[v] = rng.nextInt(v);
+                depth[v] = depth[parent[v]] + 1;
+                g.addEdge(v, parent[v]);
+            }
+
+            EulerTourLowestCommonAncestor<Integer, DefaultEdge> lca =
+                new EulerTourLowestCommonAncestor<>(g, 0);
+            List<Pair<Integer, Integer>> queries = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            for (int q = 0; q < 200; q++) {
+                int a = rng.nextInt(n), b = rng.nextInt(n);
+                int x = a, y = b;
+                while (depth[x] > depth[y]) {
+                    x = parent[x];
+                }
+                while (depth[y] > depth[x]) {
+                    y = parent[y];
+                }
+                while (x != y) {
+                    x = parent[x];
+                    y = parent[y];
+                }
+                assertEquals(Integer.valueOf(x), lca.getLCA(a, b));
+                queries.add(Pair.of(a, b));
+                expected.add(x);
+            }
+            assertEquals(expected, lca.getBatchLCA(queries));
+        }
+    }
+
+    @Test
+    public void testDeepPath()
+    {
+        int n = 100000;
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        for (int v = 1; v < n; v++) {
+            g.addVertex(v);
+            g.addEdge(v - 1, v);
+        }
+        EulerTourLowestCommonAncestor<Integer, DefaultEdge> lca =
+            new EulerTourLowestCommonAncestor<>(g, 0);
+        assertEquals(Integer.valueOf(12345), lca.getLCA(12345, n - 1));
+        assertEquals(n - 1, lca.getDepth(n - 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotATree()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        new EulerTourLowestCommonAncestor<>(g, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnreachableVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        g.addEdge(1, 0);
+        new EulerTourLowestCommonAncestor<>(g, 0).getLCA(0, 1);
+    }
+}
+
+// End EulerTourLowestCommonAncestorTest.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
@@ -51,7 +52,9 @@ public class StrongConnectivityAlgorithmTest
     public void testStrongConnectivityClasses()
     {
         Class<?>[] strongConnectivityAlgorithmClasses =
-            { GabowStrongConnectivityInspector.class, KosarajuStrongConnectivityInspector.class };
+            { GabowStrongConnectivityInspector.class, KosarajuStrongConnectivityInspector.class,
+                PearceStrongConnectivityInspector.class,
+                ForwardBackwardStrongConnectivityInspector.class };
         for (Class<?> strongConnectivityAlgorithm : strongConnectivityAlgorithmClasses) {
             this.testStronglyConnected1(strongConnectivityAlgorithm);
             this.testStronglyConnected2(strongConnectivityAlgorithm);
@@ -287,6 +290,124 @@ public class StrongConnectivityAlgorithmTest
             condensation.toString());
     }
 
+    public void testRandomGraphs()
+    {
+        Random rnd = new Random(13);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int n : new int[] { 1, 10, 100, 1000, 20000 }) {
+                for (int degree : new int[] { 1, 2, 4 }) {
+                    Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+                    for (int i = 0; i < n; i++) {
+                        g.addVertex(i);
+                    }
+                    for (int k = 0; k < degree * n; k++) {
+                        g.addEdge(rnd.nextInt(n), rnd.nextInt(n));
+                    }
+
+                    Set<Set<Integer>> expected = new HashSet<>(
+                        new PearceStrongConnectivityInspector<>(g).stronglyConnectedSets());
+                    if (n <= 1000) {
+                        // the recursive implementation overflows the stack on large graphs
+                        assertEquals(
+                            new HashSet<>(
+                                new GabowStrongConnectivityInspector<>(g).stronglyConnectedSets()),
+                            expected);
+                    }
+                    List<Set<Integer>> parallel =
+                        new ForwardBackwardStrongConnectivityInspector<>(g, pool)
+                            .stronglyConnectedSets();
+                    assertEquals(expected.size(), parallel.size());
+                    assertEquals(expected, new HashSet<>(parallel));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testLongPath()
+    {
+        // a chain of two-cycles, too deep for a recursive search
+        int n = 200000;
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i + 1 < n; i++) {
+            g.addEdge(i, i + 1);
+            if (i % 2 == 0) {
+                g.addEdge(i + 1, i);
+            }
+        }
+
+        List<Set<Integer>> sets = new PearceStrongConnectivityInspector<>(g).stronglyConnectedSets();
+        assertEquals(n / 2, sets.size());
+        // components are completed in reverse topological order
+        assertEquals(new HashSet<>(Arrays.asList(n - 2, n - 1)), sets.get(0));
+
+        sets = new ForwardBackwardStrongConnectivityInspector<>(g).stronglyConnectedSets();
+        assertEquals(n / 2, sets.size());
+        // components are ordered by their first vertex
+        assertEquals(new HashSet<>(Arrays.asList(0, 1)), sets.get(0));
+    }
+
+    public void testCompactCondensation()
+    {
+        Random rnd = new Random(19);
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        int n = 300;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int k = 0; k < 400; k++) {
+            g.addEdge(rnd.nextInt(n), rnd.nextInt(n));
+        }
+
+        Class<?>[] strongConnectivityAlgorithmClasses =
+            { GabowStrongConnectivityInspector.class, KosarajuStrongConnectivityInspector.class,
+                PearceStrongConnectivityInspector.class,
+                ForwardBackwardStrongConnectivityInspector.class };
+        for (Class<?> strongConnectivityAlgorithm : strongConnectivityAlgorithmClasses) {
+            StrongConnectivityAlgorithm<Integer, DefaultEdge> sc =
+                this.getStrongConnectivityInspector(g, strongConnectivityAlgorithm);
+            StrongConnectivityAlgorithm.CompactCondensation<Integer> condensation =
+                sc.getCompactCondensation();
+
+            List<Set<Integer>> sets = sc.stronglyConnectedSets();
+            assertEquals(sets.size(), condensation.getComponentCount());
+            for (Set<Integer> set : sets) {
+                int c = condensation.getComponent(set.iterator().next());
+                assertEquals(set, new HashSet<>(condensation.getComponentVertices(c)));
+            }
+
+            Set<List<Integer>> expectedEdges = new HashSet<>();
+            for (DefaultEdge e : g.edgeSet()) {
+                int s = condensation.getComponent(g.getEdgeSource(e));
+                int t = condensation.getComponent(g.getEdgeTarget(e));
+                if (s != t) {
+                    assertTrue(s < t);
+                    expectedEdges.add(Arrays.asList(s, t));
+                }
+            }
+            Set<List<Integer>> actualEdges = new HashSet<>();
+            for (int c = 0; c < condensation.getComponentCount(); c++) {
+                int[] successors = condensation.getSuccessors(c);
+                for (int i = 0; i < successors.length; i++) {
+                    assertTrue(i == 0 || successors[i - 1] < successors[i]);
+                    actualEdges.add(Arrays.asList(c, successors[i]));
+                }
+            }
+            assertEquals(expectedEdges, actualEdges);
+
+            int[] components = condensation.getComponents();
+            List<Integer> vertices = condensation.getVertices();
+            for (int v = 0; v < vertices.size(); v++) {
+                assertEquals(condensation.getComponent(vertices.get(v)), components[v]);
+            }
+        }
+    }
+
     private <V, E> StrongConnectivityAlgorithm<V, E> getStrongConnectivityInspector(
         Graph<V, E> graph, Class<?> strongConnectivityAlgorithm)
     {
@@ -294,6 +415,10 @@ public class StrongConnectivityAlgorithmTest
             return new GabowStrongConnectivityInspector<>(graph);
         else if (strongConnectivityAlgorithm == KosarajuStrongConnectivityInspector.class)
             return new KosarajuStrongConnectivityInspector<>(graph);
+        else if (strongConnectivityAlgorithm == PearceStrongConnectivityInspector.class)
+            return new PearceStrongConnectivityInspector<>(graph);
+        else if (strongConnectivityAlgorithm == ForwardBackwardStrongConnectivityInspector.class)
+            return new ForwardBackwardStrongConnectivityInspector<>(graph);
         else
             throw new IllegalArgumentException("Unknown strongConnectivityInspectorClass");
     }
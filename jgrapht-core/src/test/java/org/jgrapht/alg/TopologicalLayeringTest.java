@@ -0,0 +1,127 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link TopologicalLayering}.
+ *
+ * @author agent
+ */
+public class TopologicalLayeringTest
+{
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<String, DefaultEdge> g = new DirectedMultigraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.addEdge("a", "b");
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("a", "c");
+        g.addEdge("d", "c");
+
+        TopologicalLayering<String, DefaultEdge> layering = new TopologicalLayering<>(g);
+        assertEquals(3, layering.getLayerCount());
+        assertEquals(Arrays.asList("a", "d", "e"), layering.getLayer(0));
+        assertEquals(Arrays.asList("b"), layering.getLayer(1));
+        assertEquals(Arrays.asList("c"), layering.getLayer(2));
+        assertEquals(2, layering.getLayerOf("c"));
+        assertEquals(Arrays.asList("a", "d", "e", "b", "c"), layering.getTopologicalOrder());
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(19);
+            for (int run = 0; run < 10; run++) {
+                int n = 1 + rng.nextInt(run < 5 ? 50 : 20000);
+                List<Integer> permutation = new ArrayList<>();
+                Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+                for (int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                    permutation.add(v);
+                }
+                Collections.shuffle(permutation, rng);
+                for (int k = 0; k < 3 * n; k++) {
+                    int a = rng.nextInt(n), b = rng.nextInt(n);
+                    if (a < b) {
+                        g.addEdge(permutation.get(a), permutation.get(b));
+                    }
+                }
+
+                // the layer of a vertex is the length of a longest path ending at it
+                Map<Integer, Integer> expected = new HashMap<>();
+                for (int i = 0; i < n; i++) {
+                    int v = permutation.get(i);
+                    int layer = 0;
+                    for (DefaultEdge e : g.incomingEdgesOf(v)) {
+                        layer = Math.max(layer, expected.get(g.getEdgeSource(e)) + 1);
+                    }
+                    expected.put(v, layer);
+                }
+
+                TopologicalLayering<Integer, DefaultEdge> sequential =
+                    new TopologicalLayering<>(g);
+                TopologicalLayering<Integer, DefaultEdge> parallel =
+                    new TopologicalLayering<>(g, pool);
+                assertEquals(sequential.getLayers(), parallel.getLayers());
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.get(v).intValue(), sequential.getLayerOf(v));
+                    assertEquals(expected.get(v).intValue(), parallel.getLayerOf(v));
+                }
+                int count = 0;
+                for (List<Integer> layer : parallel.getLayers()) {
+                    count += layer.size();
+                }
+                assertEquals(n, count);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCycle()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 1);
+        new TopologicalLayering<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndirected()
+    {
+        new TopologicalLayering<>(new SimpleGraph<>(DefaultEdge.class));
+    }
+}
+
+// End TopologicalLayeringTest.java
@@ -17,6 +17,10 @@
  */
 package org.jgrapht.alg;
 
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
@@ -119,6 +123,51 @@ public class TransitiveClosureTest
             }
         }
     }
+
+    public void testRandomDagAgainstSimpleClosure()
+    {
+        Random rnd = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int n : new int[] { 20, 100, 300 }) {
+                DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+                    new DirectedAcyclicGraph<>(DefaultEdge.class);
+                SimpleDirectedGraph<Integer, DefaultEdge> simple =
+                    new SimpleDirectedGraph<>(DefaultEdge.class);
+                for (int i = 0; i < n; i++) {
+                    dag.addVertex(i);
+                    simple.addVertex(i);
+                }
+                for (int k = 0; k < 2 * n; k++) {
+                    int i = rnd.nextInt(n);
+                    int j = rnd.nextInt(n);
+                    if (i < j) {
+                        dag.addEdge(i, j);
+                        simple.addEdge(i, j);
+                    }
+                }
+
+                DirectedAcyclicGraph<Integer, DefaultEdge> parallelDag =
+                    new DirectedAcyclicGraph<>(DefaultEdge.class);
+                Graphs.addGraph(parallelDag, dag);
+
+                TransitiveClosure.INSTANCE.closeSimpleDirectedGraph(simple);
+                TransitiveClosure.INSTANCE.closeDirectedAcyclicGraph(dag);
+                TransitiveClosure.INSTANCE.closeDirectedAcyclicGraph(parallelDag, pool);
+
+                assertEquals(simple.edgeSet().size(), dag.edgeSet().size());
+                assertEquals(simple.edgeSet().size(), parallelDag.edgeSet().size());
+                for (DefaultEdge e : simple.edgeSet()) {
+                    Integer s = simple.getEdgeSource(e);
+                    Integer t = simple.getEdgeTarget(e);
+                    assertTrue(dag.containsEdge(s, t));
+                    assertTrue(parallelDag.containsEdge(s, t));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
 
 // End TransitiveClosureTest.java
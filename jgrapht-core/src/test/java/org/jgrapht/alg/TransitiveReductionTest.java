@@ -23,6 +23,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.graph.*;
@@ -279,6 +280,41 @@ public class TransitiveReductionTest
         assertArrayEquals(expected_transitively_reduced_matrix, actual_transitively_reduced_matrix);
     }
 
+    @Test
+    public void testReduceRandomDag()
+    {
+        Random rnd = new Random(11);
+        for (int n : new int[] { 10, 70, 150 }) {
+            int[][] randomMatrix = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    randomMatrix[i][j] = rnd.nextInt(10) < 2 ? 1 : 0;
+                }
+            }
+
+            BitSet[] expected = asBitSetArray(randomMatrix);
+            TransitiveReduction.transformToPathMatrix(expected);
+            TransitiveReduction.transitiveReduction(expected);
+
+            Graph<Integer, DefaultEdge> graph = fromMatrixToDirectedGraph(randomMatrix);
+            TransitiveReduction.INSTANCE.reduce(graph);
+            Graph<Integer, DefaultEdge> parallelGraph = fromMatrixToDirectedGraph(randomMatrix);
+            ForkJoinPool pool = new ForkJoinPool(3);
+            try {
+                TransitiveReduction.INSTANCE.reduce(parallelGraph, pool);
+            } finally {
+                pool.shutdown();
+            }
+
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    assertEquals(expected[i].get(j), graph.containsEdge(i, j));
+                    assertEquals(expected[i].get(j), parallelGraph.containsEdge(i, j));
+                }
+            }
+        }
+    }
+
     static private Graph<Integer, DefaultEdge> fromMatrixToDirectedGraph(final int[][] matrix)
     {
         final SimpleDirectedGraph<Integer, DefaultEdge> graph =
@@ -19,9 +19,15 @@
 
 package org.jgrapht.alg.cycle;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.*;
+
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.junit.*;
 
@@ -85,6 +91,114 @@ public class DirectedSimpleCyclesTest
         }
     }
 
+    private static List<DirectedSimpleCycles<Integer, DefaultEdge>> finders()
+    {
+        return Arrays.asList(
+            new TiernanSimpleCycles<>(), new TarjanSimpleCycles<>(), new JohnsonSimpleCycles<>(),
+            new SzwarcfiterLauerSimpleCycles<>(), new HawickJamesSimpleCycles<>());
+    }
+
+    @Test
+    public void testStreaming()
+    {
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 5; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 5; j++) {
+                graph.addEdge(i, j);
+            }
+        }
+
+        for (DirectedSimpleCycles<Integer, DefaultEdge> finder : finders()) {
+            finder.setGraph(graph);
+            int[] count = new int[1];
+            assertTrue(finder.findSimpleCycles(cycle -> {
+                count[0]++;
+                return true;
+            }));
+            assertEquals(RESULTS[5], count[0]);
+
+            count[0] = 0;
+            assertFalse(finder.findSimpleCycles(cycle -> ++count[0] < 10));
+            assertEquals(10, count[0]);
+
+            // the finder can be reused after it was stopped
+            assertEquals(RESULTS[5], finder.findSimpleCycles().size());
+        }
+    }
+
+    @Test
+    public void testMaxLength()
+    {
+        Random rnd = new Random(19);
+        for (int i = 0; i < 30; i++) {
+            Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(8, 25, rnd.nextLong(), true, false)
+                .generateGraph(graph, new IntegerVertexFactory(), null);
+
+            for (DirectedSimpleCycles<Integer, DefaultEdge> finder : finders()) {
+                finder.setGraph(graph);
+                List<List<Integer>> all = finder.findSimpleCycles();
+                for (int maxLength = 1; maxLength <= 8; maxLength++) {
+                    Set<List<Integer>> expected = new HashSet<>();
+                    for (List<Integer> cycle : all) {
+                        if (cycle.size() <= maxLength) {
+                            expected.add(rotate(cycle));
+                        }
+                    }
+                    Set<List<Integer>> found = new HashSet<>();
+                    List<List<Integer>> cycles = new ArrayList<>();
+                    assertTrue(finder.findSimpleCycles(maxLength, cycle -> {
+                        cycles.add(cycle);
+                        return found.add(rotate(cycle));
+                    }));
+                    assertEquals(expected.size(), cycles.size());
+                    assertEquals(expected, found);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testJohnsonLongCycle()
+    {
+        // deep enough to overflow the call stack of a recursive search
+        int n = 100000;
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < n; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < n; i++) {
+            graph.addEdge(i, (i + 1) % n);
+        }
+        graph.addEdge(n / 2, 0);
+
+        List<List<Integer>> cycles = new JohnsonSimpleCycles<>(graph).findSimpleCycles();
+        assertEquals(2, cycles.size());
+        Set<Integer> sizes = new HashSet<>();
+        for (List<Integer> cycle : cycles) {
+            sizes.add(cycle.size());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(n, n / 2 + 1)), sizes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxLength()
+    {
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        new JohnsonSimpleCycles<>(graph).findSimpleCycles(0, cycle -> true);
+    }
+
+    private static List<Integer> rotate(List<Integer> cycle)
+    {
+        int min = cycle.indexOf(Collections.min(cycle));
+        List<Integer> result = new ArrayList<>(cycle.subList(min, cycle.size()));
+        result.addAll(cycle.subList(0, min));
+        return result;
+    }
+
     private void checkResult(DirectedSimpleCycles<Integer, DefaultEdge> finder, int size)
     {
         assertTrue(finder.findSimpleCycles().size() == size);
@@ -0,0 +1,238 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link CanonicalGraphLabeling}.
+ *
+ * @author agent
+ */
+public class CanonicalGraphLabelingTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+        assertEquals(certificate(g1), certificate(g2));
+        assertEquals(0, new CanonicalGraphLabeling<>(g1).getCanonicalOrder().size());
+
+        g2.addVertex(1);
+        assertNotEquals(certificate(g1), certificate(g2));
+    }
+
+    @Test
+    public void testNotDistinguishedByColorRefinement()
+    {
+        // a 6-cycle and two triangles are both 2-regular
+        Graph<Integer, DefaultEdge> cycle = new SimpleGraph<>(DefaultEdge.class);
+        new RingGraphGenerator<Integer, DefaultEdge>(6)
+            .generateGraph(cycle, new IntegerVertexFactory(), null);
+        Graph<Integer, DefaultEdge> triangles = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(triangles, Arrays.asList(0, 1, 2, 3, 4, 5));
+        triangles.addEdge(0, 1);
+        triangles.addEdge(1, 2);
+        triangles.addEdge(2, 0);
+        triangles.addEdge(3, 4);
+        triangles.addEdge(4, 5);
+        triangles.addEdge(5, 3);
+
+        assertEquals(
+            new ColorRefinementGraphHash<>(cycle).getHash(),
+            new ColorRefinementGraphHash<>(triangles).getHash());
+        assertNotEquals(certificate(cycle), certificate(triangles));
+    }
+
+    @Test
+    public void testDirectedAndUndirected()
+    {
+        Graph<Integer, DefaultEdge> undirected = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> directed = new SimpleDirectedGraph<>(DefaultEdge.class);
+        for (Graph<Integer, DefaultEdge> g : Arrays.asList(undirected, directed)) {
+            Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+            g.addEdge(0, 1);
+            g.addEdge(1, 2);
+        }
+        assertNotEquals(certificate(undirected), certificate(directed));
+
+        // the two orientations of a path on three vertices with a source in the middle
+        Graph<Integer, DefaultEdge> other = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(other, Arrays.asList(0, 1, 2));
+        other.addEdge(1, 0);
+        other.addEdge(1, 2);
+        assertNotEquals(certificate(directed), certificate(other));
+    }
+
+    @Test
+    public void testSymmetricGraphs()
+    {
+        List<Graph<Integer, DefaultEdge>> graphs = new ArrayList<>();
+        graphs.add(NamedGraphGenerator.petersenGraph());
+        graphs.add(NamedGraphGenerator.clebschGraph());
+        graphs.add(NamedGraphGenerator.desarguesGraph());
+        graphs.add(NamedGraphGenerator.dodecahedronGraph());
+        Graph<Integer, DefaultEdge> complete = new SimpleGraph<>(DefaultEdge.class);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(25)
+            .generateGraph(complete, new IntegerVertexFactory(), null);
+        graphs.add(complete);
+        Graph<Integer, DefaultEdge> cube = new SimpleGraph<>(DefaultEdge.class);
+        new HyperCubeGraphGenerator<Integer, DefaultEdge>(5)
+            .generateGraph(cube, new IntegerVertexFactory(), null);
+        graphs.add(cube);
+
+        Random rnd = new Random(17);
+        for (Graph<Integer, DefaultEdge> g : graphs) {
+            CanonicalGraphLabeling.Certificate c = certificate(g);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(c, certificate(permute(g, rnd, SimpleGraph::new)));
+            }
+        }
+    }
+
+    @Test
+    public void testCanonicalOrder()
+    {
+        Random rnd = new Random(3);
+        Graph<Integer, DefaultEdge> g = SubgraphIsomorphismTestUtils.randomGraph(12, 30, 5);
+        CanonicalGraphLabeling<Integer, DefaultEdge> labeling = new CanonicalGraphLabeling<>(g);
+        List<Integer> order = labeling.getCanonicalOrder();
+        Map<Integer, Integer> labels = labeling.getLabeling();
+        assertEquals(g.vertexSet(), new HashSet<>(order));
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals(i, labels.get(order.get(i)).intValue());
+        }
+
+        // relabeling the graph by its canonical order and then a permuted copy gives the same
+        // graph
+        Graph<Integer, DefaultEdge> h = permute(g, rnd, DefaultDirectedGraph::new);
+        List<Integer> order2 = new CanonicalGraphLabeling<>(h).getCanonicalOrder();
+        for (int i = 0; i < order.size(); i++) {
+            for (int j = 0; j < order.size(); j++) {
+                assertEquals(
+                    g.containsEdge(order.get(i), order.get(j)),
+                    h.containsEdge(order2.get(i), order2.get(j)));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomPermutations()
+    {
+        Random rnd = new Random(11);
+        for (int i = 0; i < 100; i++) {
+            int n = 1 + rnd.nextInt(15);
+            int m = rnd.nextInt(n * (n - 1) / 2 + 1);
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, rnd.nextLong())
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            assertEquals(certificate(g), certificate(permute(g, rnd, SimpleGraph::new)));
+
+            Graph<Integer, DefaultEdge> d = SubgraphIsomorphismTestUtils.randomGraph(n, m, i);
+            assertEquals(certificate(d), certificate(permute(d, rnd, DefaultDirectedGraph::new)));
+        }
+    }
+
+    @Test
+    public void testMultigraphs()
+    {
+        Random rnd = new Random(5);
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        g.addEdge(3, 3);
+        assertEquals(certificate(g), certificate(permute(g, rnd, Pseudograph::new)));
+
+        Graph<Integer, DefaultEdge> h = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(h, Arrays.asList(0, 1, 2, 3));
+        h.addEdge(0, 1);
+        h.addEdge(1, 2);
+        h.addEdge(1, 2);
+        h.addEdge(2, 3);
+        h.addEdge(3, 3);
+        assertNotEquals(certificate(g), certificate(h));
+    }
+
+    @Test
+    public void testAgainstVF2()
+    {
+        Random rnd = new Random(23);
+        for (int i = 0; i < 300; i++) {
+            int n = 1 + rnd.nextInt(6);
+            int m = rnd.nextInt(n * (n - 1) / 2 + 1);
+            Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, rnd.nextLong())
+                .generateGraph(g1, new IntegerVertexFactory(), null);
+            Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, rnd.nextLong())
+                .generateGraph(g2, new IntegerVertexFactory(), null);
+
+            boolean isomorphic = new VF2GraphIsomorphismInspector<>(g1, g2).isomorphismExists();
+            assertEquals(isomorphic, certificate(g1).equals(certificate(g2)));
+        }
+    }
+
+    private static <V, E> CanonicalGraphLabeling.Certificate certificate(Graph<V, E> g)
+    {
+        return new CanonicalGraphLabeling<>(g).getCertificate();
+    }
+
+    /**
+     * Create a copy of a graph with randomly renamed vertices which are inserted in random order.
+     */
+    static Graph<Integer, DefaultEdge> permute(
+        Graph<Integer, DefaultEdge> g, Random rnd,
+        Function<Class<DefaultEdge>, Graph<Integer, DefaultEdge>> factory)
+    {
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        List<Integer> names = new ArrayList<>(vertices);
+        Collections.shuffle(names, rnd);
+        Map<Integer, Integer> rename = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            rename.put(vertices.get(i), names.get(i));
+        }
+        Collections.shuffle(names, rnd);
+
+        Graph<Integer, DefaultEdge> result = factory.apply(DefaultEdge.class);
+        Graphs.addAllVertices(result, names);
+        List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+        Collections.shuffle(edges, rnd);
+        for (DefaultEdge e : edges) {
+            result.addEdge(rename.get(g.getEdgeSource(e)), rename.get(g.getEdgeTarget(e)));
+        }
+        return result;
+    }
+
+}
+
+// End CanonicalGraphLabelingTest.java
@@ -0,0 +1,129 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ColorRefinementGraphHash}.
+ *
+ * @author agent
+ */
+public class ColorRefinementGraphHashTest
+{
+
+    @Test
+    public void testDistinguishesTrees()
+    {
+        Graph<Integer, DefaultEdge> path = new SimpleGraph<>(DefaultEdge.class);
+        new LinearGraphGenerator<Integer, DefaultEdge>(5)
+            .generateGraph(path, new IntegerVertexFactory(), null);
+        Graph<Integer, DefaultEdge> star = new SimpleGraph<>(DefaultEdge.class);
+        new StarGraphGenerator<Integer, DefaultEdge>(5)
+            .generateGraph(star, new IntegerVertexFactory(), null);
+        assertNotEquals(hash(path), hash(star));
+
+        // a spider with legs of length 1, 1, 2 and a path, same degree sequence
+        Graph<Integer, DefaultEdge> spider = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(spider, Arrays.asList(0, 1, 2, 3, 4, 5));
+        spider.addEdge(0, 1);
+        spider.addEdge(0, 2);
+        spider.addEdge(0, 3);
+        spider.addEdge(3, 4);
+        spider.addEdge(1, 5);
+        Graph<Integer, DefaultEdge> other = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(other, Arrays.asList(0, 1, 2, 3, 4, 5));
+        other.addEdge(0, 1);
+        other.addEdge(0, 2);
+        other.addEdge(0, 3);
+        other.addEdge(3, 4);
+        other.addEdge(4, 5);
+        assertNotEquals(hash(spider), hash(other));
+    }
+
+    @Test
+    public void testDirected()
+    {
+        Graph<Integer, DefaultEdge> g1 = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g1, Arrays.asList(0, 1, 2));
+        g1.addEdge(0, 1);
+        g1.addEdge(1, 2);
+        Graph<Integer, DefaultEdge> g2 = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g2, Arrays.asList(0, 1, 2));
+        g2.addEdge(1, 0);
+        g2.addEdge(1, 2);
+        Graph<Integer, DefaultEdge> g3 = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g3, Arrays.asList(0, 1, 2));
+        g3.addEdge(0, 1);
+        g3.addEdge(1, 2);
+        assertNotEquals(hash(g1), hash(g2));
+        assertNotEquals(hash(g1), hash(g3));
+    }
+
+    @Test
+    public void testRandomPermutations()
+    {
+        Random rnd = new Random(7);
+        for (int i = 0; i < 100; i++) {
+            int n = 1 + rnd.nextInt(30);
+            int m = rnd.nextInt(n * (n - 1) / 2 + 1);
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, rnd.nextLong())
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            assertEquals(
+                hash(g), hash(CanonicalGraphLabelingTest.permute(g, rnd, SimpleGraph::new)));
+
+            Graph<Integer, DefaultEdge> d = SubgraphIsomorphismTestUtils.randomGraph(n, m, i);
+            assertEquals(
+                hash(d),
+                hash(CanonicalGraphLabelingTest.permute(d, rnd, DefaultDirectedGraph::new)));
+        }
+    }
+
+    @Test
+    public void testLongPath()
+    {
+        // requires many rounds of refinement
+        Graph<Integer, DefaultEdge> path = new SimpleGraph<>(DefaultEdge.class);
+        new LinearGraphGenerator<Integer, DefaultEdge>(50000)
+            .generateGraph(path, new IntegerVertexFactory(), null);
+        Graph<Integer, DefaultEdge> permuted =
+            CanonicalGraphLabelingTest.permute(path, new Random(1), SimpleGraph::new);
+        assertEquals(hash(path), hash(permuted));
+
+        path.removeEdge(0, 1);
+        assertNotEquals(hash(path), hash(permuted));
+    }
+
+    private static <V, E> long hash(Graph<V, E> g)
+    {
+        return new ColorRefinementGraphHash<>(g).getHash();
+    }
+
+}
+
+// End ColorRefinementGraphHashTest.java
@@ -269,4 +269,50 @@ public class GraphOrderingTest
         assertEquals(false, g1Ordering.hasEdge(v5o, v4o));
         assertEquals(false, g1Ordering.hasEdge(v5o, v5o));
     }
+
+    @Test
+    public void testLargeSparseGraph()
+    {
+        // larger than the bit matrix bound, adjacency is answered from the sorted neighbors
+        int n = 10000;
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        Random rnd = new Random(7);
+        for (int i = 0; i < 3 * n; i++) {
+            int s = rnd.nextInt(n), t = rnd.nextInt(n);
+            if (s != t) {
+                g.addEdge(s, t);
+            }
+        }
+
+        for (boolean cacheEdges : new boolean[] { true, false }) {
+            GraphOrdering<Integer, DefaultEdge> ordering =
+                new GraphOrdering<>(g, true, cacheEdges);
+            for (int i = 0; i < 1000; i++) {
+                int s = rnd.nextInt(n), t = rnd.nextInt(n);
+                assertEquals(
+                    g.containsEdge(s, t),
+                    ordering.hasEdge(ordering.getVertexNumber(s), ordering.getVertexNumber(t)));
+            }
+            for (DefaultEdge e : g.edgeSet()) {
+                int s = ordering.getVertexNumber(g.getEdgeSource(e));
+                int t = ordering.getVertexNumber(g.getEdgeTarget(e));
+                assertEquals(true, ordering.hasEdge(s, t));
+                assertEquals(true, contains(ordering.getOutEdges(s), t));
+                assertEquals(true, contains(ordering.getInEdges(t), s));
+            }
+        }
+    }
+
+    private static boolean contains(int[] array, int value)
+    {
+        for (int a : array) {
+            if (a == value) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
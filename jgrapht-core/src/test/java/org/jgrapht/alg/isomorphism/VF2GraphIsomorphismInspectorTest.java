@@ -20,6 +20,8 @@ package org.jgrapht.alg.isomorphism;
 import static org.junit.Assert.assertEquals;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.jgrapht.*;
 import org.jgrapht.graph.*;
@@ -187,4 +189,124 @@ public class VF2GraphIsomorphismInspectorTest
         assertEquals(false, vf4.isomorphismExists());
     }
 
+    @Test
+    public void testParallelAutomorphisms()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // the 5-cycle has 10 automorphisms
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 5; i++) {
+            g1.addVertex(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            g1.addEdge(i, (i + 1) % 5);
+        }
+
+        VF2GraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+            new VF2GraphIsomorphismInspector<>(g1, g1);
+        AtomicInteger count = new AtomicInteger();
+        assertEquals(true, vf2.forEachMapping(pool, m -> {
+            count.incrementAndGet();
+            return true;
+        }));
+        assertEquals(10, count.get());
+        assertEquals(true, vf2.isomorphismExists(pool));
+
+        Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 5; i++) {
+            g2.addVertex(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            g2.addEdge(i, i + 1);
+        }
+        g2.addEdge(0, 2);
+        assertEquals(false, new VF2GraphIsomorphismInspector<>(g1, g2).isomorphismExists(pool));
+
+        Graph<Integer, DefaultEdge> empty = new SimpleGraph<>(DefaultEdge.class);
+        assertEquals(
+            true, new VF2GraphIsomorphismInspector<>(empty, empty).isomorphismExists(pool));
+        pool.shutdown();
+    }
+
+    @Test
+    public void testParallelWithoutState()
+    {
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 5; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            g.addEdge(i, (i + 1) % 5);
+        }
+
+        // a subclass which only implements getMappings() uses a sequential enumeration
+        VF2AbstractIsomorphismInspector<Integer, DefaultEdge> vf2 =
+            new VF2AbstractIsomorphismInspector<Integer, DefaultEdge>(g, g)
+            {
+                @Override
+                public Iterator<GraphMapping<Integer, DefaultEdge>> getMappings()
+                {
+                    return new VF2GraphIsomorphismInspector<>(g, g).getMappings();
+                }
+            };
+        AtomicInteger count = new AtomicInteger();
+        assertEquals(true, vf2.forEachMapping(pool, m -> {
+            count.incrementAndGet();
+            return true;
+        }));
+        assertEquals(10, count.get());
+        assertEquals(false, vf2.forEachMapping(pool, m -> false));
+        pool.shutdown();
+    }
+
+    @Test
+    public void testRandomPermutations()
+    {
+        Random rnd = new Random(97);
+        for (int i = 1; i < 50; i++) {
+            int n = 2 + rnd.nextInt(20);
+            Graph<Integer, DefaultEdge> g1 =
+                SubgraphIsomorphismTestUtils.randomGraph(n, rnd.nextInt(n * (n - 1) / 2 + 1), i);
+            Graph<Integer, DefaultEdge> g2 =
+                CanonicalGraphLabelingTest.permute(g1, rnd, DefaultDirectedGraph::new);
+
+            VF2GraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+                new VF2GraphIsomorphismInspector<>(g1, g2);
+            Iterator<GraphMapping<Integer, DefaultEdge>> mappings = vf2.getMappings();
+            assertEquals(true, mappings.hasNext());
+            GraphMapping<Integer, DefaultEdge> mapping = mappings.next();
+            for (DefaultEdge e : g1.edgeSet()) {
+                assertEquals(
+                    true,
+                    g2.containsEdge(
+                        mapping.getVertexCorrespondence(g1.getEdgeSource(e), true),
+                        mapping.getVertexCorrespondence(g1.getEdgeTarget(e), true)));
+            }
+
+            // moving one edge breaks the isomorphism unless the graphs stay isomorphic
+            if (g2.edgeSet().isEmpty()) {
+                continue;
+            }
+            DefaultEdge e = g2.edgeSet().iterator().next();
+            Integer source = g2.getEdgeSource(e);
+            Integer target = null;
+            for (Integer v : g2.vertexSet()) {
+                if (!v.equals(source) && !g2.containsEdge(source, v)) {
+                    target = v;
+                    break;
+                }
+            }
+            if (target != null) {
+                g2.removeEdge(e);
+                g2.addEdge(source, target);
+                assertEquals(
+                    new CanonicalGraphLabeling<>(g1).getCertificate()
+                        .equals(new CanonicalGraphLabeling<>(g2).getCertificate()),
+                    new VF2GraphIsomorphismInspector<>(g1, g2).isomorphismExists());
+            }
+        }
+    }
 }
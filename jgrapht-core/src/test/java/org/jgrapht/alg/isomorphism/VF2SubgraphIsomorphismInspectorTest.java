@@ -20,6 +20,8 @@ package org.jgrapht.alg.isomorphism;
 import static org.junit.Assert.assertEquals;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
@@ -948,4 +950,79 @@ public class VF2SubgraphIsomorphismInspectorTest
                 + (System.currentTimeMillis() - time) + "ms");
     }
 
+    /**
+     * PAR: Tests that the parallel search finds the same mappings as the sequential iterator.
+     */
+    @Test
+    public void testParallelMappings()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Random rnd = new Random(2468);
+
+        for (int i = 1; i < 60; i++) {
+            int vertexCount = 2 + rnd.nextInt(8),
+                edgeCount = rnd.nextInt(vertexCount * (vertexCount - 1) / 2 + 1),
+                subVertexCount = 1 + rnd.nextInt(vertexCount);
+
+            Graph<Integer, DefaultEdge> g1 =
+                SubgraphIsomorphismTestUtils.randomGraph(vertexCount, edgeCount, i),
+                g2 = SubgraphIsomorphismTestUtils.randomSubgraph(g1, subVertexCount, i);
+
+            VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+                new VF2SubgraphIsomorphismInspector<>(g1, g2);
+
+            Set<String> expected = new HashSet<>();
+            for (Iterator<GraphMapping<Integer, DefaultEdge>> mappings = vf2.getMappings();
+                mappings.hasNext();)
+            {
+                expected.add(mappings.next().toString());
+            }
+
+            Set<String> found = ConcurrentHashMap.newKeySet();
+            AtomicInteger count = new AtomicInteger();
+            assertEquals(true, vf2.forEachMapping(pool, m -> {
+                assertEquals(true, SubgraphIsomorphismTestUtils.isCorrectMatching(m, g1, g2));
+                found.add(m.toString());
+                count.incrementAndGet();
+                return true;
+            }));
+            assertEquals(expected.size(), count.get());
+            assertEquals(expected, found);
+            assertEquals(!expected.isEmpty(), vf2.isomorphismExists(pool));
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * PAR: Tests that the parallel search stops once the action returns false.
+     */
+    @Test
+    public void testParallelEarlyTermination()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class),
+            g2 = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 8; i++) {
+            g1.addVertex(i);
+        }
+        g2.addVertex(0);
+        g2.addVertex(1);
+        g2.addEdge(0, 1);
+
+        VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2);
+        assertEquals(false, vf2.isomorphismExists(pool));
+        assertEquals(true, vf2.forEachMapping(pool, m -> false));
+
+        for (int i = 0; i < 8; i++) {
+            for (int j = i + 1; j < 8; j++) {
+                g1.addEdge(i, j);
+            }
+        }
+        vf2 = new VF2SubgraphIsomorphismInspector<>(g1, g2);
+        AtomicInteger count = new AtomicInteger();
+        assertEquals(false, vf2.forEachMapping(pool, m -> count.incrementAndGet() < 3));
+        assertEquals(true, count.get() < 8 * 7);
+        pool.shutdown();
+    }
 }
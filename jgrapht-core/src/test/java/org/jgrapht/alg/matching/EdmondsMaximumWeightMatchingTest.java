@@ -0,0 +1,282 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.MatchingAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Unit tests for the EdmondsMaximumWeightMatching algorithm.
+ *
+ * @author agent
+ */
+public class EdmondsMaximumWeightMatchingTest
+{
+
+    @Test
+    public void testEmpty()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Matching<Integer, DefaultWeightedEdge> m =
+            new EdmondsMaximumWeightMatching<>(g).getMatching();
+        assertEquals(0, m.getEdges().size());
+        assertEquals(0d, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+    }
+
+    @Test
+    public void testPath()
+    {
+        WeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5));
+        Graphs.addEdge(g, 0, 1, 1.0);
+        Graphs.addEdge(g, 1, 2, 5.0);
+        Graphs.addEdge(g, 2, 3, 1.0);
+        Graphs.addEdge(g, 3, 4, 5.0);
+        Graphs.addEdge(g, 4, 5, 1.0);
+        Graphs.addEdge(g, 5, 5, 100.0);
+
+        Matching<Integer, DefaultWeightedEdge> m =
+            new EdmondsMaximumWeightMatching<>(g).getMatching();
+        assertEquals(2, m.getEdges().size());
+        assertEquals(10.0, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        assertTrue(m.getEdges().contains(g.getEdge(1, 2)));
+        assertTrue(m.getEdges().contains(g.getEdge(3, 4)));
+
+        Matching<Integer, DefaultWeightedEdge> mc =
+            new EdmondsMaximumWeightMatching<>(g, true).getMatching();
+        assertEquals(3, mc.getEdges().size());
+        assertEquals(3.0, mc.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+    }
+
+    @Test
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        Graphs.addEdge(g, 0, 1, -1.0);
+        Graphs.addEdge(g, 1, 2, 2.0);
+        Graphs.addEdge(g, 2, 3, -1.0);
+
+        Matching<Integer, DefaultWeightedEdge> m =
+            new EdmondsMaximumWeightMatching<>(g).getMatching();
+        assertEquals(1, m.getEdges().size());
+        assertEquals(2.0, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+
+        Matching<Integer, DefaultWeightedEdge> mc =
+            new EdmondsMaximumWeightMatching<>(g, true).getMatching();
+        assertEquals(2, mc.getEdges().size());
+        assertEquals(-2.0, mc.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+    }
+
+    @Test
+    public void testNestedBlossoms()
+    {
+        // a graph which requires the creation and expansion of nested blossoms
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        Graphs.addEdge(g, 1, 2, 45);
+        Graphs.addEdge(g, 1, 5, 45);
+        Graphs.addEdge(g, 2, 3, 50);
+        Graphs.addEdge(g, 3, 4, 45);
+        Graphs.addEdge(g, 4, 5, 50);
+        Graphs.addEdge(g, 1, 6, 30);
+        Graphs.addEdge(g, 3, 9, 35);
+        Graphs.addEdge(g, 4, 8, 28);
+        Graphs.addEdge(g, 5, 7, 26);
+        Graphs.addEdge(g, 9, 10, 5);
+
+        Matching<Integer, DefaultWeightedEdge> m =
+            new EdmondsMaximumWeightMatching<>(g).getMatching();
+        assertEquals(5, m.getEdges().size());
+        assertEquals(139.0, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        assertTrue(m.getEdges().contains(g.getEdge(1, 6)));
+        assertTrue(m.getEdges().contains(g.getEdge(2, 3)));
+        assertTrue(m.getEdges().contains(g.getEdge(4, 8)));
+        assertTrue(m.getEdges().contains(g.getEdge(5, 7)));
+        assertTrue(m.getEdges().contains(g.getEdge(9, 10)));
+    }
+
+    @Test
+    public void testBlossom()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2, 3, 4, 5, 6));
+        Graphs.addEdge(g, 1, 2, 8);
+        Graphs.addEdge(g, 1, 3, 9);
+        Graphs.addEdge(g, 2, 3, 10);
+        Graphs.addEdge(g, 3, 4, 7);
+
+        Matching<Integer, DefaultWeightedEdge> m =
+            new EdmondsMaximumWeightMatching<>(g).getMatching();
+        assertEquals(15.0, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        assertTrue(m.getEdges().contains(g.getEdge(1, 2)));
+        assertTrue(m.getEdges().contains(g.getEdge(3, 4)));
+
+        Graphs.addEdge(g, 1, 6, 5);
+        Graphs.addEdge(g, 4, 5, 6);
+        m = new EdmondsMaximumWeightMatching<>(g).getMatching();
+        assertEquals(21.0, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        assertTrue(m.getEdges().contains(g.getEdge(1, 6)));
+        assertTrue(m.getEdges().contains(g.getEdge(2, 3)));
+        assertTrue(m.getEdges().contains(g.getEdge(4, 5)));
+    }
+
+    @Test
+    public void testRandomAgainstBruteForce()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 200; i++) {
+            int n = 2 + rng.nextInt(9);
+            int m = rng.nextInt(n * (n - 1) / 2 + 1);
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rng.nextLong())
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(20) - 5);
+            }
+            List<DefaultWeightedEdge> edges = new ArrayList<>(g.edgeSet());
+
+            Matching<Integer, DefaultWeightedEdge> m1 =
+                new EdmondsMaximumWeightMatching<>(g).getMatching();
+            assertTrue(isMatching(g, m1));
+            assertEquals(
+                bruteForce(g, edges, 0, new HashSet<>(), false)[1], m1.getWeight(),
+                MatchingAlgorithm.DEFAULT_EPSILON);
+
+            Matching<Integer, DefaultWeightedEdge> m2 =
+                new EdmondsMaximumWeightMatching<>(g, true).getMatching();
+            assertTrue(isMatching(g, m2));
+            double[] best = bruteForce(g, edges, 0, new HashSet<>(), true);
+            assertEquals((int) best[0], m2.getEdges().size());
+            assertEquals(best[1], m2.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        }
+    }
+
+    @Test
+    public void testLargeRandomAgainstOtherAlgorithms()
+    {
+        Random rng = new Random(33);
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(1000, 3000, rng.nextLong())
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(1000));
+            }
+
+            Matching<Integer, DefaultWeightedEdge> m =
+                new EdmondsMaximumWeightMatching<>(g, true).getMatching();
+            assertTrue(isMatching(g, m));
+            assertEquals(
+                new EdmondsMaximumCardinalityMatching<>(g).getMatching().getEdges().size(),
+                m.getEdges().size());
+        }
+
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            Set<Integer> partition1 = new HashSet<>();
+            Set<Integer> partition2 = new HashSet<>();
+            for (int v = 0; v < 400; v++) {
+                g.addVertex(v);
+                (v < 200 ? partition1 : partition2).add(v);
+            }
+            for (int j = 0; j < 1200; j++) {
+                int s = rng.nextInt(200);
+                int t = 200 + rng.nextInt(200);
+                if (!g.containsEdge(s, t)) {
+                    g.setEdgeWeight(g.addEdge(s, t), rng.nextInt(1000));
+                }
+            }
+
+            Matching<Integer, DefaultWeightedEdge> m =
+                new EdmondsMaximumWeightMatching<>(g).getMatching();
+            assertTrue(isMatching(g, m));
+            assertEquals(
+                new MaximumWeightBipartiteMatching<>(g, partition1, partition2)
+                    .getMatching().getWeight(),
+                m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        }
+    }
+
+    /**
+     * Returns the best (cardinality, weight) pair over all matchings using edges from index i.
+     */
+    static double[] bruteForce(
+        Graph<Integer, DefaultWeightedEdge> g, List<DefaultWeightedEdge> edges, int i,
+        Set<Integer> matched, boolean maximumCardinality)
+    {
+        if (i == edges.size()) {
+            return new double[] { 0d, 0d };
+        }
+        double[] best = bruteForce(g, edges, i + 1, matched, maximumCardinality);
+        DefaultWeightedEdge e = edges.get(i);
+        Integer s = g.getEdgeSource(e);
+        Integer t = g.getEdgeTarget(e);
+        if (!matched.contains(s) && !matched.contains(t)) {
+            matched.add(s);
+            matched.add(t);
+            double[] other = bruteForce(g, edges, i + 1, matched, maximumCardinality);
+            matched.remove(s);
+            matched.remove(t);
+            other[0] += 1;
+            other[1] += g.getEdgeWeight(e);
+            boolean better;
+            if (maximumCardinality && other[0] != best[0]) {
+                better = other[0] > best[0];
+            } else {
+                better = other[1] > best[1];
+            }
+            if (better) {
+                best = other;
+            }
+        }
+        return best;
+    }
+
+    static <V, E> boolean isMatching(Graph<V, E> g, Matching<V, E> m)
+    {
+        Set<V> matched = new HashSet<>();
+        double weight = 0d;
+        for (E e : m.getEdges()) {
+            V source = g.getEdgeSource(e);
+            V target = g.getEdgeTarget(e);
+            if (source.equals(target) || !matched.add(source) || !matched.add(target)) {
+                return false;
+            }
+            weight += g.getEdgeWeight(e);
+        }
+        return Math.abs(weight - m.getWeight()) < MatchingAlgorithm.DEFAULT_EPSILON;
+    }
+
+}
+
+// End EdmondsMaximumWeightMatchingTest.java
@@ -0,0 +1,153 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.MatchingAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Unit tests for the EdmondsMinimumWeightPerfectMatching algorithm.
+ *
+ * @author agent
+ */
+public class EdmondsMinimumWeightPerfectMatchingTest
+{
+
+    @Test
+    public void testTriangleWithPendant()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        Graphs.addEdge(g, 0, 1, 1.0);
+        Graphs.addEdge(g, 1, 2, 1.0);
+        Graphs.addEdge(g, 0, 2, 10.0);
+        Graphs.addEdge(g, 2, 3, 7.0);
+
+        Matching<Integer, DefaultWeightedEdge> m =
+            new EdmondsMinimumWeightPerfectMatching<>(g).getMatching();
+        assertTrue(m.isPerfect());
+        assertEquals(8.0, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoPerfectMatching()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        Graphs.addEdge(g, 0, 1, 1.0);
+        Graphs.addEdge(g, 0, 2, 1.0);
+        Graphs.addEdge(g, 0, 3, 1.0);
+        new EdmondsMinimumWeightPerfectMatching<>(g).getMatching();
+    }
+
+    @Test
+    public void testAgainstKuhnMunkres()
+    {
+        Random rng = new Random(33);
+        for (int i = 0; i < 20; i++) {
+            int n = 1 + rng.nextInt(12);
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            CompleteBipartiteGraphGenerator<Integer, DefaultWeightedEdge> generator =
+                new CompleteBipartiteGraphGenerator<>(n, n);
+            generator.generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(100));
+            }
+            Set<Integer> partition1 = new HashSet<>();
+            Set<Integer> partition2 = new HashSet<>();
+            for (Integer v : g.vertexSet()) {
+                (v < n ? partition1 : partition2).add(v);
+            }
+
+            Matching<Integer, DefaultWeightedEdge> expected =
+                new KuhnMunkresMinimalWeightBipartitePerfectMatching<>(g, partition1, partition2)
+                    .getMatching();
+            Matching<Integer, DefaultWeightedEdge> m =
+                new EdmondsMinimumWeightPerfectMatching<>(g).getMatching();
+            assertTrue(m.isPerfect());
+            assertTrue(EdmondsMaximumWeightMatchingTest.isMatching(g, m));
+            assertEquals(expected.getWeight(), m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        }
+    }
+
+    @Test
+    public void testRandomGeneralGraphs()
+    {
+        Random rng = new Random(7);
+        for (int i = 0; i < 100; i++) {
+            int n = 2 * (1 + rng.nextInt(5));
+            int m = rng.nextInt(n * (n - 1) / 2 + 1);
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rng.nextLong())
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(30) - 10);
+            }
+            double best = minimumPerfect(g, new ArrayList<>(g.vertexSet()), new HashSet<>());
+            if (Double.isInfinite(best)) {
+                continue;
+            }
+            Matching<Integer, DefaultWeightedEdge> matching =
+                new EdmondsMinimumWeightPerfectMatching<>(g).getMatching();
+            assertTrue(matching.isPerfect());
+            assertEquals(best, matching.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        }
+    }
+
+    private static double minimumPerfect(
+        Graph<Integer, DefaultWeightedEdge> g, List<Integer> vertices, Set<Integer> matched)
+    {
+        Integer first = null;
+        for (Integer v : vertices) {
+            if (!matched.contains(v)) {
+                first = v;
+                break;
+            }
+        }
+        if (first == null) {
+            return 0d;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        matched.add(first);
+        for (DefaultWeightedEdge e : g.edgesOf(first)) {
+            Integer other = Graphs.getOppositeVertex(g, e, first);
+            if (!matched.contains(other)) {
+                matched.add(other);
+                best = Math.min(best, g.getEdgeWeight(e) + minimumPerfect(g, vertices, matched));
+                matched.remove(other);
+            }
+        }
+        matched.remove(first);
+        return best;
+    }
+
+}
+
+// End EdmondsMinimumWeightPerfectMatchingTest.java
@@ -0,0 +1,197 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.MatchingAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Unit tests for the SparseMinimalWeightBipartitePerfectMatching algorithm.
+ *
+ * @author agent
+ */
+public class SparseMinimalWeightBipartitePerfectMatchingTest
+{
+
+    @Test
+    public void testEmpty()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Matching<Integer, DefaultWeightedEdge> m = new SparseMinimalWeightBipartitePerfectMatching<>(
+            g, Collections.emptySet(), Collections.emptySet()).getMatching();
+        assertEquals(0, m.getEdges().size());
+    }
+
+    @Test
+    public void testSmall()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5));
+        Graphs.addEdge(g, 0, 3, 1.0);
+        Graphs.addEdge(g, 0, 4, 2.0);
+        Graphs.addEdge(g, 1, 3, 1.0);
+        Graphs.addEdge(g, 1, 5, 10.0);
+        Graphs.addEdge(g, 2, 4, -3.0);
+        Graphs.addEdge(g, 2, 5, 4.0);
+
+        Matching<Integer, DefaultWeightedEdge> m = new SparseMinimalWeightBipartitePerfectMatching<>(
+            g, new HashSet<>(Arrays.asList(0, 1, 2)), new HashSet<>(Arrays.asList(3, 4, 5)))
+                .getMatching();
+        assertTrue(m.isPerfect());
+        assertEquals(7.0, m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        assertTrue(m.getEdges().contains(g.getEdge(0, 4)));
+        assertTrue(m.getEdges().contains(g.getEdge(1, 3)));
+        assertTrue(m.getEdges().contains(g.getEdge(2, 5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoPerfectMatching()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        Graphs.addEdge(g, 0, 2, 1.0);
+        Graphs.addEdge(g, 1, 2, 1.0);
+        new SparseMinimalWeightBipartitePerfectMatching<>(
+            g, new HashSet<>(Arrays.asList(0, 1)), new HashSet<>(Arrays.asList(2, 3)))
+                .getMatching();
+    }
+
+    @Test
+    public void testInvalidPartition()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        Graphs.addEdge(g, 0, 2, 1.0);
+        Graphs.addEdge(g, 1, 3, 1.0);
+        Set<Integer> first = new HashSet<>(Arrays.asList(0, 1));
+        Set<Integer> second = new HashSet<>(Arrays.asList(2, 3));
+
+        // an edge inside the second partition, inside the first partition, overlapping partitions
+        // and a vertex which is not contained in the graph
+        Graphs.addEdge(g, 2, 3, 1.0);
+        assertInvalid(g, first, second);
+        g.removeEdge(2, 3);
+        Graphs.addEdge(g, 0, 1, 1.0);
+        assertInvalid(g, first, second);
+        g.removeEdge(0, 1);
+        assertInvalid(g, new HashSet<>(Arrays.asList(0, 2)), second);
+        assertInvalid(g, first, new HashSet<>(Arrays.asList(2, 4)));
+        assertEquals(
+            2.0,
+            new SparseMinimalWeightBipartitePerfectMatching<>(g, first, second)
+                .getMatching().getWeight(),
+            MatchingAlgorithm.DEFAULT_EPSILON);
+    }
+
+    private static void assertInvalid(
+        Graph<Integer, DefaultWeightedEdge> g, Set<Integer> first, Set<Integer> second)
+    {
+        try {
+            new SparseMinimalWeightBipartitePerfectMatching<>(g, first, second).getMatching();
+            fail("Invalid partition accepted");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Invalid bipartite partition provided", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testAgainstKuhnMunkres()
+    {
+        Random rng = new Random(5);
+        for (int i = 0; i < 30; i++) {
+            int n = 1 + rng.nextInt(15);
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            new CompleteBipartiteGraphGenerator<Integer, DefaultWeightedEdge>(n, n)
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(1000));
+            }
+            Set<Integer> partition1 = new HashSet<>();
+            Set<Integer> partition2 = new HashSet<>();
+            for (Integer v : g.vertexSet()) {
+                (v < n ? partition1 : partition2).add(v);
+            }
+
+            Matching<Integer, DefaultWeightedEdge> expected =
+                new KuhnMunkresMinimalWeightBipartitePerfectMatching<>(g, partition1, partition2)
+                    .getMatching();
+            Matching<Integer, DefaultWeightedEdge> m =
+                new SparseMinimalWeightBipartitePerfectMatching<>(g, partition1, partition2)
+                    .getMatching();
+            assertTrue(m.isPerfect());
+            assertTrue(EdmondsMaximumWeightMatchingTest.isMatching(g, m));
+            assertEquals(expected.getWeight(), m.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        }
+    }
+
+    @Test
+    public void testSparseAgainstEdmonds()
+    {
+        Random rng = new Random(11);
+        int tested = 0;
+        while (tested < 50) {
+            int n = 1 + rng.nextInt(30);
+            int m = Math.min(n * n, n * (1 + rng.nextInt(4)));
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            new GnmRandomBipartiteGraphGenerator<Integer, DefaultWeightedEdge>(
+                n, n, m, rng.nextLong()).generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(100) - 30);
+            }
+            Set<Integer> partition1 = new HashSet<>();
+            Set<Integer> partition2 = new HashSet<>();
+            for (Integer v : g.vertexSet()) {
+                (v < n ? partition1 : partition2).add(v);
+            }
+
+            Matching<Integer, DefaultWeightedEdge> maxCardinality =
+                new HopcroftKarpMaximumCardinalityBipartiteMatching<>(g, partition1, partition2)
+                    .getMatching();
+            if (!maxCardinality.isPerfect()) {
+                continue;
+            }
+            tested++;
+
+            Matching<Integer, DefaultWeightedEdge> expected =
+                new EdmondsMinimumWeightPerfectMatching<>(g).getMatching();
+            Matching<Integer, DefaultWeightedEdge> matching =
+                new SparseMinimalWeightBipartitePerfectMatching<>(g, partition1, partition2)
+                    .getMatching();
+            assertTrue(matching.isPerfect());
+            assertTrue(EdmondsMaximumWeightMatchingTest.isMatching(g, matching));
+            assertEquals(
+                expected.getWeight(), matching.getWeight(), MatchingAlgorithm.DEFAULT_EPSILON);
+        }
+    }
+
+}
+
+// End SparseMinimalWeightBipartitePerfectMatchingTest.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.scoring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
@@ -46,6 +47,27 @@ public class ClosenessCentralityTest
         assertEquals(4d / 10, pr.getVertexScore("5"), 1e-9);
     }
 
+    @Test
+    public void testOverriddenShortestPathAlgorithm()
+    {
+        Graph<String, DefaultEdge> g = createInstance1();
+
+        boolean[] called = { false };
+        VertexScoringAlgorithm<String, Double> pr =
+            new ClosenessCentrality<String, DefaultEdge>(g, false, true)
+            {
+                @Override
+                protected ShortestPathAlgorithm<String, DefaultEdge> getShortestPathAlgorithm()
+                {
+                    called[0] = true;
+                    return super.getShortestPathAlgorithm();
+                }
+            };
+
+        assertEquals(4d / 7, pr.getVertexScore("1"), 1e-9);
+        assertTrue(called[0]);
+    }
+
     @Test
     public void testIncoming()
     {
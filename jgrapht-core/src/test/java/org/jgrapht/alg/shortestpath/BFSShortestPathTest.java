@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link BFSShortestPath}.
+ *
+ * @author agent
+ */
+public class BFSShortestPathTest
+{
+    @Test
+    public void testAgreesWithDijkstra()
+    {
+        Random rng = new Random(7);
+        for (int run = 0; run < 10; run++) {
+            int n = 1 + rng.nextInt(50);
+            Graph<Integer, DefaultEdge> g = run % 2 == 0
+                ? new SimpleGraph<>(DefaultEdge.class)
+                : new SimpleDirectedGraph<>(DefaultEdge.class);
+            for (int v = 0; v < n; v++) {
+                g.addVertex(v);
+            }
+            for (int k = 0; k < 2 * n; k++) {
+                int u = rng.nextInt(n), v = rng.nextInt(n);
+                if (u != v) {
+                    g.addEdge(u, v);
+                }
+            }
+
+            BFSShortestPath<Integer, DefaultEdge> bfs = new BFSShortestPath<>(g);
+            DijkstraShortestPath<Integer, DefaultEdge> dijkstra = new DijkstraShortestPath<>(g);
+            for (Integer s : g.vertexSet()) {
+                SingleSourcePaths<Integer, DefaultEdge> expected = dijkstra.getPaths(s);
+                SingleSourcePaths<Integer, DefaultEdge> actual = bfs.getPaths(s);
+                for (Integer t : g.vertexSet()) {
+                    assertEquals(expected.getWeight(t), actual.getWeight(t), 1e-9);
+                    GraphPath<Integer, DefaultEdge> path = bfs.getPath(s, t);
+                    if (Double.isInfinite(expected.getWeight(t))) {
+                        assertNull(path);
+                        continue;
+                    }
+                    assertEquals(s, path.getStartVertex());
+                    assertEquals(t, path.getEndVertex());
+                    assertEquals(expected.getWeight(t), path.getLength(), 1e-9);
+                    assertEquals(expected.getWeight(t), path.getWeight(), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightedGraph()
+    {
+        new BFSShortestPath<>(new SimpleWeightedGraph<>(DefaultWeightedEdge.class));
+    }
+}
+
+// End BFSShortestPathTest.java
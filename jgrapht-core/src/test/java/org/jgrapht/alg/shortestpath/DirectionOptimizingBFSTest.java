@@ -0,0 +1,108 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link DirectionOptimizingBFS}.
+ *
+ * @author agent
+ */
+public class DirectionOptimizingBFSTest
+{
+    @Test
+    public void testRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(13);
+            for (int run = 0; run < 12; run++) {
+                boolean directed = run % 2 == 0;
+                int n = 1 + rng.nextInt(run < 6 ? 100 : 5000);
+                // alternate between sparse graphs and dense low-diameter graphs
+                int m = (run % 4 < 2 ? 1 : 8) * n;
+                Graph<Integer, DefaultEdge> g = directed
+                    ? new DirectedPseudograph<>(DefaultEdge.class)
+                    : new Pseudograph<>(DefaultEdge.class);
+                for (int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                }
+                for (int k = 0; k < m; k++) {
+                    g.addEdge(rng.nextInt(n), rng.nextInt(n));
+                }
+
+                IndexedTraversal<Integer, DefaultEdge> expected = new IndexedTraversal<>(g);
+                for (ForkJoinPool p : Arrays.asList(null, pool)) {
+                    DirectionOptimizingBFS<Integer, DefaultEdge> bfs =
+                        new DirectionOptimizingBFS<>(g, p);
+                    assertEquals(new ArrayList<>(g.vertexSet()), bfs.getVertices());
+                    for (int s = 0; s < n; s += 1 + n / 5) {
+                        Integer source = bfs.getVertices().get(s);
+                        int reached = expected.breadthFirst(source, null);
+                        DirectionOptimizingBFS.SearchTree tree = bfs.search(source);
+                        assertEquals(reached, tree.getReachedCount());
+
+                        int maxLevel = 0;
+                        long levelSum = 0;
+                        int[] levels = tree.getLevels();
+                        int[] parents = tree.getParents();
+                        for (int v = 0; v < n; v++) {
+                            int level =
+                                expected.getDepth(expected.indexOf(bfs.getVertices().get(v)));
+                            assertEquals(level, levels[v]);
+                            maxLevel = Math.max(maxLevel, level);
+                            levelSum += Math.max(0, level);
+                            if (level > 0) {
+                                int p2 = parents[v];
+                                assertEquals(level - 1, levels[p2]);
+                                assertTrue(
+                                    g.containsEdge(
+                                        bfs.getVertices().get(p2), bfs.getVertices().get(v)));
+                            } else {
+                                assertEquals(-1, parents[v]);
+                            }
+                        }
+                        assertEquals(maxLevel, tree.getMaxLevel());
+                        assertEquals(levelSum, tree.getLevelSum());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSource()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new DirectionOptimizingBFS<>(g).search(1);
+    }
+}
+
+// End DirectionOptimizingBFSTest.java
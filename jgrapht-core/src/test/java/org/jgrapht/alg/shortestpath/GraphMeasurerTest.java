@@ -21,6 +21,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
@@ -104,6 +105,50 @@ public class GraphMeasurerTest
         }
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnweightedRejectsWeightedGraph()
+    {
+        GraphMeasurer.unweighted(new SimpleWeightedGraph<>(DefaultWeightedEdge.class), null);
+    }
+
+    @Test
+    public void testBreadthFirstSearchAgreesWithFloydWarshall()
+    {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Random rng = new Random(29);
+            for (int run = 0; run < 10; run++) {
+                int n = 1 + rng.nextInt(40);
+                Graph<Integer, DefaultEdge> g = run % 2 == 0
+                    ? new SimpleGraph<>(DefaultEdge.class)
+                    : new SimpleDirectedGraph<>(DefaultEdge.class);
+                for (int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                }
+                for (int k = 0; k < 2 * n; k++) {
+                    int u = rng.nextInt(n), v = rng.nextInt(n);
+                    if (u != v) {
+                        g.addEdge(u, v);
+                    }
+                }
+
+                GraphMeasurer<Integer, DefaultEdge> expected =
+                    new GraphMeasurer<>(g, new FloydWarshallShortestPaths<>(g));
+                for (GraphMeasurer<Integer, DefaultEdge> actual : Arrays
+                    .asList(new GraphMeasurer<>(g), GraphMeasurer.unweighted(g, pool)))
+                {
+                    assertEquals(
+                        expected.getVertexEccentricityMap(), actual.getVertexEccentricityMap());
+                    assertEquals(expected.getDiameter(), actual.getDiameter(), EPSILON);
+                    assertEquals(expected.getRadius(), actual.getRadius(), EPSILON);
+                    assertEquals(expected.getGraphCenter(), actual.getGraphCenter());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testDiameterEmptyGraph()
     {
@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.cycle.*;
+import org.jgrapht.alg.isomorphism.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.vertexcover.*;
+import org.jgrapht.experimental.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link CancellationToken}.
+ *
+ * @author agent
+ */
+public class CancellationTokenTest
+{
+    @Test
+    public void testTokenState()
+    {
+        CancellationToken token = new CancellationToken();
+        assertFalse(token.isCancelled());
+        assertFalse(token.isDeadlineExceeded());
+        assertEquals(Long.MAX_VALUE, token.getRemaining(TimeUnit.SECONDS));
+        CancellationToken.Checker checker = token.newChecker();
+        for (int i = 0; i < 2 * CancellationToken.CHECK_INTERVAL; i++) {
+            checker.checkCancelled();
+        }
+        token.cancel();
+        assertTrue(token.isCancelled());
+        assertFalse(token.isDeadlineExceeded());
+        try {
+            token.checkCancelledNow();
+            fail("Expected cancellation");
+        } catch (AlgorithmCancelledException e) {
+            assertFalse(e.isDeadlineExceeded());
+        }
+
+        CancellationToken expired = CancellationToken.withTimeout(0, TimeUnit.SECONDS);
+        assertTrue(expired.isCancelled());
+        assertTrue(expired.isDeadlineExceeded());
+        assertEquals(0L, expired.getRemaining(TimeUnit.NANOSECONDS));
+        try {
+            CancellationToken.Checker expiredChecker = expired.newChecker();
+            for (int i = 0; i < CancellationToken.CHECK_INTERVAL; i++) {
+                expiredChecker.checkCancelled();
+            }
+            fail("Expected cancellation");
+        } catch (AlgorithmCancelledException e) {
+            assertTrue(e.isDeadlineExceeded());
+        }
+
+        assertFalse(CancellationToken.withTimeout(1, TimeUnit.HOURS).isCancelled());
+        assertFalse(CancellationToken.NONE.isCancelled());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNoneCannotBeCancelled()
+    {
+        CancellationToken.NONE.cancel();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTimeout()
+    {
+        CancellationToken.withTimeout(-1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testCancelledAlgorithms()
+    {
+        Graph<Integer, DefaultEdge> directed = new SimpleDirectedGraph<>(DefaultEdge.class);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(8)
+            .generateGraph(directed, new IntegerVertexFactory(), null);
+        Graph<Integer, DefaultEdge> undirected = new SimpleGraph<>(DefaultEdge.class);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(60, 0.5, 7)
+            .generateGraph(undirected, new IntegerVertexFactory(), null);
+
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        List<DirectedSimpleCycles<Integer, DefaultEdge>> finders = new ArrayList<>();
+        JohnsonSimpleCycles<Integer, DefaultEdge> johnson = new JohnsonSimpleCycles<>(directed);
+        johnson.setCancellationToken(token);
+        finders.add(johnson);
+        TiernanSimpleCycles<Integer, DefaultEdge> tiernan = new TiernanSimpleCycles<>(directed);
+        tiernan.setCancellationToken(token);
+        finders.add(tiernan);
+        TarjanSimpleCycles<Integer, DefaultEdge> tarjan = new TarjanSimpleCycles<>(directed);
+        tarjan.setCancellationToken(token);
+        finders.add(tarjan);
+        SzwarcfiterLauerSimpleCycles<Integer, DefaultEdge> szwarcfiterLauer =
+            new SzwarcfiterLauerSimpleCycles<>(directed);
+        szwarcfiterLauer.setCancellationToken(token);
+        finders.add(szwarcfiterLauer);
+        HawickJamesSimpleCycles<Integer, DefaultEdge> hawickJames =
+            new HawickJamesSimpleCycles<>(directed);
+        hawickJames.setCancellationToken(token);
+        finders.add(hawickJames);
+        for (DirectedSimpleCycles<Integer, DefaultEdge> finder : finders) {
+            try {
+                finder.findSimpleCycles(Integer.MAX_VALUE, cycle -> true);
+                fail("Expected cancellation of " + finder.getClass().getSimpleName());
+            } catch (AlgorithmCancelledException e) {
+                assertFalse(e.isDeadlineExceeded());
+            }
+        }
+
+        AllDirectedPaths<Integer, DefaultEdge> allPaths = new AllDirectedPaths<>(directed);
+        allPaths.setCancellationToken(token);
+        try {
+            allPaths.getAllPaths(0, 1, true, null);
+            fail("Expected cancellation");
+        } catch (AlgorithmCancelledException e) {
+            assertFalse(e.isDeadlineExceeded());
+        }
+
+        RecursiveExactVCImpl<Integer, DefaultEdge> vertexCover = new RecursiveExactVCImpl<>();
+        vertexCover.setCancellationToken(CancellationToken.withTimeout(0, TimeUnit.SECONDS));
+        try {
+            vertexCover.getVertexCover(undirected);
+            fail("Expected cancellation");
+        } catch (AlgorithmCancelledException e) {
+            assertTrue(e.isDeadlineExceeded());
+        }
+
+        BrownBacktrackColoring<Integer, DefaultEdge> coloring =
+            new BrownBacktrackColoring<>(undirected);
+        coloring.setCancellationToken(token);
+        try {
+            coloring.getResult(null);
+            fail("Expected cancellation");
+        } catch (AlgorithmCancelledException e) {
+            assertFalse(e.isDeadlineExceeded());
+        }
+
+        Graph<Integer, DefaultEdge> pattern = new SimpleGraph<>(DefaultEdge.class);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(5)
+            .generateGraph(pattern, new IntegerVertexFactory(), null);
+        VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+            new VF2SubgraphIsomorphismInspector<>(undirected, pattern);
+        vf2.setCancellationToken(token);
+        Iterator<GraphMapping<Integer, DefaultEdge>> it = vf2.getMappings();
+        try {
+            while (it.hasNext()) {
+                it.next();
+            }
+            fail("Expected cancellation");
+        } catch (AlgorithmCancelledException e) {
+            assertFalse(e.isDeadlineExceeded());
+        }
+    }
+
+    @Test
+    public void testNotCancelled()
+    {
+        Graph<Integer, DefaultEdge> directed = new SimpleDirectedGraph<>(DefaultEdge.class);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(5)
+            .generateGraph(directed, new IntegerVertexFactory(), null);
+        JohnsonSimpleCycles<Integer, DefaultEdge> johnson = new JohnsonSimpleCycles<>(directed);
+        johnson.setCancellationToken(CancellationToken.withTimeout(1, TimeUnit.HOURS));
+        assertEquals(84, johnson.findSimpleCycles().size());
+    }
+}
+
+// End CancellationTokenTest.java
@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+/**
+ * Tests for {@link ConcurrentIntUnionFind}.
+ *
+ * @author agent
+ */
+public class ConcurrentIntUnionFindTest
+{
+    @Test
+    public void testUnion()
+    {
+        ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(4);
+        assertEquals(4, uf.size());
+        assertTrue(uf.union(0, 1));
+        assertFalse(uf.union(0, 1));
+        assertTrue(uf.union(3, 2));
+        assertEquals(2, uf.numberOfSets());
+        assertTrue(uf.inSameSet(1, 0));
+        assertFalse(uf.inSameSet(1, 2));
+        assertTrue(uf.union(2, 0));
+        assertEquals(1, uf.numberOfSets());
+        assertEquals(uf.find(3), uf.find(1));
+    }
+
+    @Test
+    public void testParallelBatchUnion()
+    {
+        Random rnd = new Random(31);
+        int n = 20000;
+        int m = 30000;
+        int[] first = new int[m];
+        int[] second = new int[m];
+        IntUnionFind expected = new IntUnionFind(n);
+        for (int i = 0; i < m; i++) {
+            first[i] = rnd.nextInt(n);
+            second[i] = rnd.nextInt(n);
+            expected.union(first[i], second[i]);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(n);
+            int merged = uf.union(first, second, pool);
+            assertEquals(n - expected.numberOfSets(), merged);
+            assertEquals(expected.numberOfSets(), uf.numberOfSets());
+            for (int k = 0; k < 1000; k++) {
+                int a = rnd.nextInt(n);
+                int b = rnd.nextInt(n);
+                assertEquals(expected.inSameSet(a, b), uf.inSameSet(a, b));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentLengths()
+    {
+        new ConcurrentIntUnionFind(3).union(new int[1], new int[2], ForkJoinPool.commonPool());
+    }
+}
+
+// End ConcurrentIntUnionFindTest.java
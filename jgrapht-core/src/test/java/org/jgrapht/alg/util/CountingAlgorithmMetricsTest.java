@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.experimental.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link CountingAlgorithmMetrics} and the algorithms reporting to it.
+ *
+ * @author agent
+ */
+public class CountingAlgorithmMetricsTest
+{
+    private static Graph<Integer, DefaultWeightedEdge> createPath(int n)
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i + 1 < n; i++) {
+            g.setEdgeWeight(g.addEdge(i, i + 1), 1d);
+        }
+        return g;
+    }
+
+    @Test
+    public void testCounters()
+    {
+        CountingAlgorithmMetrics metrics = new CountingAlgorithmMetrics();
+        for (AlgorithmMetrics.Counter counter : AlgorithmMetrics.Counter.values()) {
+            assertEquals(0, metrics.getCount(counter));
+        }
+        metrics.record(Object.class, AlgorithmMetrics.Counter.PUSHES, 3);
+        metrics.record(String.class, AlgorithmMetrics.Counter.PUSHES, 4);
+        assertEquals(7, metrics.getCount(AlgorithmMetrics.Counter.PUSHES));
+        assertEquals(Long.valueOf(7), metrics.getCounts().get(AlgorithmMetrics.Counter.PUSHES));
+        assertEquals(AlgorithmMetrics.Counter.values().length, metrics.getCounts().size());
+        metrics.reset();
+        assertEquals(0, metrics.getCount(AlgorithmMetrics.Counter.PUSHES));
+    }
+
+    @Test
+    public void testShortestPaths()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createPath(10);
+
+        CountingAlgorithmMetrics metrics = new CountingAlgorithmMetrics();
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(g);
+        assertSame(AlgorithmMetrics.NONE, dijkstra.getMetrics());
+        dijkstra.setMetrics(metrics);
+        dijkstra.getPaths(0);
+        assertEquals(10, metrics.getCount(AlgorithmMetrics.Counter.VERTICES_SETTLED));
+        assertEquals(9, metrics.getCount(AlgorithmMetrics.Counter.EDGES_RELAXED));
+        // one insert and one delete-min per vertex
+        assertEquals(20, metrics.getCount(AlgorithmMetrics.Counter.HEAP_OPERATIONS));
+
+        metrics.reset();
+        dijkstra.getPath(0, 4);
+        assertEquals(5, metrics.getCount(AlgorithmMetrics.Counter.VERTICES_SETTLED));
+
+        metrics.reset();
+        AStarShortestPath<Integer, DefaultWeightedEdge> astar =
+            new AStarShortestPath<>(g, (u, t) -> 0d);
+        astar.setMetrics(metrics);
+        astar.getPath(0, 4);
+        assertEquals(4, metrics.getCount(AlgorithmMetrics.Counter.VERTICES_SETTLED));
+        assertEquals(4, metrics.getCount(AlgorithmMetrics.Counter.EDGES_RELAXED));
+        assertEquals(10, metrics.getCount(AlgorithmMetrics.Counter.HEAP_OPERATIONS));
+
+        metrics.reset();
+        BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> bidirectional =
+            new BidirectionalDijkstraShortestPath<>(g);
+        bidirectional.setMetrics(metrics);
+        bidirectional.getPath(0, 9);
+        assertTrue(metrics.getCount(AlgorithmMetrics.Counter.VERTICES_SETTLED) > 0);
+        assertTrue(metrics.getCount(AlgorithmMetrics.Counter.EDGES_RELAXED) > 0);
+        assertEquals(0, metrics.getCount(AlgorithmMetrics.Counter.PUSHES));
+    }
+
+    @Test
+    public void testMaximumFlow()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 400, 17, false, false)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+        Random rng = new Random(17);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + rng.nextInt(10));
+        }
+
+        CountingAlgorithmMetrics metrics = new CountingAlgorithmMetrics();
+        EdmondsKarpMFImpl<Integer, DefaultWeightedEdge> edmondsKarp = new EdmondsKarpMFImpl<>(g);
+        edmondsKarp.setMetrics(metrics);
+        double flow = edmondsKarp.calculateMaximumFlow(0, 1);
+        assertTrue(flow > 0);
+        assertTrue(metrics.getCount(AlgorithmMetrics.Counter.AUGMENTING_PATHS) > 0);
+        assertTrue(metrics.getCount(AlgorithmMetrics.Counter.EDGES_RELAXED) > 0);
+
+        metrics.reset();
+        PushRelabelMFImpl<Integer, DefaultWeightedEdge> pushRelabel = new PushRelabelMFImpl<>(g);
+        pushRelabel.setMetrics(metrics);
+        assertEquals(flow, pushRelabel.calculateMaximumFlow(0, 1), 1e-9);
+        assertTrue(metrics.getCount(AlgorithmMetrics.Counter.PUSHES) > 0);
+        assertTrue(metrics.getCount(AlgorithmMetrics.Counter.RELABELS) > 0);
+        assertEquals(0, metrics.getCount(AlgorithmMetrics.Counter.AUGMENTING_PATHS));
+    }
+
+    @Test
+    public void testBacktracking()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(5)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+
+        CountingAlgorithmMetrics metrics = new CountingAlgorithmMetrics();
+        BrownBacktrackColoring<Integer, DefaultEdge> coloring = new BrownBacktrackColoring<>(g);
+        coloring.setMetrics(metrics);
+        assertEquals(Integer.valueOf(5), coloring.getResult(null));
+        assertTrue(metrics.getCount(AlgorithmMetrics.Counter.BACKTRACKING_STEPS) >= 4);
+    }
+}
+
+// End CountingAlgorithmMetricsTest.java
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * Tests for {@link IntUnionFind}.
+ *
+ * @author agent
+ */
+public class IntUnionFindTest
+{
+    @Test
+    public void testUnion()
+    {
+        IntUnionFind uf = new IntUnionFind(5);
+        assertEquals(5, uf.size());
+        assertEquals(5, uf.numberOfSets());
+
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(2, 3));
+        assertFalse(uf.union(1, 0));
+        assertEquals(3, uf.numberOfSets());
+        assertTrue(uf.inSameSet(0, 1));
+        assertFalse(uf.inSameSet(1, 2));
+
+        assertTrue(uf.union(1, 3));
+        assertEquals(2, uf.numberOfSets());
+        assertEquals(uf.find(0), uf.find(2));
+        assertNotEquals(uf.find(0), uf.find(4));
+
+        uf.reset();
+        assertEquals(5, uf.numberOfSets());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, uf.find(i));
+        }
+    }
+
+    @Test
+    public void testAgainstUnionFind()
+    {
+        Random rnd = new Random(7);
+        int n = 200;
+        Set<Integer> elements = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            elements.add(i);
+        }
+        UnionFind<Integer> expected = new UnionFind<>(elements);
+        IntUnionFind uf = new IntUnionFind(n);
+
+        for (int k = 0; k < 300; k++) {
+            int a = rnd.nextInt(n);
+            int b = rnd.nextInt(n);
+            assertEquals(!expected.inSameSet(a, b), uf.union(a, b));
+            expected.union(a, b);
+            assertEquals(expected.numberOfSets(), uf.numberOfSets());
+
+            int c = rnd.nextInt(n);
+            int d = rnd.nextInt(n);
+            assertEquals(expected.inSameSet(c, d), uf.inSameSet(c, d));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize()
+    {
+        new IntUnionFind(-1);
+    }
+}
+
+// End IntUnionFindTest.java
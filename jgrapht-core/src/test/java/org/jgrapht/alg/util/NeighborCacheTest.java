@@ -223,6 +223,61 @@ public class NeighborCacheTest
         cache.neighborListOf(B);
     }
 
+
+    @Test
+    public void testBatch()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+        for (int v = 0; v < 20; v++) {
+            g.addVertex(v);
+        }
+        NeighborCache<Integer, DefaultEdge> cache = new NeighborCache<>(g);
+        g.addGraphListener(cache);
+
+        Random rnd = new Random(7);
+        int nextVertex = 20;
+        for (int round = 0; round < 50; round++) {
+            Map<Integer, Set<Integer>> successors = new HashMap<>();
+            for (Integer v : g.vertexSet()) {
+                successors.put(v, cache.successorsOf(v));
+                cache.predecessorsOf(v);
+                cache.neighborsOf(v);
+            }
+
+            g.beginBatch();
+            for (int step = 0; step < 10; step++) {
+                List<Integer> vertices = new ArrayList<>(g.vertexSet());
+                List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+                int op = rnd.nextInt(10);
+                if (op < 6 || edges.isEmpty()) {
+                    g.addEdge(
+                        vertices.get(rnd.nextInt(vertices.size())),
+                        vertices.get(rnd.nextInt(vertices.size())));
+                } else if (op < 9) {
+                    g.removeEdge(edges.get(rnd.nextInt(edges.size())));
+                } else {
+                    g.removeVertex(vertices.get(rnd.nextInt(vertices.size())));
+                    g.addVertex(nextVertex++);
+                }
+            }
+            g.commitBatch();
+
+            for (Integer v : g.vertexSet()) {
+                assertEquals(new HashSet<>(Graphs.successorListOf(g, v)), cache.successorsOf(v));
+                assertEquals(
+                    new HashSet<>(Graphs.predecessorListOf(g, v)), cache.predecessorsOf(v));
+                assertEquals(new HashSet<>(Graphs.neighborListOf(g, v)), cache.neighborsOf(v));
+                assertEquals(Graphs.neighborListOf(g, v).size(), cache.neighborListOf(v).size());
+            }
+            // the sets returned before the batch are live views
+            for (Map.Entry<Integer, Set<Integer>> entry : successors.entrySet()) {
+                if (g.containsVertex(entry.getKey())) {
+                    assertTrue(entry.getValue() == cache.successorsOf(entry.getKey()));
+                }
+            }
+        }
+    }
 }
 
 // End NeighborCacheTest.java
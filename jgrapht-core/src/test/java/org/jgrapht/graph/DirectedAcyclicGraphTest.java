@@ -28,6 +28,7 @@ import java.util.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.traverse.*;
 import org.junit.*;
@@ -524,6 +525,171 @@ public class DirectedAcyclicGraphTest
         assertTrue(dag.iterator().hasNext());
     }
 
+    @Test
+    public void testIsReachable()
+    {
+        Random rnd = new Random(23);
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 40; i++) {
+            dag.addVertex(i);
+        }
+        int nextVertex = 40;
+
+        for (int step = 0; step < 600; step++) {
+            List<Integer> vertices = new ArrayList<>(dag.vertexSet());
+            Integer u = vertices.get(rnd.nextInt(vertices.size()));
+            Integer v = vertices.get(rnd.nextInt(vertices.size()));
+            int op = rnd.nextInt(20);
+            if (op < 14) {
+                try {
+                    dag.addEdge(u, v);
+                } catch (IllegalArgumentException e) {
+                    // edge would induce a cycle
+                }
+            } else if (op < 16) {
+                dag.addVertex(nextVertex++);
+            } else if (op < 18 && !dag.edgeSet().isEmpty()) {
+                dag.removeEdge(dag.edgeSet().iterator().next());
+            } else if (vertices.size() > 2) {
+                dag.removeVertex(u);
+                continue;
+            }
+
+            Set<Integer> descendants = dag.getDescendants(u);
+            for (Integer w : dag.vertexSet()) {
+                assertEquals(w.equals(u) || descendants.contains(w), dag.isReachable(u, w));
+            }
+        }
+    }
+
+    @Test
+    public void testIsReachableAfterClone()
+    {
+        DirectedAcyclicGraph<String, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(dag, Arrays.asList("a", "b", "c"));
+        dag.addEdge("a", "b");
+        assertFalse(dag.isReachable("a", "c"));
+
+        @SuppressWarnings("unchecked")
+        DirectedAcyclicGraph<String, DefaultEdge> copy =
+            (DirectedAcyclicGraph<String, DefaultEdge>) dag.clone();
+        copy.addEdge("b", "c");
+        assertTrue(copy.isReachable("a", "c"));
+        assertFalse(dag.isReachable("a", "c"));
+        assertFalse(dag.isReachable("b", "a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIsReachableUnknownVertex()
+    {
+        DirectedAcyclicGraph<String, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        dag.addVertex("a");
+        dag.isReachable("a", "b");
+    }
+
+    @Test
+    public void testAddEdgesBulkLoad()
+    {
+        Random rnd = new Random(5);
+        int n = 2000;
+        List<Integer> permutation = new ArrayList<>();
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        for (int i = 0; i < n; i++) {
+            dag.addVertex(i);
+            permutation.add(i);
+        }
+        Collections.shuffle(permutation, rnd);
+
+        List<Pair<Integer, Integer>> edges = new ArrayList<>();
+        for (int k = 0; k < 5 * n; k++) {
+            int a = rnd.nextInt(n), b = rnd.nextInt(n);
+            if (a != b) {
+                edges.add(
+                    Pair.of(permutation.get(Math.min(a, b)), permutation.get(Math.max(a, b))));
+            }
+        }
+        List<DefaultEdge> added = dag.addEdges(edges);
+        assertEquals(edges.size(), added.size());
+        assertTopologicalOrder(dag);
+        Set<DefaultEdge> before = new HashSet<>(dag.edgeSet());
+
+        // a cycle rejects the whole batch
+        List<Pair<Integer, Integer>> cyclic = new ArrayList<>();
+        for (int i = 0; i + 1 < n; i++) {
+            cyclic.add(Pair.of(permutation.get(i), permutation.get(i + 1)));
+        }
+        cyclic.add(Pair.of(permutation.get(n - 1), permutation.get(0)));
+        try {
+            dag.addEdges(cyclic);
+            fail("Cycle not detected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(before, dag.edgeSet());
+
+        // small batches are inserted incrementally and rolled back on a cycle
+        try {
+            dag.addEdges(
+                Arrays.asList(
+                    Pair.of(permutation.get(0), permutation.get(1)),
+                    Pair.of(permutation.get(n - 1), permutation.get(0))));
+            fail("Cycle not detected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(before, dag.edgeSet());
+        assertTopologicalOrder(dag);
+
+        dag.addEdges(cyclic.subList(0, n - 1));
+        assertTopologicalOrder(dag);
+        assertTrue(dag.isReachable(permutation.get(0), permutation.get(n - 1)));
+    }
+
+    @Test
+    public void testDeepAffectedRegion()
+    {
+        int n = 100000;
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        List<Pair<Integer, Integer>> path = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            dag.addVertex(i);
+            if (i > 0) {
+                path.add(Pair.of(i - 1, i));
+            }
+        }
+        dag.addEdges(path);
+
+        // the whole path is the affected region of this edge
+        dag.addVertex(-1);
+        dag.addEdge(-1, 0);
+        assertEquals(Integer.valueOf(-1), dag.iterator().next());
+        try {
+            dag.addEdge(n - 1, -1);
+            fail("Cycle not detected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertTopologicalOrder(dag);
+    }
+
+    private static <V, E> void assertTopologicalOrder(DirectedAcyclicGraph<V, E> dag)
+    {
+        Map<V, Integer> position = new HashMap<>();
+        for (V v : dag) {
+            position.put(v, position.size());
+        }
+        assertEquals(dag.vertexSet().size(), position.size());
+        for (E e : dag.edgeSet()) {
+            assertTrue(
+                position.get(dag.getEdgeSource(e)) < position.get(dag.getEdgeTarget(e)));
+        }
+    }
+
     // ~ Private Methods ----------------------------------------------------------
 
     private Graph<Long, DefaultEdge> setUpWithSeed(int vertices, int edges, long seed)
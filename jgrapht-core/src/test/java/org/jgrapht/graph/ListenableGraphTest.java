@@ -17,8 +17,14 @@
  */
 package org.jgrapht.graph;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import org.jgrapht.*;
+import org.jgrapht.alg.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.event.*;
+import org.jgrapht.util.*;
 
 import junit.framework.*;
 
@@ -199,6 +205,315 @@ public class ListenableGraphTest
         assertEquals(null, lastRemovedEdge);
     }
 
+    /**
+     * Tests that batch listeners receive the coalesced changes of a batch while other listeners
+     * receive every single change.
+     */
+    public void testBatch()
+    {
+        init();
+
+        DefaultListenableGraph<Object, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        g.addGraphListener(new MyGraphListener<>());
+        List<GraphChangeEvent> events = new ArrayList<>();
+        g.addGraphListener(new MyBatchGraphListener(events));
+
+        String v1 = "v1";
+        String v2 = "v2";
+        String v3 = "v3";
+
+        g.beginBatch();
+        assertTrue(g.isBatchInProgress());
+        g.addVertex(v1);
+        g.addVertex(v2);
+        g.addVertex(v3);
+        DefaultEdge e1 = g.addEdge(v1, v2);
+        DefaultEdge e2 = g.addEdge(v2, v3);
+        g.removeVertex(v3);
+        assertEquals(e2, lastRemovedEdge);
+        assertEquals(v3, lastRemovedVertex);
+        assertTrue(events.isEmpty());
+        g.commitBatch();
+        assertFalse(g.isBatchInProgress());
+
+        assertEquals(1, events.size());
+        GraphBatchChangeEvent<Object, DefaultEdge> batch =
+            TypeUtil.uncheckedCast(events.get(0), null);
+        assertEquals(GraphBatchChangeEvent.BATCH_CHANGED, batch.getType());
+        assertEquals(g, batch.getSource());
+        assertEquals(Arrays.asList(v1, v2), batch.getAddedVertices());
+        assertTrue(batch.getRemovedVertices().isEmpty());
+        assertEquals(1, batch.getAddedEdges().size());
+        assertEquals(e1, batch.getAddedEdges().get(0).getEdge());
+        assertEquals(v1, batch.getAddedEdges().get(0).getEdgeSource());
+        assertEquals(v2, batch.getAddedEdges().get(0).getEdgeTarget());
+        assertTrue(batch.getRemovedEdges().isEmpty());
+        assertFalse(batch.hasRemovals());
+
+        // nested batches are delivered by the outermost commit
+        events.clear();
+        g.beginBatch();
+        g.beginBatch();
+        g.removeVertex(v1);
+        g.addVertex(v1);
+        g.commitBatch();
+        assertTrue(events.isEmpty());
+        g.commitBatch();
+        assertEquals(1, events.size());
+        batch = TypeUtil.uncheckedCast(events.get(0), null);
+        assertTrue(batch.getAddedVertices().isEmpty());
+        assertTrue(batch.getRemovedVertices().isEmpty());
+        assertTrue(batch.getAddedEdges().isEmpty());
+        assertEquals(1, batch.getRemovedEdges().size());
+        assertEquals(e1, batch.getRemovedEdges().get(0).getEdge());
+        assertTrue(batch.hasRemovals());
+
+        // batches without net changes are delivered with the touched vertices
+        events.clear();
+        g.beginBatch();
+        DefaultEdge e3 = g.addEdge(v1, v2);
+        g.removeEdge(e3);
+        g.commitBatch();
+        assertEquals(1, events.size());
+        batch = TypeUtil.uncheckedCast(events.get(0), null);
+        assertTrue(batch.isEmpty());
+        assertTrue(batch.hasCancelledChanges());
+        assertEquals(Arrays.asList(v1, v2), batch.getTouchedVertices());
+
+        // batches without any modification are not delivered
+        events.clear();
+        g.beginBatch();
+        g.commitBatch();
+        assertTrue(events.isEmpty());
+
+        // outside of a batch, batch listeners receive every single change
+        g.addEdge(v1, v2);
+        assertEquals(1, events.size());
+        assertEquals(GraphEdgeChangeEvent.EDGE_ADDED, events.get(0).getType());
+
+        try {
+            g.commitBatch();
+            fail("Committed a batch which was never started");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests that listeners queried in the middle of a batch whose changes cancel out do not keep
+     * the intermediate state.
+     */
+    public void testBatchQueriedWhileInProgress()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        NeighborCache<Integer, DefaultEdge> cache = new NeighborCache<>(g);
+        ConnectivityInspector<Integer, DefaultEdge> inspector = new ConnectivityInspector<>(g);
+        g.addGraphListener(cache);
+        g.addGraphListener(inspector);
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addVertex(3);
+
+        // add, query and remove again; the state during the batch is unspecified, but the queries
+        // let the listeners cache the intermediate graph
+        g.beginBatch();
+        DefaultEdge e = g.addEdge(1, 2);
+        inspector.pathExists(1, 2);
+        cache.neighborsOf(1);
+        g.removeEdge(e);
+        g.commitBatch();
+        assertTrue(g.edgeSet().isEmpty());
+        assertFalse(inspector.pathExists(1, 2));
+        assertTrue(cache.neighborsOf(1).isEmpty());
+        assertTrue(cache.neighborsOf(2).isEmpty());
+
+        // remove, query and add again
+        g.addEdge(2, 3);
+        assertTrue(inspector.pathExists(2, 3));
+        assertEquals(Collections.singleton(3), cache.neighborsOf(2));
+        g.beginBatch();
+        g.removeVertex(3);
+        inspector.connectedSetOf(2);
+        cache.neighborsOf(2);
+        g.addVertex(3);
+        g.addEdge(2, 3);
+        g.commitBatch();
+        assertTrue(inspector.pathExists(2, 3));
+        assertEquals(Collections.singleton(3), cache.neighborsOf(2));
+        assertEquals(Collections.singleton(2), cache.neighborsOf(3));
+    }
+
+    /**
+     * Tests that asynchronous listeners receive the events in order.
+     */
+    public void testAsyncGraphListener()
+        throws InterruptedException
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            DefaultListenableGraph<Object, DefaultEdge> g =
+                new DefaultListenableGraph<>(new Pseudograph<>(DefaultEdge.class), true);
+            // events are reused by the graph, thus record copies using a synchronous executor
+            List<GraphChangeEvent> expected = new ArrayList<>();
+            g.addAsyncGraphListener(
+                new MyBatchGraphListener(expected), Runnable::run, 1,
+                AsyncGraphListener.OverflowPolicy.FAIL);
+            List<GraphChangeEvent> actual = Collections.synchronizedList(new ArrayList<>());
+            AsyncGraphListener<Object, DefaultEdge> async = g.addAsyncGraphListener(
+                new MyBatchGraphListener(actual), executor, 16,
+                AsyncGraphListener.OverflowPolicy.BLOCK);
+
+            Random rnd = new Random(5);
+            for (int i = 0; i < 2000; i++) {
+                List<Object> vertices = new ArrayList<>(g.vertexSet());
+                if (vertices.size() < 2 || rnd.nextInt(4) == 0) {
+                    g.addVertex(i);
+                } else if (rnd.nextInt(8) == 0) {
+                    g.removeVertex(vertices.get(rnd.nextInt(vertices.size())));
+                } else {
+                    g.addEdge(
+                        vertices.get(rnd.nextInt(vertices.size())),
+                        vertices.get(rnd.nextInt(vertices.size())));
+                }
+            }
+            async.flush();
+            assertEquals(0, async.getPendingCount());
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getType(), actual.get(i).getType());
+                if (expected.get(i) instanceof GraphEdgeChangeEvent<?, ?>) {
+                    assertEquals(
+                        ((GraphEdgeChangeEvent<?, ?>) expected.get(i)).getEdge(),
+                        ((GraphEdgeChangeEvent<?, ?>) actual.get(i)).getEdge());
+                } else {
+                    assertEquals(
+                        ((GraphVertexChangeEvent<?>) expected.get(i)).getVertex(),
+                        ((GraphVertexChangeEvent<?>) actual.get(i)).getVertex());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests the overflow policies and the delivery of batches to listeners which are not batch
+     * listeners.
+     */
+    public void testAsyncGraphListenerOverflow()
+    {
+        init();
+
+        // an executor which runs the tasks only when asked to
+        List<Runnable> tasks = new ArrayList<>();
+        DefaultListenableGraph<Object, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        AsyncGraphListener<Object, DefaultEdge> discarding = g.addAsyncGraphListener(
+            new MyGraphListener<>(), tasks::add, 2, AsyncGraphListener.OverflowPolicy.DISCARD);
+        AsyncGraphListener<Object, DefaultEdge> failing = g.addAsyncGraphListener(
+            new MyGraphListener<>(), tasks::add, 2, AsyncGraphListener.OverflowPolicy.FAIL);
+
+        g.addVertex("v1");
+        g.addVertex("v2");
+        try {
+            g.addVertex("v3");
+            fail("Buffer overflow not reported");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(1, discarding.getDiscardedCount());
+        assertEquals(2, discarding.getPendingCount());
+        assertEquals(2, tasks.size());
+        assertNull(lastAddedVertex);
+
+        tasks.get(0).run();
+        assertEquals(0, discarding.getPendingCount());
+        assertEquals("v2", lastAddedVertex);
+        g.removeGraphListener(failing);
+
+        // the net changes of a batch are delivered as single events
+        tasks.clear();
+        init();
+        g.beginBatch();
+        g.addVertex("v4");
+        DefaultEdge e = g.addEdge("v1", "v4");
+        g.removeVertex("v2");
+        g.commitBatch();
+        assertEquals(1, discarding.getPendingCount());
+        tasks.get(0).run();
+        assertEquals("v2", lastRemovedVertex);
+        assertEquals("v4", lastAddedVertex);
+        assertEquals(e, lastAddedEdge);
+    }
+
+    /**
+     * Tests that delivery resumes after a rejected submission and after an error thrown by the
+     * listener.
+     */
+    public void testAsyncGraphListenerRecovery()
+        throws InterruptedException
+    {
+        init();
+
+        boolean[] reject = { true };
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException();
+            }
+            tasks.add(task);
+        };
+        DefaultListenableGraph<Object, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        AsyncGraphListener<Object, DefaultEdge> async =
+            g.addAsyncGraphListener(new MyGraphListener<DefaultEdge>()
+            {
+                @Override
+                public void vertexAdded(GraphVertexChangeEvent<Object> e)
+                {
+                    if ("error".equals(e.getVertex())) {
+                        throw new AssertionError();
+                    }
+                    super.vertexAdded(e);
+                }
+            }, executor, 2, AsyncGraphListener.OverflowPolicy.BLOCK);
+
+        try {
+            g.addVertex("v1");
+            fail("Rejected submission not reported");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(1, async.getPendingCount());
+
+        // the flush submits the task again
+        reject[0] = false;
+        assertFalse(async.flush(1, TimeUnit.MILLISECONDS));
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        assertEquals("v1", lastAddedVertex);
+        assertEquals(0, async.getPendingCount());
+
+        g.addVertex("error");
+        g.addVertex("v2");
+        assertEquals(2, tasks.size());
+        try {
+            tasks.get(1).run();
+            fail("Error not propagated");
+        } catch (AssertionError e) {
+            // expected
+        }
+        // the failed task handed the remaining event to a new task
+        assertEquals(1, async.getPendingCount());
+        assertEquals(3, tasks.size());
+        tasks.get(2).run();
+        assertEquals("v2", lastAddedVertex);
+        assertTrue(async.flush(1, TimeUnit.MILLISECONDS));
+    }
+
     private void init()
     {
         lastAddedEdge = null;
@@ -209,6 +524,50 @@ public class ListenableGraphTest
 
     // ~ Inner Classes ----------------------------------------------------------
 
+    /**
+     * A batch listener which records all events it receives.
+     */
+    private static class MyBatchGraphListener
+        implements BatchGraphListener<Object, DefaultEdge>
+    {
+        private final List<GraphChangeEvent> events;
+
+        MyBatchGraphListener(List<GraphChangeEvent> events)
+        {
+            this.events = events;
+        }
+
+        @Override
+        public void graphChanged(GraphBatchChangeEvent<Object, DefaultEdge> e)
+        {
+            events.add(e);
+        }
+
+        @Override
+        public void edgeAdded(GraphEdgeChangeEvent<Object, DefaultEdge> e)
+        {
+            events.add(e);
+        }
+
+        @Override
+        public void edgeRemoved(GraphEdgeChangeEvent<Object, DefaultEdge> e)
+        {
+            events.add(e);
+        }
+
+        @Override
+        public void vertexAdded(GraphVertexChangeEvent<Object> e)
+        {
+            events.add(e);
+        }
+
+        @Override
+        public void vertexRemoved(GraphVertexChangeEvent<Object> e)
+        {
+            events.add(e);
+        }
+    }
+
     /**
      * A listener on the tested graph.
      *
@@ -0,0 +1,157 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import junit.framework.*;
+
+/**
+ * A small benchmark comparing the addressable heap implementations when used as the priority queue
+ * of Dijkstra's algorithm. The benchmark creates a sparse random graph with integer edge weights,
+ * so that all heaps including the radix heap are applicable, and computes single-source shortest
+ * paths from several sources.
+ *
+ * @author agent
+ */
+public class AddressableHeapPerformanceTest
+    extends TestCase
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 100000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 500000;
+    public static final int PERF_BENCHMARK_SOURCES = 10;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 1000;
+
+    @State(Scope.Benchmark)
+    private static abstract class DijkstraBenchmarkBase
+    {
+        public static final long SEED = 13l;
+
+        private Graph<Integer, DefaultWeightedEdge> graph;
+        private List<Integer> sources;
+
+        abstract AddressableHeap.Factory createHeapFactory();
+
+        @Setup(Level.Iteration)
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> weightedGraph =
+                new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, rng, false, true)
+                    .generateGraph(weightedGraph, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : weightedGraph.edgeSet()) {
+                weightedGraph.setEdgeWeight(e, 1 + rng.nextInt(PERF_BENCHMARK_MAX_WEIGHT));
+            }
+            graph = weightedGraph;
+
+            List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+            sources = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_SOURCES; i++) {
+                sources.add(vertices.get(rng.nextInt(vertices.size())));
+            }
+        }
+
+        @Benchmark
+        public void run()
+        {
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> sp = new DijkstraShortestPath<>(
+                graph, Double.POSITIVE_INFINITY, createHeapFactory());
+            for (Integer source : sources) {
+                sp.getPaths(source);
+            }
+        }
+    }
+
+    public static class FibonacciHeapDijkstraBenchmark
+        extends DijkstraBenchmarkBase
+    {
+        @Override
+        AddressableHeap.Factory createHeapFactory()
+        {
+            return FibonacciHeap::new;
+        }
+    }
+
+    public static class BinaryHeapDijkstraBenchmark
+        extends DijkstraBenchmarkBase
+    {
+        @Override
+        AddressableHeap.Factory createHeapFactory()
+        {
+            return DaryHeap.factory(2);
+        }
+    }
+
+    public static class FourAryHeapDijkstraBenchmark
+        extends DijkstraBenchmarkBase
+    {
+        @Override
+        AddressableHeap.Factory createHeapFactory()
+        {
+            return DaryHeap.factory(4);
+        }
+    }
+
+    public static class PairingHeapDijkstraBenchmark
+        extends DijkstraBenchmarkBase
+    {
+        @Override
+        AddressableHeap.Factory createHeapFactory()
+        {
+            return PairingHeap::new;
+        }
+    }
+
+    public static class RadixHeapDijkstraBenchmark
+        extends DijkstraBenchmarkBase
+    {
+        @Override
+        AddressableHeap.Factory createHeapFactory()
+        {
+            return RadixHeap::new;
+        }
+    }
+
+    public void testDijkstraHeapBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + FibonacciHeapDijkstraBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + BinaryHeapDijkstraBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + FourAryHeapDijkstraBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + PairingHeapDijkstraBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + RadixHeapDijkstraBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.SingleShotTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(5)
+            .measurementIterations(10).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.traverse;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link IndexedTraversal}.
+ *
+ * @author agent
+ */
+public class IndexedTraversalTest
+{
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(31);
+        for (int run = 0; run < 20; run++) {
+            int n = 1 + rng.nextInt(200);
+            Graph<Integer, DefaultEdge> g = run % 2 == 0 ? new Pseudograph<>(DefaultEdge.class)
+                : new DirectedPseudograph<>(DefaultEdge.class);
+            for (int v = 0; v < n; v++) {
+                g.addVertex(v);
+            }
+            for (int k = 0; k < n; k++) {
+                g.addEdge(rng.nextInt(n), rng.nextInt(n));
+            }
+
+            List<Integer> vertices = new ArrayList<>();
+            for (int v = 0; v < n; v++) {
+                vertices.add(v);
+            }
+            IndexedTraversal<Integer, DefaultEdge> traversal =
+                new IndexedTraversal<>(g, vertices, Integer::intValue);
+            for (int s = 0; s < n; s += 7) {
+                Set<Integer> reachable = new HashSet<>();
+                new DepthFirstIterator<>(g, s).forEachRemaining(reachable::add);
+                DijkstraShortestPath<Integer, DefaultEdge> sp = new DijkstraShortestPath<>(g);
+
+                int count = traversal.breadthFirst(s, null);
+                assertEquals(reachable.size(), count);
+                for (int v = 0; v < n; v++) {
+                    assertEquals(reachable.contains(v), traversal.isVisited(v));
+                    if (reachable.contains(v)) {
+                        assertEquals(sp.getPath(s, v).getLength(), traversal.getDepth(v));
+                    } else {
+                        assertEquals(-1, traversal.getDepth(v));
+                    }
+                }
+
+                List<Integer> preorder = new ArrayList<>();
+                count = traversal.depthFirst(s, (v, p, d) -> {
+                    assertTrue(p < 0 || g.containsEdge(p, v));
+                    assertTrue(p < 0 || preorder.contains(p));
+                    preorder.add(v);
+                    return true;
+                });
+                assertEquals(reachable, new HashSet<>(preorder));
+                assertEquals(count, preorder.size());
+                for (int i = 0; i < count; i++) {
+                    int v = traversal.getVisited(i);
+                    assertEquals(preorder.get(i).intValue(), v);
+                    int p = traversal.getParent(v);
+                    assertEquals(p < 0 ? 0 : traversal.getDepth(p) + 1, traversal.getDepth(v));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEarlyExit()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+
+        IndexedTraversal<String, DefaultEdge> traversal = new IndexedTraversal<>(g);
+        int c = traversal.indexOf("c");
+        int count = traversal.breadthFirst("a", (v, p, d) -> v != c);
+        assertEquals(3, count);
+        assertEquals(2, traversal.getDepth(c));
+        assertEquals(traversal.indexOf("b"), traversal.getParent(c));
+        assertFalse(traversal.isVisited(traversal.indexOf("d")));
+
+        // the state of the previous traversal is reset
+        assertEquals(4, traversal.depthFirst("d", null));
+        assertEquals(3, traversal.getDepth(traversal.indexOf("a")));
+        assertEquals(-1, traversal.getParent(traversal.indexOf("d")));
+    }
+
+    @Test
+    public void testDeepPath()
+    {
+        int n = 100000;
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        for (int v = 1; v < n; v++) {
+            g.addVertex(v);
+            g.addEdge(v - 1, v);
+        }
+        IndexedTraversal<Integer, DefaultEdge> traversal = new IndexedTraversal<>(g);
+        assertEquals(n, traversal.depthFirst(0, null));
+        assertEquals(n - 1, traversal.getDepth(traversal.indexOf(n - 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new IndexedTraversal<>(g).breadthFirst("b", null);
+    }
+}
+
+// End IndexedTraversalTest.java
@@ -0,0 +1,210 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.traverse;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link RandomWalkGenerator}.
+ *
+ * @author agent
+ */
+public class RandomWalkGeneratorTest
+{
+    @Test
+    public void testWalksFollowEdges()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        g.addEdge(2, 3);
+
+        RandomWalkGenerator<Integer, DefaultEdge> generator = new RandomWalkGenerator<>(g);
+        for (List<Integer> walk : generator.walks(10, 20, 1, null)) {
+            for (int i = 0; i + 1 < walk.size(); i++) {
+                assertTrue(g.containsEdge(walk.get(i), walk.get(i + 1)));
+            }
+            // walks only end early at the sinks 3 and 4
+            assertTrue(walk.size() == 21 || g.outDegreeOf(walk.get(walk.size() - 1)) == 0);
+        }
+        assertEquals(Collections.singletonList(4), generator.walk(4, 5, 7));
+    }
+
+    @Test
+    public void testReproducible()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Random rng = new Random(3);
+        for (int v = 0; v < 300; v++) {
+            g.addVertex(v);
+            if (v > 0) {
+                g.setEdgeWeight(g.addEdge(v, rng.nextInt(v)), 1 + rng.nextInt(5));
+            }
+        }
+        RandomWalkGenerator<Integer, DefaultWeightedEdge> generator =
+            new RandomWalkGenerator<>(g, true, 0.5, 2);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<List<Integer>> sequential = generator.walks(3, 30, 42, null);
+            assertEquals(900, sequential.size());
+            assertEquals(sequential, generator.walks(3, 30, 42, pool));
+            assertNotEquals(sequential, generator.walks(3, 30, 43, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(generator.walk(5, 50, 9), generator.walk(5, 50, 9));
+    }
+
+    @Test
+    public void testWeightedDistribution()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 1);
+        g.setEdgeWeight(g.addEdge("a", "c"), 3);
+
+        RandomWalkGenerator<String, DefaultWeightedEdge> generator =
+            new RandomWalkGenerator<>(g, true);
+        int toB = 0;
+        for (List<String> walk : generator.walks(10000, 1, 11, null)) {
+            if (walk.get(0).equals("a") && walk.get(1).equals("b")) {
+                toB++;
+            }
+        }
+        assertEquals(0.25, toB / 10000d, 0.02);
+    }
+
+    @Test
+    public void testReturnBias()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+
+        // returning to 0 has bias 4, moving away to 2 has bias 1
+        RandomWalkGenerator<Integer, DefaultEdge> generator =
+            new RandomWalkGenerator<>(g, false, 0.25, 1);
+        int returned = 0;
+        int walks = 0;
+        for (List<Integer> walk : generator.walks(10000, 2, 5, null)) {
+            if (walk.get(0) == 0) {
+                walks++;
+                if (walk.get(2) == 0) {
+                    returned++;
+                }
+            }
+        }
+        assertEquals(0.8, returned / (double) walks, 0.02);
+    }
+
+    @Test
+    public void testSecondOrderDistribution()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(0, 2);
+        g.addEdge(1, 2);
+        g.addEdge(1, 3);
+
+        // after 0 -> 1 the biases are 2 to return to 0, 1 to the neighbor 2 of 0 and 1/4 to 3
+        RandomWalkGenerator<Integer, DefaultEdge> generator =
+            new RandomWalkGenerator<>(g, false, 0.5, 4);
+        int[] counts = new int[4];
+        int walks = 0;
+        for (List<Integer> walk : generator.walks(40000, 2, 13, null)) {
+            if (walk.get(0) == 0 && walk.get(1) == 1) {
+                walks++;
+                counts[walk.get(2)]++;
+            }
+        }
+        assertEquals(2 / 3.25, counts[0] / (double) walks, 0.02);
+        assertEquals(1 / 3.25, counts[2] / (double) walks, 0.02);
+        assertEquals(0.25 / 3.25, counts[3] / (double) walks, 0.02);
+    }
+
+    @Test(timeout = 10000)
+    public void testSmallReturnParameterWithoutReturnEdge()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(1, 3);
+        g.addEdge(2, 0);
+        g.addEdge(3, 0);
+
+        // no walk can return, so a tiny p must not slow down the steps
+        RandomWalkGenerator<Integer, DefaultEdge> generator =
+            new RandomWalkGenerator<>(g, false, 1e-9, 1);
+        int toTwo = 0;
+        int walks = 0;
+        for (List<Integer> walk : generator.walks(10000, 20, 3, null)) {
+            assertEquals(21, walk.size());
+            if (walk.get(0) == 0) {
+                walks++;
+                if (walk.get(2) == 2) {
+                    toTwo++;
+                }
+            }
+        }
+        assertEquals(0.5, toTwo / (double) walks, 0.02);
+    }
+
+    @Test
+    public void testZeroWeightsEndWalk()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        g.setEdgeWeight(g.addEdge(0, 1), 1);
+        g.setEdgeWeight(g.addEdge(1, 2), 0);
+
+        assertEquals(Arrays.asList(0, 1), new RandomWalkGenerator<>(g, true).walk(0, 5, 1));
+        assertEquals(
+            Arrays.asList(0, 1), new RandomWalkGenerator<>(g, true, 0.5, 2).walk(0, 5, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParameters()
+    {
+        new RandomWalkGenerator<>(new SimpleGraph<>(DefaultEdge.class), false, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyWalks()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        new RandomWalkGenerator<>(g).walks(Integer.MAX_VALUE, 1, 7L, null);
+    }
+}
+
+// End RandomWalkGeneratorTest.java
@@ -0,0 +1,209 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.junit.*;
+
+/**
+ * Tests for the {@link AddressableHeap} implementations.
+ *
+ * @author agent
+ */
+public class AddressableHeapTest
+{
+    private static List<AddressableHeap.Factory> heaps()
+    {
+        return Arrays.asList(
+            FibonacciHeap::new, DaryHeap.factory(2), DaryHeap::new, DaryHeap.factory(7),
+            PairingHeap::new, RadixHeap::new);
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        for (AddressableHeap.Factory factory : heaps()) {
+            Random rng = new Random(17);
+            AddressableHeap<Integer> heap = factory.create();
+            List<AddressableHeap.Handle<Integer>> live = new ArrayList<>();
+            // keys are integral and never smaller than the last minimum, so that all heaps apply
+            long last = 0;
+            int next = 0;
+
+            for (int op = 0; op < 20000; op++) {
+                int r = rng.nextInt(10);
+                if (r < 4) {
+                    double key = last + rng.nextInt(1000);
+                    AddressableHeap.Handle<Integer> h = heap.insert(next, key);
+                    assertEquals(key, h.getKey(), 0d);
+                    assertEquals(Integer.valueOf(next++), h.getData());
+                    live.add(h);
+                } else if (r < 7 && !live.isEmpty()) {
+                    AddressableHeap.Handle<Integer> h = live.get(rng.nextInt(live.size()));
+                    long key = (long) h.getKey();
+                    double newKey = last + (key == last ? 0 : rng.nextInt((int) (key - last)));
+                    heap.decreaseKey(h, newKey);
+                    assertEquals(newKey, h.getKey(), 0d);
+                } else {
+                    double min = Double.POSITIVE_INFINITY;
+                    for (AddressableHeap.Handle<Integer> h : live) {
+                        min = Math.min(min, h.getKey());
+                    }
+                    AddressableHeap.Handle<Integer> h = heap.deleteMin();
+                    if (live.isEmpty()) {
+                        assertNull(h);
+                        continue;
+                    }
+                    assertEquals(min, h.getKey(), 0d);
+                    assertTrue(live.remove(h));
+                    last = (long) min;
+                    if (live.isEmpty()) {
+                        last = 0;
+                    }
+                }
+                assertEquals(live.size(), heap.size());
+                assertEquals(live.isEmpty(), heap.isEmpty());
+            }
+
+            heap.clear();
+            assertTrue(heap.isEmpty());
+            assertNull(heap.findMin());
+            assertNull(heap.deleteMin());
+        }
+    }
+
+    @Test
+    public void testInvalidHandles()
+    {
+        for (AddressableHeap.Factory factory : heaps()) {
+            AddressableHeap<String> heap = factory.create();
+            AddressableHeap.Handle<String> a = heap.insert("a", 3);
+            heap.insert("b", 5);
+            try {
+                heap.decreaseKey(a, 4);
+                fail("Larger key accepted by " + heap.getClass().getSimpleName());
+            } catch (IllegalArgumentException e) {
+            }
+            AddressableHeap.Handle<String> min = heap.deleteMin();
+            assertSame(a, min);
+            assertEquals("a", min.getData());
+            min.setData("c");
+            assertEquals("c", min.getData());
+            assertEquals(3d, min.getKey(), 0d);
+
+            try {
+                heap.decreaseKey(min, 1);
+                fail("Removed handle accepted by " + heap.getClass().getSimpleName());
+            } catch (IllegalArgumentException e) {
+            }
+            AddressableHeap.Handle<String> foreign =
+                factory.<String> create().insert("d", 7);
+            try {
+                heap.decreaseKey(foreign, 6);
+                fail("Foreign handle accepted by " + heap.getClass().getSimpleName());
+            } catch (IllegalArgumentException e) {
+            }
+            AddressableHeap.Handle<String> b = heap.findMin();
+            heap.clear();
+            try {
+                heap.decreaseKey(b, 1);
+                fail("Cleared handle accepted by " + heap.getClass().getSimpleName());
+            } catch (IllegalArgumentException e) {
+            }
+        }
+    }
+
+    @Test
+    public void testRadixHeapKeys()
+    {
+        RadixHeap<String> heap = new RadixHeap<>();
+        for (double key : new double[] { -1, 0.5, Double.NaN, Double.POSITIVE_INFINITY }) {
+            try {
+                heap.insert("a", key);
+                fail();
+            } catch (IllegalArgumentException e) {
+            }
+        }
+        heap.insert("a", 10);
+        heap.insert("b", 20);
+        assertEquals("a", heap.deleteMin().getData());
+        try {
+            heap.insert("c", 5);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        heap.insert("c", 10);
+        assertEquals("c", heap.deleteMin().getData());
+        assertEquals("b", heap.deleteMin().getData());
+
+        // an empty heap accepts any key
+        heap.insert("d", 0);
+        assertEquals("d", heap.deleteMin().getData());
+    }
+
+    @Test
+    public void testShortestPaths()
+    {
+        Random rng = new Random(7);
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(500, 3000, rng, true, true)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(20));
+        }
+
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> reference =
+            new DijkstraShortestPath<Integer, DefaultWeightedEdge>(
+                g, Double.POSITIVE_INFINITY, FibonacciHeap::new);
+        for (AddressableHeap.Factory factory : heaps()) {
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, factory);
+            BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> bidirectional =
+                new BidirectionalDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, factory);
+            AStarShortestPath<Integer, DefaultWeightedEdge> astar =
+                new AStarShortestPath<>(g, (u, t) -> 0d, factory);
+
+            for (int source = 0; source < 500; source += 100) {
+                ClosestFirstIterator<Integer, DefaultWeightedEdge> it =
+                    new ClosestFirstIterator<>(g, source, Double.POSITIVE_INFINITY, factory);
+                while (it.hasNext()) {
+                    it.next();
+                }
+                for (int target = 0; target < 500; target += 7) {
+                    double expected = reference.getPathWeight(source, target);
+                    assertEquals(expected, dijkstra.getPathWeight(source, target), 0d);
+                    assertEquals(expected, bidirectional.getPathWeight(source, target), 0d);
+                    assertEquals(expected, astar.getPathWeight(source, target), 0d);
+                    assertEquals(expected, it.getShortestPathLength(target), 0d);
+                }
+            }
+        }
+    }
+}
+
+// End AddressableHeapTest.java
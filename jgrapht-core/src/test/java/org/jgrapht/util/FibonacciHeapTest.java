@@ -171,6 +171,35 @@ public class FibonacciHeapTest
         h.delete(n4);
     }
 
+    public void testUnionOwnership()
+    {
+        FibonacciHeap<String> h1 = new FibonacciHeap<>();
+        FibonacciHeap<String> h2 = new FibonacciHeap<>();
+        FibonacciHeapNode<String> n1 = h1.insert("1", 1d);
+        FibonacciHeapNode<String> n2 = h2.insert("2", 2d);
+
+        try {
+            h1.decreaseKey(n2, 0.5);
+            fail("Foreign node allowed!");
+        } catch (IllegalArgumentException e) {
+            // ignore
+        }
+
+        FibonacciHeap<String> h = FibonacciHeap.union(h1, h2);
+        h.decreaseKey(n2, 0.5);
+        assertEquals("2", h.min().getData());
+        h.delete(n1);
+        assertEquals(1, h.size());
+
+        FibonacciHeap<String> other = new FibonacciHeap<>();
+        try {
+            other.decreaseKey(n2, 0.1);
+            fail("Foreign node allowed!");
+        } catch (IllegalArgumentException e) {
+            // ignore
+        }
+    }
+
 }
 
 // End FibonacciHeapTest.java